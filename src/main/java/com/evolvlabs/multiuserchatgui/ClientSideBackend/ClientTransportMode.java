@@ -0,0 +1,49 @@
+package com.evolvlabs.multiuserchatgui.ClientSideBackend;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo contiene los transportes con los que el cliente puede
+ * conectarse al servidor. El cliente elige mediante la propiedad de sistema
+ * {@code multiuserchat.client.transport}; con {@link #UNIX_DOMAIN} se conecta al socket Unix
+ * publicado en {@code multiuserchat.server.unix.socket}, la misma propiedad que usa el servidor.
+ * Con {@link #SHARED_MEMORY} el socket (Unix si la ruta esta configurada, TCP en otro caso)
+ * solo se usa para el handshake y la sesion continua sobre una
+ * {@link com.evolvlabs.multiuserchatgui.CommunicationBackend.SharedMemory.SharedMemorySession}.
+ * El protocolo que viaja sobre la conexion es el mismo en todos los casos.
+ */
+public enum ClientTransportMode {
+
+    /*! Transporte original: TCP hacia la direccion y el puerto del servidor*/
+    TCP,
+    /*! Socket Unix del mismo host, sin pasar por la pila TCP de loopback*/
+    UNIX_DOMAIN,
+    /*! Rings en memoria compartida, registrados mediante el handshake del socket*/
+    SHARED_MEMORY;
+
+    /**
+     * Nombre de la propiedad de sistema leida por el cliente al conectarse.
+     */
+    public static final String TRANSPORT_PROPERTY = "multiuserchat.client.transport";
+
+    /**
+     * <body style="color: white;">
+     * Lee el transporte preferido por el cliente en las propiedades del sistema. Si la propiedad
+     * no existe o no es reconocida se retorna {@link #TCP}; si el socket Unix o la memoria
+     * compartida no estan disponibles el cliente vuelve al transporte anterior por su cuenta.
+     *
+     * @return {@link ClientTransportMode} preferido para esta ejecucion.
+     * </body>
+     */
+    public static ClientTransportMode fromSystemProperties() {
+        String configuredMode = System.getProperty(TRANSPORT_PROPERTY, TCP.name());
+        for (ClientTransportMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(configuredMode.trim())) {
+                return mode;
+            }
+        }
+        System.err.println("[MessageSideComms] - Transporte desconocido [" + configuredMode
+                                   + "], se utiliza " + TCP.name());
+        return TCP;
+    }
+}
@@ -2,8 +2,16 @@ package com.evolvlabs.multiuserchatgui.ClientSideBackend;
 
 import com.evolvlabs.multiuserchatgui.CommunicationBackend.AuthenticationRequestDTO;
 import com.evolvlabs.multiuserchatgui.CommunicationBackend.ClientDTO;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.LoginSnapshotDTO;
 import com.evolvlabs.multiuserchatgui.CommunicationBackend.MessageDTO;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.MessageHistoryPageDTO;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.MessageHistoryPageRequestDTO;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.SharedMemory.SharedMemorySession;
 import com.evolvlabs.multiuserchatgui.CommunicationBackend.UsefulCommunicationMessages;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.WireProtocol.BinaryWireProtocol;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.WireProtocol.ProtocolMode;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.WireProtocol.WireProtocol;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.WireProtocol.WireProtocolNegotiator;
 import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -11,14 +19,32 @@ import javafx.collections.ObservableList;
 import java.io.*;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
-import java.net.Socket;
 import java.net.SocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * @author : Santiago Arellano
@@ -48,13 +74,65 @@ public class MessageClient {
      * de sistema y servicios en la host y server machine.
      */
     private final String        messageClient_ConnAddress = "127.0.0.1";
-    private Socket              messageClient_ConnectionSocket;
-    private ObjectOutputStream  messageClient_OutputStream;
-    private ObjectInputStream   messageClient_InputStream;
+    private final int           messageClient_ConnPort = serverPortFromSystemProperties();
+    private SocketChannel       messageClient_ConnectionChannel;
+    private WireProtocol        messageClient_WireProtocol;
     private final AtomicBoolean messageClient_IsConnected =
             new AtomicBoolean(false);
-    private final int           messageCient_MaxRetryAttempts = 3;
-    private final long          messageClient_RetryDelaysInMilliSeconds = 1000;
+    private final long          messageClient_ResponseTimeoutInMilliSeconds = 10_000;
+    /*
+     * Si el servidor rechaza la autenticacion por estar saturado, indica cuanto esperar antes de
+     * reintentar. El cliente respeta esa espera hasta MAX_AUTHENTICATION_ATTEMPTS veces y luego
+     * retorna SERVER_BUSY a la interfaz.
+     */
+    public static final String  SERVER_BUSY = "SERVER_BUSY";
+    private static final int    MAX_AUTHENTICATION_ATTEMPTS = 3;
+    private long                messageClient_AuthenticationRetryAfterMillis;
+    /*
+     * Token de sesion entregado por el servidor en la ultima autenticacion exitosa. Si la
+     * conexion se pierde, el cliente se reconecta con el en lugar de reenviar su contrasena,
+     * hasta MAX_SESSION_RESUME_ATTEMPTS veces; una desconexion solicitada lo descarta.
+     */
+    private volatile String     messageClient_SessionToken;
+    private static final int    MAX_SESSION_RESUME_ATTEMPTS = 3;
+    private static final long   SESSION_RESUME_BACKOFF_MILLIS = 500;
+    /*
+     * Luego de autenticarse, un unico hilo lector consume todo lo que envia el servidor. Cada
+     * peticion se registra antes de escribirse y el hilo lector le entrega su respuesta: por
+     * identificador de correlacion cuando el protocolo lo transporta, o en orden de llegada en
+     * caso contrario. El lock de escritura solo evita que dos peticiones se intercalen en el
+     * cable; varias pueden estar esperando su respuesta al mismo tiempo.
+     */
+    private final ConcurrentHashMap<Integer, PendingRequest> messageClient_PendingRequestsById =
+            new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<PendingRequest> messageClient_PendingRequestsInOrder =
+            new ConcurrentLinkedQueue<>();
+    private final AtomicInteger messageClient_NextCorrelationId = new AtomicInteger(1);
+    private final ReentrantLock messageClient_WriteLock = new ReentrantLock();
+    /*
+     * Timestamp del mensaje mas reciente que el cliente conoce. Se usa como cursor de las
+     * sincronizaciones incrementales; mientras sea null se solicita el historial completo.
+     */
+    private final AtomicReference<Timestamp> messageClient_SyncCursor = new AtomicReference<>();
+    /*
+     * Con el login de un solo intercambio el servidor entrega el directorio, su version y la
+     * primera pagina del historial junto con la respuesta; la interfaz no necesita solicitarlos
+     * luego de autenticarse.
+     */
+    private volatile long       messageClient_DirectoryVersion;
+    private volatile boolean    messageClient_InitialStateLoaded;
+    /*
+     * Cursor de paginacion de cada conversacion, por username del otro participante: la llave
+     * del mensaje mas antiguo cargado y si el servidor tiene mensajes anteriores. Sin cursor, la
+     * siguiente pagina es la mas reciente. Una conversacion solo tiene una pagina en vuelo.
+     */
+    private record ConversationHistoryCursor(Timestamp beforeTimestamp, long beforeMessageId,
+                                             boolean hasMore) {
+    }
+    private final ConcurrentHashMap<String, ConversationHistoryCursor>
+            messageClient_HistoryCursorsByPeer = new ConcurrentHashMap<>();
+    private final Set<String> messageClient_HistoryPagesInFlight =
+            ConcurrentHashMap.newKeySet();
     /*
      * Los parametros definidos a continuacion determinan diferentes configuraicones adicionales
      * para los bloques de retry de la conexion asi como algunos metodos de transmision hacia la
@@ -99,7 +177,7 @@ public class MessageClient {
      * socket asociado a la conexion con el servidor sigue activo.
      * <p>
      * Para determinar si el cliente sigue conectado, utiliza el metodo {@code isConnected()} del
-     * objeto {@link Socket}. El resultado se almacena en una variable de tipo {@link AtomicBoolean}
+     * {@link SocketChannel}. El resultado se almacena en una variable de tipo {@link AtomicBoolean}
      * para acceder de forma segura al estado de conexion entre hilos.
      * </p>
      *
@@ -108,13 +186,40 @@ public class MessageClient {
      * @throws NullPointerException si el socket aun no ha sido inicializado.
      */
     public Boolean getMessageClient_IsConnected() {
-        this.messageClient_IsConnected.set(this.messageClient_ConnectionSocket.isConnected());
+        this.messageClient_IsConnected.set(this.messageClient_ConnectionChannel.isConnected());
         return this.messageClient_IsConnected.get();
     }
 
     public String getMessageClient_ClientUsername(){
         return this.messageClient_ClientUsername;
     }
+
+    /**
+     * <body style="color:white">
+     * Indica si el servidor entrega los mensajes nuevos por push. En ese caso las listas de
+     * mensajes se mantienen actualizadas sin volver a solicitar el historial luego de cada
+     * envio.
+     *
+     * @return {@code true} si se negocio {@link BinaryWireProtocol#CAPABILITY_SERVER_PUSH}.
+     * </body>
+     */
+    public long getMessageClient_DirectoryVersion() {
+        return this.messageClient_DirectoryVersion;
+    }
+
+    /**
+     * @return {@code true} si la autenticacion ya cargo el directorio y el historial, por lo
+     * que la interfaz no necesita solicitarlos.
+     */
+    public boolean isInitialStateLoaded() {
+        return this.messageClient_InitialStateLoaded;
+    }
+
+    public boolean isServerPushEnabled() {
+        WireProtocol currentProtocol = this.messageClient_WireProtocol;
+        return currentProtocol != null
+                && currentProtocol.supportsCapability(BinaryWireProtocol.CAPABILITY_SERVER_PUSH);
+    }
     /**
      * Este metodo permite obtener la lista observable que contiene informacion detallada de todos
      * los clientes autenticados en la aplicacion. Internamente, el metodo devuelve un objeto
@@ -215,7 +320,7 @@ public class MessageClient {
      *       las respuestas del servidor.</li>
      * </ul>
      *
-     * <p><b>Notas:</b> Este metodo utiliza {@link java.net.Socket}, {@link ObjectOutputStream},
+     * <p><b>Notas:</b> Este metodo utiliza {@link SocketChannel}, {@link ObjectOutputStream},
      * y {@link ObjectInputStream} para la comunicacion subyacente.</p>
      *
      * @param externalClientUsername {@link String} - Nombre de usuario proporcionado por el
@@ -257,33 +362,65 @@ public class MessageClient {
             return Optional.empty();
         }
 
-        /* Proceso General: Inentamos tres veces de establecer una conexion, si luego de tres
-        veces el sistema falla...*/
+        /* Proceso General: si el servidor esta saturado responde con el tiempo que debemos
+        esperar; cerramos el socket, esperamos y reintentamos hasta agotar los intentos*/
+        for (int attempt = 1; ; attempt++) {
+            Optional<String> handshakeResult =
+                    attemptAuthenticationHandshake(externalClientUsername, externalClientPassword);
+            if (handshakeResult.isEmpty() || !handshakeResult.get().equals(SERVER_BUSY)) {
+                return handshakeResult;
+            }
+            cleanupClientResources();
+            if (attempt >= MAX_AUTHENTICATION_ATTEMPTS) {
+                return handshakeResult;
+            }
+            try {
+                long retryAfterMillis = this.messageClient_AuthenticationRetryAfterMillis;
+                //? Agregamos hasta un 20% de variacion para no reintentar todos a la vez
+                Thread.sleep(retryAfterMillis
+                                     + ThreadLocalRandom.current().nextLong(retryAfterMillis / 5 + 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return handshakeResult;
+            }
+        }
+    }
+
+    /**
+     * <body style="color:white">
+     * Ejecuta una vez el intercambio de autenticacion sobre un socket nuevo: negociacion del
+     * protocolo, REQUEST, ACKNOWLEDGE, credenciales y respuesta del servidor.
+     *
+     * @param externalClientUsername Nombre de usuario ya validado.
+     * @param externalClientPassword Password ya validada.
+     * @return El UUID del cliente si la autenticacion fue exitosa, {@code SERVER_DISCONNECT} si
+     * la conexion fallo, {@value #SERVER_BUSY} si el servidor pidio reintentar luego de
+     * {@code messageClient_AuthenticationRetryAfterMillis}, o un Optional vacio si fue
+     * rechazada.
+     * </body>
+     */
+    private Optional<String> attemptAuthenticationHandshake(String externalClientUsername,
+                                                            String externalClientPassword) {
             try{
-                //? 1. Creamos un nuevo socket
-                this.messageClient_ConnectionSocket =
-                        new Socket(InetAddress.getByName(this.messageClient_ConnAddress),
-                                   100);
-                System.out.println("[MessageSideComms] - Authentication Request " +
-                                           "Socket Created");
-
-                //? 2. Inicializamos los treams del socket
-                this.messageClient_OutputStream =
-                        new ObjectOutputStream(this.messageClient_ConnectionSocket.getOutputStream());
-                this.messageClient_InputStream =
-                        new ObjectInputStream(this.messageClient_ConnectionSocket.getInputStream());
+                //? 1. y 2. Creamos un nuevo socket y negociamos el protocolo con el servidor
+                attemptToOpenConnectionWithPreferredProtocol();
+
+                //? Si el servidor lo soporta, el resto del inicio de sesion es un solo intercambio
+                if (this.messageClient_WireProtocol.supportsCapability(
+                        BinaryWireProtocol.CAPABILITY_SINGLE_ROUND_TRIP_LOGIN)) {
+                    return attemptSingleRoundTripLogin(externalClientUsername,
+                                                       externalClientPassword);
+                }
 
                 //? 3. Enviamos la flag de autentication
-                this.messageClient_OutputStream.writeUTF(
+                this.messageClient_WireProtocol.writeCommand(
                         UsefulCommunicationMessages
-                                .POST_CLIENT_AUTHENTICATION_REQUEST
-                                .get_message());
-                this.messageClient_OutputStream.flush();
-                this.messageClient_OutputStream.reset();
+                                .POST_CLIENT_AUTHENTICATION_REQUEST);
+                this.messageClient_WireProtocol.flush();
 
                 //? 4. Esperamos por la flag de acknowledge
                 try{
-                        String messageConfirmation = this.messageClient_InputStream.readUTF();
+                        String messageConfirmation = this.messageClient_WireProtocol.readCommand();
                         UsefulCommunicationMessages messages =
                                 UsefulCommunicationMessages.valueOf(messageConfirmation);
                         if (messages.equals(UsefulCommunicationMessages.
@@ -320,9 +457,8 @@ public class MessageClient {
                         externalClientUsername,
                         externalClientPassword));
                 try{
-                    messageClient_OutputStream.writeObject(requestDTO);
-                    messageClient_OutputStream.flush();
-                    messageClient_OutputStream.reset();
+                    messageClient_WireProtocol.writeAuthenticationRequest(requestDTO);
+                    messageClient_WireProtocol.flush();
                 } catch (IOException e){
                     System.out.println("[MessageSideComms] - Error During Authentication Request: " +
                                            "Failed to send the authentication request");
@@ -339,8 +475,7 @@ public class MessageClient {
                 // 6. Esperamos por la verificacion del servidor
                 try{
                     AuthenticationRequestDTO.AuthenticationResponseDTO responseDTO =
-                            (AuthenticationRequestDTO.AuthenticationResponseDTO)
-                            this.messageClient_InputStream.readObject();
+                            this.messageClient_WireProtocol.readAuthenticationResponse();
 
 
                     //? 7. Revisamos el retorno del servidor
@@ -350,11 +485,12 @@ public class MessageClient {
                                                    externalClientUsername + "] was authenticated " +
                                                    "and validated.");
                         this.messageClient_ClientUsername = responseDTO.clientUsername();
+                        this.messageClient_SessionToken = responseDTO.sessionToken();
 
 
                         //8. Esperamos lectura del DTO real
                         String clientDTOUUID =
-                                this.messageClient_InputStream.readUTF();
+                                this.messageClient_WireProtocol.readIdentifier();
                         if (clientDTOUUID != null){
                             this.messageClient_ClientDTODataUUID = clientDTOUUID;
                             this.messageClient_ClientUsername = externalClientUsername;
@@ -368,11 +504,20 @@ public class MessageClient {
                                                    "unknown error");
                         }
 
-                        //9. Actualizamos el estado de conexion
+                        //9. Actualizamos el estado de conexion e iniciamos el hilo lector
                         this.messageClient_IsConnected.set(true);
+                        startServerListener();
                         System.out.println("Connection Correct");
                         return Optional.of(this.messageClient_ClientDTODataUUID);
                     }
+                    else if (responseDTO.shouldRetry()){
+                        System.out.println("[MessageSideComms] - Authentication Deferred: " +
+                                                   "el servidor esta ocupado, reintentar en "
+                                                   + responseDTO.retryAfterMillis() + " ms");
+                        this.messageClient_AuthenticationRetryAfterMillis =
+                                responseDTO.retryAfterMillis();
+                        return Optional.of(SERVER_BUSY);
+                    }
                     else {
                         System.out.println("[MessageSideComms] - Authentication Failed: " +
                                                    "Usuario [" +
@@ -419,6 +564,184 @@ public class MessageClient {
         return Optional.empty();
     }
 
+    /**
+     * <body style="color:white">
+     * Inicio de sesion en un solo round trip: el request y las credenciales salen en el mismo
+     * flush, sin esperar el ACKNOWLEDGE, y el servidor responde con el resultado seguido del
+     * {@link LoginSnapshotDTO} con el UUID, el directorio y el historial reciente. Las listas
+     * observables se cargan con ese estado antes de iniciar el hilo lector.
+     *
+     * @param externalClientUsername Nombre de usuario ya validado.
+     * @param externalClientPassword Password ya validada.
+     * @return El mismo resultado que {@link #attemptAuthenticationHandshake(String, String)}.
+     * @throws IOException            si la conexion falla durante el intercambio.
+     * @throws ClassNotFoundException si la respuesta no puede leerse.
+     * </body>
+     */
+    private Optional<String> attemptSingleRoundTripLogin(String externalClientUsername,
+                                                         String externalClientPassword)
+            throws IOException, ClassNotFoundException {
+        WireProtocol currentProtocol = this.messageClient_WireProtocol;
+
+        //? 1. Enviamos el request junto con las credenciales
+        currentProtocol.writeCommand(UsefulCommunicationMessages.POST_CLIENT_LOGIN_REQUEST);
+        currentProtocol.writeAuthenticationRequest(new AuthenticationRequestDTO(new ClientPOJO(
+                externalClientUsername,
+                externalClientPassword)));
+        currentProtocol.flush();
+
+        //? 2. Revisamos el resultado de la autenticacion
+        AuthenticationRequestDTO.AuthenticationResponseDTO responseDTO =
+                currentProtocol.readAuthenticationResponse();
+        if (responseDTO.shouldRetry()) {
+            System.out.println("[MessageSideComms] - Authentication Deferred: " +
+                                       "el servidor esta ocupado, reintentar en "
+                                       + responseDTO.retryAfterMillis() + " ms");
+            this.messageClient_AuthenticationRetryAfterMillis = responseDTO.retryAfterMillis();
+            return Optional.of(SERVER_BUSY);
+        }
+        if (!responseDTO.authenticationResponse()) {
+            System.out.println("[MessageSideComms] - Authentication Failed: " +
+                                       "Usuario [" +
+                                       externalClientUsername + "] was not " +
+                                       "authenticated and validated.");
+            return Optional.empty();
+        }
+
+        //? 3. Cargamos el estado inicial que acompana a la respuesta
+        LoginSnapshotDTO loginSnapshot = currentProtocol.readLoginSnapshot();
+        this.messageClient_ClientUsername = externalClientUsername;
+        this.messageClient_SessionToken = responseDTO.sessionToken();
+        this.messageClient_ClientDTODataUUID = loginSnapshot.clientUUID();
+        applyLoginSnapshot(loginSnapshot);
+
+        //? 4. Actualizamos el estado de conexion e iniciamos el hilo lector
+        this.messageClient_IsConnected.set(true);
+        startServerListener();
+        System.out.println("[MessageSideComms] - Authentication Succeeded: Usuario ["
+                                   + externalClientUsername + "] autenticado en un solo " +
+                                   "intercambio, directorio version "
+                                   + loginSnapshot.directoryVersion());
+
+        //? 5. Lo que no cupo en el estado inicial se solicita en segundo plano; con paginacion
+        //? el historial anterior se carga por conversacion a medida que el usuario lo pide
+        if (loginSnapshot.directory().isEmpty()) {
+            CompletableFuture.runAsync(this::postClientUpdateListRequest);
+        }
+        if (!loginSnapshot.historyComplete()
+                && !currentProtocol.supportsCapability(
+                        BinaryWireProtocol.CAPABILITY_HISTORY_PAGING)) {
+            CompletableFuture.runAsync(this::requestMessageListsFromServer);
+        }
+        return Optional.of(this.messageClient_ClientDTODataUUID);
+    }
+
+    /**
+     * <body style="color:white">
+     * Carga en las listas observables el directorio y el historial de un
+     * {@link LoginSnapshotDTO}, e inicia el cursor de sincronizacion con ese historial.
+     *
+     * @param loginSnapshot Estado inicial recibido con la autenticacion.
+     * </body>
+     */
+    private void applyLoginSnapshot(LoginSnapshotDTO loginSnapshot) {
+        this.messageClient_DirectoryVersion = loginSnapshot.directoryVersion();
+        this.messageClient_HistoryCursorsByPeer.clear();
+        List<MessageDTO> receivedMessages =
+                loginSnapshot.recentHistory().getOrDefault("receivedMessages", List.of());
+        List<MessageDTO> sentMessages =
+                loginSnapshot.recentHistory().getOrDefault("sentMessages", List.of());
+        Platform.runLater(() -> {
+            if (!loginSnapshot.directory().isEmpty()) {
+                messageClient_ListadoDeClientes.setAll(loginSnapshot.directory());
+            }
+            messageClient_ListadoDeMensajesRecibidos.setAll(receivedMessages);
+            messageClient_ListadoDeMensajesEnviados.setAll(sentMessages);
+            messageClient_SyncCursor.set(null);
+            advanceSyncCursor(receivedMessages, true);
+            advanceSyncCursor(sentMessages, true);
+        });
+        this.messageClient_InitialStateLoaded = true;
+    }
+
+    /**
+     * <body style="color:white">
+     * Reanuda la sesion con el token entregado en la ultima autenticacion exitosa, sin reenviar
+     * la contrasena: el servidor valida la firma del token en lugar de ejecutar PBKDF2. El
+     * intercambio es el de la autenticacion con {@code POST_CLIENT_SESSION_RESUME_REQUEST} y el
+     * token en lugar de las credenciales. Las listas del cliente y su cursor de sincronizacion
+     * se conservan, por lo que luego de reconectarse solo se solicitan los mensajes posteriores
+     * al cursor.
+     *
+     * @return El UUID del cliente si la sesion se reanudo, {@code SERVER_DISCONNECT} si la
+     * conexion fallo, o un Optional vacio si no hay token, el servidor no soporta la reanudacion
+     * o rechazo el token; en ese caso el cliente debe autenticarse con su contrasena.
+     * </body>
+     */
+    public Optional<String> attemptToResumeSession() {
+        String sessionToken = this.messageClient_SessionToken;
+        if (sessionToken == null) {
+            return Optional.empty();
+        }
+        cleanupClientResources();
+        try {
+            //? 1. Abrimos una conexion nueva; sin la capacidad el servidor no conoce el token
+            attemptToOpenConnectionWithPreferredProtocol();
+            WireProtocol currentProtocol = this.messageClient_WireProtocol;
+            if (!currentProtocol.supportsCapability(
+                    BinaryWireProtocol.CAPABILITY_SESSION_RESUME)) {
+                System.out.println("[MessageSideComms] - Session Resume: el servidor no " +
+                                           "soporta la reanudacion de sesiones");
+                cleanupClientResources();
+                return Optional.empty();
+            }
+
+            //? 2. REQUEST y ACKNOWLEDGE, igual que en la autenticacion
+            currentProtocol.writeCommand(
+                    UsefulCommunicationMessages.POST_CLIENT_SESSION_RESUME_REQUEST);
+            currentProtocol.flush();
+            String messageConfirmation = currentProtocol.readCommand();
+            if (!UsefulCommunicationMessages.POST_CLIENT_AUTHENTICATION_REQUEST_ACKNOWLEDGEMENT
+                    .get_message().equals(messageConfirmation)) {
+                System.out.println("[MessageSideComms] - Error During Session Resume: " +
+                                           "Unexpected acknowledgement " + messageConfirmation);
+                cleanupClientResources();
+                return Optional.empty();
+            }
+
+            //? 3. Enviamos el token y esperamos la verificacion del servidor
+            currentProtocol.writeIdentifier(sessionToken);
+            currentProtocol.flush();
+            AuthenticationRequestDTO.AuthenticationResponseDTO responseDTO =
+                    currentProtocol.readAuthenticationResponse();
+            if (!responseDTO.authenticationResponse()) {
+                System.out.println("[MessageSideComms] - Session Resume Rejected: "
+                                           + responseDTO.errorMessageIfAny());
+                this.messageClient_SessionToken = null;
+                cleanupClientResources();
+                return Optional.empty();
+            }
+            this.messageClient_SessionToken = responseDTO.sessionToken();
+            this.messageClient_ClientDTODataUUID = currentProtocol.readIdentifier();
+
+            //? 4. Reanudamos el hilo lector y sincronizamos desde el cursor conocido
+            this.messageClient_IsConnected.set(true);
+            startServerListener();
+            System.out.println("[MessageSideComms] - Session Resumed: Usuario ["
+                                       + this.messageClient_ClientUsername + "] reconectado " +
+                                       "sin reenviar sus credenciales");
+            CompletableFuture.runAsync(this::postClientUpdateListRequest);
+            CompletableFuture.runAsync(this::postMessageUpdateListRequest);
+            return Optional.of(this.messageClient_ClientDTODataUUID);
+        } catch (IOException | ClassNotFoundException e) {
+            System.out.println("[MessageSideComms] - Error During Session Resume: " +
+                                       "Failed to complete the handshake");
+            extractErrorInformationAndPrint(e);
+            cleanupClientResources();
+            return Optional.of("SERVER_DISCONNECT");
+        }
+    }
+
 
     /*Metodos POST ONLY parecidos a los del servidor*/
 
@@ -426,46 +749,35 @@ public class MessageClient {
     /**
      * <body style="color:white">
      * Este metodo intenta enviar un mensaje desde la aplicacion cliente hacia un servidor TCP.
-     * Realiza validaciones de entrada, gestiona el envio del mensaje y procesa las respuestas
-     * recibidas por el servidor.
+     * Realiza validaciones de entrada, envia la solicitud junto con el mensaje y espera la
+     * confirmacion del servidor.
      *
      * <p><b>Fases del metodo:</b></p>
      * <ul>
      *   <li>Validacion de los datos proporcionados {@link MessagePOJO}.
      *       El mensaje debe tener un emisor y un receptor validos.</li>
-     *   <li>Gestion de solicitudes y respuestas TCP:
-     *       <ul>
-     *         <li>Envia el mensaje con una señal correspondiente al servidor</li>
-     *         <li>Espera y evalua un mensaje de confirmacion (ACKNOWLEDGE)</li>
-     *         <li>Gestiona una cola de mensajes adicionales de actualizacion si es necesario</li>
-     *       </ul>
-     *   </li>
-     *   <li>Reintenta la solicitud en caso de fallo usando un maximo predefinido de
-     *       intentos ({@code messageCient_MaxRetryAttempts}).</li>
+     *   <li>Envio del request {@code POST_MESSAGE_BROADCAST_REQUEST} y del mensaje en una sola
+     *       escritura. El servidor lee el mensaje luego de responder, por lo que no es necesario
+     *       esperar el ACKNOWLEDGE antes de escribirlo y el envio cuesta un unico viaje de ida y
+     *       vuelta.</li>
+     *   <li>Espera del ACKNOWLEDGE, que el hilo lector asocia a esta peticion.</li>
      * </ul>
      *
      * <p><b>Consideraciones:</b></p>
      * <ul>
-     *   <li>Debido al manejo de sockets, este metodo es sensible a errores relacionados
-     *       con la red (IOException).</li>
-     *   <li>El metodo puede interrumpirse si recibe excepciones no previstas,
-     *       devolviendo {@code false}.</li>
-     *   <li>Si la conexion con el servidor no fue satisfactoria luego de varios intentos,
-     *       se imprime un mensaje indicando el fallo.</li>
+     *   <li>El mensaje no se reenvia ante un fallo, ya que el servidor pudo haberlo guardado y
+     *       un reenvio lo duplicaria.</li>
+     *   <li>Los mandatos que lleguen durante el envio los atiende el hilo lector, por lo que ya
+     *       no pueden confundirse con el ACKNOWLEDGE.</li>
      * </ul>
      *
      * @param externalMessagePOJO {@link MessagePOJO} - Objeto que contiene la informacion del
      *                            mensaje a ser enviado. No debe ser {@code null}.
-     * @return {@code true} si el mensaje fue enviado exitosamente al servidor, de lo contrario
+     * @return {@code true} si el servidor confirmo la recepcion del mensaje, de lo contrario
      * {@code false}.
-     * @throws NullPointerException Si el mensaje o alguno de sus atributos necesarios son nulos.
-     * @throws IOException          Si ocurre un error relacionado con la conexion de red o I/O.
-     * @throws RuntimeException     Si se produce un error desconocido durante el proceso del
-     *                              envio.
-     *                              </body>
+     * </body>
      */
-    public boolean postMessageFromClientInterface(MessagePOJO externalMessagePOJO) 
-    {
+    public boolean postMessageFromClientInterface(MessagePOJO externalMessagePOJO) {
         //? 1. Validacion de los datos internos
         if (externalMessagePOJO == null) {
             System.out.println("[MessageSideComms] - Error During Message Posting: " +
@@ -481,213 +793,81 @@ public class MessageClient {
             return false;
         }
 
-        ConcurrentLinkedDeque<String> processMessagesQueue = new ConcurrentLinkedDeque<>();
-        //? 2. Intentamos enviar el mensaje a la base de datos
-        int currAttempt = 0;
-        while (currAttempt < this.messageCient_MaxRetryAttempts) {
-            currAttempt++;
-            try {
-                //? 3. Enviamos la senal de que queremos enviar un mensaje al servidor
-                this.messageClient_OutputStream.writeUTF(
-                        UsefulCommunicationMessages.POST_MESSAGE_BROADCAST_REQUEST
-                                .get_message());
-                this.messageClient_OutputStream.flush();
-
-                //? 4. Esperamos por el ACKNOWLEDGE del servidor
-                try {
-                    String messageConfirmation = this.messageClient_InputStream.readUTF();
-                    UsefulCommunicationMessages messages =
-                            UsefulCommunicationMessages.valueOf(messageConfirmation);
-                    if (messages.equals(UsefulCommunicationMessages.
-                                                POST_MESSAGE_BROADCAST_ACKNOWLEDGEMENT)) {
-                        System.out.println("[MessageSideComms] - Message " +
-                                                   "Broadcasting Acknowledgement Request " +
-                                                   "Acknowledgement Received");
-                    } else if (messages
-                            .equals(UsefulCommunicationMessages
-                                            .POST_CLIENT_CLIENT_LIST_UPDATE_MANDATE)) {
-                        System.out.println("[MessageSideComms] - Message " +
-                                                   "Broadcasting Acknowledgement Request " +
-                                                   "Acknowledgement Received");
-                        processMessagesQueue.add(UsefulCommunicationMessages
-                                                         .POST_CLIENT_CLIENT_LIST_UPDATE_MANDATE
-                                                         .get_message());
-                    } else if (messages.equals(
-                            UsefulCommunicationMessages.POST_CLIENT_MESSAGE_LIST_UPDATE_MANDATE)) {
-                        System.out.println("[MessageSideComms] - Message " +
-                                                   "Broadcasting Acknowledgement Request " +
-                                                   "Acknowledgement Received");
-                        processMessagesQueue.add(UsefulCommunicationMessages
-                                                         .POST_CLIENT_MESSAGE_LIST_UPDATE_MANDATE
-                                                         .get_message());
-                    } else {
-                        System.out.println("[MessageSideComms] - Error During message sending " +
-                                                   "Request: " +
-                                                   "Failed to read the acknowledgement message");
-                    }
-
-                } catch (ClassCastException e) {
-                    System.out.println("[MssageSideComms] - Eror during message sending request:" +
-                                               " failed to read a vaid acknowledge signal");
-                    extractErrorInformationAndPrint(e);
-                    continue;
-                } catch (IOException e) {
-                    System.out.println("[MessageSideComms] - Error During message sending " +
-                                               "Request: " +
-                                               "Failed to read the acknowledgement message due to an " +
-                                               "IOException error");
-                    extractErrorInformationAndPrint(e);
-                    continue;
-                } catch (Exception e) {
-                    System.out.println("[MessageSideComms] - Error During message sending " +
-                                               "request: " +
-                                               "Failed to read the acknowledgement message due to an " +
-                                               "unknown error");
-                    extractErrorInformationAndPrint(e);
-                    continue;
-                }
-
-                //? 5. Enviamos el mensaje correctamente hacia el servidor.
-                try {
-                    this.messageClient_OutputStream
-                            .writeObject(externalMessagePOJO.transformToMessageDTO());
-                    this.messageClient_OutputStream.flush();
-
-                    for (var value : processMessagesQueue) {
-                        if (value == "POST_CLIENT_CLIENT_LIST_UPDATE_MANDATE") {
-                            this.postClientUpdateListRequest();
-                        } else if (value == "POST_CLIENT_MESSAGE_LIST_UPDATE_MANDATE") {
-                            this.postMessageUpdateListRequest();
-                        } else {
-                            System.out.println("[MessageSideComms] - Error During message sending " +
-                                                       "phase: " +
-                                                       "Failed to send the message to the server");
-                        }
-                    }
-                    return true;
-                } catch (IOException e) {
-                    System.out.println("[MessageSideComms] - Error During message sending phase: " +
-                                               "Failed to send the message to the server");
-                    extractErrorInformationAndPrint(e);
+        try {
+            //? 2. Enviamos el request junto con el mensaje y esperamos el ACKNOWLEDGE
+            MessageDTO sentMessage = externalMessagePOJO.transformToMessageDTO();
+            ServerResponse serverResponse = sendRequestAndAwaitResponse(
+                    UsefulCommunicationMessages.POST_MESSAGE_BROADCAST_REQUEST,
+                    wireProtocol -> wireProtocol.writeMessage(sentMessage));
+            if (serverResponse.command()
+                    != UsefulCommunicationMessages.POST_MESSAGE_BROADCAST_ACKNOWLEDGEMENT) {
+                System.out.println("[MessageSideComms] - Error During message sending Request: " +
+                                           "Unexpected response " + serverResponse.command());
+                return false;
+            }
+            System.out.println("[MessageSideComms] - Message Broadcasting Request " +
+                                       "Acknowledgement Received");
 
-                } catch (Exception e) {
-                    System.out.println("[MessageSideComms] - Error During message sending phase: " +
-                                               "Failed to send the message to the server due to an " +
-                                               "unknown error");
-                    extractErrorInformationAndPrint(e);
-                }
-            } catch (IOException e) {
-                System.out.println("[MessageSideComms] - Error During Message Broadcast Request: " +
-                                           "Failed to send the message due to an IOException");
-                extractErrorInformationAndPrint(e);
-            } catch (Exception e) {
-                System.out.println("[MessageSideComms] - Error During Message Broadcast Request: " +
-                                           "Failed to sendthe message due to an unknown error.");
-                extractErrorInformationAndPrint(e);
+            //? 3. Con push el historial no se vuelve a consultar, por lo que agregamos el
+            //? mensaje enviado localmente con usernames, igual que los de la base
+            if (isServerPushEnabled()) {
+                appendSentMessageLocally(sentMessage);
             }
+            return true;
+        } catch (IOException e) {
+            System.out.println("[MessageSideComms] - Error During Message Broadcast Request: " +
+                                       "Failed to send the message due to an IOException");
+            extractErrorInformationAndPrint(e);
+        } catch (Exception e) {
+            System.out.println("[MessageSideComms] - Error During Message Broadcast Request: " +
+                                       "Failed to send the message due to an unknown error.");
+            extractErrorInformationAndPrint(e);
         }
-        System.out.println("[MessageSideComms] - Error During Message Posting: " +
-                                   "Failed to send the message to the server");
         return false;
     }
 
     /**
      * <body style="color:white">
      * Metodo que permite desconectar el cliente del servidor TCP de manera controlada. Este metodo
-     * realiza un intento de notificar al servidor sobre la desconexion del cliente, esperando una
-     * respuesta de confirmacion (ACKNOWLEDGE). Si no se obtiene dicha confirmacion tras los
-     * intentos maximos permitidos, el cliente limpia los recursos localmente.
+     * notifica al servidor sobre la desconexion del cliente y espera una respuesta de
+     * confirmacion (ACKNOWLEDGE). Con o sin confirmacion, el cliente limpia los recursos
+     * localmente.
      *
      * <p><b>Fases del metodo:</b></p>
      * <ul>
      *   <li>1. Envia una solicitud de desconexion al servidor.</li>
-     *   <li>2. Espera una respuesta ACKNOWLEDGE del servidor que valide la desconexion.</li>
-     *   <li>3. Si el ACKNOWLEDGE es recibido, limpia los recursos locales asociados a
-     *          la conexion.</li>
-     *   <li>4. Si no hay respuesta tras varios intentos, realiza la limpieza de recursos localmente.</li>
-     * </ul>
-     *
-     * <b>Consideraciones:</b>
-     * <ul>
-     *   <li>Si el servidor no responde, el metodo maneja la situacion limpiando los recursos
-     *       manualmente y marcando la conexion como cerrada.</li>
-     *   <li>La limpieza de recursos incluye el cierre de streams de entrada y salida y del
-     *       socket del cliente.</li>
-     *   <li>El metodo realiza un maximo de {@code messageCient_MaxRetryAttempts} intentos
-     *       para recibir el ACKNOWLEDGE del servidor antes de proceder a la limpieza local.</li>
+     *   <li>2. Espera la respuesta ACKNOWLEDGE asociada a la solicitud.</li>
+     *   <li>3. Limpia los recursos locales asociados a la conexion.</li>
      * </ul>
      *
-     * @return {@link Boolean} {@code true} si el cliente se desconecta correctamente del servidor,
-     * {@code false} en caso de fallo.
-     * @throws IOException      Si se produce algun error I/O relacionado con la comunicacion
-     *                          durante la desconexion.
-     * @throws RuntimeException Si ocurre un error desconocido durante la limpieza de recursos.
-     *                          </body>
+     * @return {@link Boolean} {@code true} una vez que los recursos del cliente fueron liberados.
+     * </body>
      */
     public boolean postDisconnectionRequestFromClientInterface() {
-        int currentAttempt = 0;
-        boolean serverHasBeenNotified = false;
-
-        while (currentAttempt < this.messageCient_MaxRetryAttempts && !serverHasBeenNotified) {
-            currentAttempt++;
-            try {
-                //? 1. Enviamos notificacion de desconexion al servidor
-                System.out.println("[MessageSideComms] Attempting to send message list update request");
-                System.out.println("[MessageSideComms] Connection status: " + messageClient_IsConnected.get());
-                this.messageClient_OutputStream.writeUTF(
-                        UsefulCommunicationMessages.POST_CLIENT_DISCONNECTION_REQUEST.get_message());
-                this.messageClient_OutputStream.flush();
-
-                //? 2.Esperamos a un ACKNOWLEDGE del servidor
-                try {
-                    String messageConfirmation = this.messageClient_InputStream.readUTF();
-                    UsefulCommunicationMessages messages =
-                            UsefulCommunicationMessages.valueOf(messageConfirmation);
-
-                    if (messages.equals(UsefulCommunicationMessages
-                                                .POST_CLIENT_DISCONNECTION_REQUEST_ACKNOWLEDGEMENT)) {
-
-                        System.out.println("[MessageSideComms] - Disconnection request " +
-                                                   "acknowledged by server");
-
-                        //? 3. Limpiamos los recursos del sistema
-                        try {
-                            cleanupClientResources();
-                            return true;
-                        } catch (Exception e) {
-                            System.out.println("[MessageSideComms] - Warning: Error during " +
-                                                       "client cleanup: " + e.getMessage());
-                            return true;
-                        }
-                    } else {
-                        System.out.println("[MessageSideComms] - Error: Invalid " +
-                                                   "acknowledgment received from server");
-                    }
-                } catch (IOException e) {
-                    System.out.println("[MessageSideComms] - Error reading server " +
-                                               "acknowledgment: " + e.getMessage());
-                    extractErrorInformationAndPrint(e);
-                }
-            } catch (IOException e) {
-                System.out.println("[MessageSideComms] - Error sending disconnect " +
-                                           "request (Attempt " + currentAttempt + "/" +
-                                           this.messageCient_MaxRetryAttempts + "): "
-                                           + e.getMessage());
-                extractErrorInformationAndPrint(e);
-            }
-
-        }
-        //? 4. Si es servidor (dios no quiera) no responde, entonces limpiamos los recursos
-        // por nuestra cuenta
+        //? Una desconexion solicitada no debe reanudarse
+        this.messageClient_SessionToken = null;
         try {
-            cleanupClientResources();
-            System.out.println("[MessageSideComms] Local cleanup completed successfully");
-            return true;
-        } finally {
-            // Ensure we mark the client as no longer running
-            this.messageClient_IsConnected.set(false);
+            //? 1. Enviamos notificacion de desconexion al servidor y esperamos su ACKNOWLEDGE
+            ServerResponse serverResponse = sendRequestAndAwaitResponse(
+                    UsefulCommunicationMessages.POST_CLIENT_DISCONNECTION_REQUEST, NO_PAYLOAD);
+            if (serverResponse.command() == UsefulCommunicationMessages
+                    .POST_CLIENT_DISCONNECTION_REQUEST_ACKNOWLEDGEMENT) {
+                System.out.println("[MessageSideComms] - Disconnection request " +
+                                           "acknowledged by server");
+            } else {
+                System.out.println("[MessageSideComms] - Error: Invalid " +
+                                           "acknowledgment received from server");
+            }
+        } catch (IOException e) {
+            System.out.println("[MessageSideComms] - Error reading server " +
+                                       "acknowledgment: " + e.getMessage());
+            extractErrorInformationAndPrint(e);
         }
 
+        //? 2. Limpiamos los recursos del sistema aunque el servidor no haya respondido
+        cleanupClientResources();
+        System.out.println("[MessageSideComms] Local cleanup completed successfully");
+        return true;
     }
 
     /*Metodos POST que retornan informacion al cliente tambien */
@@ -695,174 +875,91 @@ public class MessageClient {
     /**
      * <body style="color:white">
      * Metodo utilizado para solicitar del servidor TCP una lista actualizada de clientes conectados
-     * al sistema. Este metodo sigue un proceso iterativo para manejar posibles errores en la
-     * comunicacion y utiliza una estrategia de reintentos limitada en caso de fallos.
+     * al sistema.
      *
      * <p><b>Proceso del metodo:</b></p>
      * <ul>
      *     <li>1. Validacion del estado de conexion del cliente. Si el cliente no esta conectado,
      *            el metodo termina sin ejecutar ninguna operacion adicional.</li>
-     *     <li>2. Intento de envio del mensaje de solicitud utilizando streams de salida
-     *            asociados al {@link Socket} creado previamente.</li>
-     *     <li>3. Espera por un mensaje de confirmacion (ACKNOWLEDGE) por parte del servidor indicando
-     *            que la solicitud ha sido recibida correctamente.</li>
-     *     <li>4. Recepcion de la lista de clientes proporcionada por el servidor como un objeto
-     *            deserializado de tipo {@link List}&lt;{@link ClientDTO}&gt;.</li>
-     *     <li>5. Actualizacion dinamica de la interfaz grafica del cliente mediante
+     *     <li>2. Envio del request y espera del ACKNOWLEDGE junto con la lista de clientes, que
+     *            el hilo lector asocia a esta peticion. Si ya se conoce la version del directorio
+     *            y el servidor soporta {@link BinaryWireProtocol#CAPABILITY_DIRECTORY_VERSION},
+     *            se envia una peticion condicional y, si la lista no cambio, el metodo termina
+     *            sin tocar la interfaz.</li>
+     *     <li>3. Actualizacion de la interfaz grafica del cliente mediante
      *            {@link Platform#runLater(Runnable)} para reflejar los datos obtenidos.</li>
-     *     <li>6. Si ocurre un error, el metodo sigue ejecutando hasta alcanzar el limite maximo
-     *            de reintentos definido en {@code MAX_ATTEMPTS_FOR_QUERY}.</li>
      * </ul>
      *
      * <p><b>Consideraciones:</b></p>
      * <ul>
-     *     <li>El metodo puede lanzar errores manejados relacionados con la comunicacion
-     *         ({@link IOException}), problemas de deserializacion ({@link ClassCastException},
-     *         {@link ClassNotFoundException}), o errores inesperados ({@link Exception}).</li>
-     *     <li>En caso de agotar los intentos permitidos, el metodo imprime un mensaje de log
-     *         indicando el fallo sin detener la aplicacion.</li>
+     *     <li>Un fallo solo se registra; el siguiente mandato de actualizacion del servidor
+     *         vuelve a solicitar la lista.</li>
      * </ul>
-     *
-     * @throws IOException          Si ocurre un error durante la comunicacion con el servidor.
-     * @throws InterruptedException Si ocurre un fallo al aplicar retrasos entre reintentos.
-     * @throws NullPointerException Si los recursos usados (streams o socket) estan mal
-     *                              inicializados.
-     *                              </body>
+     * </body>
      */
+    @SuppressWarnings("unchecked")
     public void postClientUpdateListRequest() {
         //?1. Validacion de estado: si el servidor no esta corriendo todavia, no podemos hacer
         //? esta llamada
-        System.out.println("messageClient_IsConnected = " + messageClient_IsConnected.get());
         if (!messageClient_IsConnected.get()) {
             return;
         }
-        final int MAX_ATTEMPTS_FOR_QUERY = 9;
-        int currAttempt = 0;
-        do {
-            currAttempt++;
-            try {
-                //? 1. Iniciamos enviando una request flag al servidor
-                messageClient_OutputStream.reset();
-                messageClient_OutputStream.flush();
-                this.messageClient_OutputStream.writeUTF(UsefulCommunicationMessages
-                                                                 .POST_MANDATORY_CLIENT_LIST_UPDATE_REQUEST
-                                                                 .get_message());
-                this.messageClient_OutputStream.flush();
-
-                //? 2. Esperamos por un ACKNOWLEDGE DEL SERVIDOR
-                try {
-                    String messageConfirmation = this.messageClient_InputStream.readUTF();
-                    UsefulCommunicationMessages messages =
-                            UsefulCommunicationMessages.valueOf(messageConfirmation);
-                    if (messages.equals(UsefulCommunicationMessages.
-                                                POST_MANDATORY_CLIENT_LIST_UPDATE_ACKNOWLEDGMENT)) {
-                        System.out.println("[MessageSideComms] - Client List Update Acknowledgement " +
-                                                   "Received");
-                    } else {
-                        System.out.println("[MessageSideComms] - Error During Client List Update Request: " +
-                                                   "Failed to read the acknowledgement message");
-                        continue;
-                    }
-                } catch (ClassCastException e) {
-                    System.out.println("[MessageSideComms] - Error During Client List Update Request: " +
-                                               "Failed to read a valid acknowledge signal due to " +
-                                               "a ClassCastException");
-                    extractErrorInformationAndPrint(e);
-                    continue;
-                } catch (IOException e) {
-                    System.out.println("[MessageSideComms] - Error During Client List Update Request: " +
-                                               "Failed to read the acknowledgement message due to an " +
-                                               "IOException error");
-                    extractErrorInformationAndPrint(e);
-                    continue;
-                } catch (Exception e) {
-                    System.out.println("[MessageSideComms] - Error During Client List Update Request: " +
-                                               "Failed to read the acknowledgement message due to an " +
-                                               "unknown error");
-                    extractErrorInformationAndPrint(e);
-                    continue;
-                }
-
-                //? 3. Recibimos la informacion del servidor, una lista de clientes
-                List<ClientDTO> resultadoDeLlamada;
-                try {
-                    resultadoDeLlamada =
-                            (List<ClientDTO>) this.messageClient_InputStream.readObject();
-
-                    //? 4. Enviamos una actuaizacion a las listas del sistema para que se pongan
-                    //? en la pantalla del usuario
-                    Platform.runLater(() -> {
-                        messageClient_ListadoDeClientes.clear();
-                        messageClient_ListadoDeClientes.addAll(resultadoDeLlamada);
-                    });
-
+        try {
+            //? 2. Enviamos el request y esperamos el ACKNOWLEDGE junto con la lista; si ya
+            //? tenemos una version del directorio solo la pedimos si cambio
+            long knownDirectoryVersion = this.messageClient_DirectoryVersion;
+            WireProtocol currentProtocol = this.messageClient_WireProtocol;
+            boolean isConditional = knownDirectoryVersion != 0 && currentProtocol != null
+                    && currentProtocol.supportsCapability(
+                            BinaryWireProtocol.CAPABILITY_DIRECTORY_VERSION);
+            ServerResponse serverResponse = isConditional
+                    ? sendRequestAndAwaitResponse(
+                            UsefulCommunicationMessages.POST_CLIENT_LIST_CONDITIONAL_REQUEST,
+                            wireProtocol -> wireProtocol.writeDirectoryVersion(
+                                    knownDirectoryVersion))
+                    : sendRequestAndAwaitResponse(
+                            UsefulCommunicationMessages.POST_MANDATORY_CLIENT_LIST_UPDATE_REQUEST,
+                            NO_PAYLOAD);
+            List<ClientDTO> resultadoDeLlamada;
+            switch (serverResponse.command()) {
+                case POST_CLIENT_LIST_NOT_MODIFIED -> {
                     System.out.println("[MessageSideComms] - Client List Update Request: " +
-                                               "Client list updated successfully");
-                    break;
-                } catch /*Llamada sobrante de MessageList*/ (ClassCastException e) {
-                    System.out.println("[MessageSideComms] - Error During Client List Update Request: " +
-                                               "Failed to read a valid client list due to a " +
-                                               "ClassCastException");
-                    System.out.println("This is most likey the result of a leftover message " +
-                                               "update transaction");
-                    extractErrorInformationAndPrint(e);
-                    continue;
-                } catch /*Valor sobrante de lllamadas anteriores*/ (OptionalDataException e) {
-                    System.out.println("[MessageSideComms] - Error During Client List Update Request: " +
-                                               "Failed to read a valid client list due to an " +
-                                               "OptionalDataException");
-                    System.out.println("This is most likey the result of a leftover message " +
-                                               "update transaction");
-                    extractErrorInformationAndPrint(e);
-                    continue;
-                } catch (ClassNotFoundException e) {
-                    System.out.println("[MessageSideComms] - Error During Client List Update Request: " +
-                                               "Failed to read a valid client list due to a " +
-                                               "ClassNotFoundException");
-                    extractErrorInformationAndPrint(e);
-                    continue;
-                } catch (NullPointerException e) {
-                    System.out.println("[MessageSideComms] - Error During Client List Update Request: " +
-                                               "Failed to read a valid client list due to a " +
-                                               "NullPointerException");
-                    extractErrorInformationAndPrint(e);
-                    continue;
-                } catch (Exception e) {
-                    System.out.println("[MessageSideComms] - Error During Client List Update Request: " +
-                                               "Failed to read a valid client list due to an " +
-                                               "unknown error");
-                    extractErrorInformationAndPrint(e);
-                    continue;
+                                               "Client list unchanged at version "
+                                               + knownDirectoryVersion);
+                    return;
                 }
-            } catch (IOException e) {
-                System.out.println("[MessageSideComms] - Error During Client List Update Request: " +
-                                           "Failed to send the request to the server due to an " +
-                                           "IOException");
-                extractErrorInformationAndPrint(e);
-                continue;
-            } catch (Exception e) {
-                System.out.println("[MessageSideComms] - Error During Client List Update Request: " +
-                                           "Failed to send the request to the server due to an " +
-                                           "unknown error");
-                extractErrorInformationAndPrint(e);
-            }
-
-            if (currAttempt < MAX_ATTEMPTS_FOR_QUERY) {
-                try {
-                    Thread.sleep(this.messageClient_RetryDelaysInMilliSeconds);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    break;
+                case POST_CLIENT_LIST_CONDITIONAL_ACKNOWLEDGMENT -> {
+                    DirectoryRefresh directoryRefresh =
+                            (DirectoryRefresh) serverResponse.payload();
+                    this.messageClient_DirectoryVersion = directoryRefresh.directoryVersion();
+                    resultadoDeLlamada = directoryRefresh.clients();
+                }
+                case POST_MANDATORY_CLIENT_LIST_UPDATE_ACKNOWLEDGMENT ->
+                        resultadoDeLlamada = (List<ClientDTO>) serverResponse.payload();
+                default -> {
+                    System.out.println("[MessageSideComms] - Error During Client List Update " +
+                                               "Request: Unexpected response "
+                                               + serverResponse.command());
+                    return;
                 }
             }
 
-        } while (currAttempt < MAX_ATTEMPTS_FOR_QUERY);
-
-        if (currAttempt >= MAX_ATTEMPTS_FOR_QUERY) {
+            //? 3. Enviamos una actuaizacion a las listas del sistema para que se pongan
+            //? en la pantalla del usuario
+            Platform.runLater(() -> {
+                messageClient_ListadoDeClientes.clear();
+                messageClient_ListadoDeClientes.addAll(resultadoDeLlamada);
+            });
+            System.out.println("[MessageSideComms] - Client List Update Request: " +
+                                       "Client list updated successfully");
+        } catch (IOException e) {
             System.out.println("[MessageSideComms] - Error During Client List Update Request: " +
-                                       "Failed to send the request to the server after " +
-                                       MAX_ATTEMPTS_FOR_QUERY + " attempts");
-            return;
+                                       "Failed to complete the request due to an IOException");
+            extractErrorInformationAndPrint(e);
+        } catch (Exception e) {
+            System.out.println("[MessageSideComms] - Error During Client List Update Request: " +
+                                       "Failed to complete the request due to an unknown error");
+            extractErrorInformationAndPrint(e);
         }
     }
 
@@ -870,206 +967,801 @@ public class MessageClient {
     /**
      * <body style="color:white">
      * Metodo que solicita al servidor TCP una actualizacion de la lista de mensajes enviados y
-     * recibidos por el cliente. Este metodo sigue un proceso iterativo en caso de errores de
-     * comunicacion, utilizando reintentos hasta un limite predefinido.
-     *
-     * <p><b>Proceso del metodo:</b></p>
-     * <ul>
-     *     <li>1. Valida el estado de conexion del cliente al servidor. Si no existe
-     *            conexion, el metodo no realiza ninguna operacion adicional y retorna.</li>
-     *     <li>2. Envia una solicitud al servidor usando streams de salida, indicando
-     *            que requiere una actualizacion de la lista de mensajes.</li>
-     *     <li>3. Espera por un mensaje de confirmacion (ACKNOWLEDGE) que valida la recepcion
-     *            de la solicitud por parte del servidor.</li>
-     *     <li>4. Recibe una lista de mensajes enviada por el servidor, separada en mensajes
-     *            enviados y recibidos.</li>
-     *     <li>5. Actualiza las listas observables internas para sincronizar la interface
-     *            grafica del cliente utilizando {@link Platform#runLater(Runnable)}.</li>
-     *     <li>6. Si ocurre un error durante el proceso, realiza reintentos hasta alcanzar
-     *            el limite configurado ({@code MAX_ATTEMPTS_FOR_QUERY}).</li>
-     * </ul>
+     * recibidos por el cliente. Si ya existe un cursor de sincronizacion y el servidor soporta
+     * {@link BinaryWireProtocol#CAPABILITY_INCREMENTAL_SYNC}, solo se solicitan los mensajes
+     * nuevos; en caso contrario se solicita el historial completo.
      *
      * <p><b>Consideraciones:</b></p>
      * <ul>
-     *     <li>El metodo puede lanzar errores manejados como {@link IOException} si existen
-     *         problemas de red, o problemas de deserializacion como {@link ClassCastException},
-     *         {@link ClassNotFoundException}.</li>
-     *     <li>En casos de excepciones inesperadas, el metodo sigue intentando hasta
-     *         completar el limite maximo de intentos configurado.</li>
+     *     <li>Un fallo solo se registra; el siguiente mandato de actualizacion del servidor
+     *         vuelve a solicitar el historial.</li>
      * </ul>
-     *
-     * @throws IOException          Si ocurren problemas de red o fallo al enviar/recibir datos al
-     *                              servidor.
-     * @throws InterruptedException Si hay un fallo al aplicar retrasos entre reintentos.
-     * @throws NullPointerException Si alguno de los recursos utilizados (como streams o socket) no
-     *                              esta inicializado correctamente.
-     *                              </body>
+     * </body>
      */
-    public void postMessageUpdateListRequest() 
+    public void postMessageUpdateListRequest() {
+        //? Si ya tenemos historial y el servidor lo soporta, pedimos solo lo nuevo
+        Timestamp syncCursor = messageClient_SyncCursor.get();
+        WireProtocol currentProtocol = this.messageClient_WireProtocol;
+        if (syncCursor != null && currentProtocol != null
+                && currentProtocol.supportsCapability(
+                        BinaryWireProtocol.CAPABILITY_INCREMENTAL_SYNC)
+                && requestMessageSyncFromServer(syncCursor)) {
+            return;
+        }
+        requestMessageListsFromServer();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void requestMessageListsFromServer()
     {
         //?1. Validacion de estado: si el servidor no esta corriendo todavia, no podemos hacer
         //? esta llamada
         if (!messageClient_IsConnected.get()){
             return;
         }
-        final int MAX_ATTEMPTS_FOR_QUERY = 9;
-        int currAttempt =0;
-        do {
-            currAttempt++;
-            try {
-                //? 1. Iniciamos enviando una request flag al servidor
-                this.messageClient_OutputStream.writeUTF(UsefulCommunicationMessages
-                                                                 .POST_MANDATORY_MESSAGE_LIST_UPDATE_REQUEST
-                                                                 .get_message());
-                this.messageClient_OutputStream.flush();
+        try {
+            //? 2. Enviamos el request y esperamos el ACKNOWLEDGE junto con el mapa de mensajes
+            ServerResponse serverResponse = sendRequestAndAwaitResponse(
+                    UsefulCommunicationMessages.POST_MANDATORY_MESSAGE_LIST_UPDATE_REQUEST,
+                    NO_PAYLOAD);
+            if (serverResponse.command() != UsefulCommunicationMessages
+                    .POST_MANDATORY_MESSAGE_LIST_UPDATE_ACKNOWLEDGMENT) {
+                System.out.println("[MessageSideComms] - Error During Message List Update " +
+                                           "Request: Unexpected response "
+                                           + serverResponse.command());
+                return;
+            }
+            Map<String, List<MessageDTO>> resultadoDeLlamada =
+                    (Map<String, List<MessageDTO>>) serverResponse.payload();
 
-                //? 2. Esperamos por un ACKNOWLEDGE DEL SERVIDOR
-                try{
-                    String messageConfirmation = this.messageClient_InputStream.readUTF();
-                    UsefulCommunicationMessages messages =
-                            UsefulCommunicationMessages.valueOf(messageConfirmation);
-                    if (messages.equals(UsefulCommunicationMessages.
-                                                POST_MANDATORY_MESSAGE_LIST_UPDATE_ACKNOWLEDGMENT)){
-                        System.out.println("[MessageSideComms] - Client Message LIst Update " +
-                                                   "Acknowledgement " +
-                                                   "Received");
-                    }else {
-                        System.out.println("[MessageSideComms] - Error During Client Message List" +
-                                                   " Update Request: " +
-                                                   "Failed to read the acknowledgement message");
-                        continue;
-                    }
-                } catch (ClassCastException e){
-                    System.out.println("[MessageSideComms] - Error During Message List Update " +
-                                               "Request: " +
-                                               "Failed to read a valid acknowledge signal due to " +
-                                               "a ClassCastException");
-                    extractErrorInformationAndPrint(e);
-                    continue;
-                } catch(IOException e){
-                    System.out.println("[MessageSideComms] - Error During Message List Update " +
-                                               "Request: " +
-                                               "Failed to read the acknowledgement message due to an " +
-                                               "IOException error");
-                    extractErrorInformationAndPrint(e);
-                    continue;
+            //? 3. Enviamos una actuaizacion a las listas del sistema para que se pongan
+            //? en la pantalla del usuario
+            Platform.runLater(() -> {
+                try {
+                    //? 3.1 Extraemos la informacion de la llamada
+                    List<MessageDTO> receivedMessages = resultadoDeLlamada.getOrDefault(
+                            "receivedMessages", new ArrayList<>());
+                    List<MessageDTO> sentMessages = resultadoDeLlamada.getOrDefault("sentMessages", new ArrayList<>());
+
+                    //? 3.2 Cargamos la informacion de la llamada en ambos observables
+                    messageClient_ListadoDeMensajesRecibidos.clear();
+                    messageClient_ListadoDeMensajesRecibidos.addAll(receivedMessages);
+
+                    messageClient_ListadoDeMensajesEnviados.clear();
+                    messageClient_ListadoDeMensajesEnviados.addAll(sentMessages);
+
+                    //? 3.3 El historial completo reinicia el cursor de sincronizacion
+                    messageClient_SyncCursor.set(null);
+                    advanceSyncCursor(receivedMessages, true);
+                    advanceSyncCursor(sentMessages, true);
+
+                    System.out.println("[MessageSideComms] - Updated received messages: " + receivedMessages.size() +
+                                               ", sent messages: " + sentMessages.size());
                 } catch (Exception e) {
-                    System.out.println("[MessageSideComms] - Error During Message  List Update " +
-                                               "Request: " +
-                                               "Failed to read the acknowledgement message due to an " +
-                                               "unknown error");
-                    extractErrorInformationAndPrint(e);
-                    continue;
+                    System.out.println("[MessageSideComms] - Error updating message lists: " + e.getMessage());
                 }
+            });
+            System.out.println("[MessageSideComms] - Client Message Lists Update Request:" +
+                                       " Message Lists updated successfully");
+        } catch (IOException e) {
+            System.out.println("[MessageSideComms] - Error During Message List Update Request: " +
+                                       "Failed to complete the request due to an IOException");
+            extractErrorInformationAndPrint(e);
+        } catch (Exception e) {
+            System.out.println("[MessageSideComms] - Error During Message List Update Request: " +
+                                       "Failed to complete the request due to an unknown error");
+            extractErrorInformationAndPrint(e);
+        }
+    }
 
-                //? 3. Recibimos la informacion del servidor, una lista de clientes
-                Map<String,List<MessageDTO>> resultadoDeLlamada;
-                try{
-                    resultadoDeLlamada =
-                            (Map<String,List<MessageDTO>>) this.messageClient_InputStream.readObject();
 
-                    //? 4. Enviamos una actuaizacion a las listas del sistema para que se pongan
-                    //? en la pantalla del usuario
-                    Platform.runLater(() -> {
-                        try {
-                            //? 4.1 Extraemos la informacion de la llamada
-                            List<MessageDTO> receivedMessages = resultadoDeLlamada.getOrDefault(
-                                    "receivedMessages", new ArrayList<>());
-                            List<MessageDTO> sentMessages = resultadoDeLlamada.getOrDefault("sentMessages", new ArrayList<>());
+    /**
+     * <body style="color:white">
+     * Solicita al servidor la pagina del historial de la conversacion con otro usuario que
+     * precede a la ultima cargada (o la mas reciente, si todavia no se cargo ninguna) y la
+     * combina con las listas de mensajes. El request y el cursor viajan juntos, por lo que cada
+     * pagina cuesta un unico viaje de ida y vuelta y su costo en el servidor no depende de
+     * cuantas paginas se cargaron antes.
+     *
+     * <p><b>Consideraciones:</b></p>
+     * <ul>
+     *     <li>Si ya hay una pagina en vuelo para la conversacion, o el servidor indico que no
+     *         existen mensajes anteriores, no se envia nada.</li>
+     *     <li>Requiere {@link BinaryWireProtocol#CAPABILITY_HISTORY_PAGING}; sin ella el
+     *         historial completo ya se carga al iniciar sesion.</li>
+     *     <li>Un fallo solo se registra; el cursor no avanza y la pagina puede volver a
+     *         solicitarse.</li>
+     * </ul>
+     *
+     * @param peerUsername Username del otro participante de la conversacion.
+     * @return {@code true} si pueden existir mensajes anteriores a los ya cargados.
+     * </body>
+     */
+    public boolean postMessageHistoryPageRequest(String peerUsername) {
+        //? 1. Validacion de estado y del cursor de la conversacion
+        WireProtocol currentProtocol = this.messageClient_WireProtocol;
+        if (peerUsername == null || !messageClient_IsConnected.get() || currentProtocol == null
+                || !currentProtocol.supportsCapability(
+                        BinaryWireProtocol.CAPABILITY_HISTORY_PAGING)) {
+            return false;
+        }
+        ConversationHistoryCursor cursor = messageClient_HistoryCursorsByPeer.get(peerUsername);
+        if (cursor != null && !cursor.hasMore()) {
+            return false;
+        }
+        if (!messageClient_HistoryPagesInFlight.add(peerUsername)) {
+            return true;
+        }
+        try {
+            //? 2. Enviamos el request junto con el cursor y esperamos la pagina
+            MessageHistoryPageRequestDTO pageRequest = cursor == null
+                    ? new MessageHistoryPageRequestDTO(peerUsername, null, 0, 0)
+                    : new MessageHistoryPageRequestDTO(peerUsername, cursor.beforeTimestamp(),
+                                                       cursor.beforeMessageId(), 0);
+            ServerResponse serverResponse = sendRequestAndAwaitResponse(
+                    UsefulCommunicationMessages.POST_MESSAGE_HISTORY_PAGE_REQUEST,
+                    wireProtocol -> wireProtocol.writeHistoryPageRequest(pageRequest));
+            if (serverResponse.command()
+                    != UsefulCommunicationMessages.POST_MESSAGE_HISTORY_PAGE_ACKNOWLEDGMENT) {
+                System.out.println("[MessageSideComms] - Error During History Page Request: " +
+                                           "Unexpected response " + serverResponse.command());
+                return true;
+            }
+            MessageHistoryPageDTO historyPage = (MessageHistoryPageDTO) serverResponse.payload();
+
+            //? 3. Avanzamos el cursor de la conversacion hacia el mensaje mas antiguo recibido
+            messageClient_HistoryCursorsByPeer.put(peerUsername, historyPage.messages().isEmpty()
+                    ? new ConversationHistoryCursor(null, 0, false)
+                    : new ConversationHistoryCursor(historyPage.nextBeforeTimestamp(),
+                                                    historyPage.nextBeforeMessageId(),
+                                                    historyPage.hasMore()));
+
+            //? 4. Combinamos la pagina con las listas existentes; son mensajes anteriores, por lo
+            //? que el cursor de sincronizacion no cambia
+            List<MessageDTO> receivedMessages = new ArrayList<>();
+            List<MessageDTO> sentMessages = new ArrayList<>();
+            for (MessageDTO pagedMessage : historyPage.messages()) {
+                if (this.messageClient_ClientUsername.equals(pagedMessage._senderUUID())) {
+                    sentMessages.add(pagedMessage);
+                } else {
+                    receivedMessages.add(pagedMessage);
+                }
+            }
+            Platform.runLater(() -> {
+                int addedReceived = mergeMessagesInto(messageClient_ListadoDeMensajesRecibidos,
+                                                      receivedMessages);
+                int addedSent = mergeMessagesInto(messageClient_ListadoDeMensajesEnviados,
+                                                  sentMessages);
+                System.out.println("[MessageSideComms] - History page with " + peerUsername
+                                           + ": " + addedReceived + " received, " + addedSent
+                                           + " sent, more: " + historyPage.hasMore());
+            });
+            return historyPage.hasMore();
+        } catch (IOException e) {
+            System.out.println("[MessageSideComms] - Error During History Page Request: " +
+                                       "Failed to complete the request due to an IOException");
+            extractErrorInformationAndPrint(e);
+        } catch (Exception e) {
+            System.out.println("[MessageSideComms] - Error During History Page Request: " +
+                                       "Failed to complete the request due to an unknown " +
+                                       "error");
+            extractErrorInformationAndPrint(e);
+        } finally {
+            messageClient_HistoryPagesInFlight.remove(peerUsername);
+        }
+        return true;
+    }
 
-                            //? 4.2 Cargamos la informacion de la llamada en ambos observables
 
-                            messageClient_ListadoDeMensajesRecibidos.clear();
-                            messageClient_ListadoDeMensajesRecibidos.addAll(receivedMessages);
+    /*! Hilo lector de la conexion*/
 
-                            messageClient_ListadoDeMensajesEnviados.clear();
-                            messageClient_ListadoDeMensajesEnviados.addAll(sentMessages);
+    /**
+     * Respuesta a una peticion del cliente: el ACKNOWLEDGE recibido y, para las consultas de
+     * listas, el payload que el servidor envia a continuacion.
+     */
+    private record ServerResponse(UsefulCommunicationMessages command, Object payload) {
+    }
 
+    /**
+     * Payload de {@code POST_CLIENT_LIST_CONDITIONAL_ACKNOWLEDGMENT}: la version actual del
+     * directorio y la lista que le corresponde.
+     */
+    private record DirectoryRefresh(long directoryVersion, List<ClientDTO> clients) {
+    }
 
-                            System.out.println("[MessageSideComms] - Updated received messages: " + receivedMessages.size() +
-                                                       ", sent messages: " + sentMessages.size());
-                        } catch (Exception e) {
-                            System.out.println("[MessageSideComms] - Error updating message lists: " + e.getMessage());
-                        }
-                    });
+    /**
+     * Peticion enviada que todavia espera su respuesta. El identificador solo se usa cuando el
+     * protocolo acordado transporta correlacion.
+     */
+    private record PendingRequest(int correlationId, CompletableFuture<ServerResponse> response) {
+    }
 
+    /**
+     * Escritura del payload que acompana a un request, realizada bajo el mismo lock que el
+     * request para que ambos lleguen juntos al servidor.
+     */
+    @FunctionalInterface
+    private interface RequestPayloadWriter {
+        void write(WireProtocol wireProtocol) throws IOException;
+    }
 
-                    System.out.println("[MessageSideComms] - Client Message Lists Update Request:" +
-                                               " " +
-                                               "Message Lists updated successfully");
-                    break;
-                }catch /*Llamada sobrante de MessageList*/(ClassCastException e){
-                    System.out.println("[MessageSideComms] - Error During Message List Update " +
-                                               "Request: " +
-                                               "Failed to read a valid message list due to a " +
-                                               "ClassCastException");
-                    System.out.println("This is most likey the result of a leftover message " +
-                                               "update transaction");
-                    extractErrorInformationAndPrint(e);
-                    continue;
-                } catch /*Valor sobrante de lllamadas anteriores*/(OptionalDataException e){
-                    System.out.println("[MessageSideComms] - Error During Messae List Update " +
-                                               "Request: " +
-                                               "Failed to read a valid client list due to an " +
-                                               "OptionalDataException");
-                    System.out.println("This is most likey the result of a leftover message " +
-                                               "update transaction");
-                    extractErrorInformationAndPrint(e);
-                    continue;
-                } catch (ClassNotFoundException e){
-                    System.out.println("[MessageSideComms] - Error During Client Message List " +
-                                               "Update Request: " +
-                                               "Failed to read a valid message list due to a " +
-                                               "ClassNotFoundException");
-                    extractErrorInformationAndPrint(e);
-                    continue;
-                } catch(NullPointerException e){
-                    System.out.println("[MessageSideComms] - Error During Client Message List " +
-                                               "Update Request: " +
-                                               "Failed to read a message list due to a " +
-                                               "NullPointerException");
-                    extractErrorInformationAndPrint(e);
-                    continue;
-                } catch (Exception e) {
-                    System.out.println("[MessageSideComms] - Error During Message List Update " +
-                                               "Request: " +
-                                               "Failed to read a valid message list due to an " +
-                                               "unknown error");
-                    extractErrorInformationAndPrint(e);
+    private static final RequestPayloadWriter NO_PAYLOAD = wireProtocol -> {
+    };
+
+    private void startServerListener() {
+        Thread.ofPlatform()
+                .daemon()
+                .name("MessageClient-Listener-" + this.messageClient_ClientUsername)
+                .start(this::listenToServer);
+    }
+
+    /**
+     * <body style="color:white">
+     * Ciclo del hilo lector. Es el unico lugar que lee el socket luego de la autenticacion y
+     * separa lo recibido en dos flujos logicos:
+     * <ul>
+     *     <li>Eventos del servidor ({@code POST_RECEIVED_MESSAGE_TO_CLIENT} y los mandatos), que
+     *     viajan sin correlacion y se atienden aqui mismo o en otro hilo.</li>
+     *     <li>Respuestas (ACKNOWLEDGE y su payload), que completan la peticion pendiente con el
+     *     mismo identificador de correlacion, o la mas antigua si el protocolo no lo
+     *     transporta.</li>
+     * </ul>
+     * Termina cuando la conexion se cierra; si el cierre no fue solicitado por el cliente, la
+     * conexion se marca como perdida. En ambos casos las peticiones pendientes fallan de
+     * inmediato.
+     * </body>
+     */
+    private void listenToServer() {
+        WireProtocol currentProtocol = this.messageClient_WireProtocol;
+        boolean connectionLost = false;
+        while (this.messageClient_IsConnected.get()) {
+            try {
+                String receivedToken = currentProtocol.readCommand();
+                UsefulCommunicationMessages command;
+                try {
+                    command = UsefulCommunicationMessages.valueOf(receivedToken);
+                } catch (IllegalArgumentException e) {
+                    System.out.println("[MessageSideComms] - Error: el servidor envio un comando " +
+                                               "desconocido [" + receivedToken + "]");
                     continue;
                 }
-            } catch (IOException e) {
-                System.out.println("[MessageSideComms] - Error During Message List Update Request: " +
-                                           "Failed to send the request to the server due to an " +
-                                           "IOException");
-                extractErrorInformationAndPrint(e);
-                continue;
-            } catch (Exception e) {
-                System.out.println("[MessageSideComms] - Error During Message List Update Request: " +
-                                           "Failed to send the request to the server due to an " +
-                                           "unknown error");
+
+                switch (command) {
+                    case POST_RECEIVED_MESSAGE_TO_CLIENT -> {
+                        MessageDTO receivedMessage = currentProtocol.readMessage();
+                        Platform.runLater(() -> {
+                            mergeMessagesInto(messageClient_ListadoDeMensajesRecibidos,
+                                              List.of(receivedMessage));
+                            advanceSyncCursor(List.of(receivedMessage), false);
+                        });
+                    }
+                    case POST_CLIENT_DIRECTORY_DELTA -> {
+                        List<ClientDTO> addedClients = currentProtocol.readClientList();
+                        List<ClientDTO> removedClients = currentProtocol.readClientList();
+                        Platform.runLater(() -> applyDirectoryDelta(addedClients,
+                                                                    removedClients));
+                    }
+                    case POST_CLIENT_CLIENT_LIST_UPDATE_MANDATE ->
+                            CompletableFuture.runAsync(this::postClientUpdateListRequest);
+                    case POST_CLIENT_MESSAGE_LIST_UPDATE_MANDATE ->
+                            CompletableFuture.runAsync(this::postMessageUpdateListRequest);
+                    case POST_SERVER_HEARTBEAT_PING -> answerHeartbeatPing(currentProtocol);
+                    case POST_CLIENT_SHUTDOWN_MANDATE -> {
+                        //? El servidor no volvera con la misma llave, el token ya no sirve
+                        this.messageClient_SessionToken = null;
+                        System.out.println("[MessageSideComms] - El servidor notifico su " +
+                                                   "apagado");
+                    }
+                    case POST_MANDATORY_CLIENT_LIST_UPDATE_ACKNOWLEDGMENT ->
+                            completePendingRequest(currentProtocol, new ServerResponse(
+                                    command, currentProtocol.readClientList()));
+                    case POST_MANDATORY_MESSAGE_LIST_UPDATE_ACKNOWLEDGMENT,
+                         POST_MESSAGE_LIST_SYNC_ACKNOWLEDGMENT ->
+                            completePendingRequest(currentProtocol, new ServerResponse(
+                                    command, currentProtocol.readMessageMap()));
+                    case POST_CLIENT_LIST_CONDITIONAL_ACKNOWLEDGMENT -> {
+                        long directoryVersion = currentProtocol.readDirectoryVersion();
+                        completePendingRequest(currentProtocol, new ServerResponse(
+                                command, new DirectoryRefresh(directoryVersion,
+                                                              currentProtocol.readClientList())));
+                    }
+                    case POST_MESSAGE_HISTORY_PAGE_ACKNOWLEDGMENT ->
+                            completePendingRequest(currentProtocol, new ServerResponse(
+                                    command, currentProtocol.readHistoryPage()));
+                    case POST_CLIENT_DISCONNECTION_REQUEST_ACKNOWLEDGEMENT -> {
+                        //? El servidor cierra la conexion luego de este ACKNOWLEDGE
+                        this.messageClient_IsConnected.set(false);
+                        completePendingRequest(currentProtocol, new ServerResponse(command, null));
+                    }
+                    default -> completePendingRequest(currentProtocol,
+                                                      new ServerResponse(command, null));
+                }
+            } catch (ClassNotFoundException | ClassCastException e) {
+                System.out.println("[MessageSideComms] - Error: no se pudo leer el objeto " +
+                                           "enviado por el servidor");
                 extractErrorInformationAndPrint(e);
+            } catch (IOException e) {
+                //? Si el protocolo ya fue reemplazado, la conexion se cerro para abrir otra
+                if (currentProtocol == this.messageClient_WireProtocol
+                        && this.messageClient_IsConnected.compareAndSet(true, false)) {
+                    System.out.println("[MessageSideComms] - Error: se perdio la conexion con el " +
+                                               "servidor");
+                    extractErrorInformationAndPrint(e);
+                    connectionLost = true;
+                }
+                break;
             }
+        }
+        failPendingRequests(new EOFException("Error Code 0x001 - [Raised] La conexion con el " +
+                                                     "servidor se cerro"));
+        //? Las peticiones de esta conexion ya fallaron, la reconexion empieza limpia
+        if (connectionLost && this.messageClient_SessionToken != null) {
+            CompletableFuture.runAsync(this::resumeSessionAfterConnectionLoss);
+        }
+    }
 
-            if (currAttempt < MAX_ATTEMPTS_FOR_QUERY){
-                try {
-                    Thread.sleep(this.messageClient_RetryDelaysInMilliSeconds);
-                }catch(InterruptedException e){
-                    Thread.currentThread().interrupt();
+    /**
+     * <body style="color:white">
+     * Reintenta reanudar la sesion luego de perder la conexion, con esperas crecientes de
+     * {@value #SESSION_RESUME_BACKOFF_MILLIS} ms. Se detiene si la sesion se reanuda, si el
+     * servidor rechaza el token o si el cliente ya se conecto de otra forma.
+     * </body>
+     */
+    private void resumeSessionAfterConnectionLoss() {
+        for (int attempt = 1; attempt <= MAX_SESSION_RESUME_ATTEMPTS; attempt++) {
+            try {
+                long backoffMillis = SESSION_RESUME_BACKOFF_MILLIS * attempt;
+                Thread.sleep(backoffMillis
+                                     + ThreadLocalRandom.current().nextLong(backoffMillis / 5 + 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (this.messageClient_SessionToken == null || this.messageClient_IsConnected.get()) {
+                return;
+            }
+            Optional<String> resumeResult = attemptToResumeSession();
+            if (resumeResult.isEmpty() || !resumeResult.get().equals("SERVER_DISCONNECT")) {
+                return;
+            }
+        }
+        System.out.println("[MessageSideComms] - No se pudo reanudar la sesion luego de "
+                                   + MAX_SESSION_RESUME_ATTEMPTS + " intentos");
+    }
+
+    /**
+     * <body style="color:white">
+     * Aplica sobre la lista de clientes los usuarios registrados y eliminados que notifico el
+     * servidor, sin volver a solicitar el directorio completo. Debe ejecutarse en el hilo de
+     * JavaFX.
+     *
+     * @param addedClients   Usuarios registrados.
+     * @param removedClients Usuarios eliminados.
+     * </body>
+     */
+    private void applyDirectoryDelta(List<ClientDTO> addedClients,
+                                     List<ClientDTO> removedClients) {
+        Set<String> removedUUIDs = new HashSet<>();
+        removedClients.forEach(clientDTO -> removedUUIDs.add(clientDTO._clientUUID()));
+        messageClient_ListadoDeClientes.removeIf(
+                clientDTO -> removedUUIDs.contains(clientDTO._clientUUID()));
+        for (ClientDTO addedClient : addedClients) {
+            boolean isAlreadyListed = messageClient_ListadoDeClientes.stream()
+                    .anyMatch(clientDTO -> clientDTO._clientUUID()
+                            .equals(addedClient._clientUUID()));
+            if (!isAlreadyListed) {
+                messageClient_ListadoDeClientes.add(addedClient);
+            }
+        }
+    }
+
+    /**
+     * <body style="color:white">
+     * Entrega una respuesta a la peticion que la origino. Con correlacion se busca por el
+     * identificador del ultimo frame leido; sin ella, el servidor responde en el mismo orden en
+     * que recibe las peticiones, por lo que se completa la mas antigua.
+     *
+     * @param currentProtocol Protocolo del que se leyo la respuesta.
+     * @param serverResponse  Respuesta leida.
+     * </body>
+     */
+    private void completePendingRequest(WireProtocol currentProtocol,
+                                        ServerResponse serverResponse) {
+        PendingRequest pendingRequest = currentProtocol.supportsCorrelation()
+                ? messageClient_PendingRequestsById.remove(
+                        currentProtocol.getLastReadCorrelationId())
+                : messageClient_PendingRequestsInOrder.poll();
+        if (pendingRequest == null) {
+            System.out.println("[MessageSideComms] - Respuesta sin peticion pendiente descartada: "
+                                       + serverResponse.command());
+            return;
+        }
+        pendingRequest.response().complete(serverResponse);
+    }
+
+    private void failPendingRequests(IOException cause) {
+        messageClient_PendingRequestsById.values().removeIf(pendingRequest -> {
+            pendingRequest.response().completeExceptionally(cause);
+            return true;
+        });
+        PendingRequest pendingRequest;
+        while ((pendingRequest = messageClient_PendingRequestsInOrder.poll()) != null) {
+            pendingRequest.response().completeExceptionally(cause);
+        }
+    }
+
+    /**
+     * <body style="color:white">
+     * Responde al ping del heartbeat del servidor con {@code POST_CLIENT_HEARTBEAT_PONG}, sin
+     * correlacion ni payload. Se escribe bajo el mismo lock que las peticiones para no
+     * intercalar bytes con una peticion en curso.
+     *
+     * @param currentProtocol Protocolo de la conexion actual.
+     * @throws IOException si la escritura falla.
+     * </body>
+     */
+    private void answerHeartbeatPing(WireProtocol currentProtocol) throws IOException {
+        messageClient_WriteLock.lock();
+        try {
+            currentProtocol.setOutgoingCorrelationId(WireProtocol.UNCORRELATED);
+            currentProtocol.writeCommand(UsefulCommunicationMessages.POST_CLIENT_HEARTBEAT_PONG);
+            currentProtocol.flush();
+        } finally {
+            messageClient_WriteLock.unlock();
+        }
+    }
+
+    /**
+     * <body style="color:white">
+     * Envia un request (y su payload, si tiene) y espera la respuesta que el hilo lector le
+     * asocie. Solo la escritura se serializa con el lock de escritura, de modo que varios hilos
+     * pueden tener peticiones en curso sobre la misma conexion.
+     * <ul>
+     *     <li>Con correlacion, la peticion se registra por identificador y una respuesta tardia
+     *     de una peticion que ya expiro simplemente se descarta.</li>
+     *     <li>Sin correlacion, la peticion se encola en el orden de escritura. Si expira, se
+     *     cancela pero permanece en la cola para consumir su respuesta tardia y no desalinear a
+     *     las siguientes.</li>
+     * </ul>
+     *
+     * @param request       Request a enviar.
+     * @param payloadWriter Escritura del payload que acompana al request.
+     * @return {@link ServerResponse} asociada a la peticion.
+     * @throws SocketTimeoutException si el servidor no responde dentro del timeout.
+     * @throws EOFException           si no hay conexion o se cerro mientras se esperaba.
+     * @throws IOException            si la escritura falla.
+     * </body>
+     */
+    private ServerResponse sendRequestAndAwaitResponse(UsefulCommunicationMessages request,
+                                                       RequestPayloadWriter payloadWriter)
+            throws IOException {
+        WireProtocol currentProtocol = this.messageClient_WireProtocol;
+        if (currentProtocol == null || !this.messageClient_IsConnected.get()) {
+            throw new EOFException("Error Code 0x001 - [Raised] No existe conexion con el " +
+                                           "servidor");
+        }
+        boolean isCorrelated = currentProtocol.supportsCorrelation();
+        PendingRequest pendingRequest = new PendingRequest(
+                messageClient_NextCorrelationId.getAndUpdate(
+                        id -> id == Integer.MAX_VALUE ? 1 : id + 1),
+                new CompletableFuture<>());
+
+        //? 1. Registramos y escribimos bajo el mismo lock para que el orden de la cola coincida
+        //? con el orden en el cable
+        messageClient_WriteLock.lock();
+        try {
+            if (isCorrelated) {
+                messageClient_PendingRequestsById.put(pendingRequest.correlationId(),
+                                                      pendingRequest);
+            } else {
+                messageClient_PendingRequestsInOrder.add(pendingRequest);
+            }
+            if (!this.messageClient_IsConnected.get()) {
+                throw new EOFException("Error Code 0x001 - [Raised] La conexion con el " +
+                                               "servidor se cerro");
+            }
+            currentProtocol.setOutgoingCorrelationId(
+                    isCorrelated ? pendingRequest.correlationId() : WireProtocol.UNCORRELATED);
+            currentProtocol.writeCommand(request);
+            payloadWriter.write(currentProtocol);
+            currentProtocol.flush();
+        } catch (IOException e) {
+            messageClient_PendingRequestsById.remove(pendingRequest.correlationId());
+            messageClient_PendingRequestsInOrder.remove(pendingRequest);
+            throw e;
+        } finally {
+            messageClient_WriteLock.unlock();
+        }
+
+        //? 2. Esperamos la respuesta que entrega el hilo lector
+        try {
+            return pendingRequest.response().get(
+                    this.messageClient_ResponseTimeoutInMilliSeconds, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (isCorrelated) {
+                messageClient_PendingRequestsById.remove(pendingRequest.correlationId());
+            } else {
+                pendingRequest.response().cancel(false);
+            }
+            throw new SocketTimeoutException("Error Code 0x001 - [Raised] El servidor no " +
+                                                     "respondio a tiempo a " + request);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Error Code 0x001 - [Raised] Interrumpido " +
+                                                     "esperando la respuesta del servidor");
+        }
+    }
+
+    /**
+     * <body style="color:white">
+     * Agrega un mensaje recien enviado a la lista de mensajes enviados con la misma forma que
+     * tienen los mensajes leidos de la base de datos: usernames en lugar de UUIDs.
+     *
+     * @param sentMessage Mensaje tal como fue enviado al servidor.
+     * </body>
+     */
+    private void appendSentMessageLocally(MessageDTO sentMessage) {
+        Platform.runLater(() -> {
+            String receiverUsername = sentMessage._receiverUUID();
+            for (ClientDTO clientDTO : messageClient_ListadoDeClientes) {
+                if (sentMessage._receiverUUID().equals(clientDTO._clientUUID())) {
+                    receiverUsername = clientDTO._clientUsername();
                     break;
                 }
             }
+            List<MessageDTO> sentInUsernameForm = List.of(new MessageDTO(
+                    this.messageClient_ClientUsername,
+                    receiverUsername,
+                    sentMessage._messageContent(),
+                    sentMessage._messageTimestamp(),
+                    sentMessage._senderConfirmation(),
+                    sentMessage._receiverConfirmation()));
+            mergeMessagesInto(messageClient_ListadoDeMensajesEnviados, sentInUsernameForm);
+            advanceSyncCursor(sentInUsernameForm, false);
+        });
+    }
 
-        }while(currAttempt < MAX_ATTEMPTS_FOR_QUERY);
+    /*! Sincronizacion incremental del historial*/
 
-        if (currAttempt >= MAX_ATTEMPTS_FOR_QUERY){
-            System.out.println("[MessageSideComms] - Error During Message List Update Request: " +
-                                       "Failed to send the request to the server after " +
-                                       MAX_ATTEMPTS_FOR_QUERY + " attempts");
-            return;
+    /**
+     * <body style="color:white">
+     * Solicita al servidor solo los mensajes a partir del cursor y los combina con las listas
+     * existentes. El request y el cursor viajan juntos, por lo que la sincronizacion cuesta un
+     * unico viaje de ida y vuelta.
+     *
+     * @param syncCursor Timestamp del mensaje mas reciente conocido.
+     * @return {@code true} si la sincronizacion se completo; {@code false} para que el llamador
+     * solicite el historial completo.
+     * </body>
+     */
+    @SuppressWarnings("unchecked")
+    private boolean requestMessageSyncFromServer(Timestamp syncCursor) {
+        try {
+            //? 1. Enviamos el request junto con el cursor y esperamos los mensajes nuevos
+            ServerResponse serverResponse = sendRequestAndAwaitResponse(
+                    UsefulCommunicationMessages.POST_MESSAGE_LIST_SYNC_REQUEST,
+                    wireProtocol -> wireProtocol.writeSyncCursor(syncCursor));
+            if (serverResponse.command()
+                    != UsefulCommunicationMessages.POST_MESSAGE_LIST_SYNC_ACKNOWLEDGMENT) {
+                System.out.println("[MessageSideComms] - Error During Message Sync Request: " +
+                                           "Unexpected response " + serverResponse.command());
+                return false;
+            }
+            Map<String, List<MessageDTO>> newMessages =
+                    (Map<String, List<MessageDTO>>) serverResponse.payload();
+            List<MessageDTO> receivedMessages =
+                    newMessages.getOrDefault("receivedMessages", List.of());
+            List<MessageDTO> sentMessages = newMessages.getOrDefault("sentMessages", List.of());
+
+            //? 2. Combinamos con las listas existentes sin vaciarlas
+            Platform.runLater(() -> {
+                int addedReceived = mergeMessagesInto(messageClient_ListadoDeMensajesRecibidos,
+                                                      receivedMessages);
+                int addedSent = mergeMessagesInto(messageClient_ListadoDeMensajesEnviados,
+                                                  sentMessages);
+                advanceSyncCursor(receivedMessages, false);
+                advanceSyncCursor(sentMessages, false);
+                System.out.println("[MessageSideComms] - Synced messages since " + syncCursor
+                                           + ": " + addedReceived + " received, " + addedSent
+                                           + " sent");
+            });
+            return true;
+        } catch (IOException e) {
+            System.out.println("[MessageSideComms] - Error During Message Sync Request: " +
+                                       "Failed to complete the request due to an IOException");
+            extractErrorInformationAndPrint(e);
+        } catch (Exception e) {
+            System.out.println("[MessageSideComms] - Error During Message Sync Request: " +
+                                       "Failed to complete the request due to an unknown " +
+                                       "error");
+            extractErrorInformationAndPrint(e);
+        }
+        return false;
+    }
+
+    /**
+     * <body style="color:white">
+     * Agrega a una lista observable los mensajes que todavia no contiene. Dos mensajes se
+     * consideran el mismo si coinciden emisor, receptor, contenido y timestamp; no se usa
+     * {@link MessageDTO#equals(Object)} porque solo compara emisor y receptor. Debe llamarse
+     * desde el hilo de JavaFX.
+     *
+     * @param targetList       Lista observable a actualizar.
+     * @param incomingMessages Mensajes recibidos del servidor.
+     * @return Cantidad de mensajes agregados.
+     * </body>
+     */
+    private static int mergeMessagesInto(ObservableList<MessageDTO> targetList,
+                                         Collection<MessageDTO> incomingMessages) {
+        Set<List<Object>> knownMessages = new HashSet<>();
+        for (MessageDTO knownMessage : targetList) {
+            knownMessages.add(messageIdentity(knownMessage));
+        }
+        List<MessageDTO> messagesToAdd = new ArrayList<>();
+        for (MessageDTO incomingMessage : incomingMessages) {
+            if (knownMessages.add(messageIdentity(incomingMessage))) {
+                messagesToAdd.add(incomingMessage);
+            }
         }
+        if (!messagesToAdd.isEmpty()) {
+            targetList.addAll(messagesToAdd);
+        }
+        return messagesToAdd.size();
+    }
+
+    private static List<Object> messageIdentity(MessageDTO messageDTO) {
+        return Arrays.asList(messageDTO._senderUUID(),
+                             messageDTO._receiverUUID(),
+                             messageDTO._messageContent(),
+                             messageDTO._messageTimestamp());
+    }
+
+    /**
+     * <body style="color:white">
+     * Avanza el cursor de sincronizacion hasta el mensaje mas reciente de la coleccion. Solo el
+     * historial completo puede iniciar el cursor: un mensaje recibido por push antes de cargar
+     * el historial no debe hacer que la siguiente actualizacion omita los mensajes anteriores.
+     *
+     * @param knownMessages Mensajes que ya se encuentran en las listas.
+     * @param isFullHistory {@code true} si los mensajes provienen del historial completo.
+     * </body>
+     */
+    private void advanceSyncCursor(Collection<MessageDTO> knownMessages, boolean isFullHistory) {
+        for (MessageDTO knownMessage : knownMessages) {
+            Timestamp messageTimestamp = knownMessage._messageTimestamp();
+            if (messageTimestamp != null) {
+                messageClient_SyncCursor.accumulateAndGet(
+                        messageTimestamp,
+                        (current, candidate) -> current == null
+                                ? (isFullHistory ? candidate : null)
+                                : (candidate.after(current) ? candidate : current));
+            }
+        }
+    }
+
+    /**
+     * <body style="color:white">
+     * Lee el puerto del servidor de la misma propiedad que usa el servidor,
+     * {@code multiuserchat.server.port}, o retorna el puerto historico {@code 100}.
+     *
+     * @return Puerto al que se conecta el cliente.
+     * </body>
+     */
+    private static int serverPortFromSystemProperties() {
+        try {
+            int configuredPort = Integer.parseInt(
+                    System.getProperty("multiuserchat.server.port", "100"));
+            return configuredPort > 0 ? configuredPort : 100;
+        } catch (NumberFormatException e) {
+            return 100;
+        }
+    }
+
+    /**
+     * <body style="color:white">
+     * Abre la conexion hacia el servidor y negocia el formato en el cable. Se intenta primero el
+     * formato configurado en {@link ProtocolMode#PROTOCOL_PROPERTY} (binario por defecto); si
+     * el servidor es una version anterior que no entiende el handshake binario, este cierra la
+     * conexion, por lo que se abre un socket nuevo y se continua con
+     * {@link ProtocolMode#OBJECT_STREAM}.
+     *
+     * @throws IOException si no se puede establecer la conexion con ningun formato.
+     * </body>
+     */
+    private void attemptToOpenConnectionWithPreferredProtocol() throws IOException {
+        ProtocolMode preferredMode = ProtocolMode.fromSystemProperties();
+        this.messageClient_ConnectionChannel = openConnectionChannel();
+        System.out.println("[MessageSideComms] - Authentication Request Socket Created");
+        if (preferredMode == ProtocolMode.BINARY) {
+            try {
+                this.messageClient_WireProtocol = WireProtocolNegotiator.negotiateAsClient(
+                        Channels.newInputStream(this.messageClient_ConnectionChannel),
+                        Channels.newOutputStream(this.messageClient_ConnectionChannel),
+                        ProtocolMode.BINARY,
+                        openSharedMemorySessionIfRequested());
+                System.out.println("[MessageSideComms] - Protocolo binario negociado con el " +
+                                           "servidor"
+                                           + (this.messageClient_WireProtocol.supportsCapability(
+                                                   BinaryWireProtocol.CAPABILITY_SHARED_MEMORY)
+                                                   ? " sobre memoria compartida" : ""));
+                return;
+            } catch (IOException e) {
+                System.out.println("[MessageSideComms] - El servidor no acepto el protocolo " +
+                                           "binario, se reintenta con serializacion de Java");
+                extractErrorInformationAndPrint(e);
+                this.messageClient_ConnectionChannel.close();
+                this.messageClient_ConnectionChannel = openConnectionChannel();
+            }
+        }
+        this.messageClient_WireProtocol = WireProtocolNegotiator.negotiateAsClient(
+                Channels.newInputStream(this.messageClient_ConnectionChannel),
+                Channels.newOutputStream(this.messageClient_ConnectionChannel),
+                ProtocolMode.OBJECT_STREAM);
+    }
+
+    /**
+     * <body style="color:white">
+     * Abre un canal bloqueante hacia el servidor con el transporte de
+     * {@link ClientTransportMode#TRANSPORT_PROPERTY}. Con
+     * {@link ClientTransportMode#UNIX_DOMAIN} y {@link ClientTransportMode#SHARED_MEMORY} se
+     * usa el socket Unix de
+     * {@code multiuserchat.server.unix.socket}; si la ruta no esta configurada o el servidor no
+     * escucha en ella, se continua por TCP.
+     *
+     * @return {@link SocketChannel} conectado con el servidor.
+     * @throws IOException si no se puede conectar por TCP.
+     * </body>
+     */
+    private SocketChannel openConnectionChannel() throws IOException {
+        ClientTransportMode transportMode = ClientTransportMode.fromSystemProperties();
+        if (transportMode != ClientTransportMode.TCP) {
+            String unixSocketPath =
+                    System.getProperty("multiuserchat.server.unix.socket", "").trim();
+            if (!unixSocketPath.isEmpty()) {
+                try {
+                    return SocketChannel.open(
+                            UnixDomainSocketAddress.of(Path.of(unixSocketPath)));
+                } catch (IOException e) {
+                    System.out.println("[MessageSideComms] - No se pudo conectar al socket " +
+                                               "Unix " + unixSocketPath + ", se usa TCP");
+                }
+            } else if (transportMode == ClientTransportMode.UNIX_DOMAIN) {
+                System.out.println("[MessageSideComms] - No se configuro la ruta del socket " +
+                                           "Unix, se usa TCP");
+            }
+        }
+        SocketAddress serverAddress = new InetSocketAddress(
+                InetAddress.getByName(this.messageClient_ConnAddress), this.messageClient_ConnPort);
+        return SocketChannel.open(serverAddress);
     }
 
+    /**
+     * <body style="color:white">
+     * Crea la sesion de memoria compartida que se ofrece al servidor cuando el transporte
+     * elegido es {@link ClientTransportMode#SHARED_MEMORY}.
+     *
+     * @return {@link SharedMemorySession} nueva, o {@code null} si no se eligio ese transporte
+     * o el archivo no pudo crearse, en cuyo caso la sesion continua sobre el socket.
+     * </body>
+     */
+    private SharedMemorySession openSharedMemorySessionIfRequested() {
+        if (ClientTransportMode.fromSystemProperties() != ClientTransportMode.SHARED_MEMORY) {
+            return null;
+        }
+        try {
+            return SharedMemorySession.create();
+        } catch (IOException e) {
+            System.out.println("[MessageSideComms] - No se pudo crear la sesion de memoria " +
+                                       "compartida, se continua sobre el socket: "
+                                       + e.getMessage());
+            return null;
+        }
+    }
 
     /**
      * <body style="color:white">
@@ -1111,7 +1803,7 @@ public class MessageClient {
      * <ul>
      *     <li>1. Verifica si los streams de entrada ({@link ObjectInputStream}) y salida
      *         ({@link ObjectOutputStream}) estan inicializados. Si es asi, los cierra y los reinicia a {@code null}.</li>
-     *     <li>2. Verifica si el socket de conexion ({@link Socket}) esta inicializado y abierto
+     *     <li>2. Verifica si el canal de conexion ({@link SocketChannel}) esta inicializado y abierto
      *         ({@code !isClosed()}). Si cumple, lo cierra y lo reinicia a {@code null}.</li>
      *     <li>3. Imprime un mensaje indicando que la limpieza de recursos fue exitosa.</li>
      *     <li>4. Si ocurre un error durante la liberacion de recursos, este es capturado,
@@ -1132,19 +1824,17 @@ public class MessageClient {
      *                          </body>
      */
     private void cleanupClientResources() {
+        //? Marcamos la desconexion antes de cerrar para que el hilo lector termine en silencio
+        this.messageClient_IsConnected.set(false);
         try {
-            if (this.messageClient_InputStream != null) {
-                this.messageClient_InputStream.close();
-                this.messageClient_InputStream = null;
-            }
-            if (this.messageClient_OutputStream != null) {
-                this.messageClient_OutputStream.close();
-                this.messageClient_OutputStream = null;
+            if (this.messageClient_WireProtocol != null) {
+                this.messageClient_WireProtocol.close();
+                this.messageClient_WireProtocol = null;
             }
-            if (this.messageClient_ConnectionSocket != null
-                    && !this.messageClient_ConnectionSocket.isClosed()) {
-                this.messageClient_ConnectionSocket.close();
-                this.messageClient_ConnectionSocket = null;
+            if (this.messageClient_ConnectionChannel != null
+                    && this.messageClient_ConnectionChannel.isOpen()) {
+                this.messageClient_ConnectionChannel.close();
+                this.messageClient_ConnectionChannel = null;
             }
             System.out.println("[MessageSideComms] - Client resources cleaned up successfully");
         } catch (IOException e) {
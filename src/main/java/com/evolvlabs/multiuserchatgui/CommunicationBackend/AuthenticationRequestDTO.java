@@ -120,8 +120,31 @@ public record AuthenticationRequestDTO(ClientPOJO clientPOJO) implements Seriali
     }
 
 
+    /**
+     * <body style="color:white">
+     * Respuesta del servidor a una solicitud de autenticacion. Si el servidor rechazo la
+     * solicitud por estar saturado, {@code retryAfterMillis} indica cuanto debe esperar el
+     * cliente antes de reintentar; en cualquier otro caso vale {@code 0}. Si la autenticacion
+     * fue exitosa y el protocolo negocio la reanudacion de sesiones, {@code sessionToken}
+     * contiene el token con el que el cliente puede reconectarse sin enviar su contrasena. Un
+     * stream de serializacion sin estos campos los deja en {@code 0} y {@code null}.
+     * </body>
+     */
     public record AuthenticationResponseDTO(boolean authenticationResponse,
-                                            String clientUsername, String errorMessageIfAny) implements Serializable {
+                                            String clientUsername, String errorMessageIfAny,
+                                            long retryAfterMillis, String sessionToken)
+            implements Serializable {
+
+        public AuthenticationResponseDTO(boolean authenticationResponse, String clientUsername,
+                                         String errorMessageIfAny) {
+            this(authenticationResponse, clientUsername, errorMessageIfAny, 0, null);
+        }
+
+        public AuthenticationResponseDTO(boolean authenticationResponse, String clientUsername,
+                                         String errorMessageIfAny, long retryAfterMillis) {
+            this(authenticationResponse, clientUsername, errorMessageIfAny, retryAfterMillis,
+                 null);
+        }
 
 
         /**
@@ -156,6 +179,43 @@ public record AuthenticationRequestDTO(ClientPOJO clientPOJO) implements Seriali
             return new AuthenticationResponseDTO(false, null, errorMessage);
         }
 
+        /**
+         * <body style="color:white">
+         * Crea una respuesta de rechazo por saturacion: las credenciales no fueron validadas y
+         * el cliente debe reintentar luego de la espera indicada.
+         *
+         * @param retryAfterMillis Milisegundos que el cliente debe esperar, mayor a cero.
+         * @param errorMessage     Mensaje descriptivo del rechazo.
+         * @return Una nueva instancia de AuthenticationResponseDTO de fallo con la espera.
+         * </body>
+         */
+        public static AuthenticationResponseDTO retryAfter(long retryAfterMillis,
+                                                           String errorMessage) {
+            return new AuthenticationResponseDTO(false, null, errorMessage,
+                                                 Math.max(1, retryAfterMillis));
+        }
+
+        /**
+         * <body style="color:white">
+         * Crea una copia de esta respuesta con el token de sesion emitido por el servidor.
+         *
+         * @param issuedSessionToken Token firmado para reanudar la sesion.
+         * @return Una nueva instancia de AuthenticationResponseDTO con el token.
+         * </body>
+         */
+        public AuthenticationResponseDTO withSessionToken(String issuedSessionToken) {
+            return new AuthenticationResponseDTO(authenticationResponse, clientUsername,
+                                                 errorMessageIfAny, retryAfterMillis,
+                                                 issuedSessionToken);
+        }
+
+        /**
+         * @return {@code true} si el servidor pidio reintentar la autenticacion mas tarde.
+         */
+        public boolean shouldRetry() {
+            return !authenticationResponse && retryAfterMillis > 0;
+        }
+
     }
 }
 
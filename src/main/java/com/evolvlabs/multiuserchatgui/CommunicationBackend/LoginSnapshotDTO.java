@@ -0,0 +1,27 @@
+package com.evolvlabs.multiuserchatgui.CommunicationBackend;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo contiene el estado inicial que el servidor envia junto con
+ * una autenticacion exitosa de {@code POST_CLIENT_LOGIN_REQUEST}, de modo que la ventana del
+ * chat pueda mostrarse sin peticiones adicionales. El directorio viaja sin hashes ni salts y el
+ * historial tiene el mismo formato de mapa que {@code POST_MANDATORY_MESSAGE_LIST_UPDATE}, pero
+ * limitado a los mensajes mas recientes; {@code historyComplete} indica si ese limite dejo
+ * mensajes fuera.
+ *
+ * @param clientUUID       UUID del cliente autenticado.
+ * @param directoryVersion Version del directorio de usuarios al tomar la lista; aumenta con
+ *                         cada registro o eliminacion.
+ * @param directory        Usuarios registrados, sin credenciales.
+ * @param recentHistory    Mensajes enviados y recibidos mas recientes del cliente.
+ * @param historyComplete  {@code true} si {@code recentHistory} contiene todo el historial.
+ */
+public record LoginSnapshotDTO(String clientUUID, long directoryVersion, List<ClientDTO> directory,
+                               Map<String, List<MessageDTO>> recentHistory,
+                               boolean historyComplete) implements Serializable {
+}
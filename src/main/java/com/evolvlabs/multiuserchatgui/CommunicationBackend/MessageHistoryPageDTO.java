@@ -0,0 +1,26 @@
+package com.evolvlabs.multiuserchatgui.CommunicationBackend;
+
+import java.io.Serializable;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo contiene una pagina del historial de una conversacion,
+ * enviada luego del ACKNOWLEDGE de {@code POST_MESSAGE_HISTORY_PAGE_REQUEST}. Los mensajes
+ * vienen con usernames en emisor y receptor, igual que los del historial completo, y ordenados
+ * del mas antiguo al mas reciente. El cursor apunta al mensaje mas antiguo de la pagina y se
+ * envia tal cual en la siguiente peticion.
+ *
+ * @param peerUsername        Nombre de usuario del otro participante de la conversacion.
+ * @param messages            Mensajes de la pagina.
+ * @param nextBeforeTimestamp Timestamp del cursor para la pagina anterior, o {@code null} si la
+ *                            pagina esta vacia.
+ * @param nextBeforeMessageId Identificador del mensaje del cursor.
+ * @param hasMore             {@code true} si existen mensajes anteriores a esta pagina.
+ */
+public record MessageHistoryPageDTO(String peerUsername, List<MessageDTO> messages,
+                                    Timestamp nextBeforeTimestamp, long nextBeforeMessageId,
+                                    boolean hasMore) implements Serializable {
+}
@@ -0,0 +1,25 @@
+package com.evolvlabs.multiuserchatgui.CommunicationBackend;
+
+import java.io.Serializable;
+import java.sql.Timestamp;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo contiene la peticion de una pagina del historial de una
+ * conversacion, enviada junto con {@code POST_MESSAGE_HISTORY_PAGE_REQUEST}. El cursor es la
+ * llave {@code (MESSAGE_TIMESTAMP, MESSAGE_ID)} del mensaje mas antiguo que el cliente ya
+ * recibio en esa conversacion; el servidor retorna los mensajes estrictamente anteriores a el.
+ * El cliente no interpreta el cursor, solo devuelve el que recibio en la pagina anterior.
+ *
+ * @param peerUsername    Nombre de usuario del otro participante de la conversacion.
+ * @param beforeTimestamp Timestamp del cursor, o {@code null} para la pagina mas reciente.
+ * @param beforeMessageId Identificador del mensaje del cursor; se ignora si
+ *                        {@code beforeTimestamp} es {@code null}.
+ * @param pageSize        Numero maximo de mensajes solicitados; si no es positivo el servidor
+ *                        usa el tamano de la pagina del inicio de sesion.
+ */
+public record MessageHistoryPageRequestDTO(String peerUsername, Timestamp beforeTimestamp,
+                                           long beforeMessageId, int pageSize)
+        implements Serializable {
+}
@@ -0,0 +1,225 @@
+package com.evolvlabs.multiuserchatgui.CommunicationBackend.SharedMemory;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo implementa un ring buffer de bytes de un solo productor y un
+ * solo consumidor sobre una region de memoria compartida. La region empieza con un encabezado
+ * de {@value #HEADER_BYTES} bytes y continua con los datos:
+ * <pre>
+ *     [head : long][relleno][tail : long][relleno][cerrado : int][relleno][datos : capacidad]
+ * </pre>
+ * {@code head} y {@code tail} son posiciones absolutas que solo crecen; cada una vive en su
+ * propia linea de cache y solo la escribe su dueno (el productor y el consumidor). Los datos se
+ * copian con accesos normales y la posicion se publica con una escritura release que el otro
+ * lado lee con acquire, por lo que mover bytes no requiere llamadas al sistema. Cuando el ring
+ * esta vacio (o lleno) el lado que espera hace spin, luego cede el procesador y por ultimo se
+ * duerme con pausas crecientes de hasta {@value #MAX_PARK_NANOS} ns.
+ * <p>
+ * El ring transporta un stream de bytes, no mensajes: cada lado lo usa a traves de
+ * {@link #inputStream()} o {@link #outputStream()}, por lo que el protocolo binario funciona
+ * igual que sobre un socket.
+ */
+final class SharedMemoryRing {
+
+    /*! Layout del encabezado*/
+    static final int HEADER_BYTES = 192;
+    private static final int HEAD_OFFSET = 0;
+    private static final int TAIL_OFFSET = 64;
+    private static final int CLOSED_OFFSET = 128;
+
+    /*! Espera activa*/
+    private static final int SPIN_ATTEMPTS = 200;
+    private static final int YIELD_ATTEMPTS = 400;
+    private static final long MAX_PARK_NANOS = 1_000_000;
+
+    private static final VarHandle LONG_VIEW =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+    private static final VarHandle INT_VIEW =
+            MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+
+    private final ByteBuffer region;
+    private final int capacity;
+    private final int mask;
+
+    /**
+     * <body style="color: white;">
+     * Envuelve una region ya mapeada. La region debe estar alineada a 8 bytes y medir
+     * {@link #regionBytes(int)} para la capacidad indicada.
+     *
+     * @param region   Region de memoria compartida con el encabezado y los datos.
+     * @param capacity Capacidad de datos; debe ser potencia de dos.
+     * </body>
+     */
+    SharedMemoryRing(ByteBuffer region, int capacity) {
+        if (Integer.bitCount(capacity) != 1 || region.capacity() < regionBytes(capacity)) {
+            throw new IllegalArgumentException("Error Code 0x001 - [Raised] Region de memoria " +
+                                                       "compartida invalida para el ring.");
+        }
+        this.region = region;
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * @param capacity Capacidad de datos del ring.
+     * @return Bytes que ocupa el ring, encabezado incluido.
+     */
+    static int regionBytes(int capacity) {
+        return HEADER_BYTES + capacity;
+    }
+
+    /*! Lado productor*/
+    private void write(byte[] source, int offset, int length) throws IOException {
+        int attempt = 0;
+        while (length > 0) {
+            if (isClosed()) {
+                throw new EOFException("Error Code 0x001 - [Raised] El ring de memoria " +
+                                               "compartida fue cerrado.");
+            }
+            long head = (long) LONG_VIEW.getOpaque(region, HEAD_OFFSET);
+            long tail = (long) LONG_VIEW.getAcquire(region, TAIL_OFFSET);
+            int free = capacity - (int) (head - tail);
+            if (free == 0) {
+                awaitProgress(attempt++);
+                continue;
+            }
+            attempt = 0;
+            int chunk = Math.min(length, free);
+            int index = (int) (head & mask);
+            int firstPart = Math.min(chunk, capacity - index);
+            region.put(HEADER_BYTES + index, source, offset, firstPart);
+            if (chunk > firstPart) {
+                region.put(HEADER_BYTES, source, offset + firstPart, chunk - firstPart);
+            }
+            LONG_VIEW.setRelease(region, HEAD_OFFSET, head + chunk);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    /*! Lado consumidor*/
+    private int read(byte[] destination, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        int attempt = 0;
+        while (true) {
+            long tail = (long) LONG_VIEW.getOpaque(region, TAIL_OFFSET);
+            long head = (long) LONG_VIEW.getAcquire(region, HEAD_OFFSET);
+            int readable = (int) (head - tail);
+            if (readable == 0) {
+                //? Los bytes escritos antes del cierre se entregan antes del fin del stream
+                if (isClosed()) {
+                    return -1;
+                }
+                awaitProgress(attempt++);
+                continue;
+            }
+            int chunk = Math.min(length, readable);
+            int index = (int) (tail & mask);
+            int firstPart = Math.min(chunk, capacity - index);
+            region.get(HEADER_BYTES + index, destination, offset, firstPart);
+            if (chunk > firstPart) {
+                region.get(HEADER_BYTES, destination, offset + firstPart, chunk - firstPart);
+            }
+            LONG_VIEW.setRelease(region, TAIL_OFFSET, tail + chunk);
+            return chunk;
+        }
+    }
+
+    private int available() {
+        long tail = (long) LONG_VIEW.getOpaque(region, TAIL_OFFSET);
+        long head = (long) LONG_VIEW.getAcquire(region, HEAD_OFFSET);
+        return (int) (head - tail);
+    }
+
+    private boolean isClosed() {
+        return (int) INT_VIEW.getAcquire(region, CLOSED_OFFSET) != 0;
+    }
+
+    /**
+     * Marca el ring como cerrado; el otro lado lo observa en su siguiente lectura o escritura.
+     */
+    void close() {
+        INT_VIEW.setRelease(region, CLOSED_OFFSET, 1);
+    }
+
+    private static void awaitProgress(int attempt) throws InterruptedIOException {
+        if (attempt < SPIN_ATTEMPTS) {
+            Thread.onSpinWait();
+        } else if (attempt < YIELD_ATTEMPTS) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(Math.min(MAX_PARK_NANOS,
+                                           1_000L << Math.min(attempt - YIELD_ATTEMPTS, 10)));
+            if (Thread.interrupted()) {
+                throw new InterruptedIOException("Error Code 0x001 - [Raised] Espera en el ring " +
+                                                         "de memoria compartida interrumpida.");
+            }
+        }
+    }
+
+    /**
+     * @return Stream del consumidor del ring; cerrarlo cierra el ring.
+     */
+    InputStream inputStream() {
+        return new InputStream() {
+            private final byte[] singleByte = new byte[1];
+
+            @Override
+            public int read() throws IOException {
+                return SharedMemoryRing.this.read(singleByte, 0, 1) < 0 ? -1
+                        : singleByte[0] & 0xFF;
+            }
+
+            @Override
+            public int read(byte[] destination, int offset, int length) throws IOException {
+                return SharedMemoryRing.this.read(destination, offset, length);
+            }
+
+            @Override
+            public int available() {
+                return SharedMemoryRing.this.available();
+            }
+
+            @Override
+            public void close() {
+                SharedMemoryRing.this.close();
+            }
+        };
+    }
+
+    /**
+     * @return Stream del productor del ring; cerrarlo cierra el ring.
+     */
+    OutputStream outputStream() {
+        return new OutputStream() {
+            @Override
+            public void write(int value) throws IOException {
+                SharedMemoryRing.this.write(new byte[]{(byte) value}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] source, int offset, int length) throws IOException {
+                SharedMemoryRing.this.write(source, offset, length);
+            }
+
+            @Override
+            public void close() {
+                SharedMemoryRing.this.close();
+            }
+        };
+    }
+}
@@ -0,0 +1,192 @@
+package com.evolvlabs.multiuserchatgui.CommunicationBackend.SharedMemory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.UUID;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo contiene una sesion de memoria compartida entre un cliente
+ * y el servidor del mismo host: un archivo mapeado en memoria con dos
+ * {@link SharedMemoryRing}, uno por direccion.
+ * <pre>
+ *     [magic : int][capacidad : int][relleno hasta 64 bytes][ring cliente -> servidor]
+ *     [ring servidor -> cliente]
+ * </pre>
+ * El cliente crea el archivo en {@code multiuserchat.shm.dir} (por defecto {@code /dev/shm}),
+ * envia su ruta al servidor durante el handshake del socket y lo elimina en cuanto el servidor
+ * lo mapea; el mapeo sigue vivo en ambos procesos, por lo que no quedan archivos huerfanos si
+ * alguno termina sin cerrar la sesion. El servidor solo acepta archivos de ese directorio cuyo
+ * nombre empieza con {@value #FILE_PREFIX}.
+ */
+public final class SharedMemorySession {
+
+    /*! Parametros Internos*/
+    /**
+     * Propiedad de sistema con el directorio de los archivos de sesion, compartida por cliente
+     * y servidor.
+     */
+    public static final String DIRECTORY_PROPERTY = "multiuserchat.shm.dir";
+    /**
+     * Propiedad de sistema con la que el servidor acepta sesiones de memoria compartida.
+     */
+    public static final String SERVER_ENABLED_PROPERTY = "multiuserchat.server.shm.enabled";
+    public static final String FILE_PREFIX = "multiuserchat-";
+    private static final String DEFAULT_DIRECTORY = "/dev/shm";
+    private static final int SESSION_MAGIC = 0x4D55434D;
+    private static final int FILE_HEADER_BYTES = 64;
+    private static final int RING_CAPACITY = 1 << 20;
+
+    private final Path path;
+    private final SharedMemoryRing clientToServer;
+    private final SharedMemoryRing serverToClient;
+
+    private SharedMemorySession(Path path, MappedByteBuffer mapping, int ringCapacity) {
+        this.path = path;
+        int ringBytes = SharedMemoryRing.regionBytes(ringCapacity);
+        this.clientToServer = new SharedMemoryRing(
+                mapping.slice(FILE_HEADER_BYTES, ringBytes), ringCapacity);
+        this.serverToClient = new SharedMemoryRing(
+                mapping.slice(FILE_HEADER_BYTES + ringBytes, ringBytes), ringCapacity);
+    }
+
+    /**
+     * @return Directorio configurado para los archivos de sesion.
+     */
+    public static Path directoryFromSystemProperties() {
+        return Path.of(System.getProperty(DIRECTORY_PROPERTY, DEFAULT_DIRECTORY));
+    }
+
+    /**
+     * @return {@code true} si el servidor fue configurado para aceptar sesiones de memoria
+     * compartida; por defecto no las acepta.
+     */
+    public static boolean isEnabledOnServerFromSystemProperties() {
+        return Boolean.parseBoolean(System.getProperty(SERVER_ENABLED_PROPERTY, "false"));
+    }
+
+    /**
+     * <body style="color: white;">
+     * Crea el archivo de una sesion nueva, legible solo por el usuario actual, y lo mapea. Lo
+     * usa el cliente antes de conectarse.
+     *
+     * @return {@link SharedMemorySession} lista para ofrecerse al servidor.
+     * @throws IOException si el archivo no puede crearse o mapearse.
+     * </body>
+     */
+    public static SharedMemorySession create() throws IOException {
+        Path sessionPath = directoryFromSystemProperties()
+                .resolve(FILE_PREFIX + UUID.randomUUID() + ".ring");
+        Files.createFile(sessionPath, PosixFilePermissions.asFileAttribute(
+                PosixFilePermissions.fromString("rw-------")));
+        try (FileChannel channel = FileChannel.open(sessionPath, StandardOpenOption.READ,
+                                                    StandardOpenOption.WRITE)) {
+            MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                                                   fileBytes(RING_CAPACITY));
+            mapping.putInt(4, RING_CAPACITY);
+            mapping.putInt(0, SESSION_MAGIC);
+            return new SharedMemorySession(sessionPath, mapping, RING_CAPACITY);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(sessionPath);
+            throw e;
+        }
+    }
+
+    /**
+     * <body style="color: white;">
+     * Mapea la sesion creada por un cliente. Lo usa el servidor al recibir la ruta en el
+     * handshake.
+     *
+     * @param sessionPath Ruta enviada por el cliente.
+     * @return {@link SharedMemorySession} conectada a la del cliente.
+     * @throws IOException si la ruta no pertenece al directorio de sesiones o el archivo no
+     * tiene el formato esperado.
+     * </body>
+     */
+    public static SharedMemorySession attach(Path sessionPath) throws IOException {
+        Path directory = directoryFromSystemProperties().toAbsolutePath().normalize();
+        Path normalizedPath = sessionPath.toAbsolutePath().normalize();
+        if (!directory.equals(normalizedPath.getParent())
+                || !normalizedPath.getFileName().toString().startsWith(FILE_PREFIX)
+                || !Files.isRegularFile(normalizedPath)) {
+            throw new StreamCorruptedException("Error Code 0x001 - [Raised] Ruta de sesion de " +
+                                                       "memoria compartida no permitida: "
+                                                       + sessionPath);
+        }
+        try (FileChannel channel = FileChannel.open(normalizedPath, StandardOpenOption.READ,
+                                                    StandardOpenOption.WRITE)) {
+            if (channel.size() < FILE_HEADER_BYTES) {
+                throw new StreamCorruptedException("Error Code 0x001 - [Raised] Archivo de " +
+                                                           "sesion incompleto.");
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, FILE_HEADER_BYTES);
+            int ringCapacity = header.getInt(4);
+            if (header.getInt(0) != SESSION_MAGIC || ringCapacity != RING_CAPACITY
+                    || channel.size() != fileBytes(ringCapacity)) {
+                throw new StreamCorruptedException("Error Code 0x001 - [Raised] Archivo de " +
+                                                           "sesion con formato desconocido.");
+            }
+            MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                                                   fileBytes(ringCapacity));
+            return new SharedMemorySession(normalizedPath, mapping, ringCapacity);
+        }
+    }
+
+    private static long fileBytes(int ringCapacity) {
+        return FILE_HEADER_BYTES + 2L * SharedMemoryRing.regionBytes(ringCapacity);
+    }
+
+    /**
+     * @return Ruta del archivo de la sesion.
+     */
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * Elimina el archivo de la sesion; los mapeos existentes siguen siendo validos.
+     */
+    public void unlink() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            System.err.println("[SharedMemory] No se pudo eliminar " + path + ": "
+                                       + e.getMessage());
+        }
+    }
+
+    /**
+     * Cierra ambos rings; el otro lado observa el fin del stream.
+     */
+    public void close() {
+        clientToServer.close();
+        serverToClient.close();
+    }
+
+    /*! Streams de cada lado de la sesion*/
+    public InputStream clientInputStream() {
+        return serverToClient.inputStream();
+    }
+
+    public OutputStream clientOutputStream() {
+        return clientToServer.outputStream();
+    }
+
+    public InputStream serverInputStream() {
+        return clientToServer.inputStream();
+    }
+
+    public OutputStream serverOutputStream() {
+        return serverToClient.outputStream();
+    }
+}
@@ -11,46 +11,122 @@ public enum UsefulCommunicationMessages {
 
     /*! Listado de Communication Messages de Cliente a Servidor*/
     /*? Proceso de Envio de mensajes y recepcion de mensajes*/
-    POST_MESSAGE_BROADCAST_REQUEST("POST_MESSAGE_BROADCAST_REQUEST"),
-    POST_MESSAGE_RECEIVED_ACKNOWLEDGMENT("POST_MESSAGE_RECEIVED_ACKNOWLEDGMENT"),
+    POST_MESSAGE_BROADCAST_REQUEST("POST_MESSAGE_BROADCAST_REQUEST", (byte) 0x01),
+    POST_MESSAGE_RECEIVED_ACKNOWLEDGMENT(
+            "POST_MESSAGE_RECEIVED_ACKNOWLEDGMENT", (byte) 0x02),
     /*? Proceso de Recepcion y Comunicacion de UI Updates*/
-    POST_CLIENT_LIST_UPDATE_REQUEST("POST_CLIENT_LIST_UPDATE_REQUEST"),
+    POST_CLIENT_LIST_UPDATE_REQUEST("POST_CLIENT_LIST_UPDATE_REQUEST", (byte) 0x03),
     POST_MANDATORY_CLIENT_LIST_UPDATE_ACKNOWLEDGMENT(
-            "POST_MANDATORY_CLIENT_LIST_UPDATE_ACKNOWLEDGMENT"),
+            "POST_MANDATORY_CLIENT_LIST_UPDATE_ACKNOWLEDGMENT", (byte) 0x04),
     POST_MANDATORY_MESSAGE_LIST_UPDATE_ACKNOWLEDGMENT(
-            "POST_MANDATORY_MESSAGE_LIST_UPDATE_ACKNOWLEDGMENT"),
+            "POST_MANDATORY_MESSAGE_LIST_UPDATE_ACKNOWLEDGMENT", (byte) 0x05),
     /*? Proceso de Conexion y Desconexion del Servidor principal*/
-    POST_CLIENT_CONNECTION_REQUEST("POST_CLIENT_CONNECTION_REQUEST"),
-    POST_CLIENT_AUTHENTICATION_REQUEST("POST_CLIENT_AUTHENTICATION_REQUEST"),
-    POST_CLIENT_DISCONNECTION_REQUEST("POST_CLIENT_DISCONNECTION_REQUEST"),
+    POST_CLIENT_CONNECTION_REQUEST("POST_CLIENT_CONNECTION_REQUEST", (byte) 0x06),
+    POST_CLIENT_AUTHENTICATION_REQUEST(
+            "POST_CLIENT_AUTHENTICATION_REQUEST", (byte) 0x07),
+    POST_CLIENT_DISCONNECTION_REQUEST("POST_CLIENT_DISCONNECTION_REQUEST", (byte) 0x08),
     /*! Listado de Communicaiton Messages de Servidor a Cliente*/
     /*? Proceso de recepcion y comunicacion de mensajes*/
-    POST_MESSAGE_BROADCAST_ACKNOWLEDGEMENT("POST_MESSAGE_BROADCAST_ACKNOWLEDGEMENT"),
-    GET_MESSAGE_RECEIVED_ACKNOWLEDGMENT("GET_MESSAGE_RECEIVED_ACKNOWLEDGMENT"),
-    POST_RECEIVED_MESSAGE_TO_CLIENT("POST_RECEIVED_MESSAGE_TO_CLIENT"),
+    POST_MESSAGE_BROADCAST_ACKNOWLEDGEMENT(
+            "POST_MESSAGE_BROADCAST_ACKNOWLEDGEMENT", (byte) 0x09),
+    GET_MESSAGE_RECEIVED_ACKNOWLEDGMENT(
+            "GET_MESSAGE_RECEIVED_ACKNOWLEDGMENT", (byte) 0x0A),
+    POST_RECEIVED_MESSAGE_TO_CLIENT("POST_RECEIVED_MESSAGE_TO_CLIENT", (byte) 0x0B),
     /*? Proceso de Recepcion y Comunicacion de UI Updates*/
     POST_CLIENT_LIST_UPDATE_REQUEST_ACKNOWLEDGEMENT(
-            "POST_CLIENT_LIST_UPDATE_REQUEST_ACKNOWLEDGEMENT"),
-    POST_MANDATORY_CLIENT_LIST_UPDATE_REQUEST("POST_MANDATORY_CLIENT_LIST_UPDATE_REQUEST"),
-    POST_MANDATORY_MESSAGE_LIST_UPDATE_REQUEST("POST_MANDATORY_MESSAGE_LIST_UPDATE_REQUEST"),
+            "POST_CLIENT_LIST_UPDATE_REQUEST_ACKNOWLEDGEMENT", (byte) 0x0C),
+    POST_MANDATORY_CLIENT_LIST_UPDATE_REQUEST(
+            "POST_MANDATORY_CLIENT_LIST_UPDATE_REQUEST", (byte) 0x0D),
+    POST_MANDATORY_MESSAGE_LIST_UPDATE_REQUEST(
+            "POST_MANDATORY_MESSAGE_LIST_UPDATE_REQUEST", (byte) 0x0E),
     /*? Proceso de Conexion y Desconexion del Servidor principal*/
     POST_CLIENT_CONNECTION_REQUEST_ACKNOWLEDGEMENT(
-            "POST_CLIENT_CONNECTION_REQUEST_ACKNOWLEDGEMENT"),
+            "POST_CLIENT_CONNECTION_REQUEST_ACKNOWLEDGEMENT", (byte) 0x0F),
     POST_CLIENT_AUTHENTICATION_REQUEST_ACKNOWLEDGEMENT(
-            "POST_CLIENT_AUTHENTICATION_REQUEST_ACKNOWLEDGEMENT"),
+            "POST_CLIENT_AUTHENTICATION_REQUEST_ACKNOWLEDGEMENT", (byte) 0x10),
     POST_CLIENT_DISCONNECTION_REQUEST_ACKNOWLEDGEMENT(
-            "POST_CLIENT_DISCONNECTION_REQUEST_ACKNOWLEDGEMENT"),
-    POST_CLIENT_CLIENT_LIST_UPDATE_MANDATE("POST_CLIENT_CLIENT_LIST_UPDATE_MANDATE"),
-    POST_CLIENT_MESSAGE_LIST_UPDATE_MANDATE("POST_CLIENT_MESSAGE_LIST_UPDATE_MANDATE"),
-    POST_CLIENT_SHUTDOWN_MANDATE("POST_CLIENT_SHUTDOWN_MANDATE");
+            "POST_CLIENT_DISCONNECTION_REQUEST_ACKNOWLEDGEMENT", (byte) 0x11),
+    POST_CLIENT_CLIENT_LIST_UPDATE_MANDATE(
+            "POST_CLIENT_CLIENT_LIST_UPDATE_MANDATE", (byte) 0x12),
+    POST_CLIENT_MESSAGE_LIST_UPDATE_MANDATE(
+            "POST_CLIENT_MESSAGE_LIST_UPDATE_MANDATE", (byte) 0x13),
+    POST_CLIENT_SHUTDOWN_MANDATE("POST_CLIENT_SHUTDOWN_MANDATE", (byte) 0x14),
+    /*? Sincronizacion incremental del historial: el request viaja seguido del cursor y el
+     *? ACKNOWLEDGE seguido unicamente de los mensajes posteriores a ese cursor*/
+    POST_MESSAGE_LIST_SYNC_REQUEST("POST_MESSAGE_LIST_SYNC_REQUEST", (byte) 0x15),
+    POST_MESSAGE_LIST_SYNC_ACKNOWLEDGMENT(
+            "POST_MESSAGE_LIST_SYNC_ACKNOWLEDGMENT", (byte) 0x16),
+    /*? Cambio en el directorio de usuarios: le siguen la lista de usuarios agregados y la de
+     *? usuarios eliminados, sin hashes*/
+    POST_CLIENT_DIRECTORY_DELTA("POST_CLIENT_DIRECTORY_DELTA", (byte) 0x17),
+    /*? Heartbeat de las sesiones inactivas: el servidor envia el PING y el cliente responde con
+     *? el PONG, ambos sin payload*/
+    POST_SERVER_HEARTBEAT_PING("POST_SERVER_HEARTBEAT_PING", (byte) 0x18),
+    POST_CLIENT_HEARTBEAT_PONG("POST_CLIENT_HEARTBEAT_PONG", (byte) 0x19),
+    /*? Reconexion con el token de sesion: el servidor responde con el mismo ACKNOWLEDGE de la
+     *? autenticacion, el cliente envia el token como identificador y el resto del intercambio
+     *? es igual al de POST_CLIENT_AUTHENTICATION_REQUEST*/
+    POST_CLIENT_SESSION_RESUME_REQUEST("POST_CLIENT_SESSION_RESUME_REQUEST", (byte) 0x1A),
+    /*? Autenticacion en un solo intercambio: el request viaja seguido de las credenciales, sin
+     *? esperar ACKNOWLEDGE, y el servidor responde con el resultado seguido del estado inicial
+     *? del cliente (LoginSnapshotDTO) en el mismo flush*/
+    POST_CLIENT_LOGIN_REQUEST("POST_CLIENT_LOGIN_REQUEST", (byte) 0x1B),
+    /*? Pagina del historial de una conversacion: el request viaja seguido del cursor
+     *? (MessageHistoryPageRequestDTO) y el ACKNOWLEDGE seguido de la pagina
+     *? (MessageHistoryPageDTO)*/
+    POST_MESSAGE_HISTORY_PAGE_REQUEST("POST_MESSAGE_HISTORY_PAGE_REQUEST", (byte) 0x1C),
+    POST_MESSAGE_HISTORY_PAGE_ACKNOWLEDGMENT(
+            "POST_MESSAGE_HISTORY_PAGE_ACKNOWLEDGMENT", (byte) 0x1D),
+    /*? Lista de clientes condicional: el request viaja seguido de la version del directorio que
+     *? el cliente ya tiene. Si sigue vigente el servidor responde NOT_MODIFIED sin payload; si
+     *? no, el ACKNOWLEDGE viaja seguido de la version actual y de la lista*/
+    POST_CLIENT_LIST_CONDITIONAL_REQUEST("POST_CLIENT_LIST_CONDITIONAL_REQUEST", (byte) 0x1E),
+    POST_CLIENT_LIST_NOT_MODIFIED("POST_CLIENT_LIST_NOT_MODIFIED", (byte) 0x1F),
+    POST_CLIENT_LIST_CONDITIONAL_ACKNOWLEDGMENT(
+            "POST_CLIENT_LIST_CONDITIONAL_ACKNOWLEDGMENT", (byte) 0x20);
 
+    /**
+     * Tabla de busqueda indexada por opcode, usada por el protocolo binario para traducir el
+     * byte recibido en el enum sin recorrer {@link #values()} en cada frame.
+     */
+    private static final UsefulCommunicationMessages[] OPCODE_LOOKUP_TABLE =
+            new UsefulCommunicationMessages[256];
+
+    static {
+        for (UsefulCommunicationMessages message : values()) {
+            OPCODE_LOOKUP_TABLE[message._opcode & 0xFF] = message;
+        }
+    }
 
     private final String _message;
-    private UsefulCommunicationMessages(String message){
+    /**
+     * Opcode de un byte que identifica al mensaje dentro del protocolo binario. Los valores son
+     * explicitos para que reordenar el enum nunca cambie el formato en el cable.
+     */
+    private final byte _opcode;
+    private UsefulCommunicationMessages(String message, byte opcode){
         this._message = message;
+        this._opcode = opcode;
     }
 
     public String get_message() {
         return _message;
     }
+
+    public byte get_opcode() {
+        return _opcode;
+    }
+
+    /**
+     * <body style="color: white;">
+     * Busca el mensaje asociado a un opcode del protocolo binario.
+     *
+     * @param opcode Byte leido desde el frame.
+     * @return {@link UsefulCommunicationMessages} asociado, o {@code null} si el opcode no
+     * corresponde a ningun mensaje conocido.
+     * </body>
+     */
+    public static UsefulCommunicationMessages fromOpcode(byte opcode) {
+        return OPCODE_LOOKUP_TABLE[opcode & 0xFF];
+    }
 }
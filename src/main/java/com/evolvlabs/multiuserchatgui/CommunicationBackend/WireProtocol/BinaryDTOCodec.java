@@ -0,0 +1,405 @@
+package com.evolvlabs.multiuserchatgui.CommunicationBackend.WireProtocol;
+
+import com.evolvlabs.multiuserchatgui.ClientSideBackend.ClientPOJO;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.AuthenticationRequestDTO;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.ClientDTO;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.LoginSnapshotDTO;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.MessageDTO;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.MessageHistoryPageDTO;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.MessageHistoryPageRequestDTO;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo contiene los codecs escritos a mano para los DTOs que
+ * viajan dentro del payload de un frame de {@link BinaryWireProtocol}. Las reglas del formato
+ * son las mismas para todos los records:
+ * <ul>
+ *     <li>Enteros de largo variable (varint, 7 bits por byte) para largos y conteos.</li>
+ *     <li>Cadenas como varint {@code largo + 1} seguido de sus bytes UTF-8; el valor {@code 0}
+ *     representa {@code null}.</li>
+ *     <li>Timestamps como milisegundos epoch en un {@code long}; los nanosegundos por debajo
+ *     del milisegundo solo se escriben si existen.</li>
+ *     <li>Booleanos (incluyendo si un {@link Boolean} es nulo) empaquetados como bits de un
+ *     unico byte de flags.</li>
+ * </ul>
+ */
+final class BinaryDTOCodec {
+
+    /*! Bits del byte de flags de un MessageDTO*/
+    private static final int MESSAGE_SENDER_CONFIRMATION_PRESENT = 1;
+    private static final int MESSAGE_SENDER_CONFIRMATION_VALUE = 1 << 1;
+    private static final int MESSAGE_RECEIVER_CONFIRMATION_PRESENT = 1 << 2;
+    private static final int MESSAGE_RECEIVER_CONFIRMATION_VALUE = 1 << 3;
+    private static final int MESSAGE_TIMESTAMP_PRESENT = 1 << 4;
+    private static final int MESSAGE_TIMESTAMP_SUB_MILLIS = 1 << 5;
+
+    /*! Bits del byte de flags de un timestamp suelto*/
+    private static final int TIMESTAMP_PRESENT = 1;
+    private static final int TIMESTAMP_SUB_MILLIS = 1 << 1;
+
+    /*! Bits del byte de flags de un AuthenticationResponseDTO*/
+    private static final int AUTHENTICATION_SUCCEEDED = 1;
+    /**
+     * Luego de los textos viaja la espera en milisegundos antes de reintentar.
+     */
+    private static final int AUTHENTICATION_RETRY_AFTER = 1 << 1;
+    /**
+     * Al final viaja el token con el que el cliente puede reanudar la sesion.
+     */
+    private static final int AUTHENTICATION_SESSION_TOKEN = 1 << 2;
+
+    private static final int NANOS_PER_MILLI = 1_000_000;
+    /**
+     * Limite de la capacidad inicial de las listas decodificadas, para que un conteo corrupto
+     * no reserve memoria antes de fallar al leer los elementos.
+     */
+    private static final int INITIAL_CAPACITY_LIMIT = 1024;
+
+    private BinaryDTOCodec() {
+    }
+
+    /*! MessageDTO*/
+
+    static void writeMessage(DataOutput output, MessageDTO messageDTO) throws IOException {
+        int flags = 0;
+        flags |= booleanFlags(messageDTO._senderConfirmation(),
+                              MESSAGE_SENDER_CONFIRMATION_PRESENT,
+                              MESSAGE_SENDER_CONFIRMATION_VALUE);
+        flags |= booleanFlags(messageDTO._receiverConfirmation(),
+                              MESSAGE_RECEIVER_CONFIRMATION_PRESENT,
+                              MESSAGE_RECEIVER_CONFIRMATION_VALUE);
+        Timestamp timestamp = messageDTO._messageTimestamp();
+        int subMillisNanos = 0;
+        if (timestamp != null) {
+            flags |= MESSAGE_TIMESTAMP_PRESENT;
+            subMillisNanos = timestamp.getNanos() % NANOS_PER_MILLI;
+            if (subMillisNanos != 0) {
+                flags |= MESSAGE_TIMESTAMP_SUB_MILLIS;
+            }
+        }
+
+        output.writeByte(flags);
+        writeString(output, messageDTO._senderUUID());
+        writeString(output, messageDTO._receiverUUID());
+        writeString(output, messageDTO._messageContent());
+        if (timestamp != null) {
+            output.writeLong(timestamp.getTime());
+            if (subMillisNanos != 0) {
+                writeVarInt(output, subMillisNanos);
+            }
+        }
+    }
+
+    static MessageDTO readMessage(DataInput input) throws IOException {
+        int flags = input.readUnsignedByte();
+        String senderUUID = readString(input);
+        String receiverUUID = readString(input);
+        String messageContent = readString(input);
+        Timestamp timestamp = null;
+        if ((flags & MESSAGE_TIMESTAMP_PRESENT) != 0) {
+            timestamp = new Timestamp(input.readLong());
+            if ((flags & MESSAGE_TIMESTAMP_SUB_MILLIS) != 0) {
+                timestamp.setNanos(timestamp.getNanos() + readVarInt(input));
+            }
+        }
+        return new MessageDTO(senderUUID,
+                              receiverUUID,
+                              messageContent,
+                              timestamp,
+                              readBooleanFlags(flags,
+                                               MESSAGE_SENDER_CONFIRMATION_PRESENT,
+                                               MESSAGE_SENDER_CONFIRMATION_VALUE),
+                              readBooleanFlags(flags,
+                                               MESSAGE_RECEIVER_CONFIRMATION_PRESENT,
+                                               MESSAGE_RECEIVER_CONFIRMATION_VALUE));
+    }
+
+    static void writeMessageList(DataOutput output, List<MessageDTO> messages)
+            throws IOException {
+        writeVarInt(output, messages.size());
+        for (MessageDTO messageDTO : messages) {
+            writeMessage(output, messageDTO);
+        }
+    }
+
+    static List<MessageDTO> readMessageList(DataInput input) throws IOException {
+        int count = readVarInt(input);
+        List<MessageDTO> messages = new ArrayList<>(Math.min(count, INITIAL_CAPACITY_LIMIT));
+        for (int i = 0; i < count; i++) {
+            messages.add(readMessage(input));
+        }
+        return messages;
+    }
+
+    static void writeMessageMap(DataOutput output, Map<String, List<MessageDTO>> messageMap)
+            throws IOException {
+        writeVarInt(output, messageMap.size());
+        for (Map.Entry<String, List<MessageDTO>> entry : messageMap.entrySet()) {
+            writeString(output, entry.getKey());
+            writeMessageList(output, entry.getValue());
+        }
+    }
+
+    static Map<String, List<MessageDTO>> readMessageMap(DataInput input) throws IOException {
+        int count = readVarInt(input);
+        Map<String, List<MessageDTO>> messageMap = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            String key = readString(input);
+            messageMap.put(key, readMessageList(input));
+        }
+        return messageMap;
+    }
+
+    /*! ClientDTO*/
+
+    static void writeClient(DataOutput output, ClientDTO clientDTO) throws IOException {
+        writeString(output, clientDTO._clientUUID());
+        writeString(output, clientDTO._clientUsername());
+        writeString(output, clientDTO._clientPwdHash());
+        writeString(output, clientDTO._clientSaltHash());
+    }
+
+    static ClientDTO readClient(DataInput input) throws IOException {
+        return new ClientDTO(readString(input),
+                             readString(input),
+                             readString(input),
+                             readString(input));
+    }
+
+    static void writeClientList(DataOutput output, List<ClientDTO> clientList)
+            throws IOException {
+        writeVarInt(output, clientList.size());
+        for (ClientDTO clientDTO : clientList) {
+            writeClient(output, clientDTO);
+        }
+    }
+
+    static List<ClientDTO> readClientList(DataInput input) throws IOException {
+        int count = readVarInt(input);
+        List<ClientDTO> clientList = new ArrayList<>(Math.min(count, INITIAL_CAPACITY_LIMIT));
+        for (int i = 0; i < count; i++) {
+            clientList.add(readClient(input));
+        }
+        return clientList;
+    }
+
+    /*! Autenticacion*/
+
+    static void writeAuthenticationRequest(DataOutput output,
+                                           AuthenticationRequestDTO requestDTO)
+            throws IOException {
+        writeString(output, requestDTO.getClientUsername());
+        writeString(output, requestDTO.getClientClearPwd());
+    }
+
+    static AuthenticationRequestDTO readAuthenticationRequest(DataInput input)
+            throws IOException {
+        String clientUsername = readString(input);
+        String clientClearPassword = readString(input);
+        try {
+            return new AuthenticationRequestDTO(new ClientPOJO(clientUsername,
+                                                               clientClearPassword));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new InvalidObjectException("Error Code 0x001 - [Raised] Credenciales invalidas " +
+                                                     "en el frame de autenticacion: "
+                                                     + e.getMessage());
+        }
+    }
+
+    static void writeAuthenticationResponse(
+            DataOutput output,
+            AuthenticationRequestDTO.AuthenticationResponseDTO responseDTO) throws IOException {
+        int flags = responseDTO.authenticationResponse() ? AUTHENTICATION_SUCCEEDED : 0;
+        if (responseDTO.retryAfterMillis() > 0) {
+            flags |= AUTHENTICATION_RETRY_AFTER;
+        }
+        if (responseDTO.sessionToken() != null) {
+            flags |= AUTHENTICATION_SESSION_TOKEN;
+        }
+        output.writeByte(flags);
+        writeString(output, responseDTO.clientUsername());
+        writeString(output, responseDTO.errorMessageIfAny());
+        if (responseDTO.retryAfterMillis() > 0) {
+            output.writeLong(responseDTO.retryAfterMillis());
+        }
+        if (responseDTO.sessionToken() != null) {
+            writeString(output, responseDTO.sessionToken());
+        }
+    }
+
+    static AuthenticationRequestDTO.AuthenticationResponseDTO readAuthenticationResponse(
+            DataInput input) throws IOException {
+        int flags = input.readUnsignedByte();
+        boolean succeeded = (flags & AUTHENTICATION_SUCCEEDED) != 0;
+        String clientUsername = readString(input);
+        String errorMessage = readString(input);
+        long retryAfterMillis = (flags & AUTHENTICATION_RETRY_AFTER) != 0 ? input.readLong() : 0;
+        String sessionToken = (flags & AUTHENTICATION_SESSION_TOKEN) != 0
+                ? readString(input) : null;
+        return new AuthenticationRequestDTO.AuthenticationResponseDTO(
+                succeeded, clientUsername, errorMessage, retryAfterMillis, sessionToken);
+    }
+
+    /*! Estado inicial del inicio de sesion*/
+
+    static void writeLoginSnapshot(DataOutput output, LoginSnapshotDTO loginSnapshot)
+            throws IOException {
+        writeString(output, loginSnapshot.clientUUID());
+        output.writeLong(loginSnapshot.directoryVersion());
+        writeClientList(output, loginSnapshot.directory());
+        writeMessageMap(output, loginSnapshot.recentHistory());
+        output.writeBoolean(loginSnapshot.historyComplete());
+    }
+
+    static LoginSnapshotDTO readLoginSnapshot(DataInput input) throws IOException {
+        return new LoginSnapshotDTO(readString(input),
+                                    input.readLong(),
+                                    readClientList(input),
+                                    readMessageMap(input),
+                                    input.readBoolean());
+    }
+
+    /*! Cursor de sincronizacion*/
+
+    static void writeTimestamp(DataOutput output, Timestamp timestamp) throws IOException {
+        if (timestamp == null) {
+            output.writeByte(0);
+            return;
+        }
+        int subMillisNanos = timestamp.getNanos() % NANOS_PER_MILLI;
+        output.writeByte(subMillisNanos != 0
+                                 ? TIMESTAMP_PRESENT | TIMESTAMP_SUB_MILLIS
+                                 : TIMESTAMP_PRESENT);
+        output.writeLong(timestamp.getTime());
+        if (subMillisNanos != 0) {
+            writeVarInt(output, subMillisNanos);
+        }
+    }
+
+    static Timestamp readTimestamp(DataInput input) throws IOException {
+        int flags = input.readUnsignedByte();
+        if ((flags & TIMESTAMP_PRESENT) == 0) {
+            return null;
+        }
+        Timestamp timestamp = new Timestamp(input.readLong());
+        if ((flags & TIMESTAMP_SUB_MILLIS) != 0) {
+            timestamp.setNanos(timestamp.getNanos() + readVarInt(input));
+        }
+        return timestamp;
+    }
+
+    /*! Paginas del historial*/
+
+    static void writeHistoryPageRequest(DataOutput output,
+                                        MessageHistoryPageRequestDTO pageRequest)
+            throws IOException {
+        writeString(output, pageRequest.peerUsername());
+        writeTimestamp(output, pageRequest.beforeTimestamp());
+        output.writeLong(pageRequest.beforeMessageId());
+        writeVarInt(output, pageRequest.pageSize());
+    }
+
+    static MessageHistoryPageRequestDTO readHistoryPageRequest(DataInput input)
+            throws IOException {
+        return new MessageHistoryPageRequestDTO(readString(input),
+                                                readTimestamp(input),
+                                                input.readLong(),
+                                                readVarInt(input));
+    }
+
+    static void writeHistoryPage(DataOutput output, MessageHistoryPageDTO historyPage)
+            throws IOException {
+        writeString(output, historyPage.peerUsername());
+        writeMessageList(output, historyPage.messages());
+        writeTimestamp(output, historyPage.nextBeforeTimestamp());
+        output.writeLong(historyPage.nextBeforeMessageId());
+        output.writeBoolean(historyPage.hasMore());
+    }
+
+    static MessageHistoryPageDTO readHistoryPage(DataInput input) throws IOException {
+        return new MessageHistoryPageDTO(readString(input),
+                                         readMessageList(input),
+                                         readTimestamp(input),
+                                         input.readLong(),
+                                         input.readBoolean());
+    }
+
+    /*! Primitivas del formato*/
+
+    static void writeString(DataOutput output, String value) throws IOException {
+        if (value == null) {
+            writeVarInt(output, 0);
+            return;
+        }
+        byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(output, encoded.length + 1);
+        output.write(encoded);
+    }
+
+    static String readString(DataInput input) throws IOException {
+        int lengthPlusOne = readVarInt(input);
+        if (lengthPlusOne == 0) {
+            return null;
+        }
+        if (lengthPlusOne - 1 > BinaryWireProtocol.MAX_FRAME_LENGTH) {
+            throw new StreamCorruptedException("Error Code 0x001 - [Raised] Cadena de " +
+                                                       (lengthPlusOne - 1) + " bytes excede " +
+                                                       "el largo maximo de un frame");
+        }
+        byte[] encoded = new byte[lengthPlusOne - 1];
+        input.readFully(encoded);
+        return new String(encoded, StandardCharsets.UTF_8);
+    }
+
+    static void writeVarInt(DataOutput output, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            output.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.writeByte(value);
+    }
+
+    static int readVarInt(DataInput input) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int currentByte = input.readUnsignedByte();
+            value |= (currentByte & 0x7F) << shift;
+            if ((currentByte & 0x80) == 0) {
+                if (value < 0) {
+                    throw new StreamCorruptedException("Error Code 0x001 - [Raised] Varint " +
+                                                               "negativo en el frame binario");
+                }
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("Error Code 0x001 - [Raised] Varint demasiado " +
+                                                   "largo en el frame binario");
+    }
+
+    private static int booleanFlags(Boolean value, int presentBit, int valueBit) {
+        if (value == null) {
+            return 0;
+        }
+        return value ? presentBit | valueBit : presentBit;
+    }
+
+    private static Boolean readBooleanFlags(int flags, int presentBit, int valueBit) {
+        if ((flags & presentBit) == 0) {
+            return null;
+        }
+        return (flags & valueBit) != 0;
+    }
+}
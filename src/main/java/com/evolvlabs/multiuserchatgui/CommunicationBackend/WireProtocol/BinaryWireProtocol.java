@@ -0,0 +1,521 @@
+package com.evolvlabs.multiuserchatgui.CommunicationBackend.WireProtocol;
+
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.AuthenticationRequestDTO;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.ClientDTO;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.LoginSnapshotDTO;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.MessageDTO;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.MessageHistoryPageDTO;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.MessageHistoryPageRequestDTO;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.UsefulCommunicationMessages;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo implementa el formato binario de la comunicacion entre
+ * cliente y servidor. Cada intercambio viaja en un frame con la forma:
+ * <pre>
+ *     [opcode : 1 byte][flags : 1 byte][largo del payload : int][payload : largo bytes]
+ * </pre>
+ * A partir de la version {@value #CORRELATED_FRAMES_VERSION} el encabezado incluye un
+ * identificador de correlacion luego de los flags:
+ * <pre>
+ *     [opcode][flags][correlacion : int][largo del payload : int][payload]
+ * </pre>
+ * El servidor responde con el identificador de la peticion, por lo que el cliente puede tener
+ * varias peticiones en curso; los mandatos y los mensajes enviados por push usan
+ * {@link WireProtocol#UNCORRELATED}.
+ * Los comandos de {@link UsefulCommunicationMessages} usan su opcode de un byte y no llevan
+ * payload, por lo que un ACKNOWLEDGE ocupa 6 bytes en lugar del nombre completo del enum. Los
+ * DTOs viajan en frames con opcodes propios (a partir de {@code 0x40}) y su payload es escrito
+ * por {@link BinaryDTOCodec}. El byte de flags queda reservado para extensiones negociadas como
+ * capacidades durante el handshake; con {@link #CAPABILITY_COMPRESSION} el flag
+ * {@link #FRAME_FLAG_COMPRESSED} indica que el payload fue comprimido por
+ * {@link FrameCompressor}.
+ * <p>
+ * Los buffers de escritura y lectura de payload se reutilizan entre frames; igual que los
+ * streams originales, la clase no es segura para escrituras concurrentes y depende de los locks
+ * del llamador.
+ */
+public final class BinaryWireProtocol implements WireProtocol {
+
+    /*! Constantes del handshake*/
+    /**
+     * Numero magico ("MUCB") que un cliente binario envia al iniciar la negociacion.
+     */
+    public static final int PROTOCOL_MAGIC = 0x4D554342;
+    /**
+     * Version mas reciente del formato que este codigo entiende.
+     */
+    public static final int PROTOCOL_VERSION = 2;
+    /**
+     * Primera version cuyos frames llevan identificador de correlacion.
+     */
+    public static final int CORRELATED_FRAMES_VERSION = 2;
+    /**
+     * El servidor envia cada mensaje nuevo al receptor como
+     * {@code POST_RECEIVED_MESSAGE_TO_CLIENT} seguido de un frame de mensaje, en cualquier
+     * momento de la sesion. El cliente que la anuncia debe leer el socket desde un hilo propio.
+     */
+    public static final int CAPABILITY_SERVER_PUSH = 1;
+    /**
+     * El servidor entiende {@code POST_MESSAGE_LIST_SYNC_REQUEST}, por lo que el cliente puede
+     * pedir solo los mensajes posteriores a su cursor en lugar del historial completo.
+     */
+    public static final int CAPABILITY_INCREMENTAL_SYNC = 1 << 1;
+    /**
+     * El servidor informa los registros y eliminaciones de usuarios con
+     * {@code POST_CLIENT_DIRECTORY_DELTA} en lugar de pedir que se recargue la lista completa.
+     */
+    public static final int CAPABILITY_DIRECTORY_DELTA = 1 << 2;
+    /**
+     * Los payloads grandes pueden viajar comprimidos por {@link FrameCompressor}, marcados con
+     * {@link #FRAME_FLAG_COMPRESSED}.
+     */
+    public static final int CAPABILITY_COMPRESSION = 1 << 3;
+    /**
+     * El servidor envia {@code POST_SERVER_HEARTBEAT_PING} a las sesiones inactivas y el
+     * cliente responde con {@code POST_CLIENT_HEARTBEAT_PONG}; si no responde a tiempo la
+     * sesion se da por muerta.
+     */
+    public static final int CAPABILITY_HEARTBEAT = 1 << 4;
+    /**
+     * Luego del handshake el cliente envia la ruta de una {@code SharedMemorySession} y, si el
+     * servidor la mapea, la sesion continua sobre sus rings en lugar del socket. No forma parte
+     * de {@link #SUPPORTED_CAPABILITIES}: el cliente la ofrece solo cuando eligio ese transporte
+     * y el servidor solo la acepta si fue habilitado.
+     */
+    public static final int CAPABILITY_SHARED_MEMORY = 1 << 5;
+    /**
+     * El servidor entrega un token de sesion firmado junto con la respuesta de autenticacion y
+     * acepta {@code POST_CLIENT_SESSION_RESUME_REQUEST}, con el que el cliente se reconecta
+     * presentando el token en lugar de la contrasena.
+     */
+    public static final int CAPABILITY_SESSION_RESUME = 1 << 6;
+    /**
+     * El servidor acepta {@code POST_CLIENT_LOGIN_REQUEST}: las credenciales viajan junto con
+     * el request y la respuesta incluye el UUID, el directorio y el historial reciente, por lo
+     * que el inicio de sesion completo cuesta un solo round trip luego del handshake.
+     */
+    public static final int CAPABILITY_SINGLE_ROUND_TRIP_LOGIN = 1 << 7;
+    /**
+     * El servidor entiende {@code POST_MESSAGE_HISTORY_PAGE_REQUEST}, por lo que el cliente
+     * puede cargar el historial de cada conversacion por paginas, de la mas reciente hacia
+     * atras, en lugar de solicitar el historial completo.
+     */
+    public static final int CAPABILITY_HISTORY_PAGING = 1 << 8;
+    /**
+     * El servidor entiende {@code POST_CLIENT_LIST_CONDITIONAL_REQUEST}: el cliente envia la
+     * version del directorio que ya tiene y, si no cambio, recibe solo
+     * {@code POST_CLIENT_LIST_NOT_MODIFIED} en lugar de la lista completa.
+     */
+    public static final int CAPABILITY_DIRECTORY_VERSION = 1 << 9;
+    /**
+     * Capacidades opcionales que este lado del protocolo soporta.
+     */
+    public static final int SUPPORTED_CAPABILITIES =
+            CAPABILITY_SERVER_PUSH | CAPABILITY_INCREMENTAL_SYNC | CAPABILITY_DIRECTORY_DELTA
+                    | CAPABILITY_COMPRESSION | CAPABILITY_HEARTBEAT | CAPABILITY_SESSION_RESUME
+                    | CAPABILITY_SINGLE_ROUND_TRIP_LOGIN | CAPABILITY_HISTORY_PAGING
+                    | CAPABILITY_DIRECTORY_VERSION;
+    /**
+     * Largo maximo aceptado para el payload de un frame; cualquier valor mayor se considera un
+     * stream corrupto.
+     */
+    public static final int MAX_FRAME_LENGTH = 16 * 1024 * 1024;
+
+    /*! Opcodes de los frames que transportan DTOs*/
+    static final byte FRAME_MESSAGE = 0x40;
+    static final byte FRAME_CLIENT_LIST = 0x41;
+    static final byte FRAME_MESSAGE_MAP = 0x42;
+    static final byte FRAME_AUTHENTICATION_REQUEST = 0x43;
+    static final byte FRAME_AUTHENTICATION_RESPONSE = 0x44;
+    static final byte FRAME_IDENTIFIER = 0x45;
+    static final byte FRAME_SYNC_CURSOR = 0x46;
+    static final byte FRAME_LOGIN_SNAPSHOT = 0x47;
+    static final byte FRAME_HISTORY_PAGE_REQUEST = 0x48;
+    static final byte FRAME_HISTORY_PAGE = 0x49;
+    static final byte FRAME_DIRECTORY_VERSION = 0x4A;
+
+    private static final int FRAME_FLAGS_NONE = 0;
+    /**
+     * El payload del frame fue comprimido por {@link FrameCompressor}.
+     */
+    static final int FRAME_FLAG_COMPRESSED = 1;
+    private static final int STREAM_BUFFER_SIZE = 8 * 1024;
+
+    private final DataInputStream inputStream;
+    private final DataOutputStream outputStream;
+    private final int negotiatedVersion;
+    private final int negotiatedCapabilities;
+    private final boolean correlatedFrames;
+    private final FrameCompressor frameCompressor;
+    private int outgoingCorrelationId = UNCORRELATED;
+    private int lastReadCorrelationId = UNCORRELATED;
+
+    /*
+     * Buffers reutilizados: el payload se codifica primero en payloadBuffer para conocer su
+     * largo, y los frames recibidos se leen completos en frameBuffer antes de decodificarse.
+     */
+    private final PayloadBuffer payloadBuffer = new PayloadBuffer();
+    private final DataOutputStream payloadOutput = new DataOutputStream(payloadBuffer);
+    private byte[] frameBuffer = new byte[256];
+    private byte[] readPayload = frameBuffer;
+
+    public BinaryWireProtocol(InputStream inputStream,
+                              OutputStream outputStream,
+                              int negotiatedVersion,
+                              int negotiatedCapabilities) {
+        this.inputStream = new DataInputStream(
+                new BufferedInputStream(inputStream, STREAM_BUFFER_SIZE));
+        this.outputStream = new DataOutputStream(
+                new BufferedOutputStream(outputStream, STREAM_BUFFER_SIZE));
+        this.negotiatedVersion = negotiatedVersion;
+        this.negotiatedCapabilities = negotiatedCapabilities;
+        this.correlatedFrames = negotiatedVersion >= CORRELATED_FRAMES_VERSION;
+        this.frameCompressor = (negotiatedCapabilities & CAPABILITY_COMPRESSION) != 0
+                ? new FrameCompressor(FrameCompressor.thresholdFromSystemProperties())
+                : null;
+    }
+
+    /**
+     * <body style="color: white;">
+     * Retorna las capacidades que este proceso ofrece en el handshake:
+     * {@link #SUPPORTED_CAPABILITIES} sin {@link #CAPABILITY_COMPRESSION} si la compresion fue
+     * deshabilitada con {@value FrameCompressor#ENABLED_PROPERTY}.
+     *
+     * @return Mascara de capacidades ofrecidas o aceptadas.
+     * </body>
+     */
+    public static int localCapabilities() {
+        return FrameCompressor.isEnabledFromSystemProperties()
+                ? SUPPORTED_CAPABILITIES
+                : SUPPORTED_CAPABILITIES & ~CAPABILITY_COMPRESSION;
+    }
+
+    @Override
+    public ProtocolMode getProtocolMode() {
+        return ProtocolMode.BINARY;
+    }
+
+    @Override
+    public int getNegotiatedCapabilities() {
+        return negotiatedCapabilities;
+    }
+
+    public int getNegotiatedVersion() {
+        return negotiatedVersion;
+    }
+
+    @Override
+    public boolean supportsCorrelation() {
+        return correlatedFrames;
+    }
+
+    @Override
+    public void setOutgoingCorrelationId(int correlationId) {
+        this.outgoingCorrelationId = correlationId;
+    }
+
+    @Override
+    public int getLastReadCorrelationId() {
+        return lastReadCorrelationId;
+    }
+
+    /*! Comandos*/
+
+    @Override
+    public void writeCommand(UsefulCommunicationMessages command) throws IOException {
+        outputStream.writeByte(command.get_opcode());
+        writeFrameHeaderAfterOpcode(0);
+    }
+
+    @Override
+    public String readCommand() throws IOException {
+        byte opcode = inputStream.readByte();
+        int length = readFrameIntoBuffer();
+        UsefulCommunicationMessages command = UsefulCommunicationMessages.fromOpcode(opcode);
+        if (command == null) {
+            //? Se retorna un texto que el enrutamiento reporta como comando invalido; el
+            //? payload ya fue consumido, por lo que el stream sigue sincronizado
+            return String.format("UNKNOWN_OPCODE_0x%02X[%d bytes]", opcode & 0xFF, length);
+        }
+        return command.get_message();
+    }
+
+    /*! Objetos de datos*/
+
+    @Override
+    public void writeMessage(MessageDTO messageDTO) throws IOException {
+        writeFrame(FRAME_MESSAGE, output -> BinaryDTOCodec.writeMessage(output, messageDTO));
+    }
+
+    @Override
+    public MessageDTO readMessage() throws IOException {
+        return BinaryDTOCodec.readMessage(readPayloadFrame(FRAME_MESSAGE));
+    }
+
+    @Override
+    public void writeClientList(List<ClientDTO> clientList) throws IOException {
+        writeFrame(FRAME_CLIENT_LIST,
+                   output -> BinaryDTOCodec.writeClientList(output, clientList));
+    }
+
+    @Override
+    public List<ClientDTO> readClientList() throws IOException {
+        return BinaryDTOCodec.readClientList(readPayloadFrame(FRAME_CLIENT_LIST));
+    }
+
+    @Override
+    public void writeMessageMap(Map<String, List<MessageDTO>> messageMap) throws IOException {
+        writeFrame(FRAME_MESSAGE_MAP,
+                   output -> BinaryDTOCodec.writeMessageMap(output, messageMap));
+    }
+
+    @Override
+    public Map<String, List<MessageDTO>> readMessageMap() throws IOException {
+        return BinaryDTOCodec.readMessageMap(readPayloadFrame(FRAME_MESSAGE_MAP));
+    }
+
+    @Override
+    public void writeAuthenticationRequest(AuthenticationRequestDTO requestDTO)
+            throws IOException {
+        writeFrame(FRAME_AUTHENTICATION_REQUEST,
+                   output -> BinaryDTOCodec.writeAuthenticationRequest(output, requestDTO));
+    }
+
+    @Override
+    public AuthenticationRequestDTO readAuthenticationRequest() throws IOException {
+        return BinaryDTOCodec.readAuthenticationRequest(
+                readPayloadFrame(FRAME_AUTHENTICATION_REQUEST));
+    }
+
+    @Override
+    public void writeAuthenticationResponse(
+            AuthenticationRequestDTO.AuthenticationResponseDTO responseDTO) throws IOException {
+        writeFrame(FRAME_AUTHENTICATION_RESPONSE,
+                   output -> BinaryDTOCodec.writeAuthenticationResponse(output, responseDTO));
+    }
+
+    @Override
+    public AuthenticationRequestDTO.AuthenticationResponseDTO readAuthenticationResponse()
+            throws IOException {
+        return BinaryDTOCodec.readAuthenticationResponse(
+                readPayloadFrame(FRAME_AUTHENTICATION_RESPONSE));
+    }
+
+    @Override
+    public void writeIdentifier(String identifier) throws IOException {
+        writeFrame(FRAME_IDENTIFIER, output -> BinaryDTOCodec.writeString(output, identifier));
+    }
+
+    @Override
+    public String readIdentifier() throws IOException {
+        return BinaryDTOCodec.readString(readPayloadFrame(FRAME_IDENTIFIER));
+    }
+
+    @Override
+    public void writeSyncCursor(Timestamp cursor) throws IOException {
+        writeFrame(FRAME_SYNC_CURSOR, output -> BinaryDTOCodec.writeTimestamp(output, cursor));
+    }
+
+    @Override
+    public Timestamp readSyncCursor() throws IOException {
+        return BinaryDTOCodec.readTimestamp(readPayloadFrame(FRAME_SYNC_CURSOR));
+    }
+
+    @Override
+    public void writeLoginSnapshot(LoginSnapshotDTO loginSnapshot) throws IOException {
+        writeFrame(FRAME_LOGIN_SNAPSHOT,
+                   output -> BinaryDTOCodec.writeLoginSnapshot(output, loginSnapshot));
+    }
+
+    @Override
+    public LoginSnapshotDTO readLoginSnapshot() throws IOException {
+        return BinaryDTOCodec.readLoginSnapshot(readPayloadFrame(FRAME_LOGIN_SNAPSHOT));
+    }
+
+    @Override
+    public void writeHistoryPageRequest(MessageHistoryPageRequestDTO pageRequest)
+            throws IOException {
+        writeFrame(FRAME_HISTORY_PAGE_REQUEST,
+                   output -> BinaryDTOCodec.writeHistoryPageRequest(output, pageRequest));
+    }
+
+    @Override
+    public MessageHistoryPageRequestDTO readHistoryPageRequest() throws IOException {
+        return BinaryDTOCodec.readHistoryPageRequest(
+                readPayloadFrame(FRAME_HISTORY_PAGE_REQUEST));
+    }
+
+    @Override
+    public void writeHistoryPage(MessageHistoryPageDTO historyPage) throws IOException {
+        writeFrame(FRAME_HISTORY_PAGE,
+                   output -> BinaryDTOCodec.writeHistoryPage(output, historyPage));
+    }
+
+    @Override
+    public MessageHistoryPageDTO readHistoryPage() throws IOException {
+        return BinaryDTOCodec.readHistoryPage(readPayloadFrame(FRAME_HISTORY_PAGE));
+    }
+
+    @Override
+    public void writeDirectoryVersion(long directoryVersion) throws IOException {
+        writeFrame(FRAME_DIRECTORY_VERSION, output -> output.writeLong(directoryVersion));
+    }
+
+    @Override
+    public long readDirectoryVersion() throws IOException {
+        return readPayloadFrame(FRAME_DIRECTORY_VERSION).readLong();
+    }
+
+    /*! Control del canal*/
+
+    @Override
+    public void flush() throws IOException {
+        outputStream.flush();
+    }
+
+    @Override
+    public int available() throws IOException {
+        return inputStream.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            inputStream.close();
+        } finally {
+            try {
+                outputStream.close();
+            } finally {
+                if (frameCompressor != null) {
+                    frameCompressor.close();
+                }
+            }
+        }
+    }
+
+    /*! Helpers del framing*/
+
+    /**
+     * Codificador de un payload; permite escribir el frame en una sola pasada sobre el buffer
+     * reutilizado.
+     */
+    @FunctionalInterface
+    private interface PayloadEncoder {
+        void encode(DataOutput output) throws IOException;
+    }
+
+    /**
+     * Buffer de payload que expone su arreglo interno para comprimirlo sin copiarlo.
+     */
+    private static final class PayloadBuffer extends ByteArrayOutputStream {
+        private PayloadBuffer() {
+            super(256);
+        }
+
+        private byte[] array() {
+            return buf;
+        }
+    }
+
+    private void writeFrame(byte opcode, PayloadEncoder encoder) throws IOException {
+        payloadBuffer.reset();
+        encoder.encode(payloadOutput);
+        outputStream.writeByte(opcode);
+        //? Solo los payloads sobre el umbral que efectivamente se reducen viajan comprimidos
+        ByteArrayOutputStream framePayload = payloadBuffer;
+        int frameFlags = FRAME_FLAGS_NONE;
+        if (frameCompressor != null
+                && frameCompressor.compress(payloadBuffer.array(), payloadBuffer.size())) {
+            framePayload = frameCompressor.compressedPayload();
+            frameFlags = FRAME_FLAG_COMPRESSED;
+        }
+        writeFrameHeaderAfterOpcode(frameFlags, framePayload.size());
+        framePayload.writeTo(outputStream);
+    }
+
+    private void writeFrameHeaderAfterOpcode(int payloadLength) throws IOException {
+        writeFrameHeaderAfterOpcode(FRAME_FLAGS_NONE, payloadLength);
+    }
+
+    private void writeFrameHeaderAfterOpcode(int frameFlags, int payloadLength)
+            throws IOException {
+        outputStream.writeByte(frameFlags);
+        if (correlatedFrames) {
+            outputStream.writeInt(outgoingCorrelationId);
+        }
+        outputStream.writeInt(payloadLength);
+    }
+
+    /**
+     * <body style="color: white;">
+     * Lee el siguiente frame y valida que sea del tipo esperado. Si el opcode no coincide el
+     * payload se descarta completo antes de lanzar la excepcion, de modo que el siguiente
+     * intento de lectura empieza en el borde de un frame.
+     *
+     * @param expectedOpcode Opcode del frame de datos que se espera recibir.
+     * @return {@link DataInputStream} posicionado al inicio del payload.
+     * @throws StreamCorruptedException si el frame recibido no es del tipo esperado.
+     * </body>
+     */
+    private DataInputStream readPayloadFrame(byte expectedOpcode) throws IOException {
+        byte opcode = inputStream.readByte();
+        int length = readFrameIntoBuffer();
+        if (opcode != expectedOpcode) {
+            throw new StreamCorruptedException(String.format(
+                    "Error Code 0x001 - [Raised] Se esperaba un frame 0x%02X, se obtuvo 0x%02X",
+                    expectedOpcode & 0xFF, opcode & 0xFF));
+        }
+        return new DataInputStream(new ByteArrayInputStream(readPayload, 0, length));
+    }
+
+    /**
+     * Lee el resto del encabezado (flags, correlacion si aplica y largo) y el payload completo
+     * hacia {@link #frameBuffer}. Si el payload viene comprimido, {@link #readPayload} apunta al
+     * buffer con el payload descomprimido.
+     *
+     * @return Largo del payload leido, ya descomprimido.
+     */
+    private int readFrameIntoBuffer() throws IOException {
+        int frameFlags = inputStream.readUnsignedByte();
+        if (correlatedFrames) {
+            lastReadCorrelationId = inputStream.readInt();
+        }
+        int length = inputStream.readInt();
+        if (length < 0 || length > MAX_FRAME_LENGTH) {
+            throw new StreamCorruptedException("Error Code 0x001 - [Raised] Largo de frame " +
+                                                       "invalido: " + length);
+        }
+        if (frameBuffer.length < length) {
+            frameBuffer = new byte[Math.max(length, frameBuffer.length * 2)];
+        }
+        inputStream.readFully(frameBuffer, 0, length);
+        readPayload = frameBuffer;
+        if ((frameFlags & FRAME_FLAG_COMPRESSED) != 0) {
+            if (frameCompressor == null) {
+                throw new StreamCorruptedException("Error Code 0x001 - [Raised] Se recibio un " +
+                                                           "frame comprimido sin negociar la " +
+                                                           "compresion");
+            }
+            readPayload = frameCompressor.decompress(frameBuffer, length);
+            return FrameCompressor.inflatedLength(frameBuffer);
+        }
+        return length;
+    }
+}
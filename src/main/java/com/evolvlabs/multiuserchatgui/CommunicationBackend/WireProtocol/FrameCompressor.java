@@ -0,0 +1,263 @@
+package com.evolvlabs.multiuserchatgui.CommunicationBackend.WireProtocol;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo implementa la compresion de payloads de
+ * {@link BinaryWireProtocol} cuando ambos lados negocian
+ * {@link BinaryWireProtocol#CAPABILITY_COMPRESSION}. Solo se comprimen los payloads con al menos
+ * {@code multiuserchat.wire.compression.threshold} bytes (por defecto
+ * {@value #DEFAULT_THRESHOLD_BYTES}), es decir, los historiales y directorios completos; los
+ * comandos, mensajes individuales y cursores viajan sin cambios para no agregar latencia. Cada
+ * payload se comprime de forma independiente con DEFLATE y un diccionario con el vocabulario
+ * tipico de los mensajes del chat, de modo que incluso un historial corto aprovecha
+ * referencias previas. Si el resultado no es menor que el original se envia sin comprimir.
+ * <p>
+ * El payload comprimido tiene la forma {@code [largo original : int][bytes DEFLATE]}. La
+ * instancia reutiliza su {@link Deflater}, {@link Inflater} y buffers entre frames, por lo que
+ * pertenece a un solo {@link BinaryWireProtocol} y no es segura para uso concurrente.
+ */
+public final class FrameCompressor {
+
+    /**
+     * Nombre de la propiedad de sistema que habilita la capacidad de compresion.
+     */
+    public static final String ENABLED_PROPERTY = "multiuserchat.wire.compression.enabled";
+    /**
+     * Nombre de la propiedad de sistema con el largo minimo, en bytes, de un payload comprimido.
+     */
+    public static final String THRESHOLD_PROPERTY = "multiuserchat.wire.compression.threshold";
+    private static final int DEFAULT_THRESHOLD_BYTES = 1024;
+
+    /*
+     * Diccionario compartido por cliente y servidor. DEFLATE referencia con menor costo los
+     * bytes mas cercanos al final, por eso los terminos mas frecuentes van al final.
+     */
+    private static final byte[] CHAT_DICTIONARY = (
+            "https://www. .com jajaja jeje :) :( xD lol ok vale listo perfecto claro de acuerdo "
+                    + "mañana hoy ayer luego despues ahora tarde noche reunion trabajo clase "
+                    + "por favor porque cuando donde quien cual tambien pero todavia entonces "
+                    + "thanks thank you please sorry what when where how are you see you later "
+                    + "buenos dias buenas tardes buenas noches nos vemos hasta luego "
+                    + "que tal como estas muy bien gracias hola adios si no el la los las un una "
+                    + "de en y a que es por para con mensaje usuario")
+            .getBytes(StandardCharsets.UTF_8);
+
+    /*! Metricas compartidas por todas las conexiones*/
+    private static final LongAdder FRAMES_COMPRESSED = new LongAdder();
+    private static final LongAdder FRAMES_SKIPPED = new LongAdder();
+    private static final LongAdder BYTES_BEFORE_COMPRESSION = new LongAdder();
+    private static final LongAdder BYTES_AFTER_COMPRESSION = new LongAdder();
+    private static final LongAdder DEFLATE_NANOS = new LongAdder();
+    private static final LongAdder INFLATE_NANOS = new LongAdder();
+
+    private final int thresholdBytes;
+    private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+    private final Inflater inflater = new Inflater();
+    private final byte[] chunk = new byte[4 * 1024];
+    private final ByteArrayOutputStream compressedBuffer = new ByteArrayOutputStream(1024);
+    private byte[] inflatedBuffer = new byte[1024];
+
+    /**
+     * <body style="color: white;">
+     * Construye el compresor de una conexion.
+     *
+     * @param thresholdBytes Largo minimo del payload para intentar comprimirlo.
+     * </body>
+     */
+    public FrameCompressor(int thresholdBytes) {
+        this.thresholdBytes = Math.max(1, thresholdBytes);
+    }
+
+    /**
+     * @return {@code false} solo si la propiedad {@value #ENABLED_PROPERTY} vale {@code false}.
+     */
+    public static boolean isEnabledFromSystemProperties() {
+        return !"false".equalsIgnoreCase(System.getProperty(ENABLED_PROPERTY, "true").trim());
+    }
+
+    /**
+     * <body style="color: white;">
+     * Retorna el umbral configurado en las propiedades del sistema o, por defecto,
+     * {@value #DEFAULT_THRESHOLD_BYTES} bytes.
+     *
+     * @return Largo minimo en bytes de un payload comprimido.
+     * </body>
+     */
+    public static int thresholdFromSystemProperties() {
+        try {
+            int configured = Integer.parseInt(System.getProperty(
+                    THRESHOLD_PROPERTY, String.valueOf(DEFAULT_THRESHOLD_BYTES)));
+            return configured > 0 ? configured : DEFAULT_THRESHOLD_BYTES;
+        } catch (NumberFormatException e) {
+            return DEFAULT_THRESHOLD_BYTES;
+        }
+    }
+
+    /**
+     * <body style="color: white;">
+     * Intenta comprimir un payload. Si es menor al umbral o la compresion no reduce su tamaño
+     * se retorna {@code false} y el llamador debe enviarlo sin cambios.
+     *
+     * @param payload Buffer con el payload codificado.
+     * @param length  Largo del payload.
+     * @return {@code true} si {@link #compressedPayload()} contiene el payload comprimido.
+     * </body>
+     */
+    boolean compress(byte[] payload, int length) {
+        if (length < thresholdBytes) {
+            return false;
+        }
+        long startNanos = System.nanoTime();
+        compressedBuffer.reset();
+        writeInt(compressedBuffer, length);
+        deflater.reset();
+        deflater.setDictionary(CHAT_DICTIONARY);
+        deflater.setInput(payload, 0, length);
+        deflater.finish();
+        while (!deflater.finished() && compressedBuffer.size() < length) {
+            int written = deflater.deflate(chunk);
+            compressedBuffer.write(chunk, 0, written);
+        }
+        DEFLATE_NANOS.add(System.nanoTime() - startNanos);
+
+        if (!deflater.finished() || compressedBuffer.size() >= length) {
+            FRAMES_SKIPPED.increment();
+            return false;
+        }
+        FRAMES_COMPRESSED.increment();
+        BYTES_BEFORE_COMPRESSION.add(length);
+        BYTES_AFTER_COMPRESSION.add(compressedBuffer.size());
+        return true;
+    }
+
+    /**
+     * @return Buffer con el resultado de la ultima llamada exitosa a {@link #compress}.
+     */
+    ByteArrayOutputStream compressedPayload() {
+        return compressedBuffer;
+    }
+
+    /**
+     * <body style="color: white;">
+     * Descomprime un payload recibido con el flag de compresion.
+     *
+     * @param frame  Buffer con el payload comprimido.
+     * @param length Largo del payload comprimido.
+     * @return Buffer reutilizado con el payload original al inicio; su largo es el retornado
+     * por {@link #inflatedLength(byte[])} para el frame comprimido.
+     * @throws StreamCorruptedException si el payload no es DEFLATE valido o su largo original
+     *                                  excede {@link BinaryWireProtocol#MAX_FRAME_LENGTH}.
+     * </body>
+     */
+    byte[] decompress(byte[] frame, int length) throws IOException {
+        int originalLength = length < Integer.BYTES ? -1 : inflatedLength(frame);
+        if (originalLength < 0 || originalLength > BinaryWireProtocol.MAX_FRAME_LENGTH) {
+            throw new StreamCorruptedException("Error Code 0x001 - [Raised] Largo de frame " +
+                                                       "comprimido invalido: " + originalLength);
+        }
+        if (inflatedBuffer.length < originalLength) {
+            inflatedBuffer = new byte[Math.max(originalLength, inflatedBuffer.length * 2)];
+        }
+        long startNanos = System.nanoTime();
+        inflater.reset();
+        inflater.setInput(frame, Integer.BYTES, length - Integer.BYTES);
+        try {
+            int inflated = 0;
+            while (inflated < originalLength) {
+                int read = inflater.inflate(inflatedBuffer, inflated, originalLength - inflated);
+                if (read == 0) {
+                    if (inflater.needsDictionary()) {
+                        inflater.setDictionary(CHAT_DICTIONARY);
+                    } else if (inflater.finished() || inflater.needsInput()) {
+                        break;
+                    }
+                }
+                inflated += read;
+            }
+            if (inflated != originalLength) {
+                throw new StreamCorruptedException("Error Code 0x001 - [Raised] El frame " +
+                                                           "comprimido esta incompleto");
+            }
+        } catch (DataFormatException e) {
+            throw new StreamCorruptedException("Error Code 0x001 - [Raised] Frame comprimido " +
+                                                       "invalido: " + e.getMessage());
+        } finally {
+            INFLATE_NANOS.add(System.nanoTime() - startNanos);
+        }
+        return inflatedBuffer;
+    }
+
+    static int inflatedLength(byte[] frame) {
+        return ((frame[0] & 0xFF) << 24) | ((frame[1] & 0xFF) << 16)
+                | ((frame[2] & 0xFF) << 8) | (frame[3] & 0xFF);
+    }
+
+    /**
+     * Libera la memoria nativa del {@link Deflater} y el {@link Inflater}.
+     */
+    void close() {
+        deflater.end();
+        inflater.end();
+    }
+
+    private static void writeInt(ByteArrayOutputStream output, int value) {
+        output.write(value >>> 24);
+        output.write(value >>> 16);
+        output.write(value >>> 8);
+        output.write(value);
+    }
+
+    /*! Metricas*/
+
+    /**
+     * @return Frames enviados comprimidos en este proceso.
+     */
+    public static long framesCompressed() {
+        return FRAMES_COMPRESSED.sum();
+    }
+
+    /**
+     * @return Frames sobre el umbral que se enviaron sin comprimir por no reducir su tamaño.
+     */
+    public static long framesSkipped() {
+        return FRAMES_SKIPPED.sum();
+    }
+
+    /**
+     * @return Bytes de payload antes de comprimir, solo de los frames comprimidos.
+     */
+    public static long bytesBeforeCompression() {
+        return BYTES_BEFORE_COMPRESSION.sum();
+    }
+
+    /**
+     * @return Bytes de payload despues de comprimir.
+     */
+    public static long bytesAfterCompression() {
+        return BYTES_AFTER_COMPRESSION.sum();
+    }
+
+    /**
+     * @return Tiempo transcurrido (reloj de pared) comprimiendo, en nanosegundos.
+     */
+    public static long deflateNanos() {
+        return DEFLATE_NANOS.sum();
+    }
+
+    /**
+     * @return Tiempo transcurrido (reloj de pared) descomprimiendo, en nanosegundos.
+     */
+    public static long inflateNanos() {
+        return INFLATE_NANOS.sum();
+    }
+}
@@ -0,0 +1,204 @@
+package com.evolvlabs.multiuserchatgui.CommunicationBackend.WireProtocol;
+
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.AuthenticationRequestDTO;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.ClientDTO;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.LoginSnapshotDTO;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.MessageDTO;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.MessageHistoryPageDTO;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.MessageHistoryPageRequestDTO;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.UsefulCommunicationMessages;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo implementa el formato original del programa sobre la
+ * interfaz {@link WireProtocol}: los comandos viajan como {@code writeUTF} del nombre del enum
+ * y los DTOs con serializacion de Java. Se mantiene para los clientes que todavia no negocian
+ * el formato binario.
+ * <p>
+ * Luego de cada {@code writeObject} se llama a {@link ObjectOutputStream#reset()}; el servidor
+ * envia objetos nuevos en cada respuesta y sin el reset la tabla de referencias del stream
+ * crece durante toda la sesion. El marcador de reset es parte del formato estandar, por lo que
+ * los clientes antiguos lo consumen sin cambios.
+ */
+public final class ObjectStreamWireProtocol implements WireProtocol {
+
+    private final ObjectOutputStream outputStream;
+    private final ObjectInputStream inputStream;
+
+    public ObjectStreamWireProtocol(ObjectOutputStream outputStream,
+                                    ObjectInputStream inputStream) {
+        this.outputStream = outputStream;
+        this.inputStream = inputStream;
+    }
+
+    @Override
+    public ProtocolMode getProtocolMode() {
+        return ProtocolMode.OBJECT_STREAM;
+    }
+
+    @Override
+    public int getNegotiatedCapabilities() {
+        return 0;
+    }
+
+    @Override
+    public void writeCommand(UsefulCommunicationMessages command) throws IOException {
+        outputStream.writeUTF(command.get_message());
+    }
+
+    @Override
+    public String readCommand() throws IOException {
+        return inputStream.readUTF();
+    }
+
+    @Override
+    public void writeMessage(MessageDTO messageDTO) throws IOException {
+        writeObjectAndReset(messageDTO);
+    }
+
+    @Override
+    public MessageDTO readMessage() throws IOException, ClassNotFoundException {
+        return (MessageDTO) inputStream.readObject();
+    }
+
+    @Override
+    public void writeClientList(List<ClientDTO> clientList) throws IOException {
+        writeObjectAndReset(clientList);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ClientDTO> readClientList() throws IOException, ClassNotFoundException {
+        return (List<ClientDTO>) inputStream.readObject();
+    }
+
+    @Override
+    public void writeMessageMap(Map<String, List<MessageDTO>> messageMap) throws IOException {
+        writeObjectAndReset(messageMap);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, List<MessageDTO>> readMessageMap()
+            throws IOException, ClassNotFoundException {
+        return (Map<String, List<MessageDTO>>) inputStream.readObject();
+    }
+
+    @Override
+    public void writeAuthenticationRequest(AuthenticationRequestDTO requestDTO)
+            throws IOException {
+        writeObjectAndReset(requestDTO);
+    }
+
+    @Override
+    public AuthenticationRequestDTO readAuthenticationRequest()
+            throws IOException, ClassNotFoundException {
+        return (AuthenticationRequestDTO) inputStream.readObject();
+    }
+
+    @Override
+    public void writeAuthenticationResponse(
+            AuthenticationRequestDTO.AuthenticationResponseDTO responseDTO) throws IOException {
+        writeObjectAndReset(responseDTO);
+    }
+
+    @Override
+    public AuthenticationRequestDTO.AuthenticationResponseDTO readAuthenticationResponse()
+            throws IOException, ClassNotFoundException {
+        return (AuthenticationRequestDTO.AuthenticationResponseDTO) inputStream.readObject();
+    }
+
+    @Override
+    public void writeIdentifier(String identifier) throws IOException {
+        outputStream.writeUTF(identifier);
+    }
+
+    @Override
+    public String readIdentifier() throws IOException {
+        return inputStream.readUTF();
+    }
+
+    @Override
+    public void writeSyncCursor(Timestamp cursor) throws IOException {
+        writeObjectAndReset(cursor);
+    }
+
+    @Override
+    public Timestamp readSyncCursor() throws IOException, ClassNotFoundException {
+        return (Timestamp) inputStream.readObject();
+    }
+
+    @Override
+    public void writeLoginSnapshot(LoginSnapshotDTO loginSnapshot) throws IOException {
+        writeObjectAndReset(loginSnapshot);
+    }
+
+    @Override
+    public LoginSnapshotDTO readLoginSnapshot() throws IOException, ClassNotFoundException {
+        return (LoginSnapshotDTO) inputStream.readObject();
+    }
+
+    @Override
+    public void writeHistoryPageRequest(MessageHistoryPageRequestDTO pageRequest)
+            throws IOException {
+        writeObjectAndReset(pageRequest);
+    }
+
+    @Override
+    public MessageHistoryPageRequestDTO readHistoryPageRequest()
+            throws IOException, ClassNotFoundException {
+        return (MessageHistoryPageRequestDTO) inputStream.readObject();
+    }
+
+    @Override
+    public void writeHistoryPage(MessageHistoryPageDTO historyPage) throws IOException {
+        writeObjectAndReset(historyPage);
+    }
+
+    @Override
+    public MessageHistoryPageDTO readHistoryPage() throws IOException, ClassNotFoundException {
+        return (MessageHistoryPageDTO) inputStream.readObject();
+    }
+
+    @Override
+    public void writeDirectoryVersion(long directoryVersion) throws IOException {
+        outputStream.writeLong(directoryVersion);
+    }
+
+    @Override
+    public long readDirectoryVersion() throws IOException {
+        return inputStream.readLong();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        outputStream.flush();
+    }
+
+    @Override
+    public int available() throws IOException {
+        return inputStream.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            inputStream.close();
+        } finally {
+            outputStream.close();
+        }
+    }
+
+    private void writeObjectAndReset(Object object) throws IOException {
+        outputStream.writeObject(object);
+        outputStream.reset();
+    }
+}
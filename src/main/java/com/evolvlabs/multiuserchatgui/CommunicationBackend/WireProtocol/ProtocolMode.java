@@ -0,0 +1,43 @@
+package com.evolvlabs.multiuserchatgui.CommunicationBackend.WireProtocol;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo contiene los formatos en el cable que un cliente puede
+ * solicitar al conectarse. El cliente elige su preferencia mediante la propiedad de sistema
+ * {@code multiuserchat.client.protocol}; el servidor acepta ambos formatos en el mismo puerto,
+ * por lo que clientes antiguos y nuevos pueden convivir durante el despliegue.
+ */
+public enum ProtocolMode {
+
+    /*! Formato original: tokens writeUTF y DTOs con serializacion de Java*/
+    OBJECT_STREAM,
+    /*! Formato binario: frames con opcode de un byte, largo y codecs escritos a mano*/
+    BINARY;
+
+    /**
+     * Nombre de la propiedad de sistema leida por el cliente al conectarse.
+     */
+    public static final String PROTOCOL_PROPERTY = "multiuserchat.client.protocol";
+
+    /**
+     * <body style="color: white;">
+     * Lee el formato preferido por el cliente en las propiedades del sistema. Si la propiedad no
+     * existe o no es reconocida se retorna {@link #BINARY}; si el servidor no entiende el
+     * formato binario el cliente vuelve a {@link #OBJECT_STREAM} por su cuenta.
+     *
+     * @return {@link ProtocolMode} preferido para esta ejecucion.
+     * </body>
+     */
+    public static ProtocolMode fromSystemProperties() {
+        String configuredMode = System.getProperty(PROTOCOL_PROPERTY, BINARY.name());
+        for (ProtocolMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(configuredMode.trim())) {
+                return mode;
+            }
+        }
+        System.err.println("[MessageSideComms] - Protocolo desconocido [" + configuredMode
+                                   + "], se utiliza " + BINARY.name());
+        return BINARY;
+    }
+}
@@ -0,0 +1,180 @@
+package com.evolvlabs.multiuserchatgui.CommunicationBackend.WireProtocol;
+
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.AuthenticationRequestDTO;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.ClientDTO;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.LoginSnapshotDTO;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.MessageDTO;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.MessageHistoryPageDTO;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.MessageHistoryPageRequestDTO;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.UsefulCommunicationMessages;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo define la abstraccion del formato en el cable que usan el
+ * {@code MessageClient} y el {@code ClientHandler} del servidor. Antes ambos lados escribian
+ * directamente sobre un {@link java.io.ObjectOutputStream}; ahora toda la comunicacion pasa por
+ * esta interfaz, de modo que el formato concreto (serializacion de Java o frames binarios) se
+ * decide una sola vez al conectarse mediante {@link WireProtocolNegotiator} y el resto del
+ * codigo no cambia.
+ * <p>
+ * Los metodos de escritura no hacen flush por si solos; igual que con los streams originales,
+ * quien escribe decide cuando llamar a {@link #flush()}.
+ */
+public interface WireProtocol extends Closeable {
+
+    /**
+     * @return {@link ProtocolMode} negociado para esta conexion.
+     */
+    ProtocolMode getProtocolMode();
+
+    /**
+     * @return Mascara de capacidades aceptadas por ambos lados durante la negociacion. El
+     * protocolo de serializacion de Java siempre retorna {@code 0}.
+     */
+    int getNegotiatedCapabilities();
+
+    /**
+     * @param capability Bit de capacidad, por ejemplo
+     *                   {@link BinaryWireProtocol#CAPABILITY_SERVER_PUSH}.
+     * @return {@code true} si ambos lados aceptaron la capacidad durante la negociacion.
+     */
+    default boolean supportsCapability(int capability) {
+        return (getNegotiatedCapabilities() & capability) != 0;
+    }
+
+    /*! Correlacion de peticiones y respuestas*/
+
+    /**
+     * Identificador de correlacion de los frames que no responden a ninguna peticion: mandatos
+     * y mensajes enviados por push del servidor.
+     */
+    int UNCORRELATED = 0;
+
+    /**
+     * @return {@code true} si cada frame lleva un identificador de correlacion, de modo que
+     * las respuestas pueden asociarse a su peticion aunque haya varias en curso. Si es
+     * {@code false} las respuestas llegan en el mismo orden que las peticiones.
+     */
+    default boolean supportsCorrelation() {
+        return false;
+    }
+
+    /**
+     * Define el identificador de correlacion de los siguientes frames escritos. Debe llamarse
+     * bajo el mismo lock que protege las escrituras.
+     */
+    default void setOutgoingCorrelationId(int correlationId) {
+    }
+
+    /**
+     * @return Identificador de correlacion del ultimo frame leido, o {@link #UNCORRELATED} si
+     * el formato no lo transporta.
+     */
+    default int getLastReadCorrelationId() {
+        return UNCORRELATED;
+    }
+
+    /*! Comandos del protocolo*/
+
+    void writeCommand(UsefulCommunicationMessages command) throws IOException;
+
+    /**
+     * <body style="color: white;">
+     * Lee el siguiente comando del cable. Se retorna el texto del comando (el mismo valor de
+     * {@link UsefulCommunicationMessages#get_message()}) para que el enrutamiento existente, que
+     * valida cadenas desconocidas, funcione igual con ambos formatos.
+     *
+     * @return Texto del comando recibido.
+     * @throws IOException si la conexion se cierra o el frame recibido no es un comando.
+     * </body>
+     */
+    String readCommand() throws IOException;
+
+    /*! Objetos de datos*/
+
+    void writeMessage(MessageDTO messageDTO) throws IOException;
+
+    MessageDTO readMessage() throws IOException, ClassNotFoundException;
+
+    void writeClientList(List<ClientDTO> clientList) throws IOException;
+
+    List<ClientDTO> readClientList() throws IOException, ClassNotFoundException;
+
+    void writeMessageMap(Map<String, List<MessageDTO>> messageMap) throws IOException;
+
+    Map<String, List<MessageDTO>> readMessageMap() throws IOException, ClassNotFoundException;
+
+    void writeAuthenticationRequest(AuthenticationRequestDTO requestDTO) throws IOException;
+
+    AuthenticationRequestDTO readAuthenticationRequest()
+            throws IOException, ClassNotFoundException;
+
+    void writeAuthenticationResponse(AuthenticationRequestDTO.AuthenticationResponseDTO responseDTO)
+            throws IOException;
+
+    AuthenticationRequestDTO.AuthenticationResponseDTO readAuthenticationResponse()
+            throws IOException, ClassNotFoundException;
+
+    /**
+     * Escribe un identificador corto, como el UUID del cliente enviado luego de autenticarse.
+     */
+    void writeIdentifier(String identifier) throws IOException;
+
+    String readIdentifier() throws IOException;
+
+    /**
+     * Escribe el cursor de una sincronizacion incremental: el timestamp del mensaje mas reciente
+     * que el cliente ya conoce, o {@code null} si no conoce ninguno.
+     */
+    void writeSyncCursor(Timestamp cursor) throws IOException;
+
+    Timestamp readSyncCursor() throws IOException, ClassNotFoundException;
+
+    /**
+     * Escribe el estado inicial que sigue a la respuesta de un {@code POST_CLIENT_LOGIN_REQUEST}
+     * exitoso.
+     */
+    void writeLoginSnapshot(LoginSnapshotDTO loginSnapshot) throws IOException;
+
+    LoginSnapshotDTO readLoginSnapshot() throws IOException, ClassNotFoundException;
+
+    /**
+     * Escribe el cursor que acompana a un {@code POST_MESSAGE_HISTORY_PAGE_REQUEST}.
+     */
+    void writeHistoryPageRequest(MessageHistoryPageRequestDTO pageRequest) throws IOException;
+
+    MessageHistoryPageRequestDTO readHistoryPageRequest()
+            throws IOException, ClassNotFoundException;
+
+    /**
+     * Escribe la pagina del historial que sigue a su ACKNOWLEDGE.
+     */
+    void writeHistoryPage(MessageHistoryPageDTO historyPage) throws IOException;
+
+    MessageHistoryPageDTO readHistoryPage() throws IOException, ClassNotFoundException;
+
+    /**
+     * Escribe la version del directorio que acompana a {@code POST_CLIENT_LIST_CONDITIONAL_REQUEST}
+     * y a su ACKNOWLEDGE.
+     */
+    void writeDirectoryVersion(long directoryVersion) throws IOException;
+
+    long readDirectoryVersion() throws IOException;
+
+    /*! Control del canal*/
+
+    void flush() throws IOException;
+
+    /**
+     * @return Cantidad de bytes que pueden leerse sin bloquear, incluyendo los que el protocolo
+     * ya tiene en sus buffers internos.
+     */
+    int available() throws IOException;
+}
@@ -0,0 +1,266 @@
+package com.evolvlabs.multiuserchatgui.CommunicationBackend.WireProtocol;
+
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.SharedMemory.SharedMemorySession;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamConstants;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.io.StreamCorruptedException;
+import java.nio.file.Path;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo implementa la negociacion del formato en el cable al
+ * momento de conectarse. La negociacion es compatible con ambas versiones del programa:
+ * <ol>
+ *     <li>El servidor siempre inicia enviando el encabezado de un {@link ObjectOutputStream}
+ *     ({@code 0xACED 0005}), igual que antes, ya que un cliente antiguo bloquea hasta
+ *     recibirlo.</li>
+ *     <li>Un cliente antiguo responde con su propio encabezado de serializacion. Un cliente
+ *     binario responde con {@code [PROTOCOL_MAGIC : int][version : byte][capacidades : int]}.</li>
+ *     <li>El servidor revisa los primeros bytes: si son el encabezado de serializacion continua
+ *     con {@link ObjectStreamWireProtocol}; si son el numero magico responde con
+ *     {@code [PROTOCOL_MAGIC][version aceptada][capacidades aceptadas]} y continua en
+ *     binario.</li>
+ * </ol>
+ * Un servidor antiguo que recibe el numero magico falla al leer el encabezado y cierra la
+ * conexion, por lo que el cliente binario detecta el fallo del handshake y vuelve a conectarse
+ * con el formato original.
+ * <p>
+ * Si ambos lados acuerdan {@link BinaryWireProtocol#CAPABILITY_SHARED_MEMORY}, el cliente
+ * envia a continuacion la ruta de su {@link SharedMemorySession} y el servidor responde con un
+ * byte indicando si pudo mapearla. Con {@code 1} el protocolo binario continua sobre los rings
+ * de la sesion y el socket solo se mantiene abierto; con {@code 0} ambos lados continuan sobre
+ * el socket sin la capacidad.
+ */
+public final class WireProtocolNegotiator {
+
+    private static final int STREAM_HEADER_LENGTH = 4;
+    private static final int SERIALIZATION_HEADER =
+            (ObjectStreamConstants.STREAM_MAGIC << 16) | ObjectStreamConstants.STREAM_VERSION;
+
+    private WireProtocolNegotiator() {
+    }
+
+    /**
+     * <body style="color: white;">
+     * Negocia el formato del lado del servidor. Bloquea hasta recibir los primeros bytes del
+     * cliente.
+     *
+     * @param inputStream  Stream de entrada de la conexion del cliente.
+     * @param outputStream Stream de salida de la conexion del cliente.
+     * @return {@link WireProtocol} acordado con el cliente.
+     * @throws StreamCorruptedException si los primeros bytes no corresponden a ningun formato.
+     * @throws IOException              si la conexion falla durante la negociacion.
+     * </body>
+     */
+    public static WireProtocol negotiateAsServer(InputStream inputStream,
+                                                 OutputStream outputStream) throws IOException {
+        return negotiateAsServer(inputStream, outputStream, false);
+    }
+
+    /**
+     * <body style="color: white;">
+     * Igual que {@link #negotiateAsServer(InputStream, OutputStream)}, aceptando ademas
+     * {@link BinaryWireProtocol#CAPABILITY_SHARED_MEMORY} si se indica.
+     *
+     * @param inputStream        Stream de entrada de la conexion del cliente.
+     * @param outputStream       Stream de salida de la conexion del cliente.
+     * @param allowSharedMemory  {@code true} si el servidor puede atender la sesion sobre
+     *                           memoria compartida.
+     * @return {@link WireProtocol} acordado con el cliente.
+     * @throws StreamCorruptedException si los primeros bytes no corresponden a ningun formato.
+     * @throws IOException              si la conexion falla durante la negociacion.
+     * </body>
+     */
+    public static WireProtocol negotiateAsServer(InputStream inputStream,
+                                                 OutputStream outputStream,
+                                                 boolean allowSharedMemory) throws IOException {
+        //? 1. Enviamos el encabezado de serializacion que todo cliente espera recibir primero
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream);
+        objectOutputStream.flush();
+
+        //? 2. Revisamos los primeros bytes del cliente sin consumirlos en el caso antiguo
+        PushbackInputStream pushbackInputStream =
+                new PushbackInputStream(inputStream, STREAM_HEADER_LENGTH);
+        byte[] clientHeader = pushbackInputStream.readNBytes(STREAM_HEADER_LENGTH);
+        if (clientHeader.length < STREAM_HEADER_LENGTH) {
+            throw new EOFException("Error Code 0x001 - [Raised] El cliente cerro la conexion " +
+                                           "durante la negociacion del protocolo");
+        }
+        int headerValue = toInt(clientHeader);
+
+        if (headerValue == SERIALIZATION_HEADER) {
+            pushbackInputStream.unread(clientHeader);
+            return new ObjectStreamWireProtocol(objectOutputStream,
+                                                new ObjectInputStream(pushbackInputStream));
+        }
+        if (headerValue != BinaryWireProtocol.PROTOCOL_MAGIC) {
+            throw new StreamCorruptedException(String.format(
+                    "Error Code 0x001 - [Raised] Encabezado de protocolo desconocido: 0x%08X",
+                    headerValue));
+        }
+
+        //? 3. Cliente binario: acordamos version y capacidades y respondemos
+        DataInputStream handshakeInput = new DataInputStream(pushbackInputStream);
+        int clientVersion = handshakeInput.readUnsignedByte();
+        int clientCapabilities = handshakeInput.readInt();
+        int acceptedVersion = Math.min(clientVersion, BinaryWireProtocol.PROTOCOL_VERSION);
+        int acceptedCapabilities = clientCapabilities & (allowSharedMemory
+                ? BinaryWireProtocol.localCapabilities()
+                        | BinaryWireProtocol.CAPABILITY_SHARED_MEMORY
+                : BinaryWireProtocol.localCapabilities());
+        boolean sharedMemoryAccepted =
+                (acceptedCapabilities & BinaryWireProtocol.CAPABILITY_SHARED_MEMORY) != 0;
+        if (sharedMemoryAccepted) {
+            //? Sobre memoria compartida comprimir solo gastaria CPU
+            acceptedCapabilities &= ~BinaryWireProtocol.CAPABILITY_COMPRESSION;
+        }
+
+        DataOutputStream handshakeOutput = new DataOutputStream(outputStream);
+        handshakeOutput.writeInt(BinaryWireProtocol.PROTOCOL_MAGIC);
+        handshakeOutput.writeByte(acceptedVersion);
+        handshakeOutput.writeInt(acceptedCapabilities);
+        handshakeOutput.flush();
+
+        //? 4. Si se acordo memoria compartida, mapeamos la sesion indicada por el cliente
+        if (sharedMemoryAccepted) {
+            String sessionPath = handshakeInput.readUTF();
+            SharedMemorySession session = null;
+            try {
+                session = SharedMemorySession.attach(Path.of(sessionPath));
+            } catch (IOException | RuntimeException e) {
+                System.err.println("[ServerSideComms] No se pudo mapear la sesion de memoria " +
+                                           "compartida " + sessionPath + ": " + e.getMessage());
+            }
+            handshakeOutput.writeBoolean(session != null);
+            handshakeOutput.flush();
+            if (session != null) {
+                return new BinaryWireProtocol(session.serverInputStream(),
+                                              session.serverOutputStream(),
+                                              acceptedVersion, acceptedCapabilities);
+            }
+            acceptedCapabilities &= ~BinaryWireProtocol.CAPABILITY_SHARED_MEMORY;
+        }
+
+        return new BinaryWireProtocol(pushbackInputStream, outputStream,
+                                      acceptedVersion, acceptedCapabilities);
+    }
+
+    /**
+     * <body style="color: white;">
+     * Negocia el formato del lado del cliente. Con {@link ProtocolMode#OBJECT_STREAM} se
+     * construyen los streams de serializacion igual que en la version original; con
+     * {@link ProtocolMode#BINARY} se envia el numero magico y se espera la respuesta del
+     * servidor.
+     *
+     * @param inputStream   Stream de entrada del socket hacia el servidor.
+     * @param outputStream  Stream de salida del socket hacia el servidor.
+     * @param preferredMode Formato que el cliente desea utilizar.
+     * @return {@link WireProtocol} acordado con el servidor.
+     * @throws StreamCorruptedException si el servidor no entiende el formato binario; el
+     *                                  llamador debe abrir un socket nuevo y reintentar con
+     *                                  {@link ProtocolMode#OBJECT_STREAM}.
+     * @throws IOException              si la conexion falla durante la negociacion.
+     * </body>
+     */
+    public static WireProtocol negotiateAsClient(InputStream inputStream,
+                                                 OutputStream outputStream,
+                                                 ProtocolMode preferredMode) throws IOException {
+        return negotiateAsClient(inputStream, outputStream, preferredMode, null);
+    }
+
+    /**
+     * <body style="color: white;">
+     * Igual que {@link #negotiateAsClient(InputStream, OutputStream, ProtocolMode)}, ofreciendo
+     * ademas la sesion de memoria compartida indicada. La sesion se desvincula de su archivo
+     * al terminar el handshake, la haya aceptado o no el servidor; si no fue aceptada tambien
+     * se cierra.
+     *
+     * @param inputStream   Stream de entrada del socket hacia el servidor.
+     * @param outputStream  Stream de salida del socket hacia el servidor.
+     * @param preferredMode Formato que el cliente desea utilizar.
+     * @param sharedMemory  Sesion a ofrecer, o {@code null} para continuar sobre el socket.
+     * @return {@link WireProtocol} acordado con el servidor.
+     * @throws StreamCorruptedException si el servidor no entiende el formato binario.
+     * @throws IOException              si la conexion falla durante la negociacion.
+     * </body>
+     */
+    public static WireProtocol negotiateAsClient(InputStream inputStream,
+                                                 OutputStream outputStream,
+                                                 ProtocolMode preferredMode,
+                                                 SharedMemorySession sharedMemory)
+            throws IOException {
+        if (preferredMode == ProtocolMode.OBJECT_STREAM) {
+            ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream);
+            ObjectInputStream objectInputStream = new ObjectInputStream(inputStream);
+            return new ObjectStreamWireProtocol(objectOutputStream, objectInputStream);
+        }
+
+        //? 1. Consumimos el encabezado de serializacion que el servidor envia al aceptar
+        DataInputStream handshakeInput = new DataInputStream(inputStream);
+        int serverHeader = handshakeInput.readInt();
+        if (serverHeader != SERIALIZATION_HEADER) {
+            throw new StreamCorruptedException(String.format(
+                    "Error Code 0x001 - [Raised] Encabezado inicial del servidor invalido: 0x%08X",
+                    serverHeader));
+        }
+
+        //? 2. Solicitamos el formato binario con nuestra version y capacidades
+        DataOutputStream handshakeOutput = new DataOutputStream(outputStream);
+        handshakeOutput.writeInt(BinaryWireProtocol.PROTOCOL_MAGIC);
+        handshakeOutput.writeByte(BinaryWireProtocol.PROTOCOL_VERSION);
+        handshakeOutput.writeInt(sharedMemory == null ? BinaryWireProtocol.localCapabilities()
+                : BinaryWireProtocol.localCapabilities()
+                        | BinaryWireProtocol.CAPABILITY_SHARED_MEMORY);
+        handshakeOutput.flush();
+
+        //? 3. Un servidor antiguo no responde con el numero magico
+        int replyMagic = handshakeInput.readInt();
+        if (replyMagic != BinaryWireProtocol.PROTOCOL_MAGIC) {
+            throw new StreamCorruptedException(String.format(
+                    "Error Code 0x001 - [Raised] El servidor no acepto el protocolo binario, " +
+                            "respuesta: 0x%08X", replyMagic));
+        }
+        int acceptedVersion = handshakeInput.readUnsignedByte();
+        int acceptedCapabilities = handshakeInput.readInt();
+
+        //? 4. Si el servidor acepto la memoria compartida le enviamos la ruta de la sesion
+        if (sharedMemory != null) {
+            boolean sessionMapped = false;
+            try {
+                if ((acceptedCapabilities & BinaryWireProtocol.CAPABILITY_SHARED_MEMORY) != 0) {
+                    handshakeOutput.writeUTF(sharedMemory.path().toString());
+                    handshakeOutput.flush();
+                    sessionMapped = handshakeInput.readBoolean();
+                }
+            } finally {
+                sharedMemory.unlink();
+                if (!sessionMapped) {
+                    sharedMemory.close();
+                }
+            }
+            if (sessionMapped) {
+                return new BinaryWireProtocol(sharedMemory.clientInputStream(),
+                                              sharedMemory.clientOutputStream(),
+                                              acceptedVersion, acceptedCapabilities);
+            }
+            acceptedCapabilities &= ~BinaryWireProtocol.CAPABILITY_SHARED_MEMORY;
+        }
+        return new BinaryWireProtocol(inputStream, outputStream,
+                                      acceptedVersion, acceptedCapabilities);
+    }
+
+    private static int toInt(byte[] header) {
+        return ((header[0] & 0xFF) << 24) | ((header[1] & 0xFF) << 16)
+                | ((header[2] & 0xFF) << 8) | (header[3] & 0xFF);
+    }
+}
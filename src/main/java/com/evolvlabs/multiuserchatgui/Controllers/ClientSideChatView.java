@@ -21,6 +21,7 @@ import javafx.geometry.Insets;
 import javafx.geometry.Orientation;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
+import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.input.KeyCode;
@@ -171,6 +172,17 @@ public class ClientSideChatView extends Application {
                     Platform.exit();
                     System.exit(0);
                     break;
+                } else if (loginSuccessful.get().equals(MessageClient.SERVER_BUSY)) {
+                    //? El servidor siguio saturado luego de los reintentos, el usuario puede
+                    //? volver a intentar desde el dialogo
+                    Alert serverBusy = new Alert(Alert.AlertType.WARNING);
+                    serverBusy.setTitle("Inicio de Sesion Pospuesto");
+                    serverBusy.setHeaderText("Inicio de Sesion Pospuesto | Servidor Ocupado");
+                    serverBusy.setContentText("El servidor esta atendiendo muchos inicios de " +
+                                                      "sesion\n. Favor intentar nuevamente en " +
+                                                      "unos segundos.");
+                    serverBusy.showAndWait();
+                    loginSuccessful = Optional.empty();
                 } else{
                     this.uuid = loginSuccessful.get();
                 }
@@ -229,6 +241,11 @@ public class ClientSideChatView extends Application {
             this.clientSideAvailableRecipientsListView.setItems(
                     this.messageClientForThisUIInstance.getMessageClient_ListadoDeClientes());
 
+            // El login de un solo intercambio ya cargo el directorio y el historial
+            if (this.messageClientForThisUIInstance.isInitialStateLoaded()) {
+                return;
+            }
+
             // Request client list update in a separate thread
             CompletableFuture.runAsync(() -> {
                 this.messageClientForThisUIInstance.postClientUpdateListRequest();
@@ -280,6 +297,28 @@ public class ClientSideChatView extends Application {
                 createColumn(50),
                 createColumn(50) );
 
+        /*Al llegar al inicio del chat se solicita la pagina anterior del historial de cada
+        conversacion seleccionada*/
+        ScrollPane chatScrollPane = findEnclosingScrollPane(this.clientSideCurrentChatGridPane);
+        if (chatScrollPane != null) {
+            chatScrollPane.vvalueProperty().addListener((observable, oldValue, newValue) -> {
+                if (newValue.doubleValue() > chatScrollPane.getVmin()
+                        || oldValue.doubleValue() <= chatScrollPane.getVmin()) {
+                    return;
+                }
+                List<String> selectedPeers = clientSideAvailableRecipientsListView
+                        .getSelectionModel()
+                        .getSelectedItems()
+                        .stream()
+                        .map(ClientDTO::_clientUsername)
+                        .toList();
+                if (!selectedPeers.isEmpty()) {
+                    CompletableFuture.runAsync(() -> selectedPeers.forEach(
+                            messageClientForThisUIInstance::postMessageHistoryPageRequest));
+                }
+            });
+        }
+
         messageClientForThisUIInstance.getMessageClient_ListadoDeMensajesEnviados().addListener(
                 (ListChangeListener<MessageDTO>) change -> {
                     while (change.next()) {
@@ -327,6 +366,23 @@ public class ClientSideChatView extends Application {
         });
     }
 
+    /**
+     * Busca el {@link ScrollPane} que contiene a un nodo. El contenido de un ScrollPane cuelga
+     * de su viewport interno, por lo que el ScrollPane no siempre es el padre directo.
+     *
+     * @param node Nodo contenido.
+     * @return El {@link ScrollPane} mas cercano, o {@code null} si no existe.
+     */
+    private static ScrollPane findEnclosingScrollPane(Node node) {
+        for (Parent ancestor = node.getParent(); ancestor != null;
+             ancestor = ancestor.getParent()) {
+            if (ancestor instanceof ScrollPane scrollPane) {
+                return scrollPane;
+            }
+        }
+        return null;
+    }
+
     private void loadAllMessages() {
         Platform.runLater(() -> {
             clientSideCurrentChatGridPane.getChildren().clear();
@@ -521,6 +577,11 @@ public class ClientSideChatView extends Application {
 
         if (success) {
             clientSideCurrentChatIntTextField.clear();
+            // With server push the sent message is already appended locally and the receiver
+            // gets it directly, so there is no history to re-download
+            if (this.messageClientForThisUIInstance.isServerPushEnabled()) {
+                return;
+            }
             // Request message list update with a slight delay to allow server processing
             CompletableFuture.runAsync(() -> {
                 try {
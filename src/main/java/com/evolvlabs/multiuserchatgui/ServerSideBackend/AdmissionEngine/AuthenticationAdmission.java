@@ -0,0 +1,151 @@
+package com.evolvlabs.multiuserchatgui.ServerSideBackend.AdmissionEngine;
+
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.MetricsEngine.ServerMetrics;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo implementa el control de admision de las autenticaciones.
+ * Validar una contrasena con PBKDF2 cuesta decenas de milisegundos de CPU, por lo que las
+ * validaciones no se ejecutan en el hilo de cada conexion sino en un grupo fijo de workers
+ * con una cola acotada. Si la cola esta llena la autenticacion se rechaza de inmediato y el
+ * servidor responde al cliente cuanto debe esperar antes de reintentar, en lugar de acumular
+ * trabajo que quitaria CPU a las sesiones ya establecidas.
+ * <p>
+ * El numero de workers y la capacidad de la cola se leen de
+ * {@code multiuserchat.server.auth.workers} (por defecto, los procesadores disponibles) y
+ * {@code multiuserchat.server.auth.queue} (por defecto {@value #DEFAULT_QUEUE_CAPACITY}).
+ */
+public final class AuthenticationAdmission implements AutoCloseable {
+
+    /**
+     * Propiedades de sistema con el numero de workers y la capacidad de la cola.
+     */
+    public static final String WORKERS_PROPERTY = "multiuserchat.server.auth.workers";
+    public static final String QUEUE_PROPERTY = "multiuserchat.server.auth.queue";
+    private static final int DEFAULT_QUEUE_CAPACITY = 64;
+    private static final long MIN_RETRY_AFTER_MILLIS = 50;
+    private static final long MAX_RETRY_AFTER_MILLIS = 5_000;
+    /**
+     * Duracion estimada de una validacion mientras no exista ninguna medicion.
+     */
+    private static final long INITIAL_VALIDATION_MICROS = 50_000;
+
+    private static final LongAdder ADMITTED = ServerMetrics.counter("auth.admitted");
+    private static final LongAdder REJECTED = ServerMetrics.counter("auth.rejected");
+    private static final LongAdder QUEUE_WAIT_MICROS = ServerMetrics.counter("auth.queue.wait.micros");
+    private static final LongAdder VALIDATIONS = ServerMetrics.counter("auth.validations");
+    private static final LongAdder VALIDATION_MICROS =
+            ServerMetrics.counter("auth.validation.micros");
+
+    private final int workerCount;
+    private final ThreadPoolExecutor validationExecutor;
+
+    /**
+     * <body style="color: white;">
+     * Construye el control de admision con sus propios workers de plataforma, ya que el
+     * trabajo que ejecutan es de CPU.
+     *
+     * @param workerCount   Numero de validaciones simultaneas.
+     * @param queueCapacity Numero de validaciones que pueden esperar a un worker.
+     * </body>
+     */
+    public AuthenticationAdmission(int workerCount, int queueCapacity) {
+        this.workerCount = Math.max(1, workerCount);
+        this.validationExecutor = new ThreadPoolExecutor(
+                this.workerCount, this.workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                Thread.ofPlatform().daemon().name("auth-worker-", 0).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        ServerMetrics.gauge("auth.queue.depth", () -> validationExecutor.getQueue().size());
+    }
+
+    /**
+     * <body style="color: white;">
+     * Construye el control de admision con la configuracion de las propiedades del sistema.
+     *
+     * @return {@link AuthenticationAdmission} para esta ejecucion.
+     * </body>
+     */
+    public static AuthenticationAdmission fromSystemProperties() {
+        return new AuthenticationAdmission(
+                readIntProperty(WORKERS_PROPERTY, Runtime.getRuntime().availableProcessors()),
+                readIntProperty(QUEUE_PROPERTY, DEFAULT_QUEUE_CAPACITY));
+    }
+
+    private static int readIntProperty(String property, int defaultValue) {
+        try {
+            int configured = Integer.parseInt(System.getProperty(property,
+                                                                 String.valueOf(defaultValue)));
+            return configured > 0 ? configured : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * <body style="color: white;">
+     * Intenta encolar una validacion. El tiempo que la validacion espera en la cola y el que
+     * tarda en ejecutarse se acumulan en {@code auth.queue.wait.micros} y
+     * {@code auth.validation.micros}.
+     *
+     * @param validation Validacion de credenciales a ejecutar.
+     * @return {@link Future} con el resultado, o {@code null} si la cola esta llena y el
+     * llamador debe rechazar la autenticacion con {@link #retryAfterMillis()}.
+     * </body>
+     */
+    public Future<Boolean> trySubmit(Callable<Boolean> validation) {
+        long enqueuedNanos = System.nanoTime();
+        try {
+            Future<Boolean> result = validationExecutor.submit(() -> {
+                long startedNanos = System.nanoTime();
+                QUEUE_WAIT_MICROS.add((startedNanos - enqueuedNanos) / 1_000);
+                try {
+                    return validation.call();
+                } finally {
+                    VALIDATIONS.increment();
+                    VALIDATION_MICROS.add((System.nanoTime() - startedNanos) / 1_000);
+                }
+            });
+            ADMITTED.increment();
+            return result;
+        } catch (RejectedExecutionException e) {
+            REJECTED.increment();
+            return null;
+        }
+    }
+
+    /**
+     * <body style="color: white;">
+     * Estima cuanto tardaria en vaciarse la cola actual: las validaciones encoladas repartidas
+     * entre los workers, por la duracion promedio de una validacion.
+     *
+     * @return Milisegundos que el cliente deberia esperar antes de reintentar, entre
+     * {@value #MIN_RETRY_AFTER_MILLIS} y {@value #MAX_RETRY_AFTER_MILLIS}.
+     * </body>
+     */
+    public long retryAfterMillis() {
+        long validations = VALIDATIONS.sum();
+        long averageMicros = validations == 0 ? INITIAL_VALIDATION_MICROS
+                : VALIDATION_MICROS.sum() / validations;
+        long pendingRounds = validationExecutor.getQueue().size() / workerCount + 1;
+        long estimateMillis = pendingRounds * averageMicros / 1_000;
+        return Math.clamp(estimateMillis, MIN_RETRY_AFTER_MILLIS, MAX_RETRY_AFTER_MILLIS);
+    }
+
+    /**
+     * Detiene los workers; las validaciones pendientes se descartan.
+     */
+    @Override
+    public void close() {
+        validationExecutor.shutdownNow();
+    }
+}
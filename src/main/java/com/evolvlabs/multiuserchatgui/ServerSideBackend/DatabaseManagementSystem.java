@@ -4,13 +4,21 @@ import com.evolvlabs.multiuserchatgui.ClientSideBackend.ClientPOJO;
 import com.evolvlabs.multiuserchatgui.ClientSideBackend.MessagePOJO;
 import com.evolvlabs.multiuserchatgui.CommunicationBackend.ClientDTO;
 import com.evolvlabs.multiuserchatgui.CommunicationBackend.MessageDTO;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.MessageHistoryPageDTO;
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.PersistencyEngine.ClientDirectoryCache;
 import com.evolvlabs.multiuserchatgui.ServerSideBackend.PersistencyEngine.DatabaseConnection;
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.PersistencyEngine.GroupCommitWriter;
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.PersistencyEngine.HotMessageCache;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
@@ -30,28 +38,89 @@ import java.util.function.Consumer;
 public final class DatabaseManagementSystem {
 
     /*! Parametros internos*/
-    private DatabaseConnection databaseConnection;
+    private final DatabaseConnection databaseConnection;
+    private final GroupCommitWriter messageWriter;
+    /**
+     * Copia en memoria de {@code CLIENTSTABLE}. Las lecturas de usuarios se responden desde aqui
+     * y cada insercion, actualizacion o eliminacion de clientes la actualiza dentro del lock de
+     * escritura, luego de ejecutar la sentencia.
+     */
+    private final ClientDirectoryCache clientDirectory;
+    /**
+     * Mensajes recientes de los usuarios consultados. Se carga dentro del lock de lectura de la
+     * consulta que lo llena y recibe los mensajes nuevos dentro del lock de escritura del batch
+     * que los confirma, por lo que nunca queda atras de la tabla.
+     */
+    private final HotMessageCache messageCache = HotMessageCache.fromSystemProperties();
+    private static final String INSERT_MESSAGE_STATEMENT =
+            """
+                    INSERT INTO MESSAGESTABLE (SENDER_UUID, RECEIVER_UUID,
+                                               MESSAGE_TIMESTAMP, MESSAGE_CONTENT,
+                                               SENDER_CONFIRMATION, RECEIVER_CONFIRMATION)
+                    VALUES (?,?,?,?,?,?)
+                    """;
+    /**
+     * Cursor de la pagina mas reciente del historial: posterior a cualquier timestamp valido.
+     */
+    private static final Timestamp NEWEST_HISTORY_CURSOR =
+            Timestamp.valueOf("9999-12-31 23:59:59.999999999");
     private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
     private final ReentrantReadWriteLock.ReadLock readLock = readWriteLock.readLock();
     private final ReentrantReadWriteLock.WriteLock writeLock = readWriteLock.writeLock();
+    /**
+     * Semaforo opcional que limita cuantos hilos ejecutan operaciones dentro de Derby al mismo
+     * tiempo. Derby sincroniza internamente sobre su conexion, y un hilo virtual esperando ese
+     * monitor fija su carrier; esperar en un {@link Semaphore} en cambio libera el carrier. Es
+     * {@code null} cuando no se requiere un limite (modo de hilos de plataforma).
+     */
+    private final Semaphore databaseAccessPermits;
 
     /**
      * Constructor vacio ya que solo se encarga de inicializar los datos de la conexion a la base
      * de datos, internamente.
      */
     public DatabaseManagementSystem(){
+        this(0);
+    }
+
+    /**
+     * <body style="color: white">
+     * Constructor que ademas limita cuantos hilos pueden operar dentro de Derby a la vez. Se usa
+     * cuando el servidor corre en modo de hilos virtuales.
+     *
+     * @param maximumConcurrentOperations Numero maximo de operaciones simultaneas dentro de la
+     *                                    base de datos; {@code 0} o negativo significa sin limite.
+     * </body>
+     */
+    public DatabaseManagementSystem(int maximumConcurrentOperations){
+        this.databaseAccessPermits = maximumConcurrentOperations > 0
+                ? new Semaphore(maximumConcurrentOperations, true)
+                : null;
         try {
             this.databaseConnection = new DatabaseConnection();
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
+        this.messageWriter =
+                GroupCommitWriter.fromSystemProperties(this::insertMessageBatchIntoDatabase);
+        this.clientDirectory = new ClientDirectoryCache(readAllRegisteredUsersFromDatabase());
+        System.out.println("[DatabaseManagementSubsystem] Directorio de clientes cargado con "
+                                   + this.clientDirectory.view().clients().size() + " usuarios");
     }
 
 
 
+    /*
+     ? Cada operacion toma su propia conexion del pool durante su ejecucion; las operaciones
+     ? anidadas reutilizan la del hilo. El lock de lectura es compartido, por lo que las
+     ? lecturas de distintos hilos corren en paralelo sobre conexiones distintas.
+     */
     private <T> T executeReadOperation(DatabaseOperation<T> operation) {
+        acquireDatabaseAccessPermit();
         readLock.lock();
+        DatabaseConnection.ConnectionLease lease = null;
         try {
+            lease = databaseConnection.leaseConnection();
             T result = operation.execute();
             return result;
         } catch (Exception e) {
@@ -59,14 +128,20 @@ public final class DatabaseManagementSystem {
             e.printStackTrace();
             throw new RuntimeException("Database read operation failed", e);
         } finally {
+            if (lease != null) {
+                lease.close();
+            }
             readLock.unlock();
+            releaseDatabaseAccessPermit();
         }
     }
 
     private <T> T executeWriteOperation(DatabaseOperation<T> operation) {
+        acquireDatabaseAccessPermit();
         writeLock.lock();
+        DatabaseConnection.ConnectionLease lease = null;
         try {
-            // Don't get the connection here - let the operation get it when needed
+            lease = databaseConnection.leaseConnection();
             T result = operation.execute();
             return result;
         } catch (Exception e) {
@@ -74,10 +149,37 @@ public final class DatabaseManagementSystem {
             e.printStackTrace();
             throw new RuntimeException("Database write operation failed", e);
         } finally {
+            if (lease != null) {
+                lease.close();
+            }
             writeLock.unlock();
+            releaseDatabaseAccessPermit();
+        }
+    }
+
+    private void acquireDatabaseAccessPermit() {
+        //? Las operaciones anidadas (por ejemplo un poll dentro de un update) ya tienen permiso
+        if (databaseAccessPermits == null || holdsDatabaseLock()) {
+            return;
+        }
+        try {
+            databaseAccessPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Database operation interrupted while waiting for access", e);
+        }
+    }
+
+    private void releaseDatabaseAccessPermit() {
+        if (databaseAccessPermits != null && !holdsDatabaseLock()) {
+            databaseAccessPermits.release();
         }
     }
 
+    private boolean holdsDatabaseLock() {
+        return readWriteLock.getReadHoldCount() > 0 || writeLock.isHeldByCurrentThread();
+    }
+
     @FunctionalInterface
     private interface DatabaseOperation<T> {
         T execute() throws Exception;
@@ -95,60 +197,22 @@ public final class DatabaseManagementSystem {
      * Este metodo recupera una lista con los nombres de usuario de todos los clientes registrados
      * en la base de datos, ordenados alfabeticamente.
      *
-     * <p>Utiliza una consulta SQL seleccionando exclusivamente la columna de nombres de usuario
-     * desde una tabla llamada {@code CLIENTSTABLE}. La consulta se ejecuta utilizando
-     * {@link DatabaseConnection}, y el resultado se procesa iterando en el {@link ResultSet}
-     * ofrecido por la API JDBC.</p>
-     *
-     * <h2>Funcionamiento</h2>
-     * <ol>
-     *     <li>Se define una sentencia SQL que recupera y ordena alfabeticamente la columna
-     *         {@code CLIENT_USERNAME} de la tabla {@code CLIENTSTABLE}.</li>
-     *     <li>La consulta SQL se ejecuta mediante un bloque {@code try-with-resources} que asegura
-     *         el cierre adecuado de los recursos implicados.</li>
-     *     <li>El resultado es procesado para recolectar los nombres de usuario, ignorando valores
-     *         nulos.</li>
-     *     <li>Se devuelve una lista con los nombres de usuario obtenidos.</li>
-     * </ol>
-     *
-     * <h2>Errores y Excepciones</h2>
-     * <ul>
-     *     <li>Error SQL: Puede producirse si hay un problema con la operacion o integridad de las
-     *         consultas hacia la base de datos.</li>
-     *     <li>Excepcion {@code SQLException}: Si ocurre algun error en las operaciones sobre el
-     *         {@link ResultSet}.</li>
-     * </ul>
+     * <p>Los nombres se toman del {@link ClientDirectoryCache}, que contiene las mismas filas que
+     * {@code CLIENTSTABLE}, y se ordenan antes de retornarlos. No se ejecuta ninguna consulta
+     * SQL.</p>
      *
      * @return Lista de cadenas que contiene los nombres de usuario de todos los clientes
      * registrados en la base de datos. Si no hay clientes registrados, se devolvera una lista
      * vacia.
      */
     public final List<String> pollAllClientUsernamesInDatabase() {
-        return executeReadOperation(() -> {
-            List<String> results = new ArrayList<>();
-            //? 1. Escribimos la sentencia SQL
-            String queryAllUsers =
-                    """
-                            SELECT CLIENT_USERNAME FROM CLIENTSTABLE
-                            ORDER BY CLIENT_USERNAME
-                            """;
-            //? 2. Ejecutamos la setencia dentro de la base de datos abstraida en DatabaseConnection
-            try (DatabaseConnection.QueryResult queryResult =
-                         this.databaseConnection.executeQuery(queryAllUsers)) {
-                while (queryResult.get_resultSet().next()) {
-                    String username = queryResult.get_resultSet().getString("CLIENT_USERNAME");
-                    if (username != null) {
-                        results.add(username);
-                    }
-                }
-            } catch (SQLException exception) {
-                System.err.println("Fatal Error 0x001 - [Raised] [SQL-" + exception.getErrorCode() +
-                                           "] error in pollAllClientusernamesInDatabase. Caused by [" + exception.getMessage() + "]");
-            }
-
-            //? 3. Retornamos resultados
-            return results;
-        });
+        //? El directorio en memoria refleja CLIENTSTABLE, por lo que no se consulta a Derby
+        List<String> results = new ArrayList<>();
+        for (ClientDTO clientDTO : this.clientDirectory.view().clients()) {
+            results.add(clientDTO._clientUsername());
+        }
+        results.sort(Comparator.naturalOrder());
+        return results;
     }
 
     /*
@@ -171,6 +235,12 @@ public final class DatabaseManagementSystem {
      * el ResultSet.
      * </p>
      *
+     * <p>
+     * Si el {@link HotMessageCache} contiene el historial completo del usuario, se responde desde
+     * memoria sin consultar a Derby; en caso contrario el resultado de la consulta se carga en la
+     * cache.
+     * </p>
+     *
      * <h2>Funcionalidad Interna</h2>
      * <ol>
      *     <li>Se inicializan estructuras de datos requeridas, como {@code LinkedHashMap} y {@code List<MessagePOJO>}.</li>
@@ -195,6 +265,12 @@ public final class DatabaseManagementSystem {
      * </body>
      */
     public final Map<String, List<MessageDTO>> pollAllSentAndReceivedMessagesByUsername(String exUserName) {
+        //? Si el historial completo del usuario esta en memoria no se consulta a Derby
+        Optional<Map<String, List<MessageDTO>>> cachedHistory =
+                this.messageCache.findAll(exUserName);
+        if (cachedHistory.isPresent()) {
+            return cachedHistory.get();
+        }
         return executeReadOperation( () -> {//? Paso Base: Definimos estructuras requeridas
             HashMap<String, List<MessageDTO>> results = new HashMap<>();
             //? 1. Definimos la sentencias a ejecutar
@@ -268,10 +344,369 @@ public final class DatabaseManagementSystem {
                 throw new RuntimeException("Error al obtener los mensajes del usuario " + exUserName +
                                                    ": " + e.getMessage(), e);
             }
+            //? 3. Guardamos el historial mientras aun tenemos el lock de lectura
+            cacheLoadedHistory(exUserName, results, true, true);
+            return results;
+        });
+    }
+
+
+    /**
+     * <body style="color: white">
+     * Variante incremental de {@link #pollAllSentAndReceivedMessagesByUsername(String)}: retorna
+     * solo los mensajes enviados y recibidos por el usuario con {@code MESSAGE_TIMESTAMP}
+     * mayor o igual al cursor, con la misma forma de mapa ("sentMessages" y
+     * "receivedMessages") y los mismos usernames en emisor y receptor.
+     *
+     * <p>El filtro se resuelve con los indices {@code (SENDER_UUID, MESSAGE_TIMESTAMP)} y
+     * {@code (RECEIVER_UUID, MESSAGE_TIMESTAMP)}, por lo que el costo depende de los mensajes
+     * nuevos y no del tamano del historial. El cursor es inclusivo: el llamador debe descartar
+     * los mensajes que ya conoce. Si el {@link HotMessageCache} contiene todos los mensajes
+     * posteriores al cursor, se responde desde memoria.</p>
+     *
+     * @param exUserName Nombre de usuario cuyos mensajes se consultan.
+     * @param exCursor   Timestamp desde el cual se retornan mensajes. Si es {@code null} se
+     *                   retorna el historial completo.
+     * @return Mapa con dos claves ("sentMessages" y "receivedMessages").
+     * @throws RuntimeException si ocurre algun error durante las operaciones SQL.
+     * </body>
+     */
+    public final Map<String, List<MessageDTO>> pollSentAndReceivedMessagesByUsernameSince(
+            String exUserName, Timestamp exCursor) {
+        if (exCursor == null) {
+            return pollAllSentAndReceivedMessagesByUsername(exUserName);
+        }
+        Optional<Map<String, List<MessageDTO>>> cachedMessages =
+                this.messageCache.findSince(exUserName, exCursor);
+        if (cachedMessages.isPresent()) {
+            return cachedMessages.get();
+        }
+        return executeReadOperation(() -> {
+            HashMap<String, List<MessageDTO>> results = new HashMap<>();
+            //? 1. Definimos la sentencias a ejecutar, acotadas por el cursor
+            String pollUsernameAsSenderSince =
+                    """
+                            SELECT
+                                s.CLIENT_USERNAME as SENDER_NAME,
+                                r.CLIENT_USERNAME as RECEIVER_NAME,
+                                m.MESSAGE_CONTENT,
+                                m.MESSAGE_TIMESTAMP,
+                                m.SENDER_CONFIRMATION,
+                                m.RECEIVER_CONFIRMATION
+                            FROM CLIENTSTABLE s
+                                     INNER JOIN MESSAGESTABLE m ON m.SENDER_UUID = s.CLIENT_UUID
+                                     INNER JOIN CLIENTSTABLE r ON m.RECEIVER_UUID = r.CLIENT_UUID
+                            WHERE s.CLIENT_USERNAME = ?
+                              AND m.MESSAGE_TIMESTAMP >= ?
+                            ORDER BY m.MESSAGE_TIMESTAMP
+                            """;
+            String pollUsernameAsReceiverSince =
+                    """
+                            SELECT
+                                r.CLIENT_USERNAME as SENDER_NAME,
+                                s.CLIENT_USERNAME as RECEIVER_NAME,
+                                m.MESSAGE_CONTENT,
+                                m.MESSAGE_TIMESTAMP,
+                                m.SENDER_CONFIRMATION,
+                                m.RECEIVER_CONFIRMATION
+                            FROM CLIENTSTABLE s
+                                     INNER JOIN MESSAGESTABLE m ON m.RECEIVER_UUID = s.CLIENT_UUID
+                                     INNER JOIN CLIENTSTABLE r ON m.SENDER_UUID = r.CLIENT_UUID
+                            WHERE s.CLIENT_USERNAME = ?
+                              AND m.MESSAGE_TIMESTAMP >= ?
+                            ORDER BY m.MESSAGE_TIMESTAMP
+                            """;
+
+            //? 2. Ejecutamos cada sentencia en secuencial
+            try {
+                try (DatabaseConnection.QueryResult sentResult = databaseConnection.executeQuery(
+                        pollUsernameAsSenderSince, exUserName, exCursor)) {
+                    results.put("sentMessages", readMessagesWithUsernames(sentResult.get_resultSet()));
+                }
+                try (DatabaseConnection.QueryResult receivedResult = databaseConnection.executeQuery(
+                        pollUsernameAsReceiverSince, exUserName, exCursor)) {
+                    results.put("receivedMessages",
+                                readMessagesWithUsernames(receivedResult.get_resultSet()));
+                }
+            } catch (SQLException e) {
+                e.printStackTrace();
+                throw new RuntimeException("Error al obtener los mensajes nuevos del usuario " +
+                                                   exUserName + ": " + e.getMessage(), e);
+            }
+            return results;
+        });
+    }
+
+    /**
+     * <body style="color: white">
+     * Retorna la primera pagina del historial del usuario: sus {@code exPageSize} mensajes
+     * enviados y sus {@code exPageSize} mensajes recibidos mas recientes, con la misma forma de
+     * mapa que {@link #pollAllSentAndReceivedMessagesByUsername(String)} y ordenados del mas
+     * antiguo al mas reciente. Se usa para responder un inicio de sesion sin leer el historial
+     * completo; los indices por emisor/receptor y timestamp permiten leer solo la pagina. La
+     * pagina se responde desde el {@link HotMessageCache} cuando la contiene, y si no, la pagina
+     * leida se carga en el.
+     *
+     * @param exUserName Nombre de usuario cuyos mensajes se consultan.
+     * @param exPageSize Numero maximo de mensajes por cada direccion.
+     * @return Mapa con dos claves ("sentMessages" y "receivedMessages").
+     * @throws RuntimeException si ocurre algun error durante las operaciones SQL.
+     * </body>
+     */
+    public final Map<String, List<MessageDTO>> pollRecentSentAndReceivedMessagesByUsername(
+            String exUserName, int exPageSize) {
+        Optional<Map<String, List<MessageDTO>>> cachedPage =
+                this.messageCache.findRecent(exUserName, exPageSize);
+        if (cachedPage.isPresent()) {
+            return cachedPage.get();
+        }
+        return executeReadOperation(() -> {
+            HashMap<String, List<MessageDTO>> results = new HashMap<>();
+            //? 1. Definimos la sentencias a ejecutar, del mas reciente hacia atras
+            String pollRecentAsSender =
+                    """
+                            SELECT
+                                s.CLIENT_USERNAME as SENDER_NAME,
+                                r.CLIENT_USERNAME as RECEIVER_NAME,
+                                m.MESSAGE_CONTENT,
+                                m.MESSAGE_TIMESTAMP,
+                                m.SENDER_CONFIRMATION,
+                                m.RECEIVER_CONFIRMATION
+                            FROM CLIENTSTABLE s
+                                     INNER JOIN MESSAGESTABLE m ON m.SENDER_UUID = s.CLIENT_UUID
+                                     INNER JOIN CLIENTSTABLE r ON m.RECEIVER_UUID = r.CLIENT_UUID
+                            WHERE s.CLIENT_USERNAME = ?
+                            ORDER BY m.MESSAGE_TIMESTAMP DESC, m.MESSAGE_ID DESC
+                            FETCH FIRST ? ROWS ONLY
+                            """;
+            String pollRecentAsReceiver =
+                    """
+                            SELECT
+                                r.CLIENT_USERNAME as SENDER_NAME,
+                                s.CLIENT_USERNAME as RECEIVER_NAME,
+                                m.MESSAGE_CONTENT,
+                                m.MESSAGE_TIMESTAMP,
+                                m.SENDER_CONFIRMATION,
+                                m.RECEIVER_CONFIRMATION
+                            FROM CLIENTSTABLE s
+                                     INNER JOIN MESSAGESTABLE m ON m.RECEIVER_UUID = s.CLIENT_UUID
+                                     INNER JOIN CLIENTSTABLE r ON m.SENDER_UUID = r.CLIENT_UUID
+                            WHERE s.CLIENT_USERNAME = ?
+                            ORDER BY m.MESSAGE_TIMESTAMP DESC, m.MESSAGE_ID DESC
+                            FETCH FIRST ? ROWS ONLY
+                            """;
+
+            //? 2. Ejecutamos cada sentencia y devolvemos la pagina en orden cronologico
+            try {
+                try (DatabaseConnection.QueryResult sentResult = databaseConnection.executeQuery(
+                        pollRecentAsSender, exUserName, exPageSize)) {
+                    List<MessageDTO> sentMessages =
+                            readMessagesWithUsernames(sentResult.get_resultSet());
+                    Collections.reverse(sentMessages);
+                    results.put("sentMessages", sentMessages);
+                }
+                try (DatabaseConnection.QueryResult receivedResult = databaseConnection.executeQuery(
+                        pollRecentAsReceiver, exUserName, exPageSize)) {
+                    List<MessageDTO> receivedMessages =
+                            readMessagesWithUsernames(receivedResult.get_resultSet());
+                    Collections.reverse(receivedMessages);
+                    results.put("receivedMessages", receivedMessages);
+                }
+            } catch (SQLException e) {
+                e.printStackTrace();
+                throw new RuntimeException("Error al obtener los mensajes recientes del usuario " +
+                                                   exUserName + ": " + e.getMessage(), e);
+            }
+            //? 3. Una pagina incompleta contiene todos los mensajes de esa direccion
+            cacheLoadedHistory(exUserName, results,
+                               results.get("sentMessages").size() < exPageSize,
+                               results.get("receivedMessages").size() < exPageSize);
             return results;
         });
     }
 
+    /**
+     * <body style="color: white">
+     * Retorna una pagina del historial de la conversacion entre dos usuarios, paginada por la
+     * llave {@code (MESSAGE_TIMESTAMP, MESSAGE_ID)}: los {@code exPageSize} mensajes mas
+     * recientes estrictamente anteriores al cursor, en ambas direcciones. A diferencia de un
+     * {@code OFFSET}, el costo de cada pagina no depende de cuantas paginas se leyeron antes.
+     *
+     * <p>Cada direccion se lee con el indice descendente
+     * {@code (SENDER_UUID, RECEIVER_UUID, MESSAGE_TIMESTAMP DESC, MESSAGE_ID DESC)}, que entrega
+     * las filas ya en el orden de la pagina; el predicado {@code MESSAGE_TIMESTAMP <= ?} acota el
+     * inicio del recorrido y el segundo predicado descarta los mensajes con el mismo timestamp
+     * ya entregados. Ambas direcciones se combinan y se conserva un mensaje extra para saber si
+     * existen paginas anteriores.</p>
+     *
+     * @param exUserName        Nombre de usuario que solicita la pagina.
+     * @param exPeerUsername    Nombre de usuario del otro participante.
+     * @param exBeforeTimestamp Timestamp del cursor, o {@code null} para la pagina mas reciente.
+     * @param exBeforeMessageId Identificador del mensaje del cursor.
+     * @param exPageSize        Numero maximo de mensajes de la pagina.
+     * @return {@link MessageHistoryPageDTO} con los mensajes del mas antiguo al mas reciente;
+     * vacia si alguno de los usuarios no existe.
+     * @throws RuntimeException si ocurre algun error durante las operaciones SQL.
+     * </body>
+     */
+    public final MessageHistoryPageDTO pollConversationHistoryPage(String exUserName,
+                                                                   String exPeerUsername,
+                                                                   Timestamp exBeforeTimestamp,
+                                                                   long exBeforeMessageId,
+                                                                   int exPageSize) {
+        Timestamp beforeTimestamp =
+                exBeforeTimestamp == null ? NEWEST_HISTORY_CURSOR : exBeforeTimestamp;
+        long beforeMessageId = exBeforeTimestamp == null ? Long.MAX_VALUE : exBeforeMessageId;
+        return executeReadOperation(() -> {
+            //? 1. Definimos las sentencias a ejecutar
+            String pollClientUUIDByUsername =
+                    """
+                            SELECT CLIENT_UUID
+                            FROM CLIENTSTABLE
+                            WHERE CLIENT_USERNAME = ?
+                            """;
+            String pollConversationPageInOneDirection =
+                    """
+                            SELECT
+                                MESSAGE_ID,
+                                MESSAGE_CONTENT,
+                                MESSAGE_TIMESTAMP,
+                                SENDER_CONFIRMATION,
+                                RECEIVER_CONFIRMATION
+                            FROM MESSAGESTABLE
+                            WHERE SENDER_UUID = ?
+                              AND RECEIVER_UUID = ?
+                              AND MESSAGE_TIMESTAMP <= ?
+                              AND (MESSAGE_TIMESTAMP < ? OR MESSAGE_ID < ?)
+                            ORDER BY MESSAGE_TIMESTAMP DESC, MESSAGE_ID DESC
+                            FETCH FIRST ? ROWS ONLY
+                            """;
+
+            try {
+                //? 2. Resolvemos los UUIDs para que cada direccion use el indice de conversacion
+                String userUUID = null;
+                String peerUUID = null;
+                try (DatabaseConnection.QueryResult userResult = databaseConnection.executeQuery(
+                        pollClientUUIDByUsername, exUserName)) {
+                    if (userResult.get_resultSet().next()) {
+                        userUUID = userResult.get_resultSet().getString("CLIENT_UUID");
+                    }
+                }
+                try (DatabaseConnection.QueryResult peerResult = databaseConnection.executeQuery(
+                        pollClientUUIDByUsername, exPeerUsername)) {
+                    if (peerResult.get_resultSet().next()) {
+                        peerUUID = peerResult.get_resultSet().getString("CLIENT_UUID");
+                    }
+                }
+                if (userUUID == null || peerUUID == null) {
+                    return new MessageHistoryPageDTO(exPeerUsername, List.of(), null, 0, false);
+                }
+
+                //? 3. Leemos cada direccion desde el cursor, con un mensaje extra
+                List<KeyedMessage> candidates = new ArrayList<>();
+                try (DatabaseConnection.QueryResult sentResult = databaseConnection.executeQuery(
+                        pollConversationPageInOneDirection, userUUID, peerUUID, beforeTimestamp,
+                        beforeTimestamp, beforeMessageId, exPageSize + 1)) {
+                    readKeyedMessages(sentResult.get_resultSet(), exUserName, exPeerUsername,
+                                      candidates);
+                }
+                try (DatabaseConnection.QueryResult receivedResult =
+                             databaseConnection.executeQuery(
+                                     pollConversationPageInOneDirection, peerUUID, userUUID,
+                                     beforeTimestamp, beforeTimestamp, beforeMessageId,
+                                     exPageSize + 1)) {
+                    readKeyedMessages(receivedResult.get_resultSet(), exPeerUsername, exUserName,
+                                      candidates);
+                }
+
+                //? 4. Combinamos ambas direcciones y cortamos la pagina
+                candidates.sort(KeyedMessage.NEWEST_FIRST);
+                boolean hasMore = candidates.size() > exPageSize;
+                List<KeyedMessage> page = candidates.subList(0, Math.min(exPageSize,
+                                                                         candidates.size()));
+                List<MessageDTO> messages = new ArrayList<>(page.size());
+                for (int i = page.size() - 1; i >= 0; i--) {
+                    messages.add(page.get(i).message());
+                }
+                if (page.isEmpty()) {
+                    return new MessageHistoryPageDTO(exPeerUsername, messages, null, 0, false);
+                }
+                KeyedMessage oldestMessage = page.getLast();
+                return new MessageHistoryPageDTO(exPeerUsername, messages,
+                                                 oldestMessage.message()._messageTimestamp(),
+                                                 oldestMessage.messageId(), hasMore);
+            } catch (SQLException e) {
+                e.printStackTrace();
+                throw new RuntimeException("Error al obtener una pagina del historial entre " +
+                                                   exUserName + " y " + exPeerUsername + ": " +
+                                                   e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Mensaje junto con su {@code MESSAGE_ID}, necesario para ordenar y armar el cursor de una
+     * pagina del historial.
+     */
+    private record KeyedMessage(MessageDTO message, long messageId) {
+        private static final Comparator<KeyedMessage> NEWEST_FIRST =
+                Comparator.comparing((KeyedMessage keyed) -> keyed.message()._messageTimestamp())
+                        .thenComparingLong(KeyedMessage::messageId)
+                        .reversed();
+    }
+
+    private static void readKeyedMessages(ResultSet rs, String senderUsername,
+                                          String receiverUsername, List<KeyedMessage> target)
+            throws SQLException {
+        while (rs.next()) {
+            target.add(new KeyedMessage(new MessageDTO(
+                    senderUsername,
+                    receiverUsername,
+                    rs.getString("MESSAGE_CONTENT"),
+                    rs.getTimestamp("MESSAGE_TIMESTAMP"),
+                    rs.getBoolean("SENDER_CONFIRMATION"),
+                    rs.getBoolean("RECEIVER_CONFIRMATION")),
+                                        rs.getLong("MESSAGE_ID")));
+        }
+    }
+
+    private static List<MessageDTO> readMessagesWithUsernames(ResultSet rs) throws SQLException {
+        List<MessageDTO> messages = new ArrayList<>();
+        while (rs.next()) {
+            messages.add(new MessageDTO(
+                    rs.getString("SENDER_NAME"),
+                    rs.getString("RECEIVER_NAME"),
+                    rs.getString("MESSAGE_CONTENT"),
+                    rs.getTimestamp("MESSAGE_TIMESTAMP"),
+                    rs.getBoolean("SENDER_CONFIRMATION"),
+                    rs.getBoolean("RECEIVER_CONFIRMATION")
+            ));
+        }
+        return messages;
+    }
+
+    /**
+     * <body style="color: white">
+     * Carga en el {@link HotMessageCache} los mensajes leidos para un usuario registrado. Debe
+     * invocarse dentro de la misma operacion de lectura que los consulto.
+     *
+     * @param exUserName       Usuario consultado.
+     * @param exResults        Mapa con "sentMessages" y "receivedMessages" en orden cronologico.
+     * @param sentComplete     {@code true} si la lista de enviados es el historial completo.
+     * @param receivedComplete {@code true} si la lista de recibidos es el historial completo.
+     * </body>
+     */
+    private void cacheLoadedHistory(String exUserName, Map<String, List<MessageDTO>> exResults,
+                                    boolean sentComplete, boolean receivedComplete) {
+        if (this.clientDirectory.findByUsername(exUserName).isEmpty()) {
+            return;
+        }
+        this.messageCache.load(exUserName,
+                               List.copyOf(exResults.get(HotMessageCache.SENT_MESSAGES_KEY)),
+                               sentComplete,
+                               List.copyOf(exResults.get(HotMessageCache.RECEIVED_MESSAGES_KEY)),
+                               receivedComplete);
+    }
 
     /*
      ? Otra operacion del lado del servidor es el llamar a todos los usuarios para listarlos con
@@ -285,37 +720,55 @@ public final class DatabaseManagementSystem {
      * usuarios registrados en la base de datos.
      *
      * <p>
-     * El metodo implementa una consulta SQL que selecciona los identificadores unicos, nombres de
-     * usuario, hashes de contrasena y salts correspondientes desde una tabla llamada
-     * {@code CLIENTSTABLE}. Utiliza un bloque {@code try-with-resources} para ejecutar una
-     * instancia de {@link DatabaseConnection.QueryResult}, lo que garantiza el manejo seguro y
-     * eficiente de los recursos como el {@link ResultSet}.
+     * La lista se copia del directorio en memoria ({@link ClientDirectoryCache}), en el
+     * orden en que los clientes fueron cargados o registrados. No se ejecuta ninguna consulta SQL;
+     * el directorio se carga una sola vez al construir este objeto.
      * </p>
      *
-     * <h2>Proceso de Funcionamiento</h2>
-     * <ol>
-     *     <li>Se inicializa una lista vacia de {@link ClientDTO} para almacenar los resultados.</li>
-     *     <li>Se declara una consulta SQL que recupera las columnas esenciales de la tabla {@code CLIENTSTABLE}.</li>
-     *     <li>Se ejecuta la consulta usando {@link DatabaseConnection} y se procesan los resultados dentro de un
-     *         bucle para crear los objetos {@link ClientDTO} apropiadamente.</li>
-     *     <li>Finalmente, la lista de {@link ClientDTO} generada es retornada.</li>
-     * </ol>
-     *
-     * <h2>Errores y Excepciones</h2>
-     * <ul>
-     *     <li>{@link SQLException}: Si ocurre algun error durante la ejecucion de la consulta SQL o el procesado
-     *         de los resultados.</li>
-     *     <li>{@link RuntimeException}: Si algo impide la ejecucion correcta de este metodo, encapsulando la excepcion original.</li>
-     * </ul>
-     *
      * @return Una lista de objetos {@link ClientDTO}, representando a todos los clientes
      * almacenados en la base de datos. Si no existen clientes registrados, retorna una lista
      * vacia.
-     * @throws RuntimeException Si ocurre un error en el mecanismo subyacente de acceso a la base de
-     *                          datos.
-     *                          </body>
+     * </body>
      */
     public final List<ClientDTO> pollAllRegisteredUsersInDatabase() {
+        return new ArrayList<>(this.clientDirectory.view().clients());
+    }
+
+    /**
+     * <body style="color: white;">
+     * Retorna el directorio completo junto con su version, ambos del mismo instante. La version
+     * cambia con cada insercion, actualizacion o eliminacion de clientes, por lo que el servidor
+     * puede usarla para indicar a un cliente que su lista sigue vigente.
+     *
+     * @return Vista inmutable del directorio; los {@link ClientDTO} incluyen credenciales.
+     * </body>
+     */
+    public final ClientDirectoryCache.DirectoryView pollClientDirectoryView() {
+        return this.clientDirectory.view();
+    }
+
+    /**
+     * <body style="color: white;">
+     * Busca a un cliente por su UUID en el directorio en memoria.
+     *
+     * @param exClientUUID UUID del cliente.
+     * @return El cliente si esta registrado, o {@code Optional.empty()}.
+     * </body>
+     */
+    public final Optional<ClientDTO> pollRegisteredInformationPerUUIDInDatabase(String exClientUUID) {
+        return this.clientDirectory.findByUUID(exClientUUID);
+    }
+
+    /**
+     * <body style="color: white;">
+     * Lee todas las filas de {@code CLIENTSTABLE}. Solo se usa al iniciar, para cargar el
+     * {@link ClientDirectoryCache}; despues de eso el directorio se mantiene por write-through.
+     *
+     * @return Lista con todos los clientes registrados.
+     * @throws RuntimeException Si ocurre un error en la consulta SQL.
+     * </body>
+     */
+    private List<ClientDTO> readAllRegisteredUsersFromDatabase() {
         return executeReadOperation( () ->{//? Definimos estructuras de retorno
             List<ClientDTO> results = new ArrayList<>();
 
@@ -360,74 +813,19 @@ public final class DatabaseManagementSystem {
      * un objeto {@link ClientDTO}.
      *
      * <p>
-     * Implementa una declaracion SQL para extraer las columnas relevantes de la tabla
-     * {@code CLIENTSTABLE}, y utiliza un bloque {@code try-with-resources} para ejecutar la
-     * consulta, asegurando el correcto manejo de recursos como el {@link ResultSet}.
+     * La busqueda se resuelve en el indice por username del {@link ClientDirectoryCache}, sin
+     * consultar a Derby; como el directorio se actualiza dentro del lock de escritura, el
+     * resultado es el mismo que daria {@code SELECT ... WHERE CLIENT_USERNAME = ?}.
      * </p>
      *
-     * <h2>Funcionamiento</h2>
-     * <ol>
-     *     <li>Se inicializa una variable {@code ClientDTO} para almacenar los resultados (si existen).</li>
-     *     <li>Se prepara una sentencia SQL que filtra por el nombre de usuario dado como parametro.</li>
-     *     <li>Se ejecuta la consulta utilizando el metodo {@code executeQuery} de {@link DatabaseConnection}.</li>
-     *     <li>Se valida si la consulta retorna un resultado. Si es asi, se rellena un objeto {@link ClientDTO};
-     *         si no, se retorna un {@code Optional.empty()}.</li>
-     * </ol>
-     *
-     * <h2>Errores y Excepciones</h2>
-     * <ul>
-     *     <li>{@link SQLException}: Si ocurre un error durante la ejecucion de la consulta SQL o el procesamiento
-     *         del resultado del {@link ResultSet}.
-     *     </li>
-     *     <li>{@link RuntimeException}: Si ocurre algun problema critico, encapsulando la excepcion original.</li>
-     * </ul>
-     *
      * @param exUserUsername Nombre de usuario del cliente que se desea buscar. No puede ser
      *                       {@code null}.
      * @return Un {@code Optional<ClientDTO>} que contiene la informacion del cliente si este existe
      * en la base de datos. Retorna {@code Optional.empty()} si no se encontraron coincidencias.
-     * @throws RuntimeException Si ocurre un error en el mecanismo subyacente de acceso a la base de
-     *                          datos o en el query.
-     *                          </body>
+     * </body>
      */
     public final Optional<ClientDTO> pollAllRegisteredInformationPerUsernameInDatabase(String exUserUsername) {
-        return executeReadOperation( () -> { //? Definimos estructuras de retorno
-            ClientDTO result = null;
-
-            //? 1. Preparamos la sentencia SQL
-            String pollRegisteredUsernameInformation =
-                    """
-                            SELECT
-                                CLIENT_UUID,
-                                CLIENT_USERNAME,
-                                CLIENT_PASSWORDHASH,
-                                CLIENT_PASSWORDSALTING
-                            FROM CLIENTSTABLE
-                            WHERE CLIENT_USERNAME = ?
-                            """;
-
-            //? 2. Ejecutamos la sentencia SQL
-            try (DatabaseConnection.QueryResult results = this
-                    .databaseConnection
-                    .executeQuery(pollRegisteredUsernameInformation, exUserUsername)) {
-                ResultSet rs = results.get_resultSet();
-                if (rs.next()) {
-                    result = new ClientDTO(
-                            rs.getString("CLIENT_UUID"),
-                            rs.getString("CLIENT_USERNAME"),
-                            rs.getString("CLIENT_PASSWORDHASH"),
-                            rs.getString("CLIENT_PASSWORDSALTING")
-                    );
-                } else {
-                    return Optional.empty();
-                }
-            } catch (SQLException sqlException) {
-                sqlException.printStackTrace();
-                throw new RuntimeException("Error al tomar datos para el DTO de: " + exUserUsername +
-                                                   ": " + sqlException.getMessage(), sqlException);
-            }
-            return Optional.of(result);
-        });
+        return this.clientDirectory.findByUsername(exUserUsername);
     }
 
     /**
@@ -511,86 +909,86 @@ public final class DatabaseManagementSystem {
      * objeto {@link MessageDTO}.
      *
      * <p>
-     * El metodo emplea una sentencia SQL preparada para evitar riesgos de SQL Injection, tomando
-     * los valores del mensaje directo desde el DTO. Utiliza un modelo sincrono para procesar los
-     * datos y verificar si la operacion fue exitosa.
+     * El mensaje no se escribe en el hilo del llamador: se encola en el {@link GroupCommitWriter},
+     * que lo confirma junto con los demas mensajes en espera en una sola transaccion. El metodo
+     * conserva su modelo sincrono y retorna unicamente cuando el mensaje ya es durable.
      * </p>
      *
      * <h2>Funcionamiento</h2>
      * <ol>
-     * <li>Se prepara una sentencia SQL con placeholders para los valores del mensaje.</li>
-     * <li>Se ejecuta dicha sentencia a traves del metodo {@code executeCommand} de la clase
-     * {@link DatabaseConnection}, pasando los valores del DTO como parametros.</li>
+     * <li>Se encola el mensaje con {@link #enqueueMessageInsert(MessageDTO)}.</li>
+     * <li>Se espera a que el batch que lo contiene sea confirmado.</li>
      * <li>Si la operacion concluye satisfactoriamente, retorna {@code true}. En caso de fallar,
      * lanza una excepcion.</li>
      * </ol>
      * @param exMessageDTO Un objeto {@link MessageDTO} que contiene los datos necesarios para la
      *                     insercion del mensaje en la base de datos. No puede ser {@code null}.
-
-     * @return {@code true} si la sentencia SQL se ejecuto con exito. Retorna {@code false} si no
-     * e} si no hubo cambios en la base de datos.
-     * @throws RuntimeException Si se produce un error SQL durante la ejecucion de la sentencia,
+     * @return {@code true} si el mensaje fue confirmado; {@code false} si no hubo cambios en la
+     * base de datos.
+     * @throws RuntimeException Si se produce un error SQL durante la escritura del batch,
      *                          encapsulando la excepcion original {@link SQLException}.
      *                          </body>
      */
     public final boolean insertMessageSentIntoDatabase(MessageDTO exMessageDTO) {
-        return executeWriteOperation(() ->{//? 1. Preparamos sentencia SQL
-            String insertMessageIntoTable =
-                    """
-                            INSERT INTO MESSAGESTABLE (SENDER_UUID, RECEIVER_UUID,
-                                                       MESSAGE_TIMESTAMP, MESSAGE_CONTENT,
-                                                       SENDER_CONFIRMATION, RECEIVER_CONFIRMATION)
-                            VALUES (?,?,?,?,?,?)
-                            """;
-            boolean changesDone;
-            //? 2. Realizamos la setencia SQL
-            try {
+        try {
+            return enqueueMessageInsert(exMessageDTO).join();
+        } catch (CompletionException exception) {
+            throw new RuntimeException("Error al insertar el mensaje en la base de datos: " +
+                                               exception.getCause().getMessage(),
+                                       exception.getCause());
+        }
+    }
 
-                if (this.databaseConnection == null || this.databaseConnection.isClosed()){
-                    System.out.println("[DatabaseManagementSubsystem] Connection is closed, " +
-                                               "attemptying reconnection");
-                    this.databaseConnection = new DatabaseConnection();
-                }
-                changesDone = this.databaseConnection
-                        .executeCommand(insertMessageIntoTable,
-                                        exMessageDTO.toObjectArray());
-
-                if (changesDone){
-                    System.out.println("[DatabaseManagementSubsystem] Message inserted " +
-                                               "succesfully, committing transaction...");
-                    this.databaseConnection.commit();
-                    System.out.println("[DatabaseManagementSubsystem] Transaction committed " +
-                                               "succesfully");
-                }else {
-                    System.out.println("[DatabaseManagementSubsystem] No changes were made " +
-                                               "during the transaction, rolling back...");
-                }
-            } catch (SQLException sqlException) {
-                System.out.println("sqlException.getSQLState() = " + sqlException.getSQLState());
-                System.out.println("sqlException.getErrorCode() = " + sqlException.getErrorCode());
-                System.out.println("sqlException.getMessage() = " + sqlException.getMessage());
-                System.out.println("sqlException.getNextException().getMessage() = " + sqlException.getNextException().getMessage());
-                System.out.println("sqlException.getNextException().getSQLState() = " + sqlException.getNextException().getSQLState());
-                System.out.println("sqlException.getNextException().getErrorCode() = " + sqlException.getNextException().getErrorCode());
-                sqlException.printStackTrace();
+    /**
+     * <body style="color: white;">
+     * Encola un mensaje para la siguiente escritura por lotes sin bloquear al llamador.
+     *
+     * @param exMessageDTO Mensaje a insertar. No puede ser {@code null}.
+     * @return Futuro que se completa con {@code true} cuando el mensaje es durable.
+     * </body>
+     */
+    public final CompletableFuture<Boolean> enqueueMessageInsert(MessageDTO exMessageDTO) {
+        return this.messageWriter.submit(exMessageDTO.toObjectArray());
+    }
 
-                try{
-                    System.out.println("[DatabaseManagementSubsystem] Rolling back transaction...");
-                    this.databaseConnection.rollback();
-                } catch (SQLException e){
-                    System.out.println("[DatabaseManagementSubsystem] Error during rollback");
-                    System.out.println("e.getMessage() = " + e.getMessage());
-                    System.out.println("e.getSQLState() = " + e.getSQLState());
-                    System.out.println("e.getErrorCode() = " + e.getErrorCode());
+    /*
+     ? El GroupCommitWriter escribe cada batch con el lock de escritura, igual que cualquier otra
+     ? operacion DML, y con un unico commit para todas sus filas
+     */
+    private boolean[] insertMessageBatchIntoDatabase(List<Object[]> exMessageRows) {
+        return executeWriteOperation(() -> {
+            int[] updateCounts = this.databaseConnection.executeBatch(INSERT_MESSAGE_STATEMENT,
+                                                                      exMessageRows);
+            boolean[] rowsWritten = new boolean[updateCounts.length];
+            for (int i = 0; i < updateCounts.length; i++) {
+                rowsWritten[i] = updateCounts[i] > 0
+                        || updateCounts[i] == Statement.SUCCESS_NO_INFO;
+                if (rowsWritten[i]) {
+                    appendToMessageCache(exMessageRows.get(i));
                 }
-                throw new RuntimeException("Error al insertar el mensaje en la base de datos: " +
-                                                   sqlException.getMessage(), sqlException);
             }
-
-            return changesDone;
+            return rowsWritten;
         });
     }
 
+    /*
+     ? Cada fila confirmada se agrega a la cache con usernames, igual que la leen las consultas;
+     ? sus columnas siguen el orden de INSERT_MESSAGE_STATEMENT
+     */
+    private void appendToMessageCache(Object[] exMessageRow) {
+        Optional<ClientDTO> sender = this.clientDirectory.findByUUID((String) exMessageRow[0]);
+        Optional<ClientDTO> receiver = this.clientDirectory.findByUUID((String) exMessageRow[1]);
+        if (sender.isEmpty() || receiver.isEmpty()) {
+            return;
+        }
+        this.messageCache.append(new MessageDTO(sender.get()._clientUsername(),
+                                                receiver.get()._clientUsername(),
+                                                (String) exMessageRow[3],
+                                                (Timestamp) exMessageRow[2],
+                                                Boolean.TRUE.equals(exMessageRow[4]),
+                                                Boolean.TRUE.equals(exMessageRow[5])));
+    }
+
     /*
     ? Otro proceso necesario puede ser el de insertar un cliente dentro de la tabla de clientes
      */
@@ -613,8 +1011,10 @@ public final class DatabaseManagementSystem {
      * <li>Se ejecuta la sentencia utilizando {@code executeCommand} de la clase
      * {@link DatabaseConnection}, asignando los valores del DTO mediante el metodo
      * {@code toObjectArray()} del {@link ClientDTO}.</li>
-     * <li>Si la operacion concluye satisfactoriamente, retorna {@code true}. En caso de que no haya
-     * modificaciones en la base de datos, retorna {@code false}.</li>
+     * <li>Si la operacion concluye satisfactoriamente, el cliente se agrega al
+     * {@link ClientDirectoryCache} y se retorna {@code true}. En caso de que no haya
+     * modificaciones en la base de datos, o de que el username ya este registrado, retorna
+     * {@code false}.</li>
      * </ol>
      * @param exClientDTO Un objeto {@link ClientDTO} que contiene los datos necesarios para la
      *                    insercion del cliente en la base de datos. No puede ser {@code null}.
@@ -632,10 +1032,18 @@ public final class DatabaseManagementSystem {
                             VALUES (?,?,?,?)
                             """;
             boolean changesDone = false;
-            //? 2. Ejecutamos la sentencia SQL
+            //? 2. Con el lock de escritura tomado, un username ya registrado no puede aparecer
+            //? entre esta comprobacion y el INSERT
+            if (this.clientDirectory.findByUsername(exClientDTO._clientUsername()).isPresent()) {
+                return false;
+            }
+            //? 3. Ejecutamos la sentencia SQL y reflejamos el cliente en el directorio
             try {
                 changesDone = this.databaseConnection.executeCommand(insertClientIntoTable,
                                                                      exClientDTO.toObjectArray());
+                if (changesDone) {
+                    this.clientDirectory.put(exClientDTO);
+                }
             } catch (SQLException sqlException) {
                 sqlException.printStackTrace();
                 throw new RuntimeException("Error al ingresar datos del DTO :" + exClientDTO.toString()
@@ -655,6 +1063,7 @@ public final class DatabaseManagementSystem {
      * <ol>
      *     <li>Primero, utiliza el nombre de usuario proporcionado como parametro para obtener la informacion actual del cliente almacenada en la base de datos.</li>
      *     <li>Posteriormente, realiza la actualizacion de los campos "CLIENT_PASSWORDHASH" y "CLIENT_PASSWORDSALTING" en la base de datos, basado en los datos proporcionados en el objeto {@link ClientDTO} de entrada.</li>
+     *     <li>Si la fila cambio, reemplaza las credenciales del cliente en el {@link ClientDirectoryCache}.</li>
      * </ol>
      * <h2>Errores posibles</h2>
      * <ul>
@@ -674,7 +1083,8 @@ public final class DatabaseManagementSystem {
      */
     public final Boolean updateRegisteredClientInformation(String exUserUsername,
                                                            ClientDTO exClientDTONewData) {
-        return executeReadOperation(() ->{ //? Preparamos la sentencia SQL y retorno
+        //! El UPDATE modifica la tabla de clientes, por lo que requiere el lock de escritura
+        return executeWriteOperation(() ->{ //? Preparamos la sentencia SQL y retorno
             String updateRegisteredClient =
                     """
                             UPDATE CLIENTSTABLE
@@ -695,6 +1105,12 @@ public final class DatabaseManagementSystem {
                                                                                   exClientDTONewData._clientPwdHash(),
                                                                                   exClientDTONewData._clientSaltHash(),
                                                                                   oldClientDTO._clientUUID()}));
+                        if (changesDone.get()) {
+                            clientDirectory.put(new ClientDTO(oldClientDTO._clientUUID(),
+                                                              oldClientDTO._clientUsername(),
+                                                              exClientDTONewData._clientPwdHash(),
+                                                              exClientDTONewData._clientSaltHash()));
+                        }
                     } catch (SQLException exception) {
                         exception.printStackTrace();
                         throw new RuntimeException("Error al actualizar los datos del usuario: " +
@@ -720,7 +1136,8 @@ public final class DatabaseManagementSystem {
      *         {@code pollAllRegisteredInformationPerUsernameInDatabase}. Si no existe, no realiza
      *         ninguna accion.</li>
      *     <li>Posteriormente, ejecuta la sentencia SQL preparada para eliminar al cliente usando
-     *         {@link DatabaseConnection#executeCommand(String, Object...)}.</li>
+     *         {@link DatabaseConnection#executeCommand(String, Object...)} y, si la fila se elimino,
+     *         lo retira del {@link ClientDirectoryCache}.</li>
      * </ol>
      *
      * @param exUserUsername Nombre de usuario del cliente que se desea eliminar. No puede ser
@@ -749,6 +1166,11 @@ public final class DatabaseManagementSystem {
                 public void accept(ClientDTO clientDTO) {
                     try {
                         changesDone.set(databaseConnection.executeCommand(dropBasedOnUsername, exUserUsername));
+                        if (changesDone.get()) {
+                            clientDirectory.remove(exUserUsername);
+                            //? Los mensajes con este cliente dejan de aparecer en los historiales
+                            messageCache.invalidateAll();
+                        }
                     } catch (SQLException e) {
                         e.printStackTrace();
                         throw new RuntimeException("Error al eliminar los datos del usuario: " +
@@ -814,6 +1236,7 @@ public final class DatabaseManagementSystem {
                     changesDone.set(this.databaseConnection.executeCommand(dropAllRegisteredMessagesPerClient,
                                                                            new Object[]{clientDTOOptional.get()._clientUUID(),
                                                                                    clientDTOOptional.get()._clientUUID()}));
+                    this.messageCache.invalidateAll();
                 } catch (SQLException exception) {
                     exception.printStackTrace();
                     throw new RuntimeException("Error al eliminar los mensajes del usuario: " +
@@ -838,6 +1261,7 @@ public final class DatabaseManagementSystem {
      *
      * <h2>Funcionamiento</h2>
      * <ol>
+     *     <li>Confirma los mensajes que aun esperan en el {@link GroupCommitWriter}.</li>
      *     <li>Invoca el metodo {@code shutdownDatabaseConnection} dentro de la clase {@link DatabaseConnection}.</li>
      *     <li>En caso de fallo de esta operacion, la excepcion {@link SQLException} se captura, y el metodo arroja
      *         una {@link RuntimeException} con toda la informacion relacionada al error.</li>
@@ -847,6 +1271,8 @@ public final class DatabaseManagementSystem {
      *                          </body>
      */
     public final void shutDownDatabaseConnection() {
+        //? Primero se confirman los mensajes que aun esperan en la escritura por lotes
+        this.messageWriter.close();
         try {
             this.databaseConnection.shutdownDatabaseConnection();
             System.out.println("Database connection closed successfully");
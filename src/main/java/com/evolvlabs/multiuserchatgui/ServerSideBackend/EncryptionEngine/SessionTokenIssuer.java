@@ -0,0 +1,141 @@
+package com.evolvlabs.multiuserchatgui.ServerSideBackend.EncryptionEngine;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo emite y valida los tokens con los que un cliente reanuda su
+ * sesion sin volver a enviar su contrasena. Un token es
+ * <pre>
+ *     base64url(username \n UUID \n expiracion en millis) . base64url(HMAC-SHA256)
+ * </pre>
+ * firmado con una llave aleatoria generada al iniciar el servidor, por lo que validar un token
+ * cuesta un HMAC en lugar de las {@code 65536} iteraciones de PBKDF2 de
+ * {@link EncryptionEngine}, y los tokens dejan de ser validos si el servidor se reinicia. La
+ * vigencia se lee de {@code multiuserchat.server.session.token.ttl.millis} (por defecto
+ * {@value #DEFAULT_TTL_MILLIS} ms); cada reanudacion exitosa emite un token nuevo.
+ */
+public final class SessionTokenIssuer {
+
+    /*! Parametros Internos*/
+    /**
+     * Propiedad de sistema con la vigencia de los tokens en milisegundos.
+     */
+    public static final String TTL_PROPERTY = "multiuserchat.server.session.token.ttl.millis";
+    private static final long DEFAULT_TTL_MILLIS = 15 * 60_000;
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int KEY_BYTES = 32;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec signingKey;
+    private final long ttlMillis;
+
+    /**
+     * Contenido validado de un token: el usuario y el UUID para los que fue emitido.
+     */
+    public record SessionClaims(String clientUsername, String clientUUID) {
+    }
+
+    /**
+     * <body style="color: white;">
+     * Construye el emisor con una llave nueva de {@value #KEY_BYTES} bytes.
+     *
+     * @param ttlMillis Vigencia de cada token emitido.
+     * </body>
+     */
+    public SessionTokenIssuer(long ttlMillis) {
+        byte[] keyBytes = new byte[KEY_BYTES];
+        new SecureRandom().nextBytes(keyBytes);
+        this.signingKey = new SecretKeySpec(keyBytes, HMAC_ALGORITHM);
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * <body style="color: white;">
+     * Construye el emisor con la vigencia de las propiedades del sistema.
+     *
+     * @return {@link SessionTokenIssuer} para esta ejecucion.
+     * </body>
+     */
+    public static SessionTokenIssuer fromSystemProperties() {
+        try {
+            long configured = Long.parseLong(System.getProperty(
+                    TTL_PROPERTY, String.valueOf(DEFAULT_TTL_MILLIS)));
+            return new SessionTokenIssuer(configured > 0 ? configured : DEFAULT_TTL_MILLIS);
+        } catch (NumberFormatException e) {
+            return new SessionTokenIssuer(DEFAULT_TTL_MILLIS);
+        }
+    }
+
+    /**
+     * <body style="color: white;">
+     * Emite un token para una sesion recien autenticada.
+     *
+     * @param clientUsername Usuario autenticado.
+     * @param clientUUID     UUID del usuario en la base de datos.
+     * @return Token firmado, valido durante la vigencia configurada.
+     * </body>
+     */
+    public String issue(String clientUsername, String clientUUID) {
+        long expiresAtMillis = System.currentTimeMillis() + ttlMillis;
+        byte[] payload = (clientUsername + "\n" + clientUUID + "\n" + expiresAtMillis)
+                .getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(sign(payload));
+    }
+
+    /**
+     * <body style="color: white;">
+     * Valida la firma y la vigencia de un token. La firma se compara en tiempo constante.
+     *
+     * @param sessionToken Token presentado por el cliente.
+     * @return {@link SessionClaims} del token, o un Optional vacio si el token esta malformado,
+     * su firma no corresponde o ya expiro.
+     * </body>
+     */
+    public Optional<SessionClaims> verify(String sessionToken) {
+        if (sessionToken == null) {
+            return Optional.empty();
+        }
+        int separator = sessionToken.indexOf('.');
+        if (separator <= 0) {
+            return Optional.empty();
+        }
+        try {
+            byte[] payload = DECODER.decode(sessionToken.substring(0, separator));
+            byte[] signature = DECODER.decode(sessionToken.substring(separator + 1));
+            if (!MessageDigest.isEqual(sign(payload), signature)) {
+                return Optional.empty();
+            }
+            String[] fields = new String(payload, StandardCharsets.UTF_8).split("\n", -1);
+            if (fields.length != 3 || Long.parseLong(fields[2]) < System.currentTimeMillis()) {
+                return Optional.empty();
+            }
+            return Optional.of(new SessionClaims(fields[0], fields[1]));
+        } catch (IllegalArgumentException e) {
+            //? Base64 o expiracion malformada; NumberFormatException tambien entra aqui
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(byte[] payload) {
+        try {
+            //? Mac no es thread-safe; crear uno por firma cuesta microsegundos
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Error Code 0x001 - [Raised] " + HMAC_ALGORITHM
+                                                    + " no esta disponible.", e);
+        }
+    }
+}
@@ -3,9 +3,38 @@ package com.evolvlabs.multiuserchatgui.ServerSideBackend;
 import com.evolvlabs.multiuserchatgui.ClientSideBackend.ClientPOJO;
 import com.evolvlabs.multiuserchatgui.CommunicationBackend.AuthenticationRequestDTO;
 import com.evolvlabs.multiuserchatgui.CommunicationBackend.ClientDTO;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.LoginSnapshotDTO;
 import com.evolvlabs.multiuserchatgui.CommunicationBackend.MessageDTO;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.MessageHistoryPageDTO;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.MessageHistoryPageRequestDTO;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.SharedMemory.SharedMemorySession;
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.AdmissionEngine.AuthenticationAdmission;
 import com.evolvlabs.multiuserchatgui.ServerSideBackend.EncryptionEngine.EncryptionEngine;
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.EncryptionEngine.SessionTokenIssuer;
 import com.evolvlabs.multiuserchatgui.CommunicationBackend.UsefulCommunicationMessages;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.WireProtocol.BinaryWireProtocol;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.WireProtocol.FrameCompressor;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.WireProtocol.ObjectStreamWireProtocol;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.WireProtocol.WireProtocol;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.WireProtocol.WireProtocolNegotiator;
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.MetricsEngine.AcceptStatistics;
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.MetricsEngine.MetricsReporter;
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.MetricsEngine.ServerMetrics;
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.NotificationEngine.CoalescingUpdateNotifier;
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.NotificationEngine.SubscriptionRegistry;
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.PersistencyEngine.ClientDirectoryCache;
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.TransportEngine.BlockingChannelConnection;
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.TransportEngine.BlockingSocketConnection;
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.TransportEngine.ClientConnection;
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.TransportEngine.ExecutionMode;
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.TransportEngine.IdleConnectionWheel;
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.TransportEngine.ListenerConfiguration;
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.TransportEngine.OutboundFrameQueue;
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.TransportEngine.OutboundFrameQueue.OutboundFrame;
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.TransportEngine.SelectorConnection;
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.TransportEngine.SelectorTransportEngine;
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.TransportEngine.SlowConsumerPolicy;
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.TransportEngine.TransportMode;
 import javafx.application.Platform;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
@@ -17,13 +46,21 @@ import java.io.*;
 import java.net.InetAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -45,7 +82,101 @@ public class MessageServer {
      ? finales, como el servidor, la flag si esta encendido o no, etc.
      */
     private AtomicBoolean _ServerIsRunning = new AtomicBoolean(false);
-    private ServerSocket  _ConnectionServer;
+    /*
+     ? Sockets que aceptan conexiones, uno por acceptor cuando el sistema soporta SO_REUSEPORT.
+     ? Puerto, backlog y numero de acceptors se leen de multiuserchat.server.port,
+     ? multiuserchat.server.backlog y multiuserchat.server.acceptors.
+     */
+    private ListenerConfiguration _ListenerConfiguration;
+    private List<ServerSocket> _ConnectionServers = List.of();
+    /*
+     ? El modo de transporte se elige al arrancar mediante la propiedad de sistema
+     ? multiuserchat.server.transport. En modo BLOCKING se usa el ServerSocket anterior y un
+     ? hilo por cliente; en modo NIO_SELECTOR se usa un ServerSocketChannel cuyas conexiones
+     ? son administradas por un grupo fijo de event loops.
+     */
+    private final TransportMode _TransportMode = TransportMode.fromSystemProperties();
+    /*
+     ? El modo de ejecucion tambien se elige al arrancar, con la propiedad
+     ? multiuserchat.server.execution. En modo VIRTUAL_THREADS tanto los ClientHandler como las
+     ? tareas de la base de datos corren sobre hilos virtuales en lugar de pools de plataforma.
+     */
+    private final ExecutionMode _ExecutionMode = ExecutionMode.fromSystemProperties();
+    /*
+     ? Cada conexion tiene una cola de salida acotada. La capacidad y la politica para los
+     ? clientes lentos se leen de multiuserchat.server.outbound.capacity y
+     ? multiuserchat.server.outbound.policy.
+     */
+    private final int _OutboundQueueCapacity = OutboundFrameQueue.capacityFromSystemProperties();
+    private final SlowConsumerPolicy _SlowConsumerPolicy = SlowConsumerPolicy.fromSystemProperties();
+    /*
+     ? Las actualizaciones de la UI del servidor y los mandatos hacia los clientes se agrupan:
+     ? cada cambio marca su destino como pendiente y se actualiza una sola vez por ventana
+     ? (multiuserchat.server.ui.update.window.millis).
+     */
+    private static final String SERVER_VIEW_UPDATE_TARGET = "server-view";
+    private final CoalescingUpdateNotifier _UiUpdateNotifier =
+            new CoalescingUpdateNotifier(CoalescingUpdateNotifier.windowFromSystemProperties());
+    /*
+     ? Registro de quien esta interesado en cada cambio: cada cliente conectado se suscribe al
+     ? tema de su usuario y al directorio de usuarios registrados.
+     */
+    private final SubscriptionRegistry _Subscriptions = new SubscriptionRegistry();
+    /*
+     ? Las validaciones de contrasena se ejecutan en un grupo acotado de workers
+     ? (multiuserchat.server.auth.workers y multiuserchat.server.auth.queue); cuando la cola se
+     ? llena los clientes reciben un rechazo con el tiempo de espera sugerido.
+     */
+    private final AuthenticationAdmission _AuthenticationAdmission =
+            AuthenticationAdmission.fromSystemProperties();
+    /*
+     ? Las sesiones que negociaron el heartbeat se vigilan en un timer wheel: tras un periodo sin
+     ? comandos reciben un ping y, si no responden, se desalojan como una desconexion
+     ? (multiuserchat.server.heartbeat.idle.millis y multiuserchat.server.heartbeat.timeout.millis).
+     */
+    private final IdleConnectionWheel _IdleConnectionWheel =
+            IdleConnectionWheel.fromSystemProperties();
+    /*
+     ? Las metricas se imprimen periodicamente mientras el servidor corre, asi los gauges que
+     ? dependen del momento (tasa de aceptacion, estado del pool) quedan registrados
+     ? (multiuserchat.server.metrics.report.seconds).
+     */
+    private final MetricsReporter _MetricsReporter = MetricsReporter.fromSystemProperties();
+    /*
+     ? Cada autenticacion exitosa entrega un token firmado; el cliente que se reconecta con el
+     ? (POST_CLIENT_SESSION_RESUME_REQUEST) no repite la validacion de PBKDF2
+     ? (multiuserchat.server.session.token.ttl.millis).
+     */
+    private final SessionTokenIssuer _SessionTokenIssuer = SessionTokenIssuer.fromSystemProperties();
+    private static final LongAdder SESSIONS_RESUMED = ServerMetrics.counter("auth.sessions.resumed");
+    private static final LongAdder SESSION_RESUMES_REJECTED =
+            ServerMetrics.counter("auth.sessions.resume.rejected");
+    /*
+     ? Un POST_CLIENT_LOGIN_REQUEST exitoso se responde con el directorio, su version y la primera
+     ? pagina del historial (multiuserchat.server.login.history.page mensajes por direccion). La
+     ? version es la del directorio en memoria del DatabaseManagementSystem, que aumenta con cada
+     ? insercion, actualizacion o eliminacion de clientes.
+     */
+    private static final String LOGIN_HISTORY_PAGE_PROPERTY = "multiuserchat.server.login.history.page";
+    private static final int DEFAULT_LOGIN_HISTORY_PAGE = 50;
+    private final int _LoginHistoryPageSize = loginHistoryPageFromSystemProperties();
+    private static final LongAdder CLIENTS_NOTIFIED = ServerMetrics.counter("clients.notified");
+    private List<ServerSocketChannel> _ConnectionServerChannels = List.of();
+    /*
+     ? Socket Unix opcional para los clientes del mismo host
+     ? (multiuserchat.server.unix.socket); en ambos modos de transporte sus conexiones se
+     ? atienden igual que las del puerto TCP.
+     */
+    private ServerSocketChannel _UnixDomainServerChannel;
+    /*
+     ? Los clientes del mismo host pueden pedir en el handshake continuar sobre un par de rings
+     ? en memoria compartida (multiuserchat.server.shm.enabled). Solo el modo BLOCKING lo
+     ? acepta, ya que el selector del modo NIO no puede observar los rings.
+     */
+    private final boolean _SharedMemoryEnabled =
+            SharedMemorySession.isEnabledOnServerFromSystemProperties()
+                    && _TransportMode == TransportMode.BLOCKING;
+    private SelectorTransportEngine _SelectorTransportEngine;
     /*
      ? Los parametros definidos entre este bloque y el siguiente son parametros de manejo de
      ? conexiones y de hilos de ejecucion para updates. El primero, un cached executor thread se
@@ -53,9 +184,10 @@ public class MessageServer {
      ? single thread executor se usa para manejar el blocking queue de la base de datos. Y el
      ? blocking queue se usa para manejar los mensajes de fuera hacia la base de datos.
      */
-    private final ExecutorService            _serviceForClients = Executors.newCachedThreadPool();
+    private final ExecutorService            _serviceForClients =
+            _ExecutionMode.newClientExecutor();
     private final ExecutorService            _serviceForDatabase =
-            Executors.newFixedThreadPool(20);
+            _ExecutionMode.newDatabaseExecutor();
     /*
      ? Los parametros definidos entre este bloque y el codigo principal son utilizados para el
      ? manejo de eventos y de listeners para cada cliente. La idea interna es no tener una nueva
@@ -109,7 +241,8 @@ public class MessageServer {
         }
         //? 2. Intentamos inicializar la conexion con la base de datos
         try {
-            this._DatabaseManagementSystem = new DatabaseManagementSystem();
+            this._DatabaseManagementSystem =
+                    new DatabaseManagementSystem(this._ExecutionMode.databaseParallelism());
             this.ex_AllSentMessagesProperty =
             FXCollections.observableList(
                         this._DatabaseManagementSystem.pollAllMessagesInDatabase());
@@ -140,6 +273,33 @@ public class MessageServer {
             this.ex_ServerRegisteredUsers = 0;
         }
 
+        //? 4. Exponemos la profundidad de las colas de salida de los clientes conectados
+        ServerMetrics.gauge("outbound.queue.depth", () -> _connectedClients.values().stream()
+                .mapToLong(handler -> handler.outboundFrames.depth())
+                .sum());
+        ServerMetrics.gauge("outbound.queue.depth.max", () -> _connectedClients.values().stream()
+                .mapToLong(handler -> handler.outboundFrames.depth())
+                .max()
+                .orElse(0));
+
+        AcceptStatistics.registerGauges();
+
+        //? 5. Exponemos la eficiencia de la compresion de frames; la razon se reporta en
+        //? milesimas (bytes comprimidos por cada 1000 bytes originales)
+        ServerMetrics.gauge("wire.compression.frames.compressed", FrameCompressor::framesCompressed);
+        ServerMetrics.gauge("wire.compression.frames.skipped", FrameCompressor::framesSkipped);
+        ServerMetrics.gauge("wire.compression.bytes.before", FrameCompressor::bytesBeforeCompression);
+        ServerMetrics.gauge("wire.compression.bytes.after", FrameCompressor::bytesAfterCompression);
+        ServerMetrics.gauge("wire.compression.ratio.permille", () -> {
+            long bytesBefore = FrameCompressor.bytesBeforeCompression();
+            return bytesBefore == 0 ? 0
+                    : FrameCompressor.bytesAfterCompression() * 1000 / bytesBefore;
+        });
+        ServerMetrics.gauge("wire.compression.deflate.micros",
+                            () -> FrameCompressor.deflateNanos() / 1_000);
+        ServerMetrics.gauge("wire.compression.inflate.micros",
+                            () -> FrameCompressor.inflateNanos() / 1_000);
+
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
             try {
                 _serviceForDatabase.shutdown();
@@ -156,11 +316,13 @@ public class MessageServer {
     /**
      * <body style="color:white;">
      * Este metodo privado y final se utiliza para inicializar la conexion del servidor de mensajes.
-     * La funcionalidad principal consiste en crear un objeto {@link ServerSocket} que escucha
-     * conexiones entrantes en la direccion IP y puerto previamente definidos.
+     * La funcionalidad principal consiste en crear los {@link ServerSocket} (o canales NIO) que
+     * escuchan conexiones entrantes en la direccion IP y puerto previamente definidos, uno por
+     * acceptor cuando el sistema soporta {@code SO_REUSEPORT}.
      * <p>
-     * La direccion y el puerto se obtienen de las propiedades {@link #ex_ServerConnectionAddress} y
-     * {@link #ex_ServerConnectionPort} respectivamente. El metodo usa las capacidades de la clase
+     * La direccion se obtiene de {@link #ex_ServerConnectionAddress}; el puerto, el backlog y
+     * el numero de acceptors de {@link ListenerConfiguration}, y el puerto enlazado se guarda
+     * en {@link #ex_ServerConnectionPort}. El metodo usa las capacidades de la clase
      * {@link InetAddress} para obtener una representacion de la direccion IP en uso.
      * <p>
      * En caso de que ocurra una excepcion de entrada/salida ({@link IOException}) al intentar
@@ -172,13 +334,36 @@ public class MessageServer {
      */
     public final void initMessageServerConnection() {
         try {
-            this._ConnectionServer =
-                    new ServerSocket(100,
-                                     100,
-                                     InetAddress
-                                             .getByName(this.ex_ServerConnectionAddress));
-            if (_ConnectionServer.isBound()){
-                this.ex_ServerConnectionPort = _ConnectionServer.getLocalPort();
+            //? 1. Dependiendo del modo de transporte abrimos ServerSockets o canales NIO, en
+            // ambos casos sobre la misma direccion, puerto y backlog
+            this._ListenerConfiguration = ListenerConfiguration.fromSystemProperties(
+                    InetAddress.getByName(this.ex_ServerConnectionAddress));
+            boolean serverIsBound;
+            int serverLocalPort;
+            if (this._TransportMode == TransportMode.NIO_SELECTOR) {
+                this._ConnectionServerChannels = this._ListenerConfiguration.openServerChannels();
+                serverIsBound = this._ConnectionServerChannels.getFirst().socket().isBound();
+                serverLocalPort = this._ConnectionServerChannels.getFirst().socket().getLocalPort();
+            } else {
+                this._ConnectionServers = this._ListenerConfiguration.openServerSockets();
+                serverIsBound = this._ConnectionServers.getFirst().isBound();
+                serverLocalPort = this._ConnectionServers.getFirst().getLocalPort();
+            }
+            this._UnixDomainServerChannel =
+                    this._ListenerConfiguration.openUnixDomainChannel().orElse(null);
+            if (this._UnixDomainServerChannel != null) {
+                System.out.println("[ServerSideComms] Escuchando tambien en el socket Unix "
+                                           + this._ListenerConfiguration.unixSocketPath());
+            }
+            System.out.println("[ServerSideComms] Modo de transporte seleccionado: "
+                                       + this._TransportMode + ", modo de ejecucion: "
+                                       + this._ExecutionMode + ", acceptors: "
+                                       + this._ListenerConfiguration.acceptorCount()
+                                       + (this._ListenerConfiguration.shardsWithReusePort()
+                                               ? " (SO_REUSEPORT)" : "")
+                                       + ", backlog: " + this._ListenerConfiguration.backlog());
+            if (serverIsBound){
+                this.ex_ServerConnectionPort = serverLocalPort;
                 this.ex_ServerConnectionPortString = ex_ServerConnectionPort.toString();
                 this.ex_ConnectionAddressProperty =
                         new SimpleStringProperty("Server Connection Address :"
@@ -383,7 +568,7 @@ public class MessageServer {
      * @throws RuntimeException si el servidor deja de estar en funcionamiento de forma inesperada.
      *                          <p>
      *                          La conexión del cliente se delega a
-     *                          {@link #attemptToAuthenticateAClient(Socket)}, que ejecuta el flujo
+     *                          {@link #attemptToAuthenticateAClient(ClientConnection)}, que ejecuta el flujo
      *                          de autenticación usando streams de entrada/salida y validaciones
      *                          lineales.
      *                          <p>
@@ -392,54 +577,57 @@ public class MessageServer {
      *                          </body>
      */
     public final void attemptToAcceptClientConnectionRequests() {
-        while (this._ServerIsRunning.get()) {
+        //? 0. En modo NIO el hilo que invoca este metodo pasa a ser el event loop acceptor
+        if (this._TransportMode == TransportMode.NIO_SELECTOR) {
+            attemptToRunSelectorTransportEngine();
+            return;
+        }
+        //? 1. Cada acceptor adicional corre en su propio hilo; si no hay SO_REUSEPORT todos
+        //? comparten el mismo socket y el kernel reparte los accept() entre ellos
+        int acceptorCount = this._ListenerConfiguration.acceptorCount();
+        for (int acceptorIndex = 1; acceptorIndex < acceptorCount; acceptorIndex++) {
+            ServerSocket acceptorSocket =
+                    this._ConnectionServers.get(acceptorIndex % this._ConnectionServers.size());
+            Thread.ofPlatform()
+                    .daemon()
+                    .name("MessageServer-Acceptor-" + acceptorIndex)
+                    .start(() -> runAcceptorLoop(acceptorSocket));
+        }
+        //? 2. El socket Unix, si existe, tiene su propio acceptor
+        if (this._UnixDomainServerChannel != null) {
+            Thread.ofPlatform()
+                    .daemon()
+                    .name("MessageServer-UnixAcceptor")
+                    .start(() -> runUnixDomainAcceptorLoop(this._UnixDomainServerChannel));
+        }
+        //? 3. El hilo que invoca este metodo es el primer acceptor
+        runAcceptorLoop(this._ConnectionServers.getFirst());
+    }
+
+    /**
+     * <body style="color:white;">
+     * Ciclo de un acceptor del modo bloqueante. Solo acepta y entrega la conexion a
+     * {@code _serviceForClients}; el log y la autenticacion ocurren en el hilo del cliente para
+     * que el acceptor vuelva a {@code accept()} lo antes posible.
+     *
+     * @param acceptorSocket Socket del que acepta este acceptor.
+     * </body>
+     */
+    private void runAcceptorLoop(ServerSocket acceptorSocket) {
+        while (this._ServerIsRunning.get() && !acceptorSocket.isClosed()) {
             Socket clientConnectionSocket;
             try {
-                clientConnectionSocket = this._ConnectionServer.accept();
-                System.out.println("[ServerSideCommns] Socket Connection: Se registro una nueva " +
-                                  "conexion desde " +
-                                  "[" + clientConnectionSocket.getInetAddress() + "]" +
-                                  " con puerto [" +
-                                  clientConnectionSocket.getPort()
-                                  + "] hacia el servidor!");
-
-                final Socket finalClientSocket = clientConnectionSocket;
-                _serviceForClients.submit(() -> {
-                    try {
-                        ClientHandler handler =
-                                attemptToAuthenticateAClient(finalClientSocket);
-                        updateServerSideClientCount();
-                        if (handler != null) {
-                            handler.run();
-                        } else {
-                            try {
-                                ObjectOutputStream out =
-                                        new ObjectOutputStream(finalClientSocket.getOutputStream());
-                                out.writeObject("[Authentication Result] Autenticacion Fallida : "
-                                                        + "Please try connecting again.");
-                                out.flush();
-                                finalClientSocket.close();
-                            } catch (IOException e) {
-                                System.err.println("[ServerSideCommns] Error closing failed " +
-                                                           "authentication socket: "
-                                                           + e.getMessage());
-                            }
-                        }
-                    } catch (Exception e) {
-                        System.err.println("[ServerSideComms] Error al procesar el socket del " +
-                                                   "cliente:" +
-                                                   " " + e.getMessage());
-                        e.printStackTrace();
-                        try {
-                            finalClientSocket.close();
-                        } catch (IOException closeError) {
-                            System.err.println("[ServerSideComms] Error al cerrar el socket del " +
-                                                       "cliente: "
-                                                       + closeError.getMessage());
-                        }
-                    }
-                });
+                clientConnectionSocket = acceptorSocket.accept();
+                //? Los clientes sin heartbeat dependen del keepalive de TCP para detectar un
+                //? par que desaparecio
+                clientConnectionSocket.setKeepAlive(true);
+                AcceptStatistics.recordAccept();
+                serveAcceptedConnection(new BlockingSocketConnection(clientConnectionSocket));
             } catch (IOException e) {
+                if (acceptorSocket.isClosed()) {
+                    //! El socket se cerro durante el apagado del servidor
+                    return;
+                }
                 e.printStackTrace();
                 System.out.println("[ServerSideComms] Fatal Error 0x0001 - [Raised] El servidor " +
                                            "encontro un" +
@@ -449,6 +637,157 @@ public class MessageServer {
         }
     }
 
+    /**
+     * <body style="color:white;">
+     * Ciclo del acceptor del socket Unix en el modo bloqueante. Las conexiones aceptadas se
+     * atienden exactamente igual que las del puerto TCP.
+     *
+     * @param unixDomainChannel Canal Unix del servidor, en modo bloqueante.
+     * </body>
+     */
+    private void runUnixDomainAcceptorLoop(ServerSocketChannel unixDomainChannel) {
+        while (this._ServerIsRunning.get() && unixDomainChannel.isOpen()) {
+            try {
+                SocketChannel acceptedChannel = unixDomainChannel.accept();
+                AcceptStatistics.recordAccept();
+                serveAcceptedConnection(new BlockingChannelConnection(acceptedChannel));
+            } catch (IOException e) {
+                if (!unixDomainChannel.isOpen()) {
+                    //! El canal se cerro durante el apagado del servidor
+                    return;
+                }
+                e.printStackTrace();
+                System.out.println("[ServerSideComms] Fatal Error 0x0001 - [Raised] El servidor " +
+                                           "encontro un error al aceptar una conexion del " +
+                                           "socket Unix.");
+            }
+        }
+    }
+
+    /**
+     * <body style="color:white;">
+     * Entrega una conexion recien aceptada a {@code _serviceForClients}, donde se autentica y,
+     * si la autenticacion es exitosa, su {@link ClientHandler} atiende los comandos hasta que
+     * se desconecta.
+     *
+     * @param clientConnection Conexion aceptada por un acceptor del modo bloqueante.
+     * </body>
+     */
+    private void serveAcceptedConnection(ClientConnection clientConnection) {
+        _serviceForClients.submit(() -> {
+            System.out.println("[ServerSideCommns] Socket Connection: Se registro una " +
+                                       "nueva conexion desde "
+                                       + clientConnection.getRemoteDescription()
+                                       + " hacia el servidor!");
+            try {
+                ClientHandler handler =
+                        attemptToAuthenticateAClient(clientConnection);
+                updateServerSideClientCount();
+                if (handler != null) {
+                    handler.run();
+                } else {
+                    closeFailedAuthentication(clientConnection);
+                }
+            } catch (Exception e) {
+                System.err.println("[ServerSideComms] Error al procesar el socket del " +
+                                           "cliente:" +
+                                           " " + e.getMessage());
+                e.printStackTrace();
+                try {
+                    clientConnection.close();
+                } catch (IOException closeError) {
+                    System.err.println("[ServerSideComms] Error al cerrar el socket del " +
+                                               "cliente: "
+                                               + closeError.getMessage());
+                }
+            }
+        });
+    }
+
+
+    /**
+     * <body style="color:white;">
+     * Metodo que arranca el motor de transporte {@link SelectorTransportEngine} cuando el
+     * servidor fue iniciado en modo {@link TransportMode#NIO_SELECTOR}. El hilo que invoca el
+     * metodo se convierte en el event loop que acepta conexiones, por lo que el metodo solo
+     * retorna cuando el motor es apagado en {@link #shutdownTheServer()}.
+     * <p>
+     * El manejo de comandos no cambia: cada vez que una conexion tiene bytes disponibles el
+     * motor invoca {@link #handleSelectorConnectionReadiness(SelectorConnection)} en un hilo del
+     * {@code _serviceForClients}, el cual autentica al cliente en su primer despacho y luego
+     * procesa los comandos pendientes mediante su {@link ClientHandler}.
+     *
+     * @throws RuntimeException si el motor no pudo ser inicializado.
+     * </body>
+     */
+    private void attemptToRunSelectorTransportEngine() {
+        try {
+            List<ServerSocketChannel> serverChannels =
+                    new ArrayList<>(this._ConnectionServerChannels);
+            if (this._UnixDomainServerChannel != null) {
+                serverChannels.add(this._UnixDomainServerChannel);
+            }
+            this._SelectorTransportEngine = new SelectorTransportEngine(
+                    serverChannels,
+                    Math.max(SelectorTransportEngine.eventLoopCountFromSystemProperties(),
+                             serverChannels.size()),
+                    this._serviceForClients,
+                    this::handleSelectorConnectionReadiness);
+            this._SelectorTransportEngine.runEventLoops();
+        } catch (IOException e) {
+            e.printStackTrace();
+            System.out.println("[ServerSideComms] Fatal Error 0x0001 - [Raised] El servidor " +
+                                       "no pudo iniciar el motor de transporte NIO.");
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * <body style="color:white;">
+     * Callback del {@link SelectorTransportEngine} para una conexion con informacion disponible.
+     * En el primer despacho la conexion aun no tiene un {@link ClientHandler}, por lo que se
+     * ejecuta el mismo flujo de autenticacion del modo bloqueante; en los siguientes despachos
+     * se procesan unicamente los comandos que ya estan en el buffer, liberando el hilo cuando
+     * el cliente queda inactivo.
+     *
+     * @param selectorConnection Conexion administrada por un event loop del motor NIO.
+     * </body>
+     */
+    private void handleSelectorConnectionReadiness(SelectorConnection selectorConnection) {
+        ClientHandler handler = (ClientHandler) selectorConnection.getAttachment();
+        if (handler == null) {
+            handler = attemptToAuthenticateAClient(selectorConnection);
+            updateServerSideClientCount();
+            if (handler == null) {
+                closeFailedAuthentication(selectorConnection);
+                return;
+            }
+            selectorConnection.setAttachment(handler);
+            System.out.println("[ClientHandler para :" + handler.clientUsername + "] " +
+                                       "construido e inicializado sobre el motor NIO");
+        }
+        handler.processAvailableCommands();
+    }
+
+    /**
+     * <body style="color:white;">
+     * Cierra la conexion de un cliente cuya autenticacion fallo. La respuesta de fallo ya se
+     * envio por su {@link WireProtocol} (o la conexion fallo antes de poder responder), por lo
+     * que aqui no se escribe nada mas: un objeto serializado despues del frame binario solo
+     * dejaria basura en el canal. Ambos modos de transporte comparten este cierre.
+     *
+     * @param clientConnection Conexion del cliente cuya autenticacion fallo.
+     * </body>
+     */
+    private void closeFailedAuthentication(ClientConnection clientConnection) {
+        try {
+            clientConnection.close();
+        } catch (IOException e) {
+            System.err.println("[ServerSideComms] Error al cerrar el socket del " +
+                                       "cliente: " + e.getMessage());
+        }
+    }
+
 
     /**
      * <body style="color:white;">
@@ -458,18 +797,24 @@ public class MessageServer {
      * <p>
      * El flujo general sigue estos pasos:
      * <ul>
-     *     <li>Se establece un canal de comunicacion bidireccional con el cliente usando
-     *     {@link ObjectOutputStream} y {@link ObjectInputStream}.</li>
+     *     <li>Se negocia el formato en el cable con {@link WireProtocolNegotiator}, que
+     *     retorna un {@link WireProtocol} binario o de serializacion de Java segun lo que el
+     *     cliente solicite.</li>
      *     <li>Se lee el comando inicial del cliente para verificar si se trata de una solicitud de
      *     autenticacion valida. Si no es valida, se envia un mensaje de error y la conexion se
-     *     cierra.</li>
+     *     cierra. Una solicitud de reanudacion con token se delega en
+     *     {@link #attemptToResumeAClientSession(ClientConnection, WireProtocol)}.</li>
      *     <li>Se genera un "ACKNOWLEDGE" al cliente confirmando la recepcion de la solicitud de
-     *     autenticacion y se procede a leer las credenciales proporcionadas.</li>
-     *     <li>Se sincroniza el acceso a la base de datos para buscar la informacion del cliente
-     *     basada en el nombre de usuario proporcionado. Si no se encuentra, la autenticacion
-     *     falla.</li>
+     *     autenticacion y se procede a leer las credenciales proporcionadas. Con
+     *     {@code POST_CLIENT_LOGIN_REQUEST} las credenciales ya vienen junto con el request, no
+     *     se envia el ACKNOWLEDGE y la respuesta de exito incluye el {@link LoginSnapshotDTO}.</li>
+     *     <li>Se consulta la base de datos, bajo su read lock, para buscar la informacion del
+     *     cliente basada en el nombre de usuario proporcionado. Si no se encuentra, la
+     *     autenticacion falla.</li>
      *     <li>Se valida la contrasena proporcionada usando {@link AuthenticatorEngine} y los datos
-     *     encriptados del cliente almacenados en la base de datos.</li>
+     *     encriptados del cliente almacenados en la base de datos. La validacion se encola en
+     *     {@link AuthenticationAdmission}; si su cola esta llena se responde con el tiempo de
+     *     espera sugerido sin validar la contrasena.</li>
      *     <li>Si la autenticacion es exitosa, se devuelve un {@link ClientHandler} configurado para
      *     manejar las futuras comunicaciones del cliente en el servidor.</li>
      *     <li>Si la autenticacion falla en cualquier punto del flujo, se envia un mensaje de error
@@ -477,40 +822,64 @@ public class MessageServer {
      * </ul>
      * </p>
      *
-     * @param externalClientSocket {@link Socket} del cliente que solicita la autenticacion. Debe
-     *                             estar previamente inicializado y conectado al servidor.
+     * @param externalClientConnection {@link ClientConnection} del cliente que solicita la
+     *                                 autenticacion, ya sea un socket bloqueante o un canal
+     *                                 administrado por el motor NIO.
      * @return {@link ClientHandler} configurado para gestionar las comunicaciones del cliente si la
      * autenticacion fue exitosa; {@code null} si la autenticacion fallo.
      * @throws IOException            si ocurre un problema al leer o escribir en el canal de
      *                                comunicacion entre el cliente y el servidor.
      * @throws ClassNotFoundException si ocurre un problema al leer un objeto de los flujos de
      *                                entrada debido a que la clase no se encuentra.
-     * @see ObjectOutputStream
-     * @see ObjectInputStream
+     * @see WireProtocol
+     * @see WireProtocolNegotiator
      * @see AuthenticationRequestDTO
      * @see ClientDTO
      * </body>
      */
-    private ClientHandler attemptToAuthenticateAClient(Socket externalClientSocket) {
+    private ClientHandler attemptToAuthenticateAClient(ClientConnection externalClientConnection) {
         try {
-            ObjectOutputStream clientOutputStream =
-                    new ObjectOutputStream(externalClientSocket.getOutputStream());
-            ObjectInputStream clientInputStream =
-                    new ObjectInputStream(externalClientSocket.getInputStream());
+            //? 1. Negociamos el formato en el cable: los clientes antiguos siguen usando
+            //? serializacion de Java y los nuevos solicitan el protocolo binario
+            WireProtocol clientWireProtocol = WireProtocolNegotiator.negotiateAsServer(
+                    externalClientConnection.getInputStream(),
+                    externalClientConnection.getOutputStream(),
+                    _SharedMemoryEnabled);
+            System.out.println("[ServerSideComms] Protocolo negociado con "
+                                       + externalClientConnection.getRemoteDescription() + ": "
+                                       + clientWireProtocol.getProtocolMode()
+                                       + (clientWireProtocol.supportsCapability(
+                                               BinaryWireProtocol.CAPABILITY_SHARED_MEMORY)
+                                               ? " sobre memoria compartida" : ""));
 
             //? Leemos el mensaje del cliente que debe ser especificamente un mensaje de 
             //? AUTHENTICATION REQUEST
-            String clientCommand = clientInputStream.readUTF();
+            String clientCommand = clientWireProtocol.readCommand();
             System.out.println("[ServerSideComms] Comando Recibido: " + clientCommand);
 
-            if (!clientCommand.equals(
+            //? Un cliente que ya se autentico puede reconectarse con su token de sesion
+            if (clientCommand.equals(UsefulCommunicationMessages
+                                             .POST_CLIENT_SESSION_RESUME_REQUEST.get_message())
+                    && clientWireProtocol.supportsCapability(
+                            BinaryWireProtocol.CAPABILITY_SESSION_RESUME)) {
+                return attemptToResumeAClientSession(externalClientConnection, clientWireProtocol);
+            }
+
+            //? Con el login de un solo intercambio las credenciales llegan sin esperar el
+            //? ACKNOWLEDGE y la respuesta incluye el estado inicial del cliente
+            boolean singleRoundTripLogin = clientCommand.equals(
+                    UsefulCommunicationMessages.POST_CLIENT_LOGIN_REQUEST.get_message())
+                    && clientWireProtocol.supportsCapability(
+                            BinaryWireProtocol.CAPABILITY_SINGLE_ROUND_TRIP_LOGIN);
+
+            if (!singleRoundTripLogin && !clientCommand.equals(
                     UsefulCommunicationMessages
                             .POST_CLIENT_AUTHENTICATION_REQUEST
                             .get_message())) {
                 System.err.println("[ServerSideComms] Error en la recepcion del comando de " +
                                   "autenticacion, se espereba un REQUEST_AUTHENTICATION, " +
                                            "se obtuvo: " + clientCommand);
-                retornarUnResponseDTODeFailure(clientOutputStream,
+                retornarUnResponseDTODeFailure(clientWireProtocol,
                                   "Error en la recepcion del " +
                                            "comando de autenticacion," +
                                            " se espereba un REQUEST_AUTHENTICATION, se obtuvo: " 
@@ -520,40 +889,56 @@ public class MessageServer {
 
             //? 2. Escribimos hacia el usuario el ACKNOWLEDGE de la conexion y de la request de 
             //? autenticacion
-            clientOutputStream.writeUTF(
-                    UsefulCommunicationMessages
-                            .POST_CLIENT_AUTHENTICATION_REQUEST_ACKNOWLEDGEMENT
-                            .get_message());
-            clientOutputStream.flush();
+            if (!singleRoundTripLogin) {
+                clientWireProtocol.writeCommand(
+                        UsefulCommunicationMessages
+                                .POST_CLIENT_AUTHENTICATION_REQUEST_ACKNOWLEDGEMENT);
+                clientWireProtocol.flush();
+            }
 
-            AuthenticationRequestDTO readInAuthRequest = (AuthenticationRequestDTO) 
-                    clientInputStream.readObject();
+            AuthenticationRequestDTO readInAuthRequest =
+                    clientWireProtocol.readAuthenticationRequest();
             System.out.println("[ServerSideComms] Informacion Recibida Del Cliente :: " 
                                        + readInAuthRequest.clientPOJO());
 
-            //? 3. Como el proceso de autenticacion es la unica parte lineal del sistema, 
-            //? sincronizamos el accesso a la base de datos directamente
-            Optional<ClientDTO> resultOpt;
-            synchronized (_DatabaseManagementSystem) {
-                resultOpt = _DatabaseManagementSystem
-                        .pollAllRegisteredInformationPerUsernameInDatabase(
-                        readInAuthRequest.getClientUsername());
-            }
+            //? 3. La lectura de la informacion del cliente ya esta protegida por el read lock
+            //? del DatabaseManagementSystem, por lo que no sincronizamos sobre el objeto; un
+            //? bloque synchronized aqui fijaria el carrier de un hilo virtual durante la query
+            Optional<ClientDTO> resultOpt = _DatabaseManagementSystem
+                    .pollAllRegisteredInformationPerUsernameInDatabase(
+                            readInAuthRequest.getClientUsername());
 
             if (resultOpt.isEmpty()) {
-                retornarUnResponseDTODeFailure(clientOutputStream, 
+                retornarUnResponseDTODeFailure(clientWireProtocol,
                                   "[ServerSideComms] Authentication Failure:" +
                                   " El usuario no fue encontrado en " +
                                   "la base de datos para su validacion.");
                 return null;
             }
 
+            //? 3.1 La validacion de PBKDF2 pasa por el control de admision; si la cola esta
+            //? llena rechazamos de inmediato indicando cuanto esperar antes de reintentar
             ClientDTO clientDTO = resultOpt.get();
-            boolean isValidClient = AuthenticatorEngine.validateProvidedClearPassword(
-                      readInAuthRequest.getClientClearPwd(),
-                    new EncryptionEngine.HashedPasswordDTO(
-                        clientDTO._clientPwdHash(),
-                       clientDTO._clientSaltHash()));
+            Future<Boolean> pendingValidation = _AuthenticationAdmission.trySubmit(
+                    () -> AuthenticatorEngine.validateProvidedClearPassword(
+                            readInAuthRequest.getClientClearPwd(),
+                            new EncryptionEngine.HashedPasswordDTO(
+                                    clientDTO._clientPwdHash(),
+                                    clientDTO._clientSaltHash())));
+            if (pendingValidation == null) {
+                long retryAfterMillis = _AuthenticationAdmission.retryAfterMillis();
+                System.out.println("[ServerSideComms] Autenticacion rechazada por saturacion " +
+                                           "para cliente [" 
+                                           + readInAuthRequest.getClientUsername() 
+                                           + "], reintentar en " + retryAfterMillis + " ms");
+                clientWireProtocol.writeAuthenticationResponse(
+                        AuthenticationRequestDTO.AuthenticationResponseDTO.retryAfter(
+                                retryAfterMillis,
+                                "Servidor ocupado, reintentar en " + retryAfterMillis + " ms"));
+                clientWireProtocol.flush();
+                return null;
+            }
+            boolean isValidClient = pendingValidation.get();
 
             if (!isValidClient) {
                 System.out.println("[ServerSideComms] Autenticacion Fallilda: Contrasena " +
@@ -562,7 +947,7 @@ public class MessageServer {
                                            "para cliente [" 
                                            + readInAuthRequest.getClientUsername() 
                                            + "]");
-                retornarUnResponseDTODeFailure(clientOutputStream,
+                retornarUnResponseDTODeFailure(clientWireProtocol,
                                                "Contrasena o Usuario Incorrecto, " +
                                                        "Intentar de nuevo.");
                 return null;
@@ -574,51 +959,191 @@ public class MessageServer {
                                        "ssuario [" 
                                        + readInAuthRequest.getClientUsername() 
                                        + "] autenticado y habilitado!");
-            AuthenticationRequestDTO.AuthenticationResponseDTO success = 
-                    AuthenticationRequestDTO.AuthenticationResponseDTO
-                            .success(readInAuthRequest.getClientUsername());
-            clientOutputStream.writeObject(success);
-            clientOutputStream.flush();
-
-            System.out.println("[ServerSideComms] Printing DTO from db ");
-            System.out.println(clientDTO);
-
-            /*
-             ? Por motivos de sincroniazacion de los hilos, al parecer el objeto del DTO completo
-             ? con los hashes sobrecargaba al socket y causaba que este no respondiera 
-             ? correctamente, por tanto se envia solo el UUID para la conformacion de mensajes en 
-             ? lugar del objeto
-             */
-            clientOutputStream.writeUTF(clientDTO._clientUUID());
-            clientOutputStream.flush();
-
-            ClientHandler handlerForClientConnection = new ClientHandler(
-                    externalClientSocket,
-                    clientInputStream,
-                    clientOutputStream,
-                    clientDTO._clientUUID(),
-                    readInAuthRequest.getClientUsername()
-            );
-
-            _connectedClients.put(clientDTO._clientUUID(), 
-                                  handlerForClientConnection);
-            _usernameToUuidMap.put(readInAuthRequest.getClientUsername(), 
-                                   clientDTO._clientUUID());
-            
-            
-            return handlerForClientConnection;
-        } catch (IOException | ClassNotFoundException e) {
+            return completeAuthentication(externalClientConnection, clientWireProtocol, clientDTO,
+                                          readInAuthRequest.getClientUsername(),
+                                          singleRoundTripLogin);
+        } catch (IOException | ClassNotFoundException | ExecutionException e) {
             System.err.println("[ServerSideComms] Error Durante Autenticacion " + e.getMessage());
             e.printStackTrace();
             return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
         }
     }
 
 
+    /**
+     * <body style="color:white;">
+     * Reanuda la sesion de un cliente que presenta el token emitido en una autenticacion
+     * anterior. El intercambio es el mismo que el de la autenticacion, pero en lugar de las
+     * credenciales el cliente envia el token como identificador y el servidor valida su firma y
+     * vigencia con {@link SessionTokenIssuer}, sin pasar por {@link AuthenticationAdmission} ni
+     * por PBKDF2. El usuario debe seguir existiendo con el mismo UUID; si el token no es valido
+     * se responde con un fallo y el cliente vuelve a autenticarse con su contrasena.
+     *
+     * @param externalClientConnection {@link ClientConnection} del cliente que se reconecta.
+     * @param clientWireProtocol       Protocolo ya negociado con el cliente.
+     * @return {@link ClientHandler} de la sesion reanudada; {@code null} si el token fue
+     * rechazado.
+     * @throws IOException si ocurre un problema al leer o escribir en la conexion.
+     * </body>
+     */
+    private ClientHandler attemptToResumeAClientSession(ClientConnection externalClientConnection,
+                                                        WireProtocol clientWireProtocol)
+            throws IOException {
+        //? 1. Confirmamos el request con el mismo ACKNOWLEDGE de la autenticacion
+        clientWireProtocol.writeCommand(
+                UsefulCommunicationMessages.POST_CLIENT_AUTHENTICATION_REQUEST_ACKNOWLEDGEMENT);
+        clientWireProtocol.flush();
+
+        //? 2. Validamos el token y que el usuario siga registrado con el mismo UUID
+        Optional<SessionTokenIssuer.SessionClaims> sessionClaims =
+                _SessionTokenIssuer.verify(clientWireProtocol.readIdentifier());
+        Optional<ClientDTO> resultOpt = sessionClaims
+                .flatMap(claims -> _DatabaseManagementSystem
+                        .pollAllRegisteredInformationPerUsernameInDatabase(
+                                claims.clientUsername()))
+                .filter(clientDTO -> clientDTO._clientUUID()
+                        .equals(sessionClaims.get().clientUUID()));
+        if (resultOpt.isEmpty()) {
+            SESSION_RESUMES_REJECTED.increment();
+            System.out.println("[ServerSideComms] Reanudacion de sesion rechazada: token " +
+                                       "invalido, expirado o de un usuario eliminado");
+            retornarUnResponseDTODeFailure(clientWireProtocol,
+                                           "Token de sesion invalido o expirado, " +
+                                                   "autenticarse de nuevo.");
+            return null;
+        }
+
+        //? 3. La sesion continua igual que tras una autenticacion con contrasena
+        SESSIONS_RESUMED.increment();
+        String clientUsername = sessionClaims.get().clientUsername();
+        System.out.println("[ServerSideComms] Sesion reanudada con token para usuario ["
+                                   + clientUsername + "]");
+        return completeAuthentication(externalClientConnection, clientWireProtocol,
+                                      resultOpt.get(), clientUsername, false);
+    }
+
+    /**
+     * <body style="color:white;">
+     * Parte final comun a la autenticacion y a la reanudacion de una sesion: envia la respuesta
+     * de exito, con un token de sesion nuevo si el protocolo negocio
+     * {@link BinaryWireProtocol#CAPABILITY_SESSION_RESUME}, seguida del UUID del cliente o, en
+     * un login de un solo intercambio, de su {@link LoginSnapshotDTO}, todo en un solo flush; y
+     * registra su {@link ClientHandler}. Si el usuario tenia otra sesion registrada, por
+     * ejemplo una conexion medio abierta que el heartbeat aun no desalojo, esa sesion se cierra.
+     *
+     * @param externalClientConnection {@link ClientConnection} del cliente.
+     * @param clientWireProtocol       Protocolo ya negociado con el cliente.
+     * @param clientDTO                Informacion del cliente en la base de datos.
+     * @param clientUsername           Nombre de usuario autenticado.
+     * @param sendLoginSnapshot        {@code true} si la respuesta debe incluir el estado
+     *                                 inicial del cliente en lugar de solo su UUID.
+     * @return {@link ClientHandler} registrado para la sesion.
+     * @throws IOException si ocurre un problema al escribir en la conexion.
+     * </body>
+     */
+    private ClientHandler completeAuthentication(ClientConnection externalClientConnection,
+                                                 WireProtocol clientWireProtocol,
+                                                 ClientDTO clientDTO,
+                                                 String clientUsername,
+                                                 boolean sendLoginSnapshot) throws IOException {
+        AuthenticationRequestDTO.AuthenticationResponseDTO success =
+                AuthenticationRequestDTO.AuthenticationResponseDTO.success(clientUsername);
+        if (clientWireProtocol.supportsCapability(BinaryWireProtocol.CAPABILITY_SESSION_RESUME)) {
+            success = success.withSessionToken(
+                    _SessionTokenIssuer.issue(clientUsername, clientDTO._clientUUID()));
+        }
+        clientWireProtocol.writeAuthenticationResponse(success);
+
+        System.out.println("[ServerSideComms] Printing DTO from db ");
+        System.out.println(clientDTO);
+
+        /*
+         ? Por motivos de sincroniazacion de los hilos, al parecer el objeto del DTO completo
+         ? con los hashes sobrecargaba al socket y causaba que este no respondiera 
+         ? correctamente, por tanto se envia solo el UUID para la conformacion de mensajes en 
+         ? lugar del objeto
+         */
+        if (sendLoginSnapshot) {
+            clientWireProtocol.writeLoginSnapshot(
+                    buildLoginSnapshot(clientDTO._clientUUID(), clientUsername));
+        } else {
+            clientWireProtocol.writeIdentifier(clientDTO._clientUUID());
+        }
+        clientWireProtocol.flush();
+
+        ClientHandler handlerForClientConnection = new ClientHandler(
+                externalClientConnection,
+                clientWireProtocol,
+                clientDTO._clientUUID(),
+                clientUsername
+        );
+
+        ClientHandler supersededHandler = _connectedClients.put(clientDTO._clientUUID(),
+                                                                handlerForClientConnection);
+        _usernameToUuidMap.put(clientUsername, clientDTO._clientUUID());
+        _Subscriptions.subscribe(clientDTO._clientUUID(),
+                                 SubscriptionRegistry.userTopic(clientUsername));
+        _Subscriptions.subscribe(clientDTO._clientUUID(), SubscriptionRegistry.DIRECTORY_TOPIC);
+        if (supersededHandler != null) {
+            System.out.println("[ServerSideComms] Sesion anterior de [" + clientUsername
+                                       + "] reemplazada por la nueva conexion");
+            supersededHandler.releaseSession();
+        }
+        return handlerForClientConnection;
+    }
+
+    /**
+     * <body style="color:white;">
+     * Arma el estado inicial de un cliente recien autenticado. La lista de usuarios y su version
+     * se toman de la misma vista del directorio, por lo que siempre corresponden entre si. Si la
+     * consulta del historial falla se envian listas vacias e {@code historyComplete} en
+     * {@code false}, y el cliente las solicita por separado.
+     *
+     * @param clientUUID     UUID del cliente autenticado.
+     * @param clientUsername Nombre de usuario del cliente.
+     * @return {@link LoginSnapshotDTO} a enviar luego de la respuesta de exito.
+     * </body>
+     */
+    private LoginSnapshotDTO buildLoginSnapshot(String clientUUID, String clientUsername) {
+        ClientDirectoryCache.DirectoryView directoryView =
+                _DatabaseManagementSystem.pollClientDirectoryView();
+        long directoryVersion = directoryView.version();
+        try {
+            List<ClientDTO> directory = directoryView.clients()
+                    .stream()
+                    .map(MessageServer::withoutCredentials)
+                    .toList();
+            Map<String, List<MessageDTO>> recentHistory = _DatabaseManagementSystem
+                    .pollRecentSentAndReceivedMessagesByUsername(clientUsername,
+                                                                 _LoginHistoryPageSize);
+            boolean historyComplete = recentHistory.values().stream()
+                    .allMatch(messages -> messages.size() < _LoginHistoryPageSize);
+            return new LoginSnapshotDTO(clientUUID, directoryVersion, directory, recentHistory,
+                                        historyComplete);
+        } catch (RuntimeException e) {
+            System.out.println("[ServerSideComms] No se pudo armar el estado inicial de "
+                                       + clientUsername + ": " + e.getMessage());
+            return new LoginSnapshotDTO(clientUUID, directoryVersion, List.of(), Map.of(), false);
+        }
+    }
+
+    private static int loginHistoryPageFromSystemProperties() {
+        try {
+            int configured = Integer.parseInt(System.getProperty(
+                    LOGIN_HISTORY_PAGE_PROPERTY, String.valueOf(DEFAULT_LOGIN_HISTORY_PAGE)));
+            return configured > 0 ? configured : DEFAULT_LOGIN_HISTORY_PAGE;
+        } catch (NumberFormatException e) {
+            return DEFAULT_LOGIN_HISTORY_PAGE;
+        }
+    }
+
     /**
      * <body style="color:white;">
      * Este metodo se utiliza para enviar una respuesta de autenticacion fallida al cliente a traves
-     * de su {@link ObjectOutputStream}. El objetivo principal es encapsular el mensaje de error en
+     * de su {@link WireProtocol}. El objetivo principal es encapsular el mensaje de error en
      * un objeto {@link AuthenticationRequestDTO.AuthenticationResponseDTO} y enviarlo al cliente,
      * asegurando la sincronia en la comunicacion entre cliente y servidor.
      *
@@ -627,28 +1152,26 @@ public class MessageServer {
      * <ul>
      *     <li>Crea un objeto de respuesta de fallo utilizando la fabrica de metodos
      *     {@link AuthenticationRequestDTO.AuthenticationResponseDTO#failure(String)}.</li>
-     *     <li>Escribe el objeto en el stream de comunicacion usando {@link ObjectOutputStream#writeObject(Object)}.</li>
+     *     <li>Escribe el objeto en el canal de comunicacion usando
+     *     {@link WireProtocol#writeAuthenticationResponse}.</li>
      * </ul>
      * </p>
      *
-     * @param outputStream El stream de salida utilizado para enviar mensajes al cliente. Debe estar
-     *                     inicializado y no ser null.
+     * @param wireProtocol El protocolo negociado utilizado para enviar mensajes al cliente. Debe
+     *                     estar inicializado y no ser null.
      * @param message      El mensaje de error que sera enviado al cliente como parte de la
      *                     respuesta de fallo.
-     * @throws IOException Si ocurre un problema al escribir en el {@link ObjectOutputStream} o al
-     *                     intentar resetearlo.
+     * @throws IOException Si ocurre un problema al escribir en el {@link WireProtocol}.
      * @see AuthenticationRequestDTO.AuthenticationResponseDTO#failure(String)
-     * @see ObjectOutputStream#writeObject(Object)
-     * @see ObjectOutputStream#reset()
+     * @see WireProtocol#writeAuthenticationResponse
      * </body>
      */
-    private void retornarUnResponseDTODeFailure(ObjectOutputStream outputStream,
+    private void retornarUnResponseDTODeFailure(WireProtocol wireProtocol,
                                                 String message) throws IOException {
-        outputStream.writeObject(AuthenticationRequestDTO
-                                         .AuthenticationResponseDTO
-                                         .failure(message));
-        outputStream.flush();
-        outputStream.reset();
+        wireProtocol.writeAuthenticationResponse(AuthenticationRequestDTO
+                                                         .AuthenticationResponseDTO
+                                                         .failure(message));
+        wireProtocol.flush();
     }
 
 
@@ -681,69 +1204,158 @@ public class MessageServer {
 
     /**
      * <body style="color:white;">
-     * Este metodo se encarga de enviar notificaciones de actualizacion a la interfaz de usuario (UI) de uno
-     * o varios clientes especificados mediante sus UUIDs.
+     * Este metodo se encarga de enviar un mandato de actualizacion a la interfaz de usuario (UI)
+     * de uno o varios clientes especificados mediante sus UUIDs.
      *
      * <p>Funcionamiento del metodo:</p>
      * <ul>
-     *     <li>Valida la entrada para asegurarse de que los UUIDs proporcionados no sean nulos ni vacios.</li>
-     *     <li>Itera por cada UUID proporcionado, buscando un {@link ClientHandler} asociado al cliente que este conectado.</li>
-     *     <li>Si se encuentra un {@link ClientHandler}, se llama al metodo {@code processCommand} del manejador para enviar
-     *     las notificaciones requeridas. Estas notificaciones informan a la UI del cliente que la lista
-     *     de mensajes y la lista de usuarios han sido actualizadas.</li>
-     *     <li>Captura y registra cualquier excepcion que ocurra durante el envio de los comandos para evitar que
+     *     <li>Ignora los UUIDs nulos o que no tienen un {@link ClientHandler} conectado.</li>
+     *     <li>Marca el par cliente/mandato como pendiente en {@code _UiUpdateNotifier}; al
+     *     terminar la ventana se encola el mandato una sola vez sin importar cuantos cambios
+     *     ocurrieron.</li>
+     *     <li>Captura y registra cualquier excepcion que ocurra durante el envio para evitar que
      *     errores con un cliente especifico interfieran con los demas.</li>
      * </ul>
-     * @param clientUUIDs Uno o mas UUIDs de los clientes (identificadores unicos) a los que se desea
-     *                    enviar la notificacion de actualizacion de UI. Puede ser un arreglo vacio o {@code null},
-     *                    caso en el cual el metodo simplemente termina su ejecucion sin realizar cambios.
-     *
-     * @throws NullPointerException Si alguno de los UUIDs proporcionados como parametro no es valido o no existe en el
-     * mapa de clientes conectados. (Solo se lanza internamente en caso de errores inesperados, pero no es manejado directamente).
+     * Los llamadores obtienen los UUIDs de {@code _Subscriptions}, por lo que solo se notifica a
+     * los clientes interesados en el cambio.
      *
-     * @implNote Este metodo por el momento no se utiliza, se deja implementado y tiene utilidad,
-     * pero para el proyecto, el proceso de comunicar los mensajes de actualizacion al cliente se
-     * transforma en un metodo de comunicacion adicional mucho mas completo, por tanto se deja
-     * implementadas las bases pero no el metodo completamente.
+     * @param mandate     Mandato a enviar.
+     * @param clientUUIDs UUIDs de los clientes a notificar.
      * @see ClientHandler
-     * @see UsefulCommunicationMessages
-     *
+     * @see SubscriptionRegistry
      * </body>
      */
-    private void dispatchClientUIUpdateMessage(String... clientUUIDs) {
-        /*! Revision Base: Si no tenemos clientes, o si la longitud de aquellos UUIDs a modificar
-         * es en realidad nula, no realizamos nada*/
-        if (clientUUIDs == null || clientUUIDs.length == 0) {
-            return;
-        }
-
-        // 1. Por cada UUID buscamos si tiene un handler en el mapa concurrente, si este existe
-        // entonces comunicamos la actualizacion de estos hacia ellos, si no esta entonces no
-        // realizamos nada.
+    private void dispatchClientUIUpdateMessage(UsefulCommunicationMessages mandate,
+                                               Collection<String> clientUUIDs) {
         for (String clientUUID : clientUUIDs) {
-            ClientHandler handler = this._connectedClients.get(clientUUID);
-            if (handler != null) {
+            if (clientUUID == null || !this._connectedClients.containsKey(clientUUID)) {
+                continue;
+            }
+            //? 1. Marcamos al cliente; al terminar la ventana encolamos el mandato para el
+            // handler que este conectado en ese momento
+            _UiUpdateNotifier.markDirty("client:" + clientUUID + ":" + mandate.get_message(), () -> {
+                ClientHandler handler = this._connectedClients.get(clientUUID);
+                if (handler == null) {
+                    return;
+                }
                 try {
-                    //? 2. Enviamos el mensaje de actualizacion de cada una de las UIs, como no
-                    // se ha implementado estos metodos no hacen llegar ninguna comunicacion al
-                    // cliente
-                    handler.processCommand(
-                            UsefulCommunicationMessages
-                                    .POST_CLIENT_MESSAGE_LIST_UPDATE_MANDATE
-                                    .get_message());
-                    handler.processCommand(
-                            UsefulCommunicationMessages
-                                    .POST_CLIENT_CLIENT_LIST_UPDATE_MANDATE
-                                    .get_message());
+                    handler.sendMandateToClient(mandate);
                 } catch (Exception e) {
                     System.out.println("[ServerSideComms] Error sending UI update " +
                                                "notification to client "
                                                + clientUUID + ": " + e.getMessage());
                 }
+            });
+        }
+    }
+
+    /**
+     * <body style="color:white;">
+     * Notifica a los clientes suscritos a los usuarios indicados que su historial cambio.
+     *
+     * @param onlyClientsWithoutPush {@code true} para omitir a los clientes con
+     *                               {@link BinaryWireProtocol#CAPABILITY_SERVER_PUSH}, que ya
+     *                               recibieron el cambio por push o lo agregaron localmente.
+     * @param usernames              Usuarios cuyo historial cambio.
+     * </body>
+     */
+    private void notifyConversationSubscribers(boolean onlyClientsWithoutPush, String... usernames) {
+        String[] topics = new String[usernames.length];
+        for (int i = 0; i < usernames.length; i++) {
+            topics[i] = SubscriptionRegistry.userTopic(usernames[i]);
+        }
+        Set<String> interestedClients = _Subscriptions.subscribersOf(topics);
+        if (onlyClientsWithoutPush) {
+            interestedClients.removeIf(clientUUID -> {
+                ClientHandler handler = _connectedClients.get(clientUUID);
+                return handler == null || handler.supportsCapability(
+                        BinaryWireProtocol.CAPABILITY_SERVER_PUSH);
+            });
+        }
+        CLIENTS_NOTIFIED.add(interestedClients.size());
+        dispatchClientUIUpdateMessage(
+                UsefulCommunicationMessages.POST_CLIENT_MESSAGE_LIST_UPDATE_MANDATE,
+                interestedClients);
+    }
+
+    /**
+     * <body style="color:white;">
+     * Informa a los clientes suscritos al directorio que se registraron o eliminaron usuarios.
+     * Los clientes con {@link BinaryWireProtocol#CAPABILITY_DIRECTORY_DELTA} reciben solo los
+     * usuarios afectados, sin hashes ni salts; al resto se les pide recargar la lista. La version
+     * del directorio ya fue aumentada por el {@link DatabaseManagementSystem} al escribir.
+     *
+     * @param addedClients   Usuarios registrados.
+     * @param removedClients Usuarios eliminados.
+     * </body>
+     */
+    private void publishDirectoryDelta(List<ClientDTO> addedClients,
+                                       List<ClientDTO> removedClients) {
+        List<ClientDTO> sanitizedAdded = addedClients.stream()
+                .map(MessageServer::withoutCredentials)
+                .toList();
+        List<ClientDTO> sanitizedRemoved = removedClients.stream()
+                .map(MessageServer::withoutCredentials)
+                .toList();
+        List<String> clientsWithoutDelta = new ArrayList<>();
+        Set<String> interestedClients =
+                _Subscriptions.subscribersOf(SubscriptionRegistry.DIRECTORY_TOPIC);
+        for (String clientUUID : interestedClients) {
+            ClientHandler handler = _connectedClients.get(clientUUID);
+            if (handler == null) {
+                continue;
+            }
+            if (!handler.sendDirectoryDelta(sanitizedAdded, sanitizedRemoved)) {
+                clientsWithoutDelta.add(clientUUID);
             }
         }
+        CLIENTS_NOTIFIED.add(interestedClients.size());
+        dispatchClientUIUpdateMessage(
+                UsefulCommunicationMessages.POST_CLIENT_CLIENT_LIST_UPDATE_MANDATE,
+                clientsWithoutDelta);
     }
 
+    private static ClientDTO withoutCredentials(ClientDTO clientDTO) {
+        return new ClientDTO(clientDTO._clientUUID(), clientDTO._clientUsername(), null, null);
+    }
+
+    /**
+     * <body style="color:white;">
+     * Retorna el usuario indicado junto con todos los usuarios con los que intercambio mensajes,
+     * es decir, quienes deben enterarse si su historial cambia.
+     *
+     * @param username Usuario cuyo historial va a cambiar.
+     * @return Usernames afectados, incluido el propio usuario.
+     * </body>
+     */
+    private String[] conversationParticipantsOf(String username) {
+        Set<String> participants = new LinkedHashSet<>();
+        participants.add(username);
+        try {
+            _DatabaseManagementSystem.pollAllSentAndReceivedMessagesByUsername(username)
+                    .values()
+                    .forEach(messages -> messages.forEach(message -> {
+                        participants.add(message._senderUUID());
+                        participants.add(message._receiverUUID());
+                    }));
+        } catch (Exception e) {
+            System.out.println("[ServerSideComms] No se pudo consultar las conversaciones de "
+                                       + username + ": " + e.getMessage());
+        }
+        return participants.toArray(String[]::new);
+    }
+
+    /**
+     * <body style="color:white;">
+     * Marca la UI del servidor como pendiente de actualizacion. Varias llamadas dentro de la
+     * misma ventana de {@code _UiUpdateNotifier} producen una sola recarga con
+     * {@link #reloadServerView()}, en lugar de una consulta completa a la base de datos por
+     * cada mensaje, registro o eliminacion.
+     * </body>
+     */
+    private void dispatchServerUIUpdateMessage() {
+        _UiUpdateNotifier.markDirty(SERVER_VIEW_UPDATE_TARGET, this::reloadServerView);
+    }
 
     /**
      * <body style="color:white;">
@@ -785,7 +1397,7 @@ public class MessageServer {
      * @see CompletableFuture#exceptionally(Function)
      * </body>
      */
-    private void dispatchServerUIUpdateMessage() {
+    private void reloadServerView() {
         Platform.runLater(() -> {
             try {
                 //? 1. Para trabajar con la base de datos, las lecturas usualmente pueden ser
@@ -965,9 +1577,10 @@ public class MessageServer {
                         System.out.println("[ServerSideComms] Usuario registrado correctamente : "
                                                    + clientDTOFromParsedPOJO.getClientUsername());
 
-                        //? 4. Realizamos llamadas a todos los metodos de actualizacion de la UI
+                        //? 4. Realizamos llamadas a todos los metodos de actualizacion de la UI;
+                        // los clientes conectados reciben solo el usuario nuevo
                         dispatchServerUIUpdateMessage();
-                        dispatchClientUIUpdateMessage();
+                        publishDirectoryDelta(List.of(clientDTOFromParsedPOJO), List.of());
                         updateServerSideClientCount();
                         return registrationWasSuccessful;
                     } catch (Exception e) {
@@ -1005,8 +1618,8 @@ public class MessageServer {
      *     arroja una excepcion.</li>
      *     <li>Si el usuario esta actualmente conectado (existe en {@code _usernameToUuidMap}):
      *         <ul>
-     *             <li>Cierra la conexion del cliente usando {@code cierreDeRecursosInesperado()}.</li>
-     *             <li>Elimina la referencia del cliente conectado de las estructuras de datos internas.</li>
+     *             <li>Cierra la conexion del cliente usando {@code cierreDeRecursosInesperado()},
+     *             que libera la sesion y elimina sus referencias de las estructuras internas.</li>
      *         </ul>
      *     </li>
      *     <li>Procede a eliminar los datos del usuario de la base de datos mediante dos operaciones:
@@ -1064,14 +1677,22 @@ public class MessageServer {
                                                    "eliminacion para el usuario: " +
                                                    " " + externalClientUsernae);
 
-                        if (this._usernameToUuidMap.containsKey(externalClientUsernae)){
-                            String uuid =
-                                    this._usernameToUuidMap.get(externalClientUsernae);
-                            this._connectedClients.get(uuid).cierreDeRecursosInesperado();
-                            this._connectedClients.remove(uuid);
-                            this._usernameToUuidMap.remove(externalClientUsernae);
+                        //? 3.0 Si el usuario esta conectado, su sesion se libera por
+                        //? releaseSession(), que tambien lo retira de los registros
+                        String uuid = this._usernameToUuidMap.get(externalClientUsernae);
+                        ClientHandler connectedHandler =
+                                uuid != null ? this._connectedClients.get(uuid) : null;
+                        if (connectedHandler != null){
+                            connectedHandler.cierreDeRecursosInesperado();
                         }
 
+                        //? 3.1 Antes de eliminar, obtenemos quienes deben enterarse del cambio
+                        Optional<ClientDTO> deletedClient = _DatabaseManagementSystem
+                                .pollAllRegisteredInformationPerUsernameInDatabase(
+                                        externalClientUsernae);
+                        String[] affectedUsernames =
+                                conversationParticipantsOf(externalClientUsernae);
+
                         boolean messageDeletionWasSuccessful =
                                 _DatabaseManagementSystem.dropAllRegisteredMessagesByClient(
                                         externalClientUsernae);
@@ -1083,7 +1704,9 @@ public class MessageServer {
                             System.out.println("[ServerSideComms] Succeeded at deleting user : " +
                                                        externalClientUsernae);
                             dispatchServerUIUpdateMessage();
-                            dispatchClientUIUpdateMessage();
+                            notifyConversationSubscribers(false, affectedUsernames);
+                            deletedClient.ifPresent(clientDTO -> publishDirectoryDelta(
+                                    List.of(), List.of(clientDTO)));
                             updateServerSideClientCount();
                             return true;
                         } else{
@@ -1178,6 +1801,7 @@ public class MessageServer {
             System.out.println("[ServerSideComms] Inicio de proceso de eliminacion de cliente " +
                                        "registrado:" +
                                        " " + externalClient);
+            String[] affectedUsernames = conversationParticipantsOf(externalClient);
             boolean messagesDeletionWasSuccessful =
                     _DatabaseManagementSystem.dropAllRegisteredMessagesByClient(
                             externalClient);
@@ -1185,7 +1809,7 @@ public class MessageServer {
                 System.out.println("[ServerSideComms] Se paso el proceso de elmiiniacion de " +
                                            "mensjaes del usuario:" + externalClient);
                 dispatchServerUIUpdateMessage();
-                dispatchClientUIUpdateMessage();
+                notifyConversationSubscribers(false, affectedUsernames);
                 updateServerSideClientCount();
                 return true;
             } else {
@@ -1340,7 +1964,9 @@ public class MessageServer {
      *     <li>Crea una nueva instancia del mensaje con el estado de conexion actualizado.</li>
      *     <li>Almacena el mensaje en la base de datos.</li>
      *     <li>Si el almacenamiento es exitoso, actualiza la interfaz de usuario del servidor.</li>
-     *     <li>Programa una actualizacion asincorna de la interfaz de usuario del cliente.</li>
+     *     <li>Envia el mensaje recien almacenado al receptor, si esta conectado y negocio
+     *     {@link BinaryWireProtocol#CAPABILITY_SERVER_PUSH}. El mensaje viaja con los usernames
+     *     en lugar de los UUIDs, igual que los mensajes leidos de la base de datos.</li>
      * </ul>
      *
      * @param externalMessageToSend El objeto MessageDTO que contiene la informacion del mensaje
@@ -1399,17 +2025,26 @@ public class MessageServer {
                             //? 4. Enviamos informacion a la UI
                             dispatchServerUIUpdateMessage();
 
-                            CompletableFuture.runAsync( () -> {
-                                try{
-                                    Thread.sleep(500);
-
-                                    dispatchClientUIUpdateMessage();
-                                } catch (InterruptedException e){
-                                    System.out.println("[ServerSideComms] Error: " + e.getMessage());
-                                    System.out.println("e.getMessage() = " + e.getMessage());
-                                    System.out.println("e.getCause() = " + e.getCause());
-                                }
-                            });
+                            //? 5. Entregamos unicamente el mensaje nuevo al receptor, en lugar
+                            //? de pedirle que vuelva a consultar todo su historial
+                            ClientHandler receiverHandler = this._connectedClients.get(receiverUUID);
+                            //? 6. Solo el emisor y el receptor estan interesados; los que no
+                            //? soportan push reciben un mandato para actualizar su historial
+                            notifyConversationSubscribers(
+                                    true,
+                                    resolveUsernameOfConnectedClient(
+                                            messageDTOWithUpdatedStatus._senderUUID()),
+                                    resolveUsernameOfConnectedClient(receiverUUID));
+                            if (receiverHandler != null) {
+                                receiverHandler.pushReceivedMessage(new MessageDTO(
+                                        resolveUsernameOfConnectedClient(
+                                                messageDTOWithUpdatedStatus._senderUUID()),
+                                        receiverHandler.clientUsername,
+                                        messageDTOWithUpdatedStatus._messageContent(),
+                                        messageDTOWithUpdatedStatus._messageTimestamp(),
+                                        messageDTOWithUpdatedStatus._senderConfirmation(),
+                                        messageDTOWithUpdatedStatus._receiverConfirmation()));
+                            }
 
                             return true;
                         } else {
@@ -1432,6 +2067,22 @@ public class MessageServer {
                     }
     }
 
+    /**
+     * <body style="color:white;">
+     * Traduce el UUID de un cliente conectado a su username. Los mensajes que el cliente
+     * recibe de la base de datos identifican a los usuarios por username, por lo que los
+     * mensajes enviados por push siguen la misma forma.
+     *
+     * @param clientUUID UUID enviado por el cliente en su {@link MessageDTO}.
+     * @return Username del cliente, o el mismo valor recibido si el cliente ya no esta
+     * conectado.
+     * </body>
+     */
+    private String resolveUsernameOfConnectedClient(String clientUUID) {
+        ClientHandler clientHandler = clientUUID == null ? null : _connectedClients.get(clientUUID);
+        return clientHandler != null ? clientHandler.clientUsername : clientUUID;
+    }
+
     /**
      * <body style="color:white;">
      * ClientHandler es una clase interna que gestiona la comunicación con un cliente conectado al servidor.
@@ -1449,9 +2100,8 @@ public class MessageServer {
      *     <li>Administrar los streams de entrada/salida para la comunicación</li>
      * </ul>
      *
-     * <p>Utiliza bloqueos concurrentes (ReentrantLock) para garantizar que las operaciones críticas
-     * de comunicación se realicen de manera segura y colas concurrentes para el procesamiento
-     * de mensajes.</p>
+     * <p>Todas las escrituras hacia el cliente pasan por su {@link OutboundFrameQueue}, de modo
+     * que los hilos de otros clientes solo encolan y nunca esperan a un cliente lento.</p>
      */
     private class ClientHandler implements Runnable {
         /**
@@ -1459,17 +2109,13 @@ public class MessageServer {
          * de llegar a esta zona, la idea es mantener el estado guardandolo aqui, al igual que
          * los streams.
          */
-        private final Socket clientSocket;
+        private final ClientConnection clientConnection;
         /**
-         * InputStream de tipo ObjectInputStream usado para recibir objetos y cadenas de mensajes
-         * de REQUEST desde el cliente.
+         * Protocolo negociado con el cliente, usado para recibir los comandos de REQUEST y
+         * enviar los ACKNOWLEDGE y objetos internos. Puede ser binario o de serializacion de
+         * Java dependiendo de la version del cliente.
          */
-        private ObjectInputStream inputStream;
-        /**
-         * OutputStream de tipo ObjectOutputStream usado para enviar objetos y cadenas de mensajes
-         * de ACKNOWLEDGE, asi como objetos internos, hacia el cliente.
-         */
-        private ObjectOutputStream outputStream;
+        private WireProtocol wireProtocol;
         /**
          * UUID del cliente, usado para identificarlo en el servidor.
          */
@@ -1483,10 +2129,147 @@ public class MessageServer {
          */
         private final AtomicBoolean running = new AtomicBoolean(true);
         /**
-         * Lock usado para garantizar que las operaciones de envio de mensajes sean atomicas y
-         * sincronizadas.
+         * Cola de salida del cliente. Las respuestas se escriben en el hilo que atiende sus
+         * peticiones; los mandatos y mensajes enviados por otros hilos se encolan y se escriben
+         * en el ejecutor de clientes.
+         */
+        private final OutboundFrameQueue outboundFrames;
+        /**
+         * Identificador de correlacion de la peticion que se esta atendiendo. Las respuestas lo
+         * repiten para que el cliente las asocie a su peticion aunque tenga varias en curso; los
+         * mandatos y los mensajes enviados por push usan {@link WireProtocol#UNCORRELATED}. Solo
+         * el hilo que lee los comandos del cliente lo modifica.
          */
-        private final ReentrantLock lockForOperationResultSending = new ReentrantLock();
+        private int requestCorrelationId = WireProtocol.UNCORRELATED;
+        /**
+         * Registro de la sesion en {@code _IdleConnectionWheel}, o {@code null} si el cliente no
+         * negocio {@link BinaryWireProtocol#CAPABILITY_HEARTBEAT}.
+         */
+        private final IdleConnectionWheel.Handle heartbeat;
+        /**
+         * Mensajes entregados al receptor por push y fallos al escribirlos.
+         */
+        private static final LongAdder MESSAGES_PUSHED = ServerMetrics.counter("messages.pushed");
+        private static final LongAdder MESSAGES_PUSH_FAILED =
+                ServerMetrics.counter("messages.push.failed");
+        /**
+         * Deltas del directorio encolados para los clientes.
+         */
+        private static final LongAdder DIRECTORY_DELTAS_SENT =
+                ServerMetrics.counter("directory.deltas.sent");
+        /**
+         * Mensajes retornados por las sincronizaciones incrementales.
+         */
+        private static final LongAdder MESSAGES_SYNCED = ServerMetrics.counter("messages.synced");
+        /**
+         * Cuanto se retrocede el cursor de una sincronizacion para cubrir mensajes cuyo
+         * timestamp (asignado por el cliente) es anterior al de otro ya almacenado.
+         */
+        private static final long MESSAGE_SYNC_CURSOR_OVERLAP_MILLIS = 5_000;
+        /**
+         * Paginas del historial entregadas y mensajes incluidos en ellas.
+         */
+        private static final LongAdder HISTORY_PAGES_SERVED =
+                ServerMetrics.counter("messages.history.pages");
+        private static final LongAdder MESSAGES_PAGED =
+                ServerMetrics.counter("messages.history.paged");
+        /**
+         * Tamano maximo de pagina que acepta el servidor, sin importar lo que solicite el
+         * cliente.
+         */
+        private static final int MAX_HISTORY_PAGE_SIZE = 500;
+        /**
+         * Solicitudes condicionales de la lista de clientes respondidas sin la lista y con ella.
+         */
+        private static final LongAdder DIRECTORY_REFRESH_NOT_MODIFIED =
+                ServerMetrics.counter("directory.refresh.not_modified");
+        private static final LongAdder DIRECTORY_REFRESH_SENT =
+                ServerMetrics.counter("directory.refresh.sent");
+        /**
+         * Tabla inmutable que asocia el texto de cada comando con su handler. Se construye una
+         * sola vez al cargar la clase, por lo que enrutar un comando es una busqueda en un
+         * {@link Map} en lugar de recorrer {@link UsefulCommunicationMessages#values()} (que
+         * copia el arreglo en cada llamada) comparando cadenas. Los comandos que llegan por el
+         * protocolo binario reutilizan las constantes del enum, cuyo hash ya esta calculado.
+         */
+        private static final Map<String, Consumer<ClientHandler>> COMMAND_DISPATCH_TABLE =
+                Map.ofEntries(
+                        /*! Todos estos casos son del proceso cliente -[info]-> servidor*/
+                        Map.entry(UsefulCommunicationMessages
+                                          .POST_MESSAGE_BROADCAST_REQUEST.get_message(),
+                                  handler -> {
+                                      System.out.println("[ServerSideComms] Cliente solicita " +
+                                                                 "enviar un mensaje");
+                                      handler.handlePostMessageBroadcastRequest();
+                                  }),
+                        Map.entry(UsefulCommunicationMessages
+                                          .POST_CLIENT_DISCONNECTION_REQUEST.get_message(),
+                                  handler -> {
+                                      System.out.println("[ServerSideComms] Cliente solicita " +
+                                                                 "desconectarse");
+                                      handler.handlePostClientDisconnectionRequest();
+                                  }),
+                        /*! Todos estos casos son del proceso cliente <-[info]-> servidor, es
+                        /*! decir, el cliente requiere informacion y envia peticiones para esta*/
+                        Map.entry(UsefulCommunicationMessages
+                                          .POST_MANDATORY_MESSAGE_LIST_UPDATE_REQUEST
+                                          .get_message(),
+                                  handler -> {
+                                      System.out.println("[ServerSideComms] Cliente solicita " +
+                                                                 "actualizar lista de mensajes");
+                                      handler.handleMessageListUpdateRequest();
+                                  }),
+                        Map.entry(UsefulCommunicationMessages
+                                          .POST_MESSAGE_LIST_SYNC_REQUEST.get_message(),
+                                  handler -> {
+                                      System.out.println("[ServerSideComms] Cliente solicita " +
+                                                                 "sincronizar mensajes nuevos");
+                                      handler.handleMessageListSyncRequest();
+                                  }),
+                        Map.entry(UsefulCommunicationMessages
+                                          .POST_MESSAGE_HISTORY_PAGE_REQUEST.get_message(),
+                                  handler -> {
+                                      System.out.println("[ServerSideComms] Cliente solicita " +
+                                                                 "una pagina del historial");
+                                      handler.handleMessageHistoryPageRequest();
+                                  }),
+                        Map.entry(UsefulCommunicationMessages
+                                          .POST_MANDATORY_CLIENT_LIST_UPDATE_REQUEST
+                                          .get_message(),
+                                  handler -> {
+                                      System.out.println("[ServerSideComms] Cliente solicita " +
+                                                                 "actualizar lista de clientes");
+                                      handler.handleClientListUpdateRequest();
+                                  }),
+                        Map.entry(UsefulCommunicationMessages
+                                          .POST_CLIENT_LIST_CONDITIONAL_REQUEST.get_message(),
+                                  handler -> {
+                                      System.out.println("[ServerSideComms] Cliente solicita " +
+                                                                 "actualizar lista de clientes " +
+                                                                 "si cambio");
+                                      handler.handleConditionalClientListRequest();
+                                  }),
+                        /*! La respuesta al heartbeat no requiere accion: processCommand ya
+                        /*! registro la actividad de la sesion*/
+                        Map.entry(UsefulCommunicationMessages
+                                          .POST_CLIENT_HEARTBEAT_PONG.get_message(),
+                                  handler -> { }),
+                        /*Handles para los casos de solo comunicacion*/
+                        Map.entry(UsefulCommunicationMessages
+                                          .POST_CLIENT_CLIENT_LIST_UPDATE_MANDATE.get_message(),
+                                  handler -> handler.sendMandateToClient(
+                                          UsefulCommunicationMessages
+                                                  .POST_CLIENT_CLIENT_LIST_UPDATE_MANDATE)),
+                        Map.entry(UsefulCommunicationMessages
+                                          .POST_CLIENT_MESSAGE_LIST_UPDATE_MANDATE.get_message(),
+                                  handler -> handler.sendMandateToClient(
+                                          UsefulCommunicationMessages
+                                                  .POST_CLIENT_MESSAGE_LIST_UPDATE_MANDATE)),
+                        Map.entry(UsefulCommunicationMessages
+                                          .POST_CLIENT_SHUTDOWN_MANDATE.get_message(),
+                                  handler -> handler.sendMandateToClient(
+                                          UsefulCommunicationMessages
+                                                  .POST_CLIENT_SHUTDOWN_MANDATE)));
 
         /**
          * <body style="color:white;">
@@ -1496,22 +2279,31 @@ public class MessageServer {
          * los canales de comunicación necesarios y registrando la informacion de identificacion
          * del cliente.</p>
          *
-         * @param socket El socket de conexion establecido con el cliente
-         * @param inputStream Stream de entrada para recibir datos del cliente
-         * @param outputStream Stream de salida para enviar datos al cliente
+         * @param clientConnection La conexion establecida con el cliente, bloqueante o NIO
+         * @param wireProtocol Protocolo negociado para comunicarse con el cliente
          * @param clientUUID Identificador unico universal del cliente
          * @param clientUsername Nombre de usuario del cliente
          */
-        public ClientHandler(Socket socket,
-                             ObjectInputStream inputStream,
-                             ObjectOutputStream outputStream,
+        public ClientHandler(ClientConnection clientConnection,
+                             WireProtocol wireProtocol,
                              String clientUUID,
                              String clientUsername) {
-            this.clientSocket = socket;
-            this.inputStream = inputStream;
-            this.outputStream = outputStream;
+            this.clientConnection = clientConnection;
+            this.wireProtocol = wireProtocol;
             this.clientUUID = clientUUID;
             this.clientUsername = clientUsername;
+            this.outboundFrames = new OutboundFrameQueue(() -> this.wireProtocol,
+                                                         _serviceForClients,
+                                                         _SlowConsumerPolicy,
+                                                         _OutboundQueueCapacity,
+                                                         this::disconnectSlowConsumer);
+            this.heartbeat = wireProtocol != null && wireProtocol.supportsCapability(
+                    BinaryWireProtocol.CAPABILITY_HEARTBEAT)
+                    ? _IdleConnectionWheel.register(
+                            () -> sendMandateToClient(
+                                    UsefulCommunicationMessages.POST_SERVER_HEARTBEAT_PING),
+                            this::evictUnresponsiveSession)
+                    : null;
         }
 
         /**
@@ -1537,19 +2329,20 @@ public class MessageServer {
         @Override
         public void run() {
             try {
-                if (inputStream == null || outputStream == null) {
+                if (wireProtocol == null) {
                     initializeStreams();
                 }
                 System.out.println("[ClientHandler para :" + this.clientUsername  + "] " +
                                            "construido" +
                                            " e inicializado");
-                while (running.get() && !clientSocket.isClosed()) {
+                while (running.get() && !clientConnection.isClosed()) {
                     try {
-                        String command = inputStream.readUTF();
+                        String command = wireProtocol.readCommand();
                         processCommand(command);
                     } catch (IOException e) {
                         if (running.get()) {
                             System.err.println("Error reading from client " + clientUsername + ": " + e.getMessage());
+                            releaseSession();
                             break;
                         }
                     }
@@ -1559,6 +2352,36 @@ public class MessageServer {
             }
         }
 
+        /**
+         * <body style="color:white;">
+         * Variante de {@link #run()} usada por el modo {@link TransportMode#NIO_SELECTOR}. En lugar
+         * de bloquear el hilo esperando el siguiente comando, procesa unicamente los comandos
+         * cuyos bytes ya fueron depositados por el event loop y retorna en cuanto el buffer de la
+         * conexion queda vacio, liberando el worker para otras conexiones.
+         *
+         * <p>Se consulta tanto el buffer interno del {@link WireProtocol} como el de la
+         * conexion, dado que un mismo flush del cliente puede contener varios comandos.</p>
+         * </body>
+         */
+        public void processAvailableCommands() {
+            try {
+                while (running.get() && !clientConnection.isClosed()
+                        && (wireProtocol.available() > 0 || clientConnection.hasPendingInput())) {
+                    String command = wireProtocol.readCommand();
+                    processCommand(command);
+                }
+            } catch (IOException e) {
+                if (running.get()) {
+                    System.err.println("Error reading from client " + clientUsername + ": "
+                                               + e.getMessage());
+                    releaseSession();
+                }
+            } catch (Exception e) {
+                System.err.println("Error in client handler for " + clientUsername + ": "
+                                           + e.getMessage());
+            }
+        }
+
         /**
          * <body style="color:white;">
          * Procesa los comandos recibidos del cliente y ejecuta las acciones correspondientes.
@@ -1568,9 +2391,10 @@ public class MessageServer {
          * servidor. El flujo de procesamiento incluye:</p>
          *
          * <ol>
-         *     <li>Identificar el tipo exacto del mensaje recibido comparandolo con los valores
-         *         definidos en el enum UsefulCommunicationMessages</li>
-         *     <li>Validar que el comando sea reconocido por el sistema</li>
+         *     <li>Buscar el handler del mensaje recibido en {@code COMMAND_DISPATCH_TABLE},
+         *         construida una sola vez a partir del enum UsefulCommunicationMessages</li>
+         *     <li>Validar que el comando sea reconocido por el sistema; los comandos desconocidos
+         *         se cuentan en {@link ServerMetrics#COMMANDS_UNKNOWN}</li>
          *     <li>Redirigir el procesamiento a handlers especializados dependiendo del tipo de comando</li>
          * </ol>
          *
@@ -1606,16 +2430,17 @@ public class MessageServer {
              ?comandos proveninentes de los UsefulCommunicationMessages enum.
              */
             try{
-                UsefulCommunicationMessages readInMessageFromUser = null;
-                //? 1. Encontramos el tipo exacto del mensaje para poder manejarlo
-                for(UsefulCommunicationMessages msg :UsefulCommunicationMessages.values()){
-                    if (msg.get_message().equals(commandReadFromSocket)){
-                        readInMessageFromUser = msg;break;
-                    }
+                //? 0. Cualquier comando cuenta como actividad de la sesion, incluido el PONG
+                if (heartbeat != null) {
+                    heartbeat.touch();
                 }
+                //? 1. Buscamos el handler del comando en la tabla construida al cargar la clase
+                Consumer<ClientHandler> commandHandler =
+                        COMMAND_DISPATCH_TABLE.get(commandReadFromSocket);
                 //! 1.1 Si el mensaje no fue correcto, entonces debemos de registrar la
-                //! comunicacion en el sistem
-                if (readInMessageFromUser == null){
+                //! comunicacion en el sistema y en las metricas
+                if (commandHandler == null){
+                    ServerMetrics.COMMANDS_UNKNOWN.increment();
                     System.out.println("Client Message: Error en el mensaje, el comando ingresado" +
                                                " + [" + commandReadFromSocket + "] es invalido.");
                     return;
@@ -1624,127 +2449,9 @@ public class MessageServer {
                 //? 2. Difurcamos la llamada dependiendo del tipo de comando. Nuestra
                 //? implementacion se basa en metodos parecidos a los de HTTP para manejar la
                 //? conexion con el usuario
-                switch(readInMessageFromUser){
-                    /*! Todos estos casos son del proceso cliente -[info]-> servidor*/
-                    case POST_MESSAGE_BROADCAST_REQUEST: {
-                        System.out.println("[ServerSideComms] Cliente solicita enviar un mensaje");
-                         handlePostMessageBroadcastRequest();
-                         break;
-                    }
-                    case POST_CLIENT_DISCONNECTION_REQUEST:{
-                        System.out.println("[ServerSideComms] Cliente solicita desconectarse");
-                        handlePostClientDisconnectionRequest();
-                        break;
-                    }
-                    /*! Todos estos casos son del proceso cliente <-[info]-> servidor, es decir,
-                    /*!el cliente requiere informacion y envia peticiones para esta*/
-                    case POST_MANDATORY_MESSAGE_LIST_UPDATE_REQUEST: {
-                        System.out.println("[ServerSideComms] Cliente solicita actualizar " +
-                                                   "lista de mensajes");
-                        handleMessageListUpdateRequest();
-                        break;
-                    }
-                    case POST_MANDATORY_CLIENT_LIST_UPDATE_REQUEST: {
-                        System.out.println("[ServerSideComms] Cliente solicita actualizar " +
-                                                   "lista de clientes");
-                        handleClientListUpdateRequest();
-                        break;
-                    }
-                    /*Handles para los casos de solo comunicacion*/
-                    case POST_CLIENT_CLIENT_LIST_UPDATE_MANDATE:{
-                        lockForOperationResultSending.lock();
-                        try{
-                            //? 1. Intentamos enviar el mensaje hacia el cliente
-                            outputStream.writeUTF(
-                                    UsefulCommunicationMessages
-                                            .POST_CLIENT_CLIENT_LIST_UPDATE_MANDATE
-                                            .get_message());
-                            outputStream.flush();
-                        } catch(EOFException e ){
-                            System.out.println("Error 0x001 - [Raised] No se pudo procesar el mensaje ingresado " +
-                                                       "por el usuario. Ha occurido un " +
-                                                       "EOFException");
-                            System.out.println("e.getMessage() = " + e.getMessage());
-                            System.out.println("e.getCause() = " + e.getCause());
-                        }catch(IOException e){
-                            System.out.println("Error 0x001 - [Raised] No se pudo procesar el mensaje ingresado " +
-                                                       "por el usuario.");
-                            System.out.println("e.getMessage() = " + e.getMessage());
-                            System.out.println("e.getCause() = " + e.getCause());
-                            e.printStackTrace();
-                        } catch(Exception e){
-                            System.out.println("Error 0x001 - [Raised] No se pudo procesar el mensaje ingresado " +
-                                                       "por el usuario.");
-                            System.out.println("e.getMessage() = " + e.getMessage());
-                            System.out.println("e.getCause() = " + e.getCause());
-                        }finally {
-                            lockForOperationResultSending.unlock();
-                        }
-                        break;
-                    }
-                    case POST_CLIENT_MESSAGE_LIST_UPDATE_MANDATE: {
-                        lockForOperationResultSending.lock();
-                        try{
-                            //? 1. Intentamos enviar el mensaje hacia el cliente
-                            outputStream.writeUTF(
-                                    UsefulCommunicationMessages
-                                            .POST_CLIENT_MESSAGE_LIST_UPDATE_MANDATE
-                                            .get_message());
-                            outputStream.flush();
-                        } catch(EOFException e ){
-                            System.out.println("Error 0x001 - [Raised] No se pudo procesar el mensaje ingresado " +
-                                                       "por el usuario. Ha occurido un " +
-                                                       "EOFException");
-                            System.out.println("e.getMessage() = " + e.getMessage());
-                            System.out.println("e.getCause() = " + e.getCause());
-                        }catch(IOException e){
-                            System.out.println("Error 0x001 - [Raised] No se pudo procesar el mensaje ingresado " +
-                                                       "por el usuario.");
-                            System.out.println("e.getMessage() = " + e.getMessage());
-                            System.out.println("e.getCause() = " + e.getCause());
-                            e.printStackTrace();
-                        } catch(Exception e){
-                            System.out.println("Error 0x001 - [Raised] No se pudo procesar el mensaje ingresado " +
-                                                       "por el usuario.");
-                            System.out.println("e.getMessage() = " + e.getMessage());
-                            System.out.println("e.getCause() = " + e.getCause());
-                        }finally {
-                            lockForOperationResultSending.unlock();
-                        }
-                        break;
-                    }
-                    case POST_CLIENT_SHUTDOWN_MANDATE:{
-                        lockForOperationResultSending.lock();
-                        try{
-                            //? 1. Intentamos enviar el mensaje hacia el cliente
-                            outputStream.writeUTF(
-                                    UsefulCommunicationMessages
-                                            .POST_CLIENT_SHUTDOWN_MANDATE
-                                            .get_message());
-                            outputStream.flush();
-                        } catch(EOFException e ){
-                            System.out.println("Error 0x001 - [Raised] No se pudo procesar el mensaje ingresado " +
-                                                       "por el usuario. Ha occurido un " +
-                                                       "EOFException");
-                            System.out.println("e.getMessage() = " + e.getMessage());
-                            System.out.println("e.getCause() = " + e.getCause());
-                        }catch(IOException e){
-                            System.out.println("Error 0x001 - [Raised] No se pudo procesar el mensaje ingresado " +
-                                                       "por el usuario.");
-                            System.out.println("e.getMessage() = " + e.getMessage());
-                            System.out.println("e.getCause() = " + e.getCause());
-                            e.printStackTrace();
-                        } catch(Exception e){
-                            System.out.println("Error 0x001 - [Raised] No se pudo procesar el mensaje ingresado " +
-                                                       "por el usuario.");
-                            System.out.println("e.getMessage() = " + e.getMessage());
-                            System.out.println("e.getCause() = " + e.getCause());
-                        }finally {
-                            lockForOperationResultSending.unlock();
-                        }
-                        break;
-                    }
-                }
+                ServerMetrics.COMMANDS_DISPATCHED.increment();
+                requestCorrelationId = wireProtocol.getLastReadCorrelationId();
+                commandHandler.accept(this);
             } catch (Exception e){
                 e.printStackTrace();
                 System.out.println("Error 0x002 - [Raised] No se pudo procesar el mensaje ingresado " +
@@ -1752,6 +2459,182 @@ public class MessageServer {
             }
         }
 
+        /**
+         * <body style="color:white;">
+         * Encola un mandato del servidor en la cola de salida del cliente. Si ya hay uno del
+         * mismo tipo pendiente no se repite. El mandato de apagado se escribe en el hilo que
+         * llama, ya que la conexion se cierra a continuacion.
+         *
+         * @param mandate Mandato a enviar al cliente.
+         * </body>
+         */
+        private void sendMandateToClient(UsefulCommunicationMessages mandate) {
+            if (mandate != UsefulCommunicationMessages.POST_CLIENT_SHUTDOWN_MANDATE) {
+                outboundFrames.offer(OutboundFrame.mandate(mandate));
+                return;
+            }
+            try {
+                outboundFrames.send(OutboundFrame.mandate(mandate));
+            } catch (IOException e) {
+                System.out.println("Error 0x001 - [Raised] No se pudo enviar el mandato " + mandate
+                                           + " al cliente " + clientUsername);
+                System.out.println("e.getMessage() = " + e.getMessage());
+                System.out.println("e.getCause() = " + e.getCause());
+            }
+        }
+
+        /**
+         * <body style="color:white;">
+         * Encola para el cliente un mensaje que acaba de ser almacenado para el:
+         * {@code POST_RECEIVED_MESSAGE_TO_CLIENT} seguido del frame del mensaje. Si la cola esta
+         * llena y la politica es {@link SlowConsumerPolicy#COALESCE}, el mensaje se reemplaza por
+         * {@code POST_CLIENT_MESSAGE_LIST_UPDATE_MANDATE} y el cliente lo recupera al
+         * sincronizar. Los clientes que no negociaron
+         * {@link BinaryWireProtocol#CAPABILITY_SERVER_PUSH} leen el socket solo despues de una
+         * peticion, asi que a ellos no se les envia nada y siguen actualizando su historial con
+         * {@code POST_MANDATORY_MESSAGE_LIST_UPDATE_REQUEST}.
+         *
+         * @param receivedMessage Mensaje ya almacenado, con usernames en emisor y receptor.
+         * @return {@code true} si el mensaje quedo pendiente de escritura.
+         * </body>
+         */
+        private boolean pushReceivedMessage(MessageDTO receivedMessage) {
+            WireProtocol currentProtocol = wireProtocol;
+            if (currentProtocol == null || !running.get()
+                    || !currentProtocol.supportsCapability(
+                            BinaryWireProtocol.CAPABILITY_SERVER_PUSH)) {
+                return false;
+            }
+            boolean isQueued = outboundFrames.offer(OutboundFrame.event(
+                    UsefulCommunicationMessages.POST_CLIENT_MESSAGE_LIST_UPDATE_MANDATE,
+                    protocol -> {
+                        protocol.writeCommand(
+                                UsefulCommunicationMessages.POST_RECEIVED_MESSAGE_TO_CLIENT);
+                        protocol.writeMessage(receivedMessage);
+                    }));
+            if (isQueued) {
+                MESSAGES_PUSHED.increment();
+            } else {
+                MESSAGES_PUSH_FAILED.increment();
+                System.out.println("[ServerSideComms] Error: no se pudo encolar el mensaje nuevo " +
+                                           "para el cliente " + clientUsername);
+            }
+            return isQueued;
+        }
+
+        /**
+         * <body style="color:white;">
+         * Encola para el cliente los usuarios registrados y eliminados desde su ultima lista:
+         * {@code POST_CLIENT_DIRECTORY_DELTA} seguido de ambas listas. Si la cola esta llena y
+         * la politica es {@link SlowConsumerPolicy#COALESCE}, el delta se reemplaza por
+         * {@code POST_CLIENT_CLIENT_LIST_UPDATE_MANDATE}.
+         *
+         * @param addedClients   Usuarios registrados, sin credenciales.
+         * @param removedClients Usuarios eliminados, sin credenciales.
+         * @return {@code false} si el cliente no negocio
+         * {@link BinaryWireProtocol#CAPABILITY_DIRECTORY_DELTA} y necesita recargar la lista
+         * completa.
+         * </body>
+         */
+        private boolean sendDirectoryDelta(List<ClientDTO> addedClients,
+                                           List<ClientDTO> removedClients) {
+            if (!supportsCapability(BinaryWireProtocol.CAPABILITY_DIRECTORY_DELTA)) {
+                return false;
+            }
+            if (outboundFrames.offer(OutboundFrame.event(
+                    UsefulCommunicationMessages.POST_CLIENT_CLIENT_LIST_UPDATE_MANDATE,
+                    protocol -> {
+                        protocol.writeCommand(UsefulCommunicationMessages.POST_CLIENT_DIRECTORY_DELTA);
+                        protocol.writeClientList(addedClients);
+                        protocol.writeClientList(removedClients);
+                    }))) {
+                DIRECTORY_DELTAS_SENT.increment();
+            }
+            return true;
+        }
+
+        private boolean supportsCapability(int capability) {
+            WireProtocol currentProtocol = wireProtocol;
+            return currentProtocol != null && running.get()
+                    && currentProtocol.supportsCapability(capability);
+        }
+
+        /**
+         * <body style="color:white;">
+         * Escribe la respuesta a la peticion que se esta atendiendo, con su identificador de
+         * correlacion, en el hilo que llama.
+         *
+         * @param responseWriter ACKNOWLEDGE y payload de la respuesta.
+         * @throws IOException si la escritura falla.
+         * </body>
+         */
+        private void sendResponse(OutboundFrameQueue.FrameWriter responseWriter) throws IOException {
+            outboundFrames.send(OutboundFrame.response(requestCorrelationId, responseWriter));
+        }
+
+        /**
+         * <body style="color:white;">
+         * Cierra la conexion de un cliente cuya cola de salida se lleno bajo
+         * {@link SlowConsumerPolicy#DISCONNECT}, con la misma limpieza que una desconexion
+         * solicitada por el cliente.
+         * </body>
+         */
+        private void disconnectSlowConsumer() {
+            System.out.println("[ServerSideComms] Cliente lento desconectado: " + clientUsername);
+            releaseSession();
+        }
+
+        /**
+         * <body style="color:white;">
+         * Desaloja una sesion que no respondio al ping del heartbeat dentro del plazo, es decir,
+         * una conexion medio abierta cuyo par ya no existe. Se ejecuta en el hilo de
+         * {@code _IdleConnectionWheel}.
+         * </body>
+         */
+        private void evictUnresponsiveSession() {
+            System.out.println("[ServerSideComms] Cliente sin respuesta al heartbeat desalojado: "
+                                       + clientUsername);
+            releaseSession();
+        }
+
+        /**
+         * <body style="color:white;">
+         * Cierra la sesion durante el apagado del servidor: envia el mandato de apagado y libera
+         * la sesion con {@link #releaseSession()}. No ejecuta ningun comando en nombre del
+         * cliente; cerrar la conexion termina el ciclo de lectura del handler en su propio hilo.
+         * </body>
+         */
+        private void closeForShutdown() {
+            sendMandateToClient(UsefulCommunicationMessages.POST_CLIENT_SHUTDOWN_MANDATE);
+            releaseSession();
+        }
+
+        /**
+         * <body style="color:white;">
+         * Retira la sesion del servidor con la misma limpieza que una desconexion solicitada por
+         * el cliente y publica el cambio en la UI del servidor. Solo la primera llamada tiene
+         * efecto, por lo que el fallo de una lectura y el desalojo del heartbeat pueden coincidir.
+         * Los registros de la sesion solo se eliminan si aun le pertenecen, ya que el usuario
+         * pudo autenticarse de nuevo o reanudar su sesion desde otra conexion.
+         * </body>
+         */
+        private void releaseSession() {
+            if (!running.compareAndSet(true, false)) {
+                return;
+            }
+            //? Si otra conexion del mismo usuario ya reemplazo a esta sesion, sus registros
+            //? (con el mismo UUID) pertenecen a la nueva y no se tocan
+            if (clientUUID != null
+                    && MessageServer.this._connectedClients.remove(clientUUID, this)) {
+                MessageServer.this._Subscriptions.unsubscribeAll(clientUUID);
+                if (clientUsername != null) {
+                    MessageServer.this._usernameToUuidMap.remove(clientUsername, clientUUID);
+                }
+            }
+            closeResources();
+            MessageServer.this.updateServerSideClientCount();
+            MessageServer.this.dispatchServerUIUpdateMessage();
+        }
 
         /**
          * <body style="color:white;">
@@ -1761,74 +2644,63 @@ public class MessageServer {
          * de la lista de clientes. Implementa un protocolo de comunicacion que sigue estos pasos:</p>
          *
          * <ol>
-         *     <li>Adquiere un bloqueo para garantizar la exclusividad durante la respuesta</li>
          *     <li>Verifica que el cliente este correctamente inicializado (nombre de usuario y canal de salida)</li>
-         *     <li>Envia un mensaje de confirmacion al cliente usando el protocolo definido</li>
          *     <li>Consulta la base de datos para obtener la lista actualizada de todos los usuarios registrados</li>
-         *     <li>Serializa y envia la lista de objetos ClientDTO al cliente solicitante</li>
-         *     <li>Libera el bloqueo al finalizar (exito o error)</li>
+         *     <li>Escribe el mensaje de confirmacion seguido de la lista de objetos ClientDTO en
+         *     un solo flush a traves de la cola de salida</li>
          * </ol>
          *
-         * <p>El metodo utiliza un sistema de bloqueo (lock) para evitar condiciones de carrera
-         * durante la comunicacion con el cliente. Ademas, implementa un patron de manejo de errores
-         * en capas para distinguir entre errores de comunicacion y errores de acceso a datos.</p>
+         * <p>Si la consulta falla se responde con una lista vacia, de modo que el cliente siempre
+         * recibe el payload que sigue al ACKNOWLEDGE.</p>
          *
          * @throws IOException Si ocurre un error en la comunicacion con el cliente durante el envio
          *                     de la confirmacion o la lista de clientes
-         * @throws CompletionException Si falla la consulta a la base de datos, encapsulando la excepcion original
          * @throws Exception Para capturar cualquier otro error no previsto durante la ejecucion
          *
          * @see UsefulCommunicationMessages
          * @see ClientDTO
          */
         public void handleClientListUpdateRequest() {
-           lockForOperationResultSending.lock();
             //? 1. Revisa los parametros internos del ClientHandler, esto por si acaso se cole un
             // clientHandler que no esta inicicializado correctamente.
-            if (clientUsername == null || outputStream == null) {
+            if (clientUsername == null || wireProtocol == null) {
                 System.out.println("[ServerSideComms] POST REQUEST RECEIVED: El cliente quiso " +
                                            "acutalizarla lista de mensajes, cliente:"
                                            + (clientUsername == null) + ", pero el sistema " +
-                                           "detecto un OutputStream nulo: " +
-                                           (outputStream == null));
+                                           "detecto un WireProtocol nulo: " +
+                                           (wireProtocol == null));
                 return;
             }
 
-            //? 2. Inicializamos el proceso interno, el primer paso es enviar un ACKNOWLEDGE
-            // hacia el cliente.
-            List<ClientDTO> operationFuture = null;
+            //? 2. Consultamos la lista antes de responder, de modo que el ACKNOWLEDGE y la
+            // lista salgan juntos en un solo flush
+            List<ClientDTO> operationFuture;
             try {
-                outputStream.writeUTF(UsefulCommunicationMessages
-                                      .POST_MANDATORY_CLIENT_LIST_UPDATE_ACKNOWLEDGMENT
-                                      .get_message());
-                outputStream.flush();
-                System.out.println("[ServerSideComms] POST REQUEST RECEIVED: EL servidor ha " +
-                                           "enviado un mensaje de acknowledge para actualizar la " +
-                                           "lista de mensajes al cliente : "  +
-                                           " " + clientUsername);
-                try {
-                    System.out.println("[ServerSideComms] POST REQUEST RECEIVED: " +
-                                               "El servidor ha iniciado una peticion para obtener" +
-                                               " todos los clientes registrados");
-                    operationFuture = _DatabaseManagementSystem.pollAllRegisteredUsersInDatabase();
-                } catch (Exception e) {
-                    System.out.println("[ServerSideComms] POST REQUEST RECEIVED: error en la base" +
-                                               " de datos" +
-                                               " " + e.getMessage());
-                    throw new CompletionException("[ServerSideComms] Error en la base de datos", e);
-                }
-                    if (operationFuture == null || operationFuture.isEmpty()) {
-                        System.out.println("[ServerSideComms] POST REQUEST RECEIVED: error en la " +
-                                                   "base de datos, no se pudo obtener la lista de " +
-                                                   "clientes");
-                    }
-                    System.out.println("[ServerSideComms] POST REQUEST RECEIVED: El servidor " +
-                                               "ha obtenido la lista de clientes registrados, " +
-                                               "enviando al cliente" + clientUsername);
-                    outputStream.writeObject(operationFuture);
-                    outputStream.flush();
-                    System.out.println("[ServerSideComms] Successfully sent client list to: " + clientUsername);
+                System.out.println("[ServerSideComms] POST REQUEST RECEIVED: " +
+                                           "El servidor ha iniciado una peticion para obtener" +
+                                           " todos los clientes registrados");
+                operationFuture = _DatabaseManagementSystem.pollAllRegisteredUsersInDatabase();
+            } catch (Exception e) {
+                System.out.println("[ServerSideComms] POST REQUEST RECEIVED: error en la base" +
+                                           " de datos" +
+                                           " " + e.getMessage());
+                operationFuture = List.of();
+            }
+            if (operationFuture == null || operationFuture.isEmpty()) {
+                System.out.println("[ServerSideComms] POST REQUEST RECEIVED: error en la " +
+                                           "base de datos, no se pudo obtener la lista de " +
+                                           "clientes");
+            }
 
+            //? 3. Respondemos con el ACKNOWLEDGE seguido de la lista
+            List<ClientDTO> registeredClients = operationFuture;
+            try {
+                sendResponse(protocol -> {
+                    protocol.writeCommand(UsefulCommunicationMessages
+                                                  .POST_MANDATORY_CLIENT_LIST_UPDATE_ACKNOWLEDGMENT);
+                    protocol.writeClientList(registeredClients);
+                });
+                System.out.println("[ServerSideComms] Successfully sent client list to: " + clientUsername);
             } catch (IOException e) {
                 System.err.println("[ServerSideComms] Communication error: " + e.getMessage());
                 System.out.println("e.getMessage() = " + e.getMessage());
@@ -1840,8 +2712,55 @@ public class MessageServer {
                 System.out.println("e.getCause() = " + e.getCause());
                 e.printStackTrace();
             }
-            finally {
-                lockForOperationResultSending.unlock();
+        }
+
+        /**
+         * <body style="color:white;">
+         * Responde a {@code POST_CLIENT_LIST_CONDITIONAL_REQUEST}. El cliente envia el request
+         * seguido de la version del directorio que ya tiene; si coincide con la actual se
+         * responde {@code POST_CLIENT_LIST_NOT_MODIFIED} sin payload. Si no, el ACKNOWLEDGE
+         * viaja seguido de la version actual y de la lista sin hashes ni salts, ambas tomadas
+         * de la misma vista del directorio.
+         * </body>
+         */
+        private void handleConditionalClientListRequest() {
+            if (clientUsername == null || wireProtocol == null) {
+                System.out.println("[ServerSideComms] Error: Invalid parameters" +
+                                           "\nUsername null: " + (clientUsername == null) +
+                                           "\nWireProtocol null: " + (wireProtocol == null));
+                return;
+            }
+            try {
+                //? 1. Leemos la version que acompana al request
+                long knownVersion = wireProtocol.readDirectoryVersion();
+                ClientDirectoryCache.DirectoryView directoryView =
+                        _DatabaseManagementSystem.pollClientDirectoryView();
+
+                //? 2. Si el cliente ya tiene esta version no se envia la lista
+                if (directoryView.version() == knownVersion) {
+                    DIRECTORY_REFRESH_NOT_MODIFIED.increment();
+                    sendResponse(protocol -> protocol.writeCommand(
+                            UsefulCommunicationMessages.POST_CLIENT_LIST_NOT_MODIFIED));
+                    return;
+                }
+
+                //? 3. Respondemos con el ACKNOWLEDGE seguido de la version y la lista
+                List<ClientDTO> directory = directoryView.clients().stream()
+                        .map(MessageServer::withoutCredentials)
+                        .toList();
+                DIRECTORY_REFRESH_SENT.increment();
+                sendResponse(protocol -> {
+                    protocol.writeCommand(UsefulCommunicationMessages
+                                                  .POST_CLIENT_LIST_CONDITIONAL_ACKNOWLEDGMENT);
+                    protocol.writeDirectoryVersion(directoryView.version());
+                    protocol.writeClientList(directory);
+                });
+            } catch (IOException e) {
+                System.err.println("[ServerSideComms] Communication error during client list " +
+                                           "refresh: " + e.getMessage());
+            } catch (Exception e) {
+                System.err.println("[ServerSideComms] Unexpected error in client list refresh: "
+                                           + e.getMessage());
             }
         }
 
@@ -1852,20 +2771,16 @@ public class MessageServer {
              ? senales informatias de haber recibido el mensaje, etc. La implementacion de este
              ? metodo sigue la idea basica de una HTTP API con un handler para un post
              */
-            lockForOperationResultSending.lock();
             try {
                 System.out.println("[ServerSideComms] POST REQUEST: Handling message broadcast " +
                                            "request for " +
                                            "client: " + clientUsername);
-                //? 2. Luego de recibir el POST REQUEST, enviamos un ACKNOWLEDGE al cliente.
-                outputStream.writeUTF(
-                        UsefulCommunicationMessages
-                                .POST_MESSAGE_BROADCAST_ACKNOWLEDGEMENT
-                                .get_message());
-                outputStream.flush();
+                //? 2. Luego de recibir el POST REQUEST, enviamos un ACKNOWLEDGE al cliente
+                sendResponse(protocol -> protocol.writeCommand(
+                        UsefulCommunicationMessages.POST_MESSAGE_BROADCAST_ACKNOWLEDGEMENT));
 
                 //? 3. Intentamos leer la informacion del cliente
-                MessageDTO messageDTO = (MessageDTO) inputStream.readObject();
+                MessageDTO messageDTO = wireProtocol.readMessage();
 
                 if (messageDTO == null){
                     System.out.println("[ServerSideComms] POST REQUEST: Error reading message from " +
@@ -1910,64 +2825,43 @@ public class MessageServer {
                 System.out.println("e.getClass() = " + e.getClass());
                 e.printStackTrace();
             }
-            finally {
-                lockForOperationResultSending.unlock();
-            }
         }
         public void handleMessageListUpdateRequest() {
-
-            // Add a status flag to track operation completion
-            AtomicBoolean operationComplete = new AtomicBoolean(false);
             // 1. Enhanced parameter validation with detailed logging
-            if (clientUsername == null || outputStream == null) {
+            if (clientUsername == null || wireProtocol == null) {
                 System.out.println("[ServerSideComms] Error: Invalid parameters" +
                                            "\nUsername null: " + (clientUsername == null) +
-                                           "\nOutputStream null: " + (outputStream == null));
+                                           "\nWireProtocol null: " + (wireProtocol == null));
                 return;
             }
 
-            lockForOperationResultSending.lock();
-            Map<String, List<MessageDTO>> operationFuture = null;
-
-
             try {
-                    outputStream.writeUTF(UsefulCommunicationMessages
-                                                  .POST_MANDATORY_MESSAGE_LIST_UPDATE_ACKNOWLEDGMENT
-                                                  .get_message());
-                    outputStream.flush();
-
-
-                System.out.println("[ServerSideComms] Sent acknowledgement to client: " + clientUsername);
-
+                //? 2. Consultamos el historial antes de responder, de modo que el ACKNOWLEDGE y
+                //? el mapa salgan juntos en un solo flush
                 System.out.println("[ServerSideComms] Database Querying: Retrieving messages for client: "
                                            + clientUsername);
-                operationFuture = _DatabaseManagementSystem
+                Map<String, List<MessageDTO>> operationFuture = _DatabaseManagementSystem
                         .pollAllSentAndReceivedMessagesByUsername(clientUsername);
 
-                try {
-                    if (operationFuture.isEmpty()) {
-                        System.out.println("[ServerSideComms] Info: Empty message map for client: "
-                                                   + clientUsername);
-                    }
-
-                    if (!operationFuture.isEmpty()) {
-                        System.out.println("[ServerSideComms] Message map contents for " + clientUsername + ":");
-                        operationFuture.forEach((recipient, messages) -> {
-                            System.out.println("Recipient: " + recipient + ", Message count: "
-                                                       + messages.size());
-                        });
-                        System.out.println("[ServerSideComms] Sending message map to client: "
-                                                   + clientUsername);
-                        outputStream.writeObject(operationFuture);
-                        outputStream.flush();
-                        System.out.println("[ServerSideComms] Successfully sent message map to: "
-                                                   + clientUsername);
-                    }
-                } finally {
-                    lockForOperationResultSending.unlock();
+                if (operationFuture.isEmpty()) {
+                    System.out.println("[ServerSideComms] Info: Empty message map for client: "
+                                               + clientUsername);
+                } else {
+                    System.out.println("[ServerSideComms] Message map contents for " + clientUsername + ":");
+                    operationFuture.forEach((recipient, messages) -> {
+                        System.out.println("Recipient: " + recipient + ", Message count: "
+                                                   + messages.size());
+                    });
                 }
 
-
+                //? 3. Respondemos con el ACKNOWLEDGE seguido del mapa
+                sendResponse(protocol -> {
+                    protocol.writeCommand(UsefulCommunicationMessages
+                                                  .POST_MANDATORY_MESSAGE_LIST_UPDATE_ACKNOWLEDGMENT);
+                    protocol.writeMessageMap(operationFuture);
+                });
+                System.out.println("[ServerSideComms] Successfully sent message map to: "
+                                           + clientUsername);
             } catch (IOException e) {
                 System.err.println("[ServerSideComms] Communication error during message list update: "
                                            + e.getMessage());
@@ -1975,9 +2869,116 @@ public class MessageServer {
                 System.err.println("[ServerSideComms] Unexpected error in message list update: " + e.getMessage());
             }
         }
+
+        /**
+         * <body style="color:white;">
+         * Responde a {@code POST_MESSAGE_LIST_SYNC_REQUEST}. El cliente envia el request seguido
+         * del timestamp del mensaje mas reciente que conoce, y el servidor responde con el
+         * ACKNOWLEDGE seguido solo de los mensajes a partir de ese cursor, en el mismo formato
+         * de mapa que {@link #handleMessageListUpdateRequest()}.
+         *
+         * <p>Los timestamps los asigna el cliente que envia, por lo que un mensaje escrito un
+         * poco antes que otro puede almacenarse despues de el. Para no perderlo, el cursor se
+         * retrocede {@link #MESSAGE_SYNC_CURSOR_OVERLAP_MILLIS}; el cliente descarta los
+         * mensajes repetidos al combinarlos con sus listas.</p>
+         *
+         * <p>La consulta a la base de datos se hace antes de responder, de modo que el
+         * ACKNOWLEDGE y el mapa salen juntos en un solo flush.</p>
+         * </body>
+         */
+        private void handleMessageListSyncRequest() {
+            if (clientUsername == null || wireProtocol == null) {
+                System.out.println("[ServerSideComms] Error: Invalid parameters" +
+                                           "\nUsername null: " + (clientUsername == null) +
+                                           "\nWireProtocol null: " + (wireProtocol == null));
+                return;
+            }
+            try {
+                //? 1. Leemos el cursor que acompana al request
+                Timestamp clientCursor = wireProtocol.readSyncCursor();
+                Timestamp queryCursor = clientCursor == null
+                        ? null
+                        : new Timestamp(clientCursor.getTime() - MESSAGE_SYNC_CURSOR_OVERLAP_MILLIS);
+
+                //? 2. Consultamos unicamente los mensajes nuevos
+                Map<String, List<MessageDTO>> newMessages = _DatabaseManagementSystem
+                        .pollSentAndReceivedMessagesByUsernameSince(clientUsername, queryCursor);
+                newMessages.values().forEach(messages -> MESSAGES_SYNCED.add(messages.size()));
+                System.out.println("[ServerSideComms] Sincronizacion de mensajes para " +
+                                           clientUsername + " desde " + clientCursor + ": " +
+                                           newMessages.getOrDefault("sentMessages", List.of()).size()
+                                           + " enviados, " +
+                                           newMessages.getOrDefault("receivedMessages", List.of()).size()
+                                           + " recibidos");
+
+                //? 3. Respondemos con el ACKNOWLEDGE seguido del mapa
+                sendResponse(protocol -> {
+                    protocol.writeCommand(
+                            UsefulCommunicationMessages.POST_MESSAGE_LIST_SYNC_ACKNOWLEDGMENT);
+                    protocol.writeMessageMap(newMessages);
+                });
+            } catch (IOException | ClassNotFoundException | ClassCastException e) {
+                System.err.println("[ServerSideComms] Communication error during message sync: "
+                                           + e.getMessage());
+            } catch (Exception e) {
+                System.err.println("[ServerSideComms] Unexpected error in message sync: "
+                                           + e.getMessage());
+            }
+        }
+
+        /**
+         * <body style="color:white;">
+         * Responde a {@code POST_MESSAGE_HISTORY_PAGE_REQUEST}. El cliente envia el request
+         * seguido del usuario de la conversacion y del cursor del mensaje mas antiguo que ya
+         * tiene, y el servidor responde con el ACKNOWLEDGE seguido de la pagina anterior a ese
+         * cursor y del cursor para la siguiente. El tamano solicitado se limita a
+         * {@link #MAX_HISTORY_PAGE_SIZE}; si no es positivo se usa el de la pagina del login.
+         *
+         * <p>La consulta a la base de datos se hace antes de responder, de modo que el
+         * ACKNOWLEDGE y la pagina salen juntos en un solo flush.</p>
+         * </body>
+         */
+        private void handleMessageHistoryPageRequest() {
+            if (clientUsername == null || wireProtocol == null) {
+                System.out.println("[ServerSideComms] Error: Invalid parameters" +
+                                           "\nUsername null: " + (clientUsername == null) +
+                                           "\nWireProtocol null: " + (wireProtocol == null));
+                return;
+            }
+            try {
+                //? 1. Leemos el cursor que acompana al request
+                MessageHistoryPageRequestDTO pageRequest = wireProtocol.readHistoryPageRequest();
+                int pageSize = pageRequest.pageSize() > 0
+                        ? Math.min(pageRequest.pageSize(), MAX_HISTORY_PAGE_SIZE)
+                        : _LoginHistoryPageSize;
+
+                //? 2. Consultamos solo la pagina anterior al cursor
+                MessageHistoryPageDTO historyPage = _DatabaseManagementSystem
+                        .pollConversationHistoryPage(clientUsername,
+                                                     pageRequest.peerUsername(),
+                                                     pageRequest.beforeTimestamp(),
+                                                     pageRequest.beforeMessageId(),
+                                                     pageSize);
+                HISTORY_PAGES_SERVED.increment();
+                MESSAGES_PAGED.add(historyPage.messages().size());
+
+                //? 3. Respondemos con el ACKNOWLEDGE seguido de la pagina
+                sendResponse(protocol -> {
+                    protocol.writeCommand(
+                            UsefulCommunicationMessages.POST_MESSAGE_HISTORY_PAGE_ACKNOWLEDGMENT);
+                    protocol.writeHistoryPage(historyPage);
+                });
+            } catch (IOException | ClassNotFoundException | ClassCastException e) {
+                System.err.println("[ServerSideComms] Communication error during history page: "
+                                           + e.getMessage());
+            } catch (Exception e) {
+                System.err.println("[ServerSideComms] Unexpected error in history page: "
+                                           + e.getMessage());
+            }
+        }
+
         private void handlePostClientDisconnectionRequest() {
             try {
-                lockForOperationResultSending.lock();
                 //! Validacion de Datos
                 if (clientUsername == null || clientUUID == null){
                     System.out.println("[ServerSideComms] Error: Client username or UUID is null");
@@ -1987,9 +2988,9 @@ public class MessageServer {
                                            ": " + clientUsername + "with UUID: " + clientUUID);
                 //? 2. Enviamos mensaje de confirmacion
                 try {
-                    outputStream.writeUTF(UsefulCommunicationMessages.
-                                                  POST_CLIENT_DISCONNECTION_REQUEST_ACKNOWLEDGEMENT.get_message());
-                    outputStream.flush();
+                    sendResponse(protocol -> protocol.writeCommand(
+                            UsefulCommunicationMessages
+                                    .POST_CLIENT_DISCONNECTION_REQUEST_ACKNOWLEDGEMENT));
                 } catch (IOException e) {
                     System.out.println("Error sending disconnection acknowledgement to client " +
                                                clientUsername + ": " + e.getMessage());
@@ -1998,71 +2999,31 @@ public class MessageServer {
                     e.printStackTrace();
                 }
 
-                //? 3. Limpiamos recursos del sistema
-                CompletableFuture.runAsync(() -> {
-                    try {
-                        //! 3. Limpiamos Recursos!
-                        //! 3.1. Removes al cliente del listaod de clientes conectados
-                        if (clientUUID != null) {
-                            MessageServer.this._connectedClients.remove(clientUUID);
-                        }
-                        //! 3.2. Removes al usuario del mapeo de UUID a Usernames
-                        if (clientUsername != null) {
-                            MessageServer.this._usernameToUuidMap.remove(clientUsername);
-                        }
-                        //! 3.3. Actualizamos la UI del servidor
-                        MessageServer.this.updateServerSideClientCount();
-                        MessageServer.this.dispatchServerUIUpdateMessage();
-                        MessageServer.this.dispatchClientUIUpdateMessage();
-
-                        //! 3.4 Cerramos resto de recursos internos
-                        this.running.set(false);
-                        closeResources();
-                        System.out.println("Client " + clientUsername + " disconnected successfully");
-                    }catch (Exception e){
-                        System.out.println("[ServerSideComms] Unexpected error cleaning up " +
-                                                   "resources for client " + clientUsername +
-                                                   ": " + e.getMessage());
-                        System.out.println("e.getMessage() = " + e.getMessage());
-                        System.out.println("e.getCause() = " + e.getCause());
-                        e.printStackTrace();
-                    }
-                }).exceptionally(new Function<Throwable, Void>() {
-                    @Override
-                    public Void apply(Throwable throwable) {
-                        System.out.println("[ServerSideComms] Unexpected error cleaning up " +
-                                                   "resources for client " + clientUsername +
-                                                   ": " + throwable.getMessage());
-                        System.out.println("throwable = " + throwable.getMessage());
-                        System.out.println("throwable.getCause() = " + throwable.getCause());
-                        return null;
-                    }
-                });
-                running.set(false);
-                closeResources();
+                //? 3. Liberamos la sesion por el mismo camino que cualquier otro cierre: los
+                //? registros solo se eliminan si aun pertenecen a esta conexion, ya que el
+                //? usuario pudo reanudar o reemplazar su sesion desde otra
+                releaseSession();
+                System.out.println("Client " + clientUsername + " disconnected successfully");
 
             } catch (Exception e) {
                 System.err.println("Error al manejar desconexion del usuario: " + clientUsername +
                                            ": " + e.getMessage());
                 e.printStackTrace();
-            } finally {
-                lockForOperationResultSending.unlock();
             }
         }
         private void closeResources() {
+            if (heartbeat != null) {
+                heartbeat.cancel();
+            }
+            outboundFrames.close();
             try {
-                if (inputStream != null) {
-                    inputStream.close();
-                    inputStream = null;
-                }
-
-                if (outputStream != null) {
-                    outputStream.close();
-                    outputStream = null;
+                if (wireProtocol != null) {
+                    wireProtocol.close();
+                    wireProtocol = null;
                 }
 
-                if (clientSocket != null && !clientSocket.isClosed()) {
-                    clientSocket.close();
+                if (clientConnection != null && !clientConnection.isClosed()) {
+                    clientConnection.close();
                 }
             } catch (IOException e) {
                 System.err.println("Error Al Cerrar El Servidor:  " + clientUsername + ": " + e.getMessage());
@@ -2072,32 +3033,18 @@ public class MessageServer {
 
         /*! Helper methods para la inicializacion y manejo de un ClientHandler*/
         private void initializeStreams() throws IOException {
-            this.outputStream = new ObjectOutputStream(clientSocket.getOutputStream());
-            this.outputStream.flush();
-            this.inputStream = new ObjectInputStream(clientSocket.getInputStream());
+            ObjectOutputStream outputStream =
+                    new ObjectOutputStream(clientConnection.getOutputStream());
+            outputStream.flush();
+            this.wireProtocol = new ObjectStreamWireProtocol(
+                    outputStream, new ObjectInputStream(clientConnection.getInputStream()));
         }
 
         public final void cierreDeRecursosInesperado(){
             System.out.println("[ServerSideComms] Se ha detectado que un cliente eliminado estaba" +
                                        " conectado al servicio, se procede a eliminar sus " +
                                        "recursos");
-            try {
-                if (inputStream != null) {
-                    inputStream.close();
-                    inputStream = null;
-                }
-
-                if (outputStream != null) {
-                    outputStream.close();
-                    outputStream = null;
-                }
-
-                if (clientSocket != null && !clientSocket.isClosed()) {
-                    clientSocket.close();
-                }
-            } catch (IOException e) {
-                System.err.println("Error Al Cerrar El Servidor:  " + clientUsername + ": " + e.getMessage());
-            }
+            releaseSession();
         }
     }
 
@@ -2106,62 +3053,47 @@ public class MessageServer {
     public final void shutdownTheServer(){
             System.out.println("[ServerShutdown] Initiating server shutdown sequence...");
 
-            //? SI todavia hay clientes tenemos que enviar el commando de shutdown
-            if (!this._connectedClients.isEmpty()){
-                System.out.println("[ServerShutdown] Sending shutdown command to clients...");
-                for (Map.Entry<String, ClientHandler> entry : _connectedClients.entrySet()) {
-                    ClientHandler handler = entry.getValue();
-                    try {
-                        handler.processCommand(
-                                UsefulCommunicationMessages.
-                                        POST_CLIENT_SHUTDOWN_MANDATE.get_message());
-                    } catch (Exception e) {
-                        System.err.println("[ServerShutdown] Error sending shutdown command to client " + entry.getKey() + ": " + e.getMessage());
-                        System.out.println("e.getMessage() = " + e.getMessage());
-                        System.out.println("e.getCause() = " + e.getCause());
-                    }
+            //? 1. Dejamos de aceptar conexiones en modo bloqueante cerrando los sockets de los
+            //? acceptors, para que ninguna llegue a un servicio de clientes ya apagado
+            if (_UnixDomainServerChannel != null) {
+                try {
+                    _UnixDomainServerChannel.close();
+                    Files.deleteIfExists(_ListenerConfiguration.unixSocketPath());
+                } catch (IOException e) {
+                    System.err.println("[ServerShutdown] Error closing unix socket: "
+                                               + e.getMessage());
                 }
             }
-            //? Apagamos la base de datos ...
-            System.out.println("[ServerShutdown] Attempting to shutdown database service...");
-            try {
-                _serviceForDatabase.shutdown();
-                if (!_serviceForDatabase.awaitTermination(30, TimeUnit.SECONDS)) {
-                    System.out.println("[ServerShutdown] Warning: Database service did not terminate normally");
-                    List<Runnable> pendingTasks = _serviceForDatabase.shutdownNow();
-                    System.out.println("[ServerShutdown] Forcing shutdown. Pending tasks: " + pendingTasks.size());
-                    pendingTasks.forEach(task -> System.out.println("[ServerShutdown] Unfinished task: " + task));
-                } else {
-                    System.out.println("[ServerShutdown] Database service shutdown successfully");
+            for (ServerSocket connectionServer : _ConnectionServers) {
+                try {
+                    connectionServer.close();
+                } catch (IOException e) {
+                    System.err.println("[ServerShutdown] Error closing server socket: "
+                                               + e.getMessage());
                 }
-            } catch (InterruptedException e) {
-                System.err.println("[ServerShutdown] Database service shutdown interrupted: " + e.getMessage());
-                _serviceForDatabase.shutdownNow();
-                Thread.currentThread().interrupt();
             }
 
-            // 2. Shutdown client handlers and client service
+            //? 2. Cerramos las sesiones de los clientes: cada una recibe el mandato de
+            //? apagado y se libera por releaseSession(), que cierra su conexion y con ello
+            //? termina el ciclo de lectura en el hilo del propio handler. Sus tareas pendientes
+            //? aun encuentran abiertos el servicio de la base de datos y el pool
             System.out.println("[ServerShutdown] Attempting to shutdown client connections...");
-            try {
-                // First notify all clients and close their connections
-                for (Map.Entry<String, ClientHandler> entry : _connectedClients.entrySet()) {
-                    ClientHandler handler = entry.getValue();
-                    try {
-                        handler.processCommand(
-                                UsefulCommunicationMessages.
-                                        POST_CLIENT_DISCONNECTION_REQUEST.get_message());
-                    } catch (Exception e) {
-                        System.err.println("[ServerShutdown] Error disconnecting client " + entry.getKey() + ": " + e.getMessage());
-                        System.out.println("e.getMessage() = " + e.getMessage());
-                        System.out.println("e.getCause() = " + e.getCause());
-                    }
+            for (Map.Entry<String, ClientHandler> entry : _connectedClients.entrySet()) {
+                try {
+                    entry.getValue().closeForShutdown();
+                } catch (Exception e) {
+                    System.err.println("[ServerShutdown] Error disconnecting client " + entry.getKey() + ": " + e.getMessage());
+                    System.out.println("e.getMessage() = " + e.getMessage());
+                    System.out.println("e.getCause() = " + e.getCause());
                 }
-
-                // Clear the client holders
-                _connectedClients.clear();
-                _usernameToUuidMap.clear();
-
-                // Shutdown the client service executor
+            }
+            //? 3. En modo NIO detenemos los event loops una vez enviados los mandatos, ya que al
+            //? terminar cierran las conexiones que aun tengan registradas
+            if (_SelectorTransportEngine != null) {
+                System.out.println("[ServerShutdown] Stopping NIO event loops...");
+                _SelectorTransportEngine.shutdown();
+            }
+            try {
                 _serviceForClients.shutdown();
                 if (!_serviceForClients.awaitTermination(30, TimeUnit.SECONDS)) {
                     System.out.println("[ServerShutdown] Warning: Client service did not terminate normally");
@@ -2177,8 +3109,32 @@ public class MessageServer {
                 _serviceForClients.shutdownNow();
                 Thread.currentThread().interrupt();
             }
+            _connectedClients.clear();
+            _usernameToUuidMap.clear();
+            _Subscriptions.clear();
+
+            //? 4. Sin clientes, apagamos el servicio de la base de datos y esperamos sus tareas
+            System.out.println("[ServerShutdown] Attempting to shutdown database service...");
+            try {
+                _serviceForDatabase.shutdown();
+                if (!_serviceForDatabase.awaitTermination(30, TimeUnit.SECONDS)) {
+                    System.out.println("[ServerShutdown] Warning: Database service did not terminate normally");
+                    List<Runnable> pendingTasks = _serviceForDatabase.shutdownNow();
+                    System.out.println("[ServerShutdown] Forcing shutdown. Pending tasks: " + pendingTasks.size());
+                    pendingTasks.forEach(task -> System.out.println("[ServerShutdown] Unfinished task: " + task));
+                } else {
+                    System.out.println("[ServerShutdown] Database service shutdown successfully");
+                }
+            } catch (InterruptedException e) {
+                System.err.println("[ServerShutdown] Database service shutdown interrupted: " + e.getMessage());
+                _serviceForDatabase.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
 
-            // 3. Finally shutdown database connection
+            //? 5. Tomamos el snapshot final mientras el pool y las caches siguen abiertos; luego
+            //? confirmamos la escritura por lotes y cerramos el pool de conexiones
+            _MetricsReporter.close();
+            _MetricsReporter.report("Metricas finales");
             System.out.println("[ServerShutdown] Closing database connection...");
             try {
                 _DatabaseManagementSystem.shutDownDatabaseConnection();
@@ -2189,6 +3145,9 @@ public class MessageServer {
                 e.printStackTrace();
             }
 
+            _UiUpdateNotifier.close();
+            _AuthenticationAdmission.close();
+            _IdleConnectionWheel.close();
             System.out.println("[ServerShutdown] Server shutdown completed");
             _ServerIsRunning.set(false);
         }
@@ -0,0 +1,92 @@
+package com.evolvlabs.multiuserchatgui.ServerSideBackend.MetricsEngine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo contiene las metricas de aceptacion de conexiones. Los
+ * acceptors registran cada conexion aceptada con {@link #recordAccept()} y
+ * {@link #registerGauges()} expone en {@link ServerMetrics}:
+ * <ul>
+ *     <li>{@code listener.accepted}: conexiones aceptadas desde el arranque.</li>
+ *     <li>{@code listener.accept.rate}: conexiones aceptadas por segundo desde el snapshot
+ *     anterior.</li>
+ *     <li>{@code listener.overflows} y {@code listener.drops}: los contadores
+ *     {@code ListenOverflows} y {@code ListenDrops} de {@code /proc/net/netstat}, es decir, las
+ *     conexiones que el kernel descarto porque la cola de algun socket estaba llena. Son
+ *     contadores de todo el sistema y valen {@code -1} fuera de Linux.</li>
+ * </ul>
+ */
+public final class AcceptStatistics {
+
+    private static final Path NETSTAT_PATH = Path.of("/proc/net/netstat");
+    private static final LongAdder ACCEPTED = ServerMetrics.counter("listener.accepted");
+
+    private static long lastRateSampleNanos = System.nanoTime();
+    private static long lastRateSampleAccepted = 0;
+
+    private AcceptStatistics() {
+    }
+
+    /**
+     * Registra los gauges de aceptacion en {@link ServerMetrics}.
+     */
+    public static void registerGauges() {
+        ServerMetrics.gauge("listener.accept.rate", AcceptStatistics::acceptsPerSecond);
+        ServerMetrics.gauge("listener.overflows", () -> readTcpExtCounter("ListenOverflows"));
+        ServerMetrics.gauge("listener.drops", () -> readTcpExtCounter("ListenDrops"));
+    }
+
+    /**
+     * Registra una conexion aceptada.
+     */
+    public static void recordAccept() {
+        ACCEPTED.increment();
+    }
+
+    private static synchronized long acceptsPerSecond() {
+        long nowNanos = System.nanoTime();
+        long accepted = ACCEPTED.sum();
+        long elapsedNanos = nowNanos - lastRateSampleNanos;
+        long rate = elapsedNanos <= 0 ? 0
+                : (accepted - lastRateSampleAccepted) * 1_000_000_000L / elapsedNanos;
+        lastRateSampleNanos = nowNanos;
+        lastRateSampleAccepted = accepted;
+        return rate;
+    }
+
+    /**
+     * <body style="color: white;">
+     * Lee un contador de la seccion {@code TcpExt} de {@code /proc/net/netstat}, que tiene una
+     * linea con los nombres y la siguiente con los valores.
+     *
+     * @param counterName Nombre del contador.
+     * @return Valor del contador, o {@code -1} si no esta disponible.
+     * </body>
+     */
+    private static long readTcpExtCounter(String counterName) {
+        try {
+            List<String> lines = Files.readAllLines(NETSTAT_PATH);
+            for (int index = 0; index + 1 < lines.size(); index += 2) {
+                String[] names = lines.get(index).trim().split("\\s+");
+                String[] values = lines.get(index + 1).trim().split("\\s+");
+                if (!"TcpExt:".equals(names[0])) {
+                    continue;
+                }
+                for (int column = 1; column < names.length && column < values.length; column++) {
+                    if (names[column].equals(counterName)) {
+                        return Long.parseLong(values[column]);
+                    }
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            //? Fuera de Linux el archivo no existe
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,55 @@
+package com.evolvlabs.multiuserchatgui.ServerSideBackend.MetricsEngine;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo contiene un histograma de limites fijos construido sobre
+ * los contadores de {@link ServerMetrics}, de modo que aparece en el mismo {@code snapshot()}
+ * sin un formato adicional. Cada observacion incrementa el bucket del menor limite que la
+ * contiene ({@code name.bucket.<limite>}) o {@code name.bucket.inf} si supera a todos, ademas de
+ * {@code name.count} y {@code name.sum}; los buckets no son acumulados.
+ */
+public final class Histogram {
+
+    private final long[] upperBounds;
+    private final LongAdder[] buckets;
+    private final LongAdder overflowBucket;
+    private final LongAdder count;
+    private final LongAdder sum;
+
+    Histogram(String name, long... upperBounds) {
+        this.upperBounds = upperBounds.clone();
+        Arrays.sort(this.upperBounds);
+        this.buckets = new LongAdder[this.upperBounds.length];
+        for (int i = 0; i < this.upperBounds.length; i++) {
+            this.buckets[i] = ServerMetrics.counter(name + ".bucket." + this.upperBounds[i]);
+        }
+        this.overflowBucket = ServerMetrics.counter(name + ".bucket.inf");
+        this.count = ServerMetrics.counter(name + ".count");
+        this.sum = ServerMetrics.counter(name + ".sum");
+    }
+
+    /**
+     * <body style="color: white;">
+     * Registra una observacion.
+     *
+     * @param value Valor observado, en la unidad que indica el nombre del histograma.
+     * </body>
+     */
+    public void record(long value) {
+        int bucket = Arrays.binarySearch(upperBounds, value);
+        if (bucket < 0) {
+            bucket = -bucket - 1;
+        }
+        if (bucket < buckets.length) {
+            buckets[bucket].increment();
+        } else {
+            overflowBucket.increment();
+        }
+        count.increment();
+        sum.add(value);
+    }
+}
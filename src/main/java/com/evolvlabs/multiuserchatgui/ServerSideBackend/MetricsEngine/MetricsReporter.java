@@ -0,0 +1,88 @@
+package com.evolvlabs.multiuserchatgui.ServerSideBackend.MetricsEngine;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo contiene el reporte periodico de metricas del servidor. Cada
+ * periodo imprime una linea con el {@link ServerMetrics#snapshot()} completo, de modo que los
+ * gauges que solo tienen sentido mientras el servidor corre (por ejemplo
+ * {@code listener.accept.rate}, calculado entre snapshots, o {@code db.pool.*}) quedan
+ * registrados durante la ejecucion y no solo en el snapshot final del apagado. Con un periodo de
+ * {@code 0} el reporte periodico se desactiva y solo queda {@link #report(String)} a demanda.
+ */
+public final class MetricsReporter implements AutoCloseable {
+
+    /**
+     * Nombre de la propiedad de sistema con el periodo del reporte en segundos.
+     */
+    public static final String PERIOD_PROPERTY = "multiuserchat.server.metrics.report.seconds";
+    private static final long DEFAULT_PERIOD_SECONDS = 60;
+
+    private final ScheduledExecutorService reportScheduler;
+
+    /**
+     * <body style="color: white;">
+     * Construye el reporte y, si el periodo es positivo, programa su hilo.
+     *
+     * @param periodSeconds Segundos entre reportes; {@code 0} desactiva el reporte periodico.
+     * </body>
+     */
+    public MetricsReporter(long periodSeconds) {
+        if (periodSeconds <= 0) {
+            this.reportScheduler = null;
+            return;
+        }
+        this.reportScheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("metrics-reporter").factory());
+        this.reportScheduler.scheduleAtFixedRate(() -> report("Metricas"), periodSeconds,
+                                                 periodSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * <body style="color: white;">
+     * Construye el reporte con el periodo de las propiedades del sistema o, por defecto,
+     * {@value #DEFAULT_PERIOD_SECONDS} segundos.
+     *
+     * @return {@link MetricsReporter} para esta ejecucion.
+     * </body>
+     */
+    public static MetricsReporter fromSystemProperties() {
+        try {
+            long configured = Long.parseLong(System.getProperty(
+                    PERIOD_PROPERTY, String.valueOf(DEFAULT_PERIOD_SECONDS)));
+            return new MetricsReporter(configured >= 0 ? configured : DEFAULT_PERIOD_SECONDS);
+        } catch (NumberFormatException e) {
+            return new MetricsReporter(DEFAULT_PERIOD_SECONDS);
+        }
+    }
+
+    /**
+     * <body style="color: white;">
+     * Imprime de inmediato una linea con el snapshot actual.
+     *
+     * @param label Etiqueta de la linea, por ejemplo {@code "Metricas finales"}.
+     * </body>
+     */
+    public void report(String label) {
+        try {
+            System.out.println("[ServerMetrics] " + label + ": " + ServerMetrics.snapshot());
+        } catch (Exception e) {
+            //? Un gauge que falla no debe detener los reportes siguientes
+            System.err.println("[ServerMetrics] Error al tomar el snapshot: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Detiene el reporte periodico.
+     */
+    @Override
+    public void close() {
+        if (reportScheduler != null) {
+            reportScheduler.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.evolvlabs.multiuserchatgui.ServerSideBackend.MetricsEngine;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo contiene el registro de metricas del servidor. Cada
+ * componente declara sus contadores como campos {@code static final} obtenidos con
+ * {@link #counter(String)}, de modo que el camino caliente solo incrementa un
+ * {@link LongAdder} sin buscar por nombre. Los gauges se registran con una funcion que se
+ * evalua unicamente al tomar un {@link #snapshot()}.
+ */
+public final class ServerMetrics {
+
+    private static final Map<String, LongAdder> REGISTERED_COUNTERS = new ConcurrentHashMap<>();
+    private static final Map<String, LongSupplier> REGISTERED_GAUGES = new ConcurrentHashMap<>();
+
+    /*! Contadores del enrutamiento de comandos*/
+    /**
+     * Comandos recibidos que fueron despachados a un handler.
+     */
+    public static final LongAdder COMMANDS_DISPATCHED = counter("commands.dispatched");
+    /**
+     * Comandos recibidos que no tienen handler registrado (texto invalido u opcode desconocido).
+     */
+    public static final LongAdder COMMANDS_UNKNOWN = counter("commands.unknown");
+
+    private ServerMetrics() {
+    }
+
+    /**
+     * <body style="color: white;">
+     * Registra (o retorna si ya existe) el contador asociado a un nombre.
+     *
+     * @param name Nombre de la metrica, en minusculas y separado por puntos.
+     * @return {@link LongAdder} compartido para ese nombre.
+     * </body>
+     */
+    public static LongAdder counter(String name) {
+        return REGISTERED_COUNTERS.computeIfAbsent(name, ignored -> new LongAdder());
+    }
+
+    /**
+     * <body style="color: white;">
+     * Registra un gauge cuyo valor se calcula al momento de tomar un snapshot. Registrar de
+     * nuevo el mismo nombre reemplaza la funcion anterior.
+     *
+     * @param name  Nombre de la metrica.
+     * @param value Funcion que retorna el valor actual.
+     * </body>
+     */
+    public static void gauge(String name, LongSupplier value) {
+        REGISTERED_GAUGES.put(name, value);
+    }
+
+    /**
+     * <body style="color: white;">
+     * Registra un histograma con limites fijos; sus buckets se exportan como contadores.
+     *
+     * @param name        Nombre base de la metrica.
+     * @param upperBounds Limites superiores inclusivos de cada bucket.
+     * @return {@link Histogram} para registrar observaciones.
+     * </body>
+     */
+    public static Histogram histogram(String name, long... upperBounds) {
+        return new Histogram(name, upperBounds);
+    }
+
+    /**
+     * @return Mapa ordenado por nombre con el valor actual de todos los contadores y gauges.
+     */
+    public static Map<String, Long> snapshot() {
+        Map<String, Long> values = new TreeMap<>();
+        REGISTERED_COUNTERS.forEach((name, adder) -> values.put(name, adder.sum()));
+        REGISTERED_GAUGES.forEach((name, supplier) -> values.put(name, supplier.getAsLong()));
+        return Collections.unmodifiableMap(values);
+    }
+}
@@ -0,0 +1,119 @@
+package com.evolvlabs.multiuserchatgui.ServerSideBackend.NotificationEngine;
+
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.MetricsEngine.ServerMetrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo implementa el agrupador de notificaciones de actualizacion
+ * de las interfaces. Cada cambio marca como pendiente a un destino (la vista del servidor o un
+ * cliente) y la actualizacion se ejecuta una sola vez al terminar la ventana configurada; las
+ * marcas que llegan mientras el destino ya esta pendiente se descartan y se cuentan en
+ * {@code ui.updates.collapsed}. Como la ventana empieza con la primera marca, dos
+ * actualizaciones del mismo destino siempre quedan separadas por al menos una ventana.
+ */
+public final class CoalescingUpdateNotifier implements AutoCloseable {
+
+    /**
+     * Nombre de la propiedad de sistema con la ventana de agrupacion en milisegundos.
+     */
+    public static final String WINDOW_PROPERTY = "multiuserchat.server.ui.update.window.millis";
+    private static final long DEFAULT_WINDOW_MILLIS = 250;
+
+    private static final LongAdder UPDATES_REQUESTED = ServerMetrics.counter("ui.updates.requested");
+    private static final LongAdder UPDATES_COLLAPSED = ServerMetrics.counter("ui.updates.collapsed");
+    private static final LongAdder UPDATES_FLUSHED = ServerMetrics.counter("ui.updates.flushed");
+
+    private final Map<String, Runnable> pendingUpdates = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flushScheduler;
+    private final long windowMillis;
+
+    /**
+     * <body style="color: white;">
+     * Construye el agrupador con su propio hilo de planificacion.
+     *
+     * @param windowMillis Ventana de agrupacion; con {@code 0} cada marca se ejecuta en cuanto
+     *                     el hilo de planificacion queda libre.
+     * </body>
+     */
+    public CoalescingUpdateNotifier(long windowMillis) {
+        this.windowMillis = Math.max(0, windowMillis);
+        this.flushScheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("ui-update-notifier").factory());
+    }
+
+    /**
+     * <body style="color: white;">
+     * Retorna la ventana configurada en las propiedades del sistema o, por defecto,
+     * {@value #DEFAULT_WINDOW_MILLIS} milisegundos.
+     *
+     * @return Ventana de agrupacion en milisegundos.
+     * </body>
+     */
+    public static long windowFromSystemProperties() {
+        try {
+            long configured = Long.parseLong(System.getProperty(
+                    WINDOW_PROPERTY, String.valueOf(DEFAULT_WINDOW_MILLIS)));
+            return configured >= 0 ? configured : DEFAULT_WINDOW_MILLIS;
+        } catch (NumberFormatException e) {
+            return DEFAULT_WINDOW_MILLIS;
+        }
+    }
+
+    /**
+     * <body style="color: white;">
+     * Marca un destino como pendiente de actualizacion. Si ya estaba pendiente la marca se
+     * agrupa con la anterior y la actualizacion registrada primero es la que se ejecuta.
+     *
+     * @param target Identificador del destino, por ejemplo la vista del servidor o el UUID de
+     *               un cliente.
+     * @param update Actualizacion a ejecutar al terminar la ventana.
+     * </body>
+     */
+    public void markDirty(String target, Runnable update) {
+        UPDATES_REQUESTED.increment();
+        if (pendingUpdates.putIfAbsent(target, update) != null) {
+            UPDATES_COLLAPSED.increment();
+            return;
+        }
+        try {
+            flushScheduler.schedule(() -> flush(target), windowMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            //? El servidor se esta apagando, ya no hay interfaces que actualizar
+            pendingUpdates.remove(target);
+        }
+    }
+
+    private void flush(String target) {
+        //? Retiramos la marca antes de ejecutar, asi un cambio durante la actualizacion abre una
+        //? nueva ventana en lugar de perderse
+        Runnable update = pendingUpdates.remove(target);
+        if (update == null) {
+            return;
+        }
+        UPDATES_FLUSHED.increment();
+        try {
+            update.run();
+        } catch (Exception e) {
+            System.out.println("[ServerSideComms] Error durante la actualizacion de " + target
+                                       + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Detiene el hilo de planificacion y descarta las actualizaciones pendientes.
+     */
+    @Override
+    public void close() {
+        flushScheduler.shutdownNow();
+        pendingUpdates.clear();
+    }
+}
@@ -0,0 +1,93 @@
+package com.evolvlabs.multiuserchatgui.ServerSideBackend.NotificationEngine;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo implementa el registro de suscripciones del servidor. Cada
+ * cliente conectado se suscribe por su UUID a los temas que le interesan: el tema de su propio
+ * usuario (mensajes enviados o recibidos por el) y el directorio de usuarios registrados. Para
+ * notificar un cambio se consultan solo los suscriptores de los temas afectados, de modo que el
+ * trabajo depende de cuantos clientes estan interesados y no del total de conectados.
+ */
+public final class SubscriptionRegistry {
+
+    /**
+     * Tema del directorio de usuarios registrados.
+     */
+    public static final String DIRECTORY_TOPIC = "directory";
+
+    private final Map<String, Set<String>> subscribersByTopic = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> topicsBySubscriber = new ConcurrentHashMap<>();
+
+    /**
+     * @return Tema de los mensajes enviados o recibidos por un usuario.
+     */
+    public static String userTopic(String username) {
+        return "user:" + username;
+    }
+
+    /**
+     * <body style="color: white;">
+     * Suscribe un cliente a un tema. Suscribirse dos veces al mismo tema no tiene efecto.
+     *
+     * @param subscriberUUID UUID del cliente conectado.
+     * @param topic          Tema al que se suscribe.
+     * </body>
+     */
+    public void subscribe(String subscriberUUID, String topic) {
+        subscribersByTopic.computeIfAbsent(topic, ignored -> ConcurrentHashMap.newKeySet())
+                .add(subscriberUUID);
+        topicsBySubscriber.computeIfAbsent(subscriberUUID, ignored -> ConcurrentHashMap.newKeySet())
+                .add(topic);
+    }
+
+    /**
+     * <body style="color: white;">
+     * Retira todas las suscripciones de un cliente, usualmente al desconectarse.
+     *
+     * @param subscriberUUID UUID del cliente.
+     * </body>
+     */
+    public void unsubscribeAll(String subscriberUUID) {
+        Set<String> topics = topicsBySubscriber.remove(subscriberUUID);
+        if (topics == null) {
+            return;
+        }
+        for (String topic : topics) {
+            subscribersByTopic.computeIfPresent(topic, (ignored, subscribers) -> {
+                subscribers.remove(subscriberUUID);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+        }
+    }
+
+    /**
+     * <body style="color: white;">
+     * Retorna los suscriptores de uno o varios temas, sin repetidos.
+     *
+     * @param topics Temas afectados por un cambio.
+     * @return UUIDs de los clientes suscritos a alguno de los temas.
+     * </body>
+     */
+    public Set<String> subscribersOf(String... topics) {
+        Set<String> subscribers = new LinkedHashSet<>();
+        for (String topic : topics) {
+            subscribers.addAll(subscribersByTopic.getOrDefault(topic, Collections.emptySet()));
+        }
+        return subscribers;
+    }
+
+    /**
+     * Retira todas las suscripciones.
+     */
+    public void clear() {
+        subscribersByTopic.clear();
+        topicsBySubscriber.clear();
+    }
+}
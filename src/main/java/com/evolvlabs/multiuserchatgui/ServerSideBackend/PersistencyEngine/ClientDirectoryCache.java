@@ -0,0 +1,136 @@
+package com.evolvlabs.multiuserchatgui.ServerSideBackend.PersistencyEngine;
+
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.ClientDTO;
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.MetricsEngine.ServerMetrics;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo contiene la copia en memoria de {@code CLIENTSTABLE},
+ * indexada por username y por UUID. Se carga una vez al iniciar y luego se actualiza
+ * write-through: {@code DatabaseManagementSystem} aplica aqui cada insercion, actualizacion o
+ * eliminacion despues de que la sentencia se confirma en Derby, dentro del mismo lock de
+ * escritura, por lo que la tabla nunca cambia sin pasar por esta clase.
+ * <p>
+ * El estado completo (ambos indices, la lista en orden de registro y la version) es inmutable y
+ * se reemplaza en cada cambio, de modo que las lecturas no toman locks y siempre ven una lista
+ * coherente con su version. La version aumenta con cada cambio y parte del reloj al cargar, para
+ * que un cliente que conserva la version de una ejecucion anterior del servidor no la confunda
+ * con la actual.
+ */
+public final class ClientDirectoryCache {
+
+    private static final LongAdder LOOKUPS = ServerMetrics.counter("directory.cache.lookups");
+    private static final LongAdder MUTATIONS =
+            ServerMetrics.counter("directory.cache.mutations");
+
+    /**
+     * Directorio en un instante dado: los usuarios en orden de registro y la version que les
+     * corresponde.
+     *
+     * @param version Version del directorio.
+     * @param clients Usuarios registrados, con credenciales.
+     */
+    public record DirectoryView(long version, List<ClientDTO> clients) {
+    }
+
+    private record DirectoryState(DirectoryView view, Map<String, ClientDTO> byUsername,
+                                  Map<String, ClientDTO> byUUID) {
+    }
+
+    private volatile DirectoryState state;
+
+    /**
+     * <body style="color: white;">
+     * Construye la cache con el contenido actual de la tabla.
+     *
+     * @param registeredClients Usuarios leidos de {@code CLIENTSTABLE}.
+     * </body>
+     */
+    public ClientDirectoryCache(Collection<ClientDTO> registeredClients) {
+        LinkedHashMap<String, ClientDTO> byUsername = new LinkedHashMap<>();
+        registeredClients.forEach(clientDTO -> byUsername.put(clientDTO._clientUsername(),
+                                                              clientDTO));
+        this.state = buildState(System.currentTimeMillis(), byUsername);
+        ServerMetrics.gauge("directory.cache.size", () -> state.byUsername().size());
+    }
+
+    /**
+     * @return Lista de usuarios y su version, tomadas del mismo estado.
+     */
+    public DirectoryView view() {
+        return state.view();
+    }
+
+    /**
+     * @return Version actual del directorio.
+     */
+    public long version() {
+        return state.view().version();
+    }
+
+    public Optional<ClientDTO> findByUsername(String username) {
+        LOOKUPS.increment();
+        return Optional.ofNullable(state.byUsername().get(username));
+    }
+
+    public Optional<ClientDTO> findByUUID(String clientUUID) {
+        LOOKUPS.increment();
+        return Optional.ofNullable(state.byUUID().get(clientUUID));
+    }
+
+    /*! Actualizaciones write-through; las invoca el DMS con el lock de escritura tomado*/
+
+    /**
+     * <body style="color: white;">
+     * Registra un usuario recien insertado, o reemplaza sus datos si ya estaba (actualizacion de
+     * credenciales).
+     *
+     * @param clientDTO Datos confirmados en la base de datos.
+     * </body>
+     */
+    public synchronized void put(ClientDTO clientDTO) {
+        LinkedHashMap<String, ClientDTO> byUsername = new LinkedHashMap<>(state.byUsername());
+        byUsername.put(clientDTO._clientUsername(), clientDTO);
+        publish(byUsername);
+    }
+
+    /**
+     * <body style="color: white;">
+     * Elimina un usuario borrado de la base de datos.
+     *
+     * @param username Nombre del usuario eliminado.
+     * </body>
+     */
+    public synchronized void remove(String username) {
+        if (!state.byUsername().containsKey(username)) {
+            return;
+        }
+        LinkedHashMap<String, ClientDTO> byUsername = new LinkedHashMap<>(state.byUsername());
+        byUsername.remove(username);
+        publish(byUsername);
+    }
+
+    private void publish(LinkedHashMap<String, ClientDTO> byUsername) {
+        MUTATIONS.increment();
+        this.state = buildState(state.view().version() + 1, byUsername);
+    }
+
+    private static DirectoryState buildState(long version,
+                                             LinkedHashMap<String, ClientDTO> byUsername) {
+        Map<String, ClientDTO> byUUID = new HashMap<>();
+        byUsername.values().forEach(clientDTO -> byUUID.put(clientDTO._clientUUID(), clientDTO));
+        return new DirectoryState(new DirectoryView(version, List.copyOf(byUsername.values())),
+                                  Collections.unmodifiableMap(byUsername),
+                                  Collections.unmodifiableMap(byUUID));
+    }
+}
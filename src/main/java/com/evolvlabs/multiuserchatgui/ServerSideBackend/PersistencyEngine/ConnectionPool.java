@@ -0,0 +1,360 @@
+package com.evolvlabs.multiuserchatgui.ServerSideBackend.PersistencyEngine;
+
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.MetricsEngine.ServerMetrics;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo contiene un pool acotado de conexiones JDBC hacia la base de
+ * datos embebida. Cada operacion de {@link DatabaseConnection} toma una conexion del pool y la
+ * devuelve al terminar, de modo que las lecturas de distintos hilos no se serializan sobre una
+ * unica {@link Connection}.
+ * <ul>
+ *     <li><b>Limite</b>: un {@link Semaphore} justo limita las conexiones prestadas; si no hay
+ *     una libre en {@code max.wait.millis} el prestamo falla con
+ *     {@link SQLTransientConnectionException}.</li>
+ *     <li><b>Validacion</b>: una conexion que estuvo inactiva mas de
+ *     {@value #VALIDATION_IDLE_MILLIS} ms se valida con {@link Connection#isValid(int)} antes de
+ *     entregarse; si no es valida se descarta y se abre otra.</li>
+ *     <li><b>Fugas</b>: un hilo revisa los prestamos y reporta, una sola vez y con la pila del
+ *     hilo que la tomo, cada conexion retenida mas de {@code leak.threshold.millis}.</li>
+ *     <li><b>Sentencias</b>: cada conexion tiene su {@link PreparedStatementCache}, que vive y
+ *     se cierra con ella.</li>
+ * </ul>
+ * La configuracion se lee de {@code multiuserchat.server.db.pool.size} (por defecto
+ * {@value #DEFAULT_POOL_SIZE}), {@code multiuserchat.server.db.pool.max.wait.millis} (por defecto
+ * {@value #DEFAULT_MAX_WAIT_MILLIS}) y {@code multiuserchat.server.db.pool.leak.threshold.millis}
+ * (por defecto {@value #DEFAULT_LEAK_THRESHOLD_MILLIS}).
+ */
+public final class ConnectionPool implements AutoCloseable {
+
+    /*! Parametros Internos*/
+    /**
+     * Propiedades de sistema con la configuracion del pool.
+     */
+    public static final String SIZE_PROPERTY = "multiuserchat.server.db.pool.size";
+    public static final String MAX_WAIT_PROPERTY = "multiuserchat.server.db.pool.max.wait.millis";
+    public static final String LEAK_THRESHOLD_PROPERTY =
+            "multiuserchat.server.db.pool.leak.threshold.millis";
+    private static final int DEFAULT_POOL_SIZE = 8;
+    private static final long DEFAULT_MAX_WAIT_MILLIS = 5_000;
+    private static final long DEFAULT_LEAK_THRESHOLD_MILLIS = 30_000;
+    private static final long VALIDATION_IDLE_MILLIS = 30_000;
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private static final LongAdder ACQUIRED = ServerMetrics.counter("db.pool.acquired");
+    private static final LongAdder WAIT_MICROS = ServerMetrics.counter("db.pool.wait.micros");
+    private static final LongAdder TIMEOUTS = ServerMetrics.counter("db.pool.timeouts");
+    private static final LongAdder CREATED = ServerMetrics.counter("db.pool.connections.created");
+    private static final LongAdder VALIDATION_FAILURES =
+            ServerMetrics.counter("db.pool.validation.failures");
+    private static final LongAdder LEAKS_DETECTED = ServerMetrics.counter("db.pool.leaks");
+
+    private final String connectionString;
+    private final int maximumSize;
+    private final long maxWaitMillis;
+    private final long leakThresholdMillis;
+    private final int statementCacheSize;
+
+    private final Semaphore availablePermits;
+    private final ConcurrentLinkedDeque<IdleConnection> idleConnections =
+            new ConcurrentLinkedDeque<>();
+    private final Map<PooledConnection, Lease> activeLeases = new ConcurrentHashMap<>();
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private final ScheduledExecutorService leakDetector;
+    private volatile boolean closed;
+
+    private record IdleConnection(PooledConnection pooledConnection, long idleSinceMillis) {
+    }
+
+    /**
+     * Conexion del pool junto con su cache de sentencias preparadas.
+     */
+    public static final class PooledConnection {
+        private final Connection connection;
+        private final PreparedStatementCache statementCache;
+
+        private PooledConnection(Connection connection, int statementCacheSize) {
+            this.connection = connection;
+            this.statementCache = new PreparedStatementCache(connection, statementCacheSize);
+        }
+
+        public Connection connection() {
+            return connection;
+        }
+
+        PreparedStatementCache statementCache() {
+            return statementCache;
+        }
+    }
+
+    /**
+     * Prestamo en curso: quien tomo la conexion y cuando, para reportar fugas.
+     */
+    private static final class Lease {
+        private final long acquiredAtMillis = System.currentTimeMillis();
+        private final Throwable acquiredBy = new Throwable(
+                "Conexion tomada por " + Thread.currentThread().getName());
+        private volatile boolean reported;
+    }
+
+    /**
+     * <body style="color: white;">
+     * Construye el pool; las conexiones se abren bajo demanda hasta {@code maximumSize}.
+     *
+     * @param connectionString    Cadena JDBC de la base de datos ya creada.
+     * @param maximumSize         Numero maximo de conexiones abiertas y prestadas a la vez.
+     * @param maxWaitMillis       Tiempo maximo de espera por una conexion libre.
+     * @param leakThresholdMillis Tiempo a partir del cual un prestamo se reporta como fuga.
+     * @param statementCacheSize  Sentencias preparadas que cada conexion mantiene abiertas.
+     * </body>
+     */
+    public ConnectionPool(String connectionString, int maximumSize, long maxWaitMillis,
+                          long leakThresholdMillis, int statementCacheSize) {
+        this.connectionString = connectionString;
+        this.maximumSize = Math.max(1, maximumSize);
+        this.maxWaitMillis = maxWaitMillis;
+        this.leakThresholdMillis = leakThresholdMillis;
+        this.statementCacheSize = statementCacheSize;
+        this.availablePermits = new Semaphore(this.maximumSize, true);
+        this.leakDetector = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("db-pool-leak-detector").factory());
+        long scanPeriodMillis = Math.max(1_000, leakThresholdMillis / 2);
+        this.leakDetector.scheduleAtFixedRate(this::reportLeakedConnections, scanPeriodMillis,
+                                              scanPeriodMillis, TimeUnit.MILLISECONDS);
+
+        ServerMetrics.gauge("db.pool.size", () -> this.maximumSize);
+        ServerMetrics.gauge("db.pool.open", openConnections::get);
+        ServerMetrics.gauge("db.pool.active", activeLeases::size);
+        ServerMetrics.gauge("db.pool.idle", idleConnections::size);
+        ServerMetrics.gauge("db.pool.waiting", availablePermits::getQueueLength);
+    }
+
+    /**
+     * <body style="color: white;">
+     * Construye el pool con la configuracion de las propiedades del sistema.
+     *
+     * @param connectionString Cadena JDBC de la base de datos ya creada.
+     * @return {@link ConnectionPool} para esta ejecucion.
+     * </body>
+     */
+    public static ConnectionPool fromSystemProperties(String connectionString) {
+        return new ConnectionPool(connectionString,
+                                  (int) readLongProperty(SIZE_PROPERTY, DEFAULT_POOL_SIZE),
+                                  readLongProperty(MAX_WAIT_PROPERTY, DEFAULT_MAX_WAIT_MILLIS),
+                                  readLongProperty(LEAK_THRESHOLD_PROPERTY,
+                                                   DEFAULT_LEAK_THRESHOLD_MILLIS),
+                                  PreparedStatementCache.capacityFromSystemProperties());
+    }
+
+    private static long readLongProperty(String property, long defaultValue) {
+        try {
+            long configured = Long.parseLong(System.getProperty(property,
+                                                                String.valueOf(defaultValue)));
+            return configured > 0 ? configured : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * <body style="color: white;">
+     * Presta una conexion con auto commit desactivado y aislamiento
+     * {@link Connection#TRANSACTION_READ_COMMITTED}, igual que la conexion unica anterior. El
+     * tiempo de espera se acumula en {@code db.pool.wait.micros}.
+     *
+     * @return Conexion lista para usarse; debe devolverse con
+     * {@link #release(PooledConnection)}.
+     * @throws SQLTransientConnectionException si no hay una conexion libre dentro del tiempo
+     *                                         maximo de espera.
+     * @throws SQLException                    si el pool esta cerrado o no se pudo abrir una
+     *                                         conexion nueva.
+     * </body>
+     */
+    public PooledConnection acquire() throws SQLException {
+        if (closed) {
+            throw new SQLException("Error Code 0x001 - [Raised] El pool de conexiones esta " +
+                                           "cerrado.", "08003");
+        }
+        long startedNanos = System.nanoTime();
+        try {
+            if (!availablePermits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+                TIMEOUTS.increment();
+                throw new SQLTransientConnectionException(
+                        "Error Code 0x001 - [Raised] No hay conexiones libres luego de "
+                                + maxWaitMillis + " ms (" + maximumSize + " en uso).", "08001");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Error Code 0x001 - [Raised] Espera por " +
+                                                              "una conexion interrumpida.", e);
+        } finally {
+            WAIT_MICROS.add((System.nanoTime() - startedNanos) / 1_000);
+        }
+
+        try {
+            PooledConnection pooledConnection = takeValidIdleConnection();
+            if (pooledConnection == null) {
+                pooledConnection = openConnection();
+            }
+            activeLeases.put(pooledConnection, new Lease());
+            ACQUIRED.increment();
+            return pooledConnection;
+        } catch (SQLException | RuntimeException e) {
+            availablePermits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * <body style="color: white;">
+     * Devuelve una conexion prestada. Cualquier transaccion pendiente se revierte para que el
+     * siguiente hilo reciba la conexion limpia; si la conexion fallo o el pool ya se cerro, se
+     * cierra en lugar de volver al pool.
+     *
+     * @param pooledConnection Conexion obtenida con {@link #acquire()}.
+     * </body>
+     */
+    public void release(PooledConnection pooledConnection) {
+        if (activeLeases.remove(pooledConnection) == null) {
+            return;
+        }
+        Connection connection = pooledConnection.connection();
+        try {
+            boolean reusable = !closed && !connection.isClosed();
+            if (reusable) {
+                try {
+                    connection.rollback();
+                } catch (SQLException e) {
+                    reusable = false;
+                }
+            }
+            if (reusable) {
+                idleConnections.addFirst(new IdleConnection(pooledConnection,
+                                                            System.currentTimeMillis()));
+            } else {
+                discard(pooledConnection);
+            }
+        } catch (SQLException e) {
+            discard(pooledConnection);
+        } finally {
+            availablePermits.release();
+        }
+    }
+
+    private PooledConnection takeValidIdleConnection() {
+        IdleConnection idleConnection;
+        //? LIFO: la conexion usada mas recientemente es la que menos probablemente fallo
+        while ((idleConnection = idleConnections.pollFirst()) != null) {
+            PooledConnection pooledConnection = idleConnection.pooledConnection();
+            Connection connection = pooledConnection.connection();
+            boolean recentlyUsed = System.currentTimeMillis() - idleConnection.idleSinceMillis()
+                    < VALIDATION_IDLE_MILLIS;
+            try {
+                if (recentlyUsed || connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    return pooledConnection;
+                }
+            } catch (SQLException ignored) {
+                // Se trata igual que una conexion invalida
+            }
+            VALIDATION_FAILURES.increment();
+            discard(pooledConnection);
+        }
+        return null;
+    }
+
+    private PooledConnection openConnection() throws SQLException {
+        Connection connection = DriverManager.getConnection(connectionString);
+        try {
+            connection.setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+            connection.setAutoCommit(false);
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        openConnections.incrementAndGet();
+        CREATED.increment();
+        return new PooledConnection(connection, statementCacheSize);
+    }
+
+    private void discard(PooledConnection pooledConnection) {
+        openConnections.decrementAndGet();
+        pooledConnection.statementCache().close();
+        try {
+            pooledConnection.connection().close();
+        } catch (SQLException ignored) {
+            // La conexion ya no es utilizable
+        }
+    }
+
+    private void reportLeakedConnections() {
+        long nowMillis = System.currentTimeMillis();
+        activeLeases.values().forEach(lease -> {
+            if (!lease.reported && nowMillis - lease.acquiredAtMillis > leakThresholdMillis) {
+                lease.reported = true;
+                LEAKS_DETECTED.increment();
+                System.err.println("[DatabaseManagementSubsystem] Posible fuga de conexion: " +
+                                           "retenida por mas de " + leakThresholdMillis + " ms");
+                lease.acquiredBy.printStackTrace();
+            }
+        });
+    }
+
+    /**
+     * <body style="color: white;">
+     * Cierra las conexiones inactivas y detiene la deteccion de fugas. Las conexiones que aun
+     * estan prestadas se cierran al devolverse.
+     *
+     * @throws SQLException si alguna conexion inactiva no pudo cerrarse; se intenta cerrar el
+     *                      resto antes de lanzarla.
+     * </body>
+     */
+    @Override
+    public void close() throws SQLException {
+        closed = true;
+        leakDetector.shutdownNow();
+        SQLException firstFailure = null;
+        IdleConnection idleConnection;
+        while ((idleConnection = idleConnections.pollFirst()) != null) {
+            Connection connection = idleConnection.pooledConnection().connection();
+            openConnections.decrementAndGet();
+            idleConnection.pooledConnection().statementCache().close();
+            try {
+                try {
+                    connection.commit();
+                } catch (SQLException e) {
+                    connection.rollback();
+                }
+                connection.close();
+            } catch (SQLException e) {
+                if (firstFailure == null) {
+                    firstFailure = e;
+                }
+            }
+        }
+        if (firstFailure != null) {
+            throw firstFailure;
+        }
+    }
+
+    /**
+     * @return {@code true} una vez que el pool fue cerrado.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+}
@@ -7,6 +7,7 @@ import java.io.PrintWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.sql.*;
+import java.util.List;
 
 /**
  * @author : Paulo Cantos, Santiago Arellano
@@ -31,6 +32,11 @@ import java.sql.*;
  * </ol>
  * En base a estos metodos, la API de esta clase se transforma en una interface simple de
  * comunicacion con la estructura interna de persistencia de la base de datos.
+ * <p>
+ * Las conexiones provienen de un {@link ConnectionPool}. Cada operacion toma una con
+ * {@link #leaseConnection()}, que la asocia al hilo actual hasta cerrarse, y los metodos de
+ * ejecucion usan la conexion asociada; asi las operaciones de hilos distintos no comparten una
+ * sola {@link Connection}.
  */
 public class DatabaseConnection {
 
@@ -42,7 +48,11 @@ public class DatabaseConnection {
      * local a todos los archivos.
      */
     private String CONNECTION_STRING;
-    private Connection databaseConnection;
+    private ConnectionPool connectionPool;
+    /**
+     * Prestamo asociado al hilo que ejecuta una operacion, ver {@link #leaseConnection()}.
+     */
+    private final ThreadLocal<ConnectionLease> currentLease = new ThreadLocal<>();
 
 
     /**
@@ -55,6 +65,7 @@ public class DatabaseConnection {
      *     <li>Evalua si el archivo existente puede ser utilizado como directorio o base de datos valida.</li>
      *     <li>Inicializa la informacion necesaria dentro de las tablas si estas estan vacias.</li>
      *     <li>Configura la cadena de conexion base utilizando Apache Derby y su motor embebido.</li>
+     *     <li>Aplica las migraciones pendientes del esquema mediante {@link SchemaMigrator}.</li>
      * </ul>
      *
      * <b>Notas importantes:</b>
@@ -178,15 +189,83 @@ public class DatabaseConnection {
             }
         }
 
-        //? Guardamos la conexion
-        try{
-            this.databaseConnection = DriverManager.getConnection(this.CONNECTION_STRING);
-            this.databaseConnection.setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
-            this.databaseConnection.setAutoCommit(false);
+        //? Creamos el pool; las conexiones se abren bajo demanda
+        this.connectionPool = ConnectionPool.fromSystemProperties(this.CONNECTION_STRING);
+
+        //? Llevamos el esquema a la ultima version, tanto en bases nuevas como existentes. La
+        //? conexion se toma directo del pool: los prestamos por hilo son para las operaciones
+        //? del objeto ya construido
+        ConnectionPool.PooledConnection migrationConnection = null;
+        try {
+            migrationConnection = this.connectionPool.acquire();
+            SchemaMigrator.migrate(migrationConnection.connection());
         } catch (SQLException e) {
             throw new RuntimeException(e);
+        } finally {
+            if (migrationConnection != null) {
+                this.connectionPool.release(migrationConnection);
+            }
         }
+    }
 
+    /**
+     * <body style="color: white;">
+     * Toma una conexion del pool y la asocia al hilo actual; {@link #executeQuery},
+     * {@link #executeCommand}, {@link #commit()} y {@link #rollback()} operan sobre ella hasta
+     * que el prestamo se cierre. Si el hilo ya tiene un prestamo abierto (una operacion anidada)
+     * se reutiliza la misma conexion y solo el cierre mas externo la devuelve al pool.
+     *
+     * @return {@link ConnectionLease} que debe cerrarse con try-with-resources.
+     * @throws SQLException si el pool no entrega una conexion a tiempo.
+     * </body>
+     */
+    public ConnectionLease leaseConnection() throws SQLException {
+        ConnectionLease boundLease = currentLease.get();
+        if (boundLease != null) {
+            boundLease.nestingDepth++;
+            return boundLease;
+        }
+        ConnectionLease lease = new ConnectionLease(connectionPool.acquire());
+        currentLease.set(lease);
+        return lease;
+    }
+
+    private ConnectionLease currentLease() {
+        ConnectionLease lease = currentLease.get();
+        if (lease == null) {
+            throw new IllegalStateException("Error Code 0x001 - [Raised] El hilo actual no " +
+                                                    "tiene una conexion asignada, usar " +
+                                                    "leaseConnection().");
+        }
+        return lease;
+    }
+
+    /**
+     * Prestamo de una conexion del pool asociado a un hilo.
+     */
+    public final class ConnectionLease implements AutoCloseable {
+        private final ConnectionPool.PooledConnection _pooledConnection;
+        private int nestingDepth = 1;
+
+        private ConnectionLease(ConnectionPool.PooledConnection exPooledConnection) {
+            this._pooledConnection = exPooledConnection;
+        }
+
+        private Connection connection() {
+            return _pooledConnection.connection();
+        }
+
+        private PreparedStatementCache statementCache() {
+            return _pooledConnection.statementCache();
+        }
+
+        @Override
+        public void close() {
+            if (--nestingDepth == 0) {
+                currentLease.remove();
+                connectionPool.release(_pooledConnection);
+            }
+        }
     }
 
 
@@ -200,8 +279,10 @@ public class DatabaseConnection {
      * <h3 style="color: white;">Funcionamiento</h3>
      * <ul>
      *     <li>Recibe una sentencia SQL como {@code String} y un conjunto de parametros dinámicos.</li>
+     *     <li>Toma la sentencia preparada de la {@link PreparedStatementCache} de la conexion, que
+     *     solo la compila la primera vez que se usa.</li>
      *     <li>Valida que la cantidad de parametros proporcionados coincida exactamente con los
-     *     marcadores de posicion en la sentencia SQL.</li>
+     *     marcadores de posicion en la sentencia SQL, usando el numero guardado en la cache.</li>
      *     <li>Asigna los valores a cada marcador dinamico utilizando el indice correspondiente.</li>
      *     <li>Ejecuta la consulta y encapsula el resultado dentro de un objeto {@link QueryResult}.</li>
      * </ul>
@@ -235,24 +316,35 @@ public class DatabaseConnection {
     public QueryResult executeQuery(String query, Object... parameters) throws SQLException {
         QueryResult queryResult = null;
         if (query != null) {
-            PreparedStatement queryStatement = this
-                    .databaseConnection.prepareStatement(query,
-                                                         ResultSet.TYPE_FORWARD_ONLY,
-                                                         ResultSet.CLOSE_CURSORS_AT_COMMIT);
-            if (queryStatement.getParameterMetaData().getParameterCount() != parameters.length) {
-                queryStatement.close();
+            //? La sentencia y su numero de marcadores vienen de la cache de la conexion
+            ConnectionLease lease = currentLease();
+            PreparedStatementCache statementCache = lease.statementCache();
+            PreparedStatementCache.CachedStatement cachedStatement = statementCache.borrow(
+                    query, connection -> connection.prepareStatement(query,
+                                                                     ResultSet.TYPE_FORWARD_ONLY,
+                                                                     ResultSet.CLOSE_CURSORS_AT_COMMIT));
+            if (cachedStatement.parameterCount() != parameters.length) {
+                statementCache.giveBack(cachedStatement);
                 throw new IllegalStateException("Error Code 0x001 - [Raised] La cantidad de " +
                                                         "parametros no coincide con la cantidad " +
                                                         "de marcadores de posicion en el " +
                                                         "statement" +
                                                         ".");
             }
-            for (int i = 0; i < parameters.length; i++) {
-                queryStatement.setObject(i + 1, parameters[i]);
+            PreparedStatement queryStatement = cachedStatement.statement();
+            ResultSet resultSet;
+            try {
+                for (int i = 0; i < parameters.length; i++) {
+                    queryStatement.setObject(i + 1, parameters[i]);
+                }
+                resultSet = queryStatement.executeQuery();
+            } catch (SQLException | RuntimeException e) {
+                statementCache.giveBack(cachedStatement);
+                throw e;
             }
-            var resultSet = queryStatement.executeQuery();
-            queryResult = new QueryResult(queryStatement, resultSet);
-            this.databaseConnection.commit();
+            queryResult = new QueryResult(queryStatement, resultSet,
+                                          () -> statementCache.giveBack(cachedStatement));
+            lease.connection().commit();
         } else {
             throw new NullPointerException("Error Code 0x001 - [Raised] Query no puede ser nulo" +
                                                    " en el metodo executeQuery.");
@@ -269,8 +361,9 @@ public class DatabaseConnection {
      * ({@link java.sql.PreparedStatement}) para incluir parametros dinamicos.
      *
      * <ul>
-     *     <li>Si el parametro {@code command} no es nulo, el metodo crea un
-     *     {@link java.sql.PreparedStatement} basado en la conexion activa a la base de datos.</li>
+     *     <li>Si el parametro {@code command} no es nulo, el metodo toma el
+     *     {@link java.sql.PreparedStatement} de la cache de la conexion prestada al hilo, o lo
+     *     prepara si aun no esta en ella.</li>
      *     <li>Verifica que la cantidad de parametros proporcionados coincida con los marcadores
      *     de posicion definidos en el comando SQL.</li>
      *     <li>Asigna los valores de los parametros invocados a los marcadores de posicion en el orden
@@ -306,24 +399,31 @@ public class DatabaseConnection {
      */
     public boolean executeCommand(String command, Object... parameters) throws SQLException {
         if (command != null) {
-            PreparedStatement preparedStatement =
-                    this.databaseConnection.prepareStatement(command);
-            if (preparedStatement.getParameterMetaData().getParameterCount() != parameters.length) {
-                throw new IllegalStateException("Error Code 0x001 - [Raised] La cantidad de " +
-                                                        "parametros no coincide con la cantidad " +
-                                                        "de marcadores de posicion en el " +
-                                                        "statement" +
-                                                        ".");
-
-            } else {
-                for (int i = 0; i < parameters.length; i++) {
-                    preparedStatement.setObject(i + 1, parameters[i]);
+            ConnectionLease lease = currentLease();
+            PreparedStatementCache statementCache = lease.statementCache();
+            PreparedStatementCache.CachedStatement cachedStatement = statementCache.borrow(
+                    command, connection -> connection.prepareStatement(command));
+            try {
+                PreparedStatement preparedStatement = cachedStatement.statement();
+                if (cachedStatement.parameterCount() != parameters.length) {
+                    throw new IllegalStateException("Error Code 0x001 - [Raised] La cantidad de " +
+                                                            "parametros no coincide con la cantidad " +
+                                                            "de marcadores de posicion en el " +
+                                                            "statement" +
+                                                            ".");
+
+                } else {
+                    for (int i = 0; i < parameters.length; i++) {
+                        preparedStatement.setObject(i + 1, parameters[i]);
+                    }
                 }
+                var result = preparedStatement.execute();
+                var updateCount = preparedStatement.getUpdateCount();
+                lease.connection().commit();
+                return updateCount > 0;
+            } finally {
+                statementCache.giveBack(cachedStatement);
             }
-            var result = preparedStatement.execute();
-            var updateCount = preparedStatement.getUpdateCount();
-            this.databaseConnection.commit();
-            return updateCount > 0;
 
         } else {
             throw new NullPointerException("Error Code 0x001 - [Raised] Command no puede ser nulo" +
@@ -332,29 +432,62 @@ public class DatabaseConnection {
     }
 
 
-    public void shutdownDatabaseConnection() throws SQLException {
+    /**
+     * <body style="color: white;">
+     * Ejecuta la misma sentencia DML para varias filas como un batch JDBC y las confirma con un
+     * unico commit, de modo que todas las filas comparten una sola escritura del log de Derby.
+     * Si cualquier fila falla, la transaccion completa se revierte.
+     *
+     * @param command Sentencia SQL con marcadores de posicion. No puede ser nula.
+     * @param rows    Parametros de cada fila; cada arreglo debe coincidir con los marcadores.
+     * @return Conteo de actualizacion de cada fila, en el mismo orden.
+     * @throws NullPointerException  Si {@code command} es nulo.
+     * @throws IllegalStateException Si alguna fila no coincide con los marcadores.
+     * @throws SQLException          Si el batch falla; ninguna fila queda escrita.
+     * </body>
+     */
+    public int[] executeBatch(String command, List<Object[]> rows) throws SQLException {
+        if (command == null) {
+            throw new NullPointerException("Error Code 0x001 - [Raised] Command no puede ser nulo" +
+                                                   " en el metodo executeBatch.");
+        }
+        ConnectionLease lease = currentLease();
+        PreparedStatementCache statementCache = lease.statementCache();
+        PreparedStatementCache.CachedStatement cachedStatement = statementCache.borrow(
+                command, connection -> connection.prepareStatement(command));
         try {
-            // First check if there's an active transaction and commit or rollback
-            if (!this.databaseConnection.getAutoCommit()) {
-                try {
-                    this.databaseConnection.commit();
-                } catch (SQLException e) {
-                    this.databaseConnection.rollback();
+            PreparedStatement preparedStatement = cachedStatement.statement();
+            for (Object[] row : rows) {
+                if (cachedStatement.parameterCount() != row.length) {
+                    preparedStatement.clearBatch();
+                    throw new IllegalStateException("Error Code 0x001 - [Raised] La cantidad de " +
+                                                            "parametros no coincide con la " +
+                                                            "cantidad de marcadores de posicion " +
+                                                            "en el statement.");
                 }
+                for (int i = 0; i < row.length; i++) {
+                    preparedStatement.setObject(i + 1, row[i]);
+                }
+                preparedStatement.addBatch();
             }
-            // Then close the connection
-            this.databaseConnection.close();
-        } catch (SQLException e) {
-            // Make sure we attempt to rollback if something goes wrong
-            try {
-                this.databaseConnection.rollback();
-            } catch (SQLException ignored) {
-                // If rollback fails, we can't do much more
-            }
-            throw e; // Rethrow the original exception
+            int[] updateCounts = preparedStatement.executeBatch();
+            lease.connection().commit();
+            return updateCounts;
+        } catch (SQLException exception) {
+            //? La sentencia vuelve a la cache, no debe conservar filas del batch fallido
+            cachedStatement.statement().clearBatch();
+            lease.connection().rollback();
+            throw exception;
+        } finally {
+            statementCache.giveBack(cachedStatement);
         }
     }
 
+    public void shutdownDatabaseConnection() throws SQLException {
+        //? El pool confirma o revierte y cierra cada conexion inactiva
+        this.connectionPool.close();
+    }
+
     /**
      * <body style="color: white;">
      * Este metodo privado y final se encarga de crear las tablas principales necesarias para el
@@ -495,15 +628,15 @@ public class DatabaseConnection {
     }
 
     public boolean isClosed() throws SQLException {
-        return this.databaseConnection.isClosed() ;
+        return this.connectionPool.isClosed();
     }
 
     public void commit() throws SQLException {
-        this.databaseConnection.commit();
+        currentLease().connection().commit();
     }
 
     public void rollback() throws SQLException {
-        this.databaseConnection.rollback();
+        currentLease().connection().rollback();
     }
 
 
@@ -556,10 +689,21 @@ public class DatabaseConnection {
         /*! Parametros Internos*/
         private final PreparedStatement _statement;
         private final ResultSet _resultSet;
+        /*
+         * Devuelve el statement a la cache de la conexion en lugar de cerrarlo; es null si el
+         * statement le pertenece a este QueryResult.
+         */
+        private final Runnable _statementRelease;
         
         public QueryResult(PreparedStatement exStatement, ResultSet exResultSet){
+            this(exStatement, exResultSet, null);
+        }
+
+        private QueryResult(PreparedStatement exStatement, ResultSet exResultSet,
+                            Runnable exStatementRelease){
             this._resultSet = exResultSet;
             this._statement = exStatement;
+            this._statementRelease = exStatementRelease;
         }
         
 
@@ -610,7 +754,11 @@ public class DatabaseConnection {
            try{
                _resultSet.close();
            }finally {
-               _statement.close();
+               if (_statementRelease != null) {
+                   _statementRelease.run();
+               } else {
+                   _statement.close();
+               }
            }
        }
    }
@@ -0,0 +1,263 @@
+package com.evolvlabs.multiuserchatgui.ServerSideBackend.PersistencyEngine;
+
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.MetricsEngine.Histogram;
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.MetricsEngine.ServerMetrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo contiene la etapa de escritura diferida de los mensajes.
+ * En lugar de que cada envio ejecute su {@code INSERT} y fuerce el log de Derby con su propio
+ * commit, los envios se encolan y un unico hilo los escribe como un batch JDBC en una sola
+ * transaccion. El batch se cierra al reunir {@code group.commit.size} filas o cuando la fila
+ * mas antigua lleva {@code group.commit.max.delay.millis} esperando; mientras un batch se
+ * confirma, los siguientes envios se acumulan, por lo que bajo carga el tamano crece solo.
+ * <p>
+ * El futuro de cada fila se completa unicamente despues del commit que la hace durable. Si el
+ * batch falla, sus filas se reintentan una por una para que una fila invalida no haga fallar a
+ * las demas. La configuracion se lee de {@code multiuserchat.server.db.group.commit.size} (por
+ * defecto {@value #DEFAULT_BATCH_SIZE}) y {@code multiuserchat.server.db.group.commit.max.delay.millis}
+ * (por defecto {@value #DEFAULT_MAX_DELAY_MILLIS}).
+ */
+public final class GroupCommitWriter implements AutoCloseable {
+
+    /*! Parametros Internos*/
+    /**
+     * Propiedades de sistema con el tamano maximo del batch y la espera maxima de una fila.
+     */
+    public static final String BATCH_SIZE_PROPERTY = "multiuserchat.server.db.group.commit.size";
+    public static final String MAX_DELAY_PROPERTY =
+            "multiuserchat.server.db.group.commit.max.delay.millis";
+    private static final int DEFAULT_BATCH_SIZE = 64;
+    private static final long DEFAULT_MAX_DELAY_MILLIS = 2;
+    private static final int QUEUE_CAPACITY = 8_192;
+    private static final long ENQUEUE_TIMEOUT_MILLIS = 5_000;
+
+    private static final LongAdder ROWS_COMMITTED = ServerMetrics.counter("db.group.commit.rows");
+    private static final LongAdder BATCH_FAILURES =
+            ServerMetrics.counter("db.group.commit.failures");
+    private static final Histogram BATCH_SIZE = ServerMetrics.histogram(
+            "db.group.commit.batch.size", 1, 2, 4, 8, 16, 32, 64, 128, 256);
+    private static final Histogram COMMIT_MICROS = ServerMetrics.histogram(
+            "db.group.commit.latency.micros", 250, 500, 1_000, 2_000, 5_000, 10_000, 25_000,
+            50_000, 100_000);
+
+    /**
+     * Escritura de un batch de filas en una sola transaccion.
+     */
+    @FunctionalInterface
+    public interface BatchWriter {
+        /**
+         * @param rows Parametros de cada fila, en orden de llegada.
+         * @return Para cada fila, {@code true} si fue escrita.
+         * @throws Exception si la transaccion fallo; ninguna fila quedo escrita.
+         */
+        boolean[] write(List<Object[]> rows) throws Exception;
+    }
+
+    private record PendingRow(Object[] row, CompletableFuture<Boolean> durable,
+                              long enqueuedNanos) {
+    }
+
+    private final BatchWriter batchWriter;
+    private final int maximumBatchSize;
+    private final long maxDelayNanos;
+    private final LinkedBlockingQueue<PendingRow> pendingRows =
+            new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+    private final Thread committerThread;
+    private volatile boolean closed;
+
+    /**
+     * <body style="color: white;">
+     * Construye la etapa e inicia su hilo de commit.
+     *
+     * @param batchWriter      Escritura de un batch en una transaccion.
+     * @param maximumBatchSize Filas maximas por transaccion.
+     * @param maxDelayMillis   Espera maxima de la fila mas antigua antes de confirmar el batch.
+     * </body>
+     */
+    public GroupCommitWriter(BatchWriter batchWriter, int maximumBatchSize, long maxDelayMillis) {
+        this.batchWriter = batchWriter;
+        this.maximumBatchSize = Math.max(1, maximumBatchSize);
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxDelayMillis));
+        this.committerThread = Thread.ofPlatform().daemon().name("db-group-commit")
+                .start(this::runCommitLoop);
+        ServerMetrics.gauge("db.group.commit.queue.depth", pendingRows::size);
+    }
+
+    /**
+     * <body style="color: white;">
+     * Construye la etapa con la configuracion de las propiedades del sistema.
+     *
+     * @param batchWriter Escritura de un batch en una transaccion.
+     * @return {@link GroupCommitWriter} para esta ejecucion.
+     * </body>
+     */
+    public static GroupCommitWriter fromSystemProperties(BatchWriter batchWriter) {
+        int batchSize = DEFAULT_BATCH_SIZE;
+        long maxDelayMillis = DEFAULT_MAX_DELAY_MILLIS;
+        try {
+            int configured = Integer.parseInt(System.getProperty(
+                    BATCH_SIZE_PROPERTY, String.valueOf(DEFAULT_BATCH_SIZE)));
+            batchSize = configured > 0 ? configured : DEFAULT_BATCH_SIZE;
+        } catch (NumberFormatException ignored) {
+            // Se mantiene el valor por defecto
+        }
+        try {
+            long configured = Long.parseLong(System.getProperty(
+                    MAX_DELAY_PROPERTY, String.valueOf(DEFAULT_MAX_DELAY_MILLIS)));
+            maxDelayMillis = configured >= 0 ? configured : DEFAULT_MAX_DELAY_MILLIS;
+        } catch (NumberFormatException ignored) {
+            // Se mantiene el valor por defecto
+        }
+        return new GroupCommitWriter(batchWriter, batchSize, maxDelayMillis);
+    }
+
+    /**
+     * <body style="color: white;">
+     * Encola una fila. Si la cola esta llena el llamador espera hasta
+     * {@value #ENQUEUE_TIMEOUT_MILLIS} ms, lo que frena a los emisores cuando la base de datos no
+     * alcanza a confirmar sin dejarlos bloqueados si el hilo de commit ya termino.
+     * <p>
+     * Si la etapa se cierra mientras la fila se encola, la fila se retira de la cola y falla:
+     * quien logra sacar la fila de la cola (el hilo de commit, {@link #close()} o este metodo) es
+     * el unico que completa su futuro, por lo que ninguna fila queda sin respuesta.
+     *
+     * @param row Parametros de la fila.
+     * @return Futuro que se completa con {@code true} cuando la fila es durable, o
+     * excepcionalmente si no pudo escribirse.
+     * </body>
+     */
+    public CompletableFuture<Boolean> submit(Object[] row) {
+        CompletableFuture<Boolean> durable = new CompletableFuture<>();
+        if (closed) {
+            durable.completeExceptionally(new RejectedExecutionException(
+                    "Error Code 0x001 - [Raised] La escritura diferida de mensajes esta cerrada."));
+            return durable;
+        }
+        PendingRow pendingRow = new PendingRow(row, durable, System.nanoTime());
+        try {
+            if (!pendingRows.offer(pendingRow, ENQUEUE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                durable.completeExceptionally(new RejectedExecutionException(
+                        "Error Code 0x001 - [Raised] La cola de escritura diferida de mensajes "
+                                + "sigue llena despues de " + ENQUEUE_TIMEOUT_MILLIS + " ms."));
+                return durable;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            durable.completeExceptionally(e);
+            return durable;
+        }
+        //? Un close() concurrente pudo vaciar la cola antes de que la fila llegara a ella
+        if (closed && pendingRows.remove(pendingRow)) {
+            durable.completeExceptionally(new RejectedExecutionException(
+                    "Error Code 0x001 - [Raised] La escritura diferida de mensajes se cerro."));
+        }
+        return durable;
+    }
+
+    private void runCommitLoop() {
+        List<PendingRow> batch = new ArrayList<>(maximumBatchSize);
+        while (!closed || !pendingRows.isEmpty()) {
+            try {
+                //? 1. Esperamos la primera fila y tomamos todas las que ya estan en cola
+                PendingRow firstRow = pendingRows.poll(100, TimeUnit.MILLISECONDS);
+                if (firstRow == null) {
+                    continue;
+                }
+                batch.add(firstRow);
+                pendingRows.drainTo(batch, maximumBatchSize - batch.size());
+
+                //? 2. Completamos el batch mientras la fila mas antigua pueda esperar
+                long deadlineNanos = firstRow.enqueuedNanos() + maxDelayNanos;
+                while (batch.size() < maximumBatchSize && !closed) {
+                    long remainingNanos = deadlineNanos - System.nanoTime();
+                    if (remainingNanos <= 0) {
+                        break;
+                    }
+                    PendingRow nextRow = pendingRows.poll(remainingNanos, TimeUnit.NANOSECONDS);
+                    if (nextRow == null) {
+                        break;
+                    }
+                    batch.add(nextRow);
+                    pendingRows.drainTo(batch, maximumBatchSize - batch.size());
+                }
+
+                //? 3. Confirmamos todas las filas en una sola transaccion
+                commitBatch(batch);
+            } catch (InterruptedException e) {
+                closed = true;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void commitBatch(List<PendingRow> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        batch.forEach(pendingRow -> rows.add(pendingRow.row()));
+        long startedNanos = System.nanoTime();
+        try {
+            boolean[] written = batchWriter.write(rows);
+            COMMIT_MICROS.record((System.nanoTime() - startedNanos) / 1_000);
+            BATCH_SIZE.record(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                boolean rowWritten = i < written.length && written[i];
+                if (rowWritten) {
+                    ROWS_COMMITTED.increment();
+                }
+                batch.get(i).durable().complete(rowWritten);
+            }
+        } catch (Exception batchFailure) {
+            BATCH_FAILURES.increment();
+            System.err.println("[DatabaseManagementSubsystem] Fallo el batch de " + batch.size()
+                                       + " mensajes, reintentando fila por fila: "
+                                       + batchFailure.getMessage());
+            for (PendingRow pendingRow : batch) {
+                try {
+                    boolean[] written = batchWriter.write(List.<Object[]>of(pendingRow.row()));
+                    boolean rowWritten = written.length > 0 && written[0];
+                    if (rowWritten) {
+                        ROWS_COMMITTED.increment();
+                    }
+                    pendingRow.durable().complete(rowWritten);
+                } catch (Exception rowFailure) {
+                    pendingRow.durable().completeExceptionally(rowFailure);
+                }
+            }
+        }
+    }
+
+    /**
+     * <body style="color: white;">
+     * Deja de aceptar filas, confirma las que ya estaban en cola y espera al hilo de commit.
+     * </body>
+     */
+    @Override
+    public void close() {
+        //? Sin interrumpir: una interrupcion durante la E/S de Derby puede cerrar la conexion
+        closed = true;
+        try {
+            committerThread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        //? Lo que llego despues del ultimo batch no sera escrito
+        PendingRow pendingRow;
+        while ((pendingRow = pendingRows.poll()) != null) {
+            pendingRow.durable().completeExceptionally(new RejectedExecutionException(
+                    "Error Code 0x001 - [Raised] La escritura diferida de mensajes se cerro."));
+        }
+    }
+}
@@ -0,0 +1,405 @@
+package com.evolvlabs.multiuserchatgui.ServerSideBackend.PersistencyEngine;
+
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.MessageDTO;
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.MetricsEngine.ServerMetrics;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo contiene la cache de los mensajes recientes de cada
+ * usuario. Por cada usuario se guardan dos anillos de tamano fijo, enviados y recibidos, con los
+ * ultimos {@code history.cache.messages} mensajes ya resueltos a usernames, igual que los
+ * retorna {@code DatabaseManagementSystem}. Un anillo sabe si contiene todo el historial de su
+ * direccion o si Derby tiene mensajes mas antiguos, de modo que solo responde las consultas
+ * que puede responder completas.
+ * <p>
+ * Los usuarios se cargan al consultar su historial y los mensajes nuevos se agregan cuando su
+ * batch se confirma; ambas operaciones las invoca el DMS bajo su lock de lectura y de escritura
+ * respectivamente, por lo que una carga nunca pierde un mensaje insertado en paralelo. Los
+ * usuarios menos usados se desalojan cuando el tamano estimado supera
+ * {@code history.cache.bytes}. La configuracion se lee de
+ * {@code multiuserchat.server.history.cache.messages} (por defecto
+ * {@value #DEFAULT_MESSAGES_PER_DIRECTION}) y {@code multiuserchat.server.history.cache.bytes}
+ * (por defecto {@value #DEFAULT_BUDGET_BYTES}).
+ */
+public final class HotMessageCache {
+
+    /*! Parametros Internos*/
+    /**
+     * Propiedades de sistema con los mensajes por direccion y el presupuesto de memoria.
+     */
+    public static final String MESSAGES_PROPERTY = "multiuserchat.server.history.cache.messages";
+    public static final String BUDGET_PROPERTY = "multiuserchat.server.history.cache.bytes";
+    private static final int DEFAULT_MESSAGES_PER_DIRECTION = 200;
+    private static final long DEFAULT_BUDGET_BYTES = 32L * 1024 * 1024;
+    /**
+     * Costo estimado de un mensaje sin contar sus cadenas: el record, su {@link Timestamp}, los
+     * dos {@link Boolean} compartidos, los encabezados de las tres cadenas y la referencia del
+     * anillo.
+     */
+    private static final long MESSAGE_OVERHEAD_BYTES = 160;
+    private static final long USER_OVERHEAD_BYTES = 128;
+    public static final String SENT_MESSAGES_KEY = "sentMessages";
+    public static final String RECEIVED_MESSAGES_KEY = "receivedMessages";
+
+    private static final LongAdder HITS = ServerMetrics.counter("history.cache.hits");
+    private static final LongAdder MISSES = ServerMetrics.counter("history.cache.misses");
+    private static final LongAdder EVICTIONS = ServerMetrics.counter("history.cache.evictions");
+    private static final LongAdder RING_OVERWRITES =
+            ServerMetrics.counter("history.cache.ring.overwrites");
+
+    private final int messagesPerDirection;
+    private final long budgetBytes;
+    /*
+     ? Orden de acceso: el primer elemento es el usuario usado hace mas tiempo
+     */
+    private final LinkedHashMap<String, UserHistory> historiesByUsername =
+            new LinkedHashMap<>(64, 0.75f, true);
+    private long estimatedBytes;
+
+    /**
+     * <body style="color: white;">
+     * Construye una cache vacia.
+     *
+     * @param messagesPerDirection Mensajes guardados por usuario en cada direccion.
+     * @param budgetBytes          Tamano estimado maximo de la cache.
+     * </body>
+     */
+    public HotMessageCache(int messagesPerDirection, long budgetBytes) {
+        this.messagesPerDirection = Math.max(1, messagesPerDirection);
+        this.budgetBytes = Math.max(0, budgetBytes);
+        ServerMetrics.gauge("history.cache.bytes", this::estimatedBytes);
+        ServerMetrics.gauge("history.cache.users", this::cachedUsers);
+        ServerMetrics.gauge("history.cache.hit.ratio.percent", () -> {
+            long hits = HITS.sum();
+            long lookups = hits + MISSES.sum();
+            return lookups == 0 ? 0 : hits * 100 / lookups;
+        });
+    }
+
+    /**
+     * <body style="color: white;">
+     * Construye la cache con la configuracion de las propiedades del sistema.
+     *
+     * @return {@link HotMessageCache} para esta ejecucion.
+     * </body>
+     */
+    public static HotMessageCache fromSystemProperties() {
+        int messagesPerDirection = DEFAULT_MESSAGES_PER_DIRECTION;
+        long budgetBytes = DEFAULT_BUDGET_BYTES;
+        try {
+            int configured = Integer.parseInt(System.getProperty(
+                    MESSAGES_PROPERTY, String.valueOf(DEFAULT_MESSAGES_PER_DIRECTION)));
+            messagesPerDirection = configured > 0 ? configured : DEFAULT_MESSAGES_PER_DIRECTION;
+        } catch (NumberFormatException ignored) {
+            // Se mantiene el valor por defecto
+        }
+        try {
+            long configured = Long.parseLong(System.getProperty(
+                    BUDGET_PROPERTY, String.valueOf(DEFAULT_BUDGET_BYTES)));
+            budgetBytes = configured > 0 ? configured : DEFAULT_BUDGET_BYTES;
+        } catch (NumberFormatException ignored) {
+            // Se mantiene el valor por defecto
+        }
+        return new HotMessageCache(messagesPerDirection, budgetBytes);
+    }
+
+    /*! Lecturas*/
+
+    /**
+     * <body style="color: white;">
+     * Retorna el historial completo del usuario si ambos anillos lo contienen.
+     *
+     * @param username Usuario consultado.
+     * @return Mapa con "sentMessages" y "receivedMessages", o vacio si hay que ir a Derby.
+     * </body>
+     */
+    public synchronized Optional<Map<String, List<MessageDTO>>> findAll(String username) {
+        UserHistory history = historiesByUsername.get(username);
+        if (history == null || history.sent.truncated || history.received.truncated) {
+            MISSES.increment();
+            return Optional.empty();
+        }
+        HITS.increment();
+        return Optional.of(history.toMap(history.sent.newest(Integer.MAX_VALUE),
+                                         history.received.newest(Integer.MAX_VALUE)));
+    }
+
+    /**
+     * <body style="color: white;">
+     * Retorna los {@code pageSize} mensajes mas recientes del usuario en cada direccion, en
+     * orden cronologico, si los anillos los contienen.
+     *
+     * @param username Usuario consultado.
+     * @param pageSize Mensajes por direccion.
+     * @return Mapa con "sentMessages" y "receivedMessages", o vacio si hay que ir a Derby.
+     * </body>
+     */
+    public synchronized Optional<Map<String, List<MessageDTO>>> findRecent(String username,
+                                                                           int pageSize) {
+        UserHistory history = historiesByUsername.get(username);
+        if (history == null || !history.sent.holdsNewest(pageSize)
+                || !history.received.holdsNewest(pageSize)) {
+            MISSES.increment();
+            return Optional.empty();
+        }
+        HITS.increment();
+        return Optional.of(history.toMap(history.sent.newest(pageSize),
+                                         history.received.newest(pageSize)));
+    }
+
+    /**
+     * <body style="color: white;">
+     * Retorna los mensajes del usuario con timestamp mayor o igual al cursor si los anillos
+     * los contienen todos, es decir, si no se descarto ningun mensaje posterior al cursor.
+     *
+     * @param username Usuario consultado.
+     * @param cursor   Timestamp inclusivo desde el cual se retornan mensajes.
+     * @return Mapa con "sentMessages" y "receivedMessages", o vacio si hay que ir a Derby.
+     * </body>
+     */
+    public synchronized Optional<Map<String, List<MessageDTO>>> findSince(String username,
+                                                                          Timestamp cursor) {
+        UserHistory history = historiesByUsername.get(username);
+        if (history == null || !history.sent.holdsSince(cursor)
+                || !history.received.holdsSince(cursor)) {
+            MISSES.increment();
+            return Optional.empty();
+        }
+        HITS.increment();
+        return Optional.of(history.toMap(history.sent.since(cursor),
+                                         history.received.since(cursor)));
+    }
+
+    /*! Escrituras; las invoca el DMS con el lock correspondiente tomado*/
+
+    /**
+     * <body style="color: white;">
+     * Guarda el historial leido de Derby para un usuario. Se invoca con el lock de lectura del
+     * DMS tomado, por lo que ningun batch de mensajes se confirma entre la consulta y la carga.
+     * Una carga que contiene menos mensajes que la ya guardada no la reemplaza.
+     *
+     * @param username         Usuario consultado.
+     * @param sentMessages     Mensajes enviados, en orden cronologico.
+     * @param sentComplete     {@code true} si son todos los enviados del usuario.
+     * @param receivedMessages Mensajes recibidos, en orden cronologico.
+     * @param receivedComplete {@code true} si son todos los recibidos del usuario.
+     * </body>
+     */
+    public synchronized void load(String username, List<MessageDTO> sentMessages,
+                                  boolean sentComplete, List<MessageDTO> receivedMessages,
+                                  boolean receivedComplete) {
+        UserHistory loaded = new UserHistory(
+                MessageRing.of(messagesPerDirection, sentMessages, sentComplete),
+                MessageRing.of(messagesPerDirection, receivedMessages, receivedComplete));
+        UserHistory current = historiesByUsername.get(username);
+        if (current != null && !loaded.covers(current)) {
+            return;
+        }
+        if (current != null) {
+            estimatedBytes -= current.estimatedBytes();
+        }
+        historiesByUsername.put(username, loaded);
+        estimatedBytes += loaded.estimatedBytes();
+        evictOverBudget();
+    }
+
+    /**
+     * <body style="color: white;">
+     * Agrega un mensaje confirmado a los anillos del emisor y del receptor que esten en la
+     * cache. Se invoca con el lock de escritura del DMS tomado, luego del commit.
+     *
+     * @param messageDTO Mensaje con usernames en emisor y receptor.
+     * </body>
+     */
+    public synchronized void append(MessageDTO messageDTO) {
+        UserHistory senderHistory = historiesByUsername.get(messageDTO._senderUUID());
+        if (senderHistory != null) {
+            estimatedBytes += senderHistory.sent.append(messageDTO);
+        }
+        UserHistory receiverHistory = historiesByUsername.get(messageDTO._receiverUUID());
+        if (receiverHistory != null) {
+            estimatedBytes += receiverHistory.received.append(messageDTO);
+        }
+        evictOverBudget();
+    }
+
+    /**
+     * <body style="color: white;">
+     * Descarta todo el contenido. Se usa al eliminar mensajes o clientes, que cambian el
+     * historial de todos los usuarios que conversaron con ellos.
+     * </body>
+     */
+    public synchronized void invalidateAll() {
+        historiesByUsername.clear();
+        estimatedBytes = 0;
+    }
+
+    private void evictOverBudget() {
+        Iterator<UserHistory> leastRecentlyUsed = historiesByUsername.values().iterator();
+        while (estimatedBytes > budgetBytes && leastRecentlyUsed.hasNext()) {
+            estimatedBytes -= leastRecentlyUsed.next().estimatedBytes();
+            leastRecentlyUsed.remove();
+            EVICTIONS.increment();
+        }
+    }
+
+    private synchronized long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    private synchronized long cachedUsers() {
+        return historiesByUsername.size();
+    }
+
+    private static long estimateBytes(MessageDTO messageDTO) {
+        return MESSAGE_OVERHEAD_BYTES
+                + lengthOf(messageDTO._messageContent())
+                + lengthOf(messageDTO._senderUUID())
+                + lengthOf(messageDTO._receiverUUID());
+    }
+
+    private static long lengthOf(String value) {
+        //? Las cadenas compactas usan un byte por caracter Latin-1; se asumen dos por seguridad
+        return value == null ? 0 : 2L * value.length();
+    }
+
+    /*! Estructuras internas*/
+
+    private record UserHistory(MessageRing sent, MessageRing received) {
+
+        long estimatedBytes() {
+            return USER_OVERHEAD_BYTES + sent.estimatedBytes + received.estimatedBytes;
+        }
+
+        /**
+         * @return {@code true} si este historial responde al menos lo mismo que {@code other}.
+         */
+        boolean covers(UserHistory other) {
+            return sent.covers(other.sent) && received.covers(other.received);
+        }
+
+        Map<String, List<MessageDTO>> toMap(List<MessageDTO> sentMessages,
+                                            List<MessageDTO> receivedMessages) {
+            Map<String, List<MessageDTO>> results = new HashMap<>();
+            results.put(SENT_MESSAGES_KEY, sentMessages);
+            results.put(RECEIVED_MESSAGES_KEY, receivedMessages);
+            return results;
+        }
+    }
+
+    /**
+     * Anillo de mensajes ordenado por timestamp: {@code head} apunta al mas antiguo y al
+     * llenarse se sobrescribe. {@code truncated} indica que Derby tiene mensajes mas antiguos
+     * que el primero del anillo.
+     */
+    private static final class MessageRing {
+        private final MessageDTO[] slots;
+        private int head;
+        private int size;
+        private boolean truncated;
+        private long estimatedBytes;
+
+        private MessageRing(int capacity) {
+            this.slots = new MessageDTO[capacity];
+        }
+
+        static MessageRing of(int capacity, List<MessageDTO> chronologicalMessages,
+                              boolean complete) {
+            MessageRing ring = new MessageRing(capacity);
+            int skipped = Math.max(0, chronologicalMessages.size() - capacity);
+            for (int i = skipped; i < chronologicalMessages.size(); i++) {
+                MessageDTO messageDTO = chronologicalMessages.get(i);
+                ring.slots[ring.size++] = messageDTO;
+                ring.estimatedBytes += estimateBytes(messageDTO);
+            }
+            ring.truncated = !complete || skipped > 0;
+            return ring;
+        }
+
+        private MessageDTO at(int index) {
+            return slots[(head + index) % slots.length];
+        }
+
+        /**
+         * @return Cambio en el tamano estimado del anillo.
+         */
+        long append(MessageDTO messageDTO) {
+            long bytesBefore = estimatedBytes;
+            //? Si Derby tiene mensajes anteriores al primero, uno aun mas antiguo dejaria un
+            //? hueco en el anillo; queda solo en la base de datos
+            if (truncated && size > 0
+                    && messageDTO._messageTimestamp().before(at(0)._messageTimestamp())) {
+                return 0;
+            }
+            if (size == slots.length) {
+                //? El anillo esta lleno: un mensaje anterior a todos los guardados no cabe
+                if (messageDTO._messageTimestamp().before(at(0)._messageTimestamp())) {
+                    truncated = true;
+                    RING_OVERWRITES.increment();
+                    return 0;
+                }
+                estimatedBytes -= estimateBytes(at(0));
+                slots[head] = null;
+                head = (head + 1) % slots.length;
+                size--;
+                truncated = true;
+                RING_OVERWRITES.increment();
+            }
+            //? Los timestamps los asigna el cliente; un mensaje atrasado se ubica en su lugar
+            int position = size;
+            while (position > 0
+                    && messageDTO._messageTimestamp().before(at(position - 1)._messageTimestamp())) {
+                slots[(head + position) % slots.length] = at(position - 1);
+                position--;
+            }
+            slots[(head + position) % slots.length] = messageDTO;
+            size++;
+            estimatedBytes += estimateBytes(messageDTO);
+            return estimatedBytes - bytesBefore;
+        }
+
+        boolean holdsNewest(int count) {
+            return !truncated || size >= count;
+        }
+
+        boolean holdsSince(Timestamp cursor) {
+            //? Si el mas antiguo es estrictamente anterior al cursor, lo descartado tambien
+            return !truncated || (size > 0 && at(0)._messageTimestamp().before(cursor));
+        }
+
+        boolean covers(MessageRing other) {
+            return !truncated || (other.truncated && size >= other.size);
+        }
+
+        List<MessageDTO> newest(int count) {
+            int returned = Math.min(count, size);
+            List<MessageDTO> messages = new ArrayList<>(returned);
+            for (int i = size - returned; i < size; i++) {
+                messages.add(at(i));
+            }
+            return messages;
+        }
+
+        List<MessageDTO> since(Timestamp cursor) {
+            List<MessageDTO> messages = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                MessageDTO messageDTO = at(i);
+                if (!messageDTO._messageTimestamp().before(cursor)) {
+                    messages.add(messageDTO);
+                }
+            }
+            return messages;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.evolvlabs.multiuserchatgui.ServerSideBackend.PersistencyEngine;
+
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.MetricsEngine.ServerMetrics;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo contiene la cache LRU de sentencias preparadas de una
+ * conexion del {@link ConnectionPool}. Las sentencias de {@code DatabaseManagementSystem} son
+ * fijas, por lo que cada una se compila una sola vez por conexion y el numero de marcadores
+ * de posicion se guarda junto a ella en lugar de consultar
+ * {@link PreparedStatement#getParameterMetaData()} en cada ejecucion. La clave es el texto SQL.
+ * <p>
+ * La cache no es thread-safe: la usa unicamente el hilo que tiene prestada la conexion. Una
+ * sentencia prestada no se entrega dos veces; si una operacion anidada pide la misma sentencia
+ * mientras su {@link java.sql.ResultSet} sigue abierto, recibe una sentencia temporal que se
+ * cierra al devolverse. La capacidad se lee de {@code multiuserchat.server.db.statement.cache.size}
+ * (por defecto {@value #DEFAULT_CAPACITY}).
+ */
+final class PreparedStatementCache {
+
+    /*! Parametros Internos*/
+    static final String CAPACITY_PROPERTY = "multiuserchat.server.db.statement.cache.size";
+    private static final int DEFAULT_CAPACITY = 32;
+
+    private static final LongAdder HITS = ServerMetrics.counter("db.statements.cache.hits");
+    private static final LongAdder MISSES = ServerMetrics.counter("db.statements.cache.misses");
+    private static final LongAdder EVICTIONS =
+            ServerMetrics.counter("db.statements.cache.evictions");
+
+    static {
+        ServerMetrics.gauge("db.statements.cache.hit.percent", () -> {
+            long hits = HITS.sum();
+            long lookups = hits + MISSES.sum();
+            return lookups == 0 ? 0 : hits * 100 / lookups;
+        });
+    }
+
+    private final Connection connection;
+    private final int capacity;
+    private final LinkedHashMap<String, CachedStatement> statements;
+
+    /**
+     * Sentencia preparada junto con su numero de marcadores de posicion.
+     */
+    static final class CachedStatement {
+        private final PreparedStatement statement;
+        private final int parameterCount;
+        private boolean borrowed;
+        private boolean cached;
+
+        private CachedStatement(PreparedStatement statement, int parameterCount) {
+            this.statement = statement;
+            this.parameterCount = parameterCount;
+        }
+
+        PreparedStatement statement() {
+            return statement;
+        }
+
+        int parameterCount() {
+            return parameterCount;
+        }
+    }
+
+    @FunctionalInterface
+    interface StatementFactory {
+        PreparedStatement prepare(Connection connection) throws SQLException;
+    }
+
+    /**
+     * <body style="color: white;">
+     * Construye una cache vacia para una conexion.
+     *
+     * @param connection Conexion propietaria de las sentencias.
+     * @param capacity   Numero maximo de sentencias abiertas en la cache.
+     * </body>
+     */
+    PreparedStatementCache(Connection connection, int capacity) {
+        this.connection = connection;
+        this.capacity = Math.max(1, capacity);
+        this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+                if (size() <= PreparedStatementCache.this.capacity) {
+                    return false;
+                }
+                EVICTIONS.increment();
+                CachedStatement evicted = eldest.getValue();
+                evicted.cached = false;
+                //? Si esta prestada se cierra al devolverse
+                if (!evicted.borrowed) {
+                    closeQuietly(evicted);
+                }
+                return true;
+            }
+        };
+    }
+
+    /**
+     * @return Capacidad configurada en las propiedades del sistema.
+     */
+    static int capacityFromSystemProperties() {
+        try {
+            int configured = Integer.parseInt(System.getProperty(
+                    CAPACITY_PROPERTY, String.valueOf(DEFAULT_CAPACITY)));
+            return configured > 0 ? configured : DEFAULT_CAPACITY;
+        } catch (NumberFormatException e) {
+            return DEFAULT_CAPACITY;
+        }
+    }
+
+    /**
+     * <body style="color: white;">
+     * Presta la sentencia asociada a un texto SQL, preparandola con {@code factory} si no esta
+     * en la cache. Debe devolverse con {@link #giveBack(CachedStatement)}.
+     *
+     * @param sql     Texto SQL, usado como clave.
+     * @param factory Forma de preparar la sentencia en la conexion.
+     * @return {@link CachedStatement} lista para asignar parametros.
+     * @throws SQLException si la sentencia no pudo prepararse.
+     * </body>
+     */
+    CachedStatement borrow(String sql, StatementFactory factory) throws SQLException {
+        CachedStatement cachedStatement = statements.get(sql);
+        if (cachedStatement != null && !cachedStatement.borrowed) {
+            HITS.increment();
+            cachedStatement.borrowed = true;
+            return cachedStatement;
+        }
+        MISSES.increment();
+        PreparedStatement statement = factory.prepare(connection);
+        CachedStatement preparedStatement;
+        try {
+            preparedStatement = new CachedStatement(
+                    statement, statement.getParameterMetaData().getParameterCount());
+        } catch (SQLException e) {
+            statement.close();
+            throw e;
+        }
+        preparedStatement.borrowed = true;
+        //? Una sentencia ya prestada se deja en la cache; la nueva es temporal
+        if (cachedStatement == null) {
+            preparedStatement.cached = true;
+            statements.put(sql, preparedStatement);
+        }
+        return preparedStatement;
+    }
+
+    /**
+     * <body style="color: white;">
+     * Devuelve una sentencia prestada. Las sentencias temporales o expulsadas mientras estaban
+     * prestadas se cierran.
+     *
+     * @param cachedStatement Sentencia obtenida con {@link #borrow(String, StatementFactory)}.
+     * </body>
+     */
+    void giveBack(CachedStatement cachedStatement) {
+        cachedStatement.borrowed = false;
+        if (!cachedStatement.cached) {
+            closeQuietly(cachedStatement);
+        }
+    }
+
+    /**
+     * Cierra todas las sentencias; se invoca antes de cerrar la conexion.
+     */
+    void close() {
+        statements.values().forEach(PreparedStatementCache::closeQuietly);
+        statements.clear();
+    }
+
+    private static void closeQuietly(CachedStatement cachedStatement) {
+        try {
+            cachedStatement.statement.close();
+        } catch (SQLException ignored) {
+            // La sentencia ya no es utilizable
+        }
+    }
+}
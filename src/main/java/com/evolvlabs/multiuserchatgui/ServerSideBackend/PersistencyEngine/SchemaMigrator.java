@@ -0,0 +1,152 @@
+package com.evolvlabs.multiuserchatgui.ServerSideBackend.PersistencyEngine;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo contiene las migraciones del esquema de la base de datos y
+ * el proceso que las aplica al iniciar el servidor. La version actual se guarda en la tabla
+ * {@code SCHEMA_VERSION}, con una fila por migracion aplicada; una base de datos sin esa tabla
+ * (creada por versiones anteriores o recien creada con las tablas base) esta en la version 0.
+ * <p>
+ * Cada migracion se aplica en su propia transaccion junto con la fila que la registra, ya que
+ * Derby revierte DDL en un rollback; si una sentencia falla la base de datos queda en la version
+ * anterior y el arranque se detiene. Las sentencias que crean objetos ya existentes
+ * ({@code X0Y32}) se toleran, porque las versiones anteriores creaban los indices de cursor sin
+ * registrar ninguna version. Para cambiar el esquema se agrega una migracion al final de
+ * {@link #MIGRATIONS}; las existentes no se modifican.
+ */
+public final class SchemaMigrator {
+
+    /*! Parametros Internos*/
+    private static final String OBJECT_ALREADY_EXISTS_SQL_STATE = "X0Y32";
+    private static final String TABLE_DOES_NOT_EXIST_SQL_STATE = "42X05";
+
+    private record Migration(int version, String description, String... statements) {
+    }
+
+    private static final List<Migration> MIGRATIONS = List.of(
+            new Migration(1, "Indices de mensajes por emisor y receptor ordenados por timestamp",
+                          "CREATE INDEX MESSAGES_SENDER_TIMESTAMP_IDX ON MESSAGESTABLE " +
+                                  "(SENDER_UUID, MESSAGE_TIMESTAMP)",
+                          "CREATE INDEX MESSAGES_RECEIVER_TIMESTAMP_IDX ON MESSAGESTABLE " +
+                                  "(RECEIVER_UUID, MESSAGE_TIMESTAMP)"),
+            new Migration(2, "Llave primaria generada MESSAGE_ID en MESSAGESTABLE",
+                          "ALTER TABLE MESSAGESTABLE ADD COLUMN MESSAGE_ID BIGINT NOT NULL " +
+                                  "GENERATED ALWAYS AS IDENTITY",
+                          "ALTER TABLE MESSAGESTABLE ADD CONSTRAINT MESSAGES_PK " +
+                                  "PRIMARY KEY (MESSAGE_ID)"),
+            new Migration(3, "Indice descendente de conversaciones para la paginacion por cursor",
+                          "CREATE INDEX MESSAGES_CONVERSATION_KEYSET_IDX ON MESSAGESTABLE " +
+                                  "(SENDER_UUID, RECEIVER_UUID, MESSAGE_TIMESTAMP DESC, " +
+                                  "MESSAGE_ID DESC)")
+    );
+
+    private SchemaMigrator() {
+    }
+
+    /**
+     * @return Version que alcanza una base de datos con todas las migraciones aplicadas.
+     */
+    public static int latestVersion() {
+        return MIGRATIONS.getLast().version();
+    }
+
+    /**
+     * <body style="color: white;">
+     * Lleva el esquema a la ultima version aplicando, en orden, las migraciones pendientes.
+     *
+     * @param databaseConnection Conexion con auto commit desactivado; al terminar no queda
+     *                           ninguna transaccion abierta.
+     * @return Version del esquema luego de migrar.
+     * @throws SQLException si una migracion falla; esa migracion se revierte por completo.
+     * </body>
+     */
+    public static int migrate(Connection databaseConnection) throws SQLException {
+        //? 1. Creamos la tabla de versiones si esta base de datos aun no la tiene
+        int currentVersion = readCurrentVersion(databaseConnection);
+        if (currentVersion < 0) {
+            try (Statement statement = databaseConnection.createStatement()) {
+                statement.execute("""
+                                  CREATE TABLE SCHEMA_VERSION(
+                                      VERSION INT NOT NULL PRIMARY KEY,
+                                      DESCRIPTION VARCHAR(256) NOT NULL,
+                                      APPLIED_AT TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+                                  )
+                                  """);
+            }
+            databaseConnection.commit();
+            currentVersion = 0;
+        }
+
+        //? 2. Aplicamos cada migracion pendiente en su propia transaccion
+        for (Migration migration : MIGRATIONS) {
+            if (migration.version() <= currentVersion) {
+                continue;
+            }
+            long startedNanos = System.nanoTime();
+            try {
+                applyMigration(databaseConnection, migration);
+                databaseConnection.commit();
+            } catch (SQLException exception) {
+                databaseConnection.rollback();
+                throw exception;
+            }
+            currentVersion = migration.version();
+            System.out.println("[DatabaseManagementSubsystem] Esquema migrado a la version "
+                                       + migration.version() + " (" + migration.description()
+                                       + ") en " + (System.nanoTime() - startedNanos) / 1_000_000
+                                       + " ms");
+        }
+        return currentVersion;
+    }
+
+    private static void applyMigration(Connection databaseConnection, Migration migration)
+            throws SQLException {
+        for (String migrationStatement : migration.statements()) {
+            try (Statement statement = databaseConnection.createStatement()) {
+                statement.execute(migrationStatement);
+            } catch (SQLException exception) {
+                //? Un error de sentencia en Derby solo revierte esa sentencia
+                if (!OBJECT_ALREADY_EXISTS_SQL_STATE.equals(exception.getSQLState())) {
+                    throw exception;
+                }
+            }
+        }
+        try (PreparedStatement recordVersion = databaseConnection.prepareStatement(
+                "INSERT INTO SCHEMA_VERSION (VERSION, DESCRIPTION) VALUES (?, ?)")) {
+            recordVersion.setInt(1, migration.version());
+            recordVersion.setString(2, migration.description());
+            recordVersion.executeUpdate();
+        }
+    }
+
+    /**
+     * @return Ultima version registrada, o {@code -1} si la tabla de versiones no existe.
+     */
+    private static int readCurrentVersion(Connection databaseConnection) throws SQLException {
+        try (Statement statement = databaseConnection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT MAX(VERSION) FROM SCHEMA_VERSION")) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        } catch (SQLException exception) {
+            if (TABLE_DOES_NOT_EXIST_SQL_STATE.equals(exception.getSQLState())) {
+                databaseConnection.rollback();
+                return -1;
+            }
+            throw exception;
+        } finally {
+            //? La lectura deja abierta una transaccion
+            if (!databaseConnection.isClosed()) {
+                databaseConnection.commit();
+            }
+        }
+    }
+}
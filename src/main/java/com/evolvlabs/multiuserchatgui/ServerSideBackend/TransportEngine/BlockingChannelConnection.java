@@ -0,0 +1,80 @@
+package com.evolvlabs.multiuserchatgui.ServerSideBackend.TransportEngine;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo contiene la implementacion de {@link ClientConnection} para
+ * un {@link SocketChannel} en modo bloqueante. El modo {@link TransportMode#BLOCKING} la usa
+ * para los clientes conectados por el socket Unix del servidor, ya que un canal
+ * {@link java.net.StandardProtocolFamily#UNIX} no puede representarse como un
+ * {@link java.net.Socket}. Los streams de {@link Channels} permiten que un hilo lea mientras
+ * otro escribe, igual que los de un socket.
+ */
+public final class BlockingChannelConnection implements ClientConnection {
+
+    /**
+     * Canal aceptado por el servidor, en modo bloqueante.
+     */
+    private final SocketChannel clientChannel;
+    private final InputStream inputStream;
+    private final OutputStream outputStream;
+
+    /**
+     * <body style="color: white;">
+     * Constructor que envuelve un canal ya aceptado por el servidor.
+     *
+     * @param clientChannel {@link SocketChannel} bloqueante conectado con el cliente. No puede
+     *                      ser {@code null}.
+     * @throws IllegalArgumentException si el canal es {@code null}.
+     * </body>
+     */
+    public BlockingChannelConnection(SocketChannel clientChannel) {
+        if (clientChannel == null) {
+            throw new IllegalArgumentException("Error Code 0x001 - [Raised] El canal del " +
+                                                       "cliente no puede ser nulo.");
+        }
+        this.clientChannel = clientChannel;
+        this.inputStream = Channels.newInputStream(clientChannel);
+        this.outputStream = Channels.newOutputStream(clientChannel);
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return this.inputStream;
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return this.outputStream;
+    }
+
+    @Override
+    public boolean hasPendingInput() {
+        return true;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return !this.clientChannel.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.clientChannel.close();
+    }
+
+    @Override
+    public String getRemoteDescription() {
+        try {
+            return "[" + this.clientChannel.getLocalAddress() + "] (socket Unix)";
+        } catch (IOException e) {
+            return "[desconocido] (socket Unix)";
+        }
+    }
+}
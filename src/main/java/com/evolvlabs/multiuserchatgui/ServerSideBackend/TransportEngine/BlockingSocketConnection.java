@@ -0,0 +1,70 @@
+package com.evolvlabs.multiuserchatgui.ServerSideBackend.TransportEngine;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo contiene la implementacion de {@link ClientConnection} para
+ * el modo de transporte bloqueante original del servidor, en donde cada cliente mantiene un
+ * {@link Socket} y un hilo propio bloqueado en la lectura de sus comandos.
+ */
+public final class BlockingSocketConnection implements ClientConnection {
+
+    /**
+     * Socket aceptado por el {@link java.net.ServerSocket} del servidor.
+     */
+    private final Socket clientSocket;
+
+    /**
+     * <body style="color: white;">
+     * Constructor que envuelve un socket ya aceptado por el servidor.
+     *
+     * @param clientSocket {@link Socket} conectado con el cliente. No puede ser {@code null}.
+     * @throws IllegalArgumentException si el socket es {@code null}.
+     * </body>
+     */
+    public BlockingSocketConnection(Socket clientSocket) {
+        if (clientSocket == null) {
+            throw new IllegalArgumentException("Error Code 0x001 - [Raised] El socket del " +
+                                                       "cliente no puede ser nulo.");
+        }
+        this.clientSocket = clientSocket;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return this.clientSocket.getInputStream();
+    }
+
+    @Override
+    public OutputStream getOutputStream() throws IOException {
+        return this.clientSocket.getOutputStream();
+    }
+
+    @Override
+    public boolean hasPendingInput() {
+        return true;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return this.clientSocket.isClosed();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!this.clientSocket.isClosed()) {
+            this.clientSocket.close();
+        }
+    }
+
+    @Override
+    public String getRemoteDescription() {
+        return "[" + this.clientSocket.getInetAddress() + "] con puerto ["
+                + this.clientSocket.getPort() + "]";
+    }
+}
@@ -0,0 +1,72 @@
+package com.evolvlabs.multiuserchatgui.ServerSideBackend.TransportEngine;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo define la abstraccion de una conexion de cliente dentro del
+ * servidor. La idea es que el {@code ClientHandler} del
+ * {@link com.evolvlabs.multiuserchatgui.ServerSideBackend.MessageServer} no dependa de un
+ * {@link java.net.Socket} bloqueante, sino de un par de streams y de un estado de cierre, de
+ * modo que el mismo manejo de comandos pueda operar sobre sockets bloqueantes o sobre canales
+ * administrados por un {@link java.nio.channels.Selector}.
+ */
+public interface ClientConnection {
+
+    /**
+     * <body style="color: white;">
+     * Retorna el stream de entrada de la conexion. En el modo bloqueante es el stream del
+     * socket, en el modo de selector es un stream alimentado por el event loop.
+     *
+     * @return {@link InputStream} con los bytes enviados por el cliente.
+     * @throws IOException si la conexion no permite obtener el stream.
+     * </body>
+     */
+    InputStream getInputStream() throws IOException;
+
+    /**
+     * <body style="color: white;">
+     * Retorna el stream de salida de la conexion, usado por el servidor para enviar
+     * ACKNOWLEDGES, mandatos y objetos hacia el cliente.
+     *
+     * @return {@link OutputStream} hacia el cliente.
+     * @throws IOException si la conexion no permite obtener el stream.
+     * </body>
+     */
+    OutputStream getOutputStream() throws IOException;
+
+    /**
+     * <body style="color: white;">
+     * Indica si existen bytes del cliente que pueden ser leidos sin esperar a la red. Las
+     * conexiones bloqueantes retornan siempre {@code true} dado que su lectura simplemente se
+     * bloquea hasta que llegue informacion; las conexiones del selector retornan {@code true}
+     * tambien cuando el cliente cerro su extremo, para que el lector observe el fin del stream.
+     *
+     * @return {@code true} si una lectura puede progresar.
+     * </body>
+     */
+    boolean hasPendingInput();
+
+    /**
+     * @return {@code true} si la conexion ya fue cerrada por cualquiera de los extremos.
+     */
+    boolean isClosed();
+
+    /**
+     * <body style="color: white;">
+     * Cierra la conexion y libera los recursos de red asociados. Cerrar una conexion ya cerrada
+     * no tiene efecto.
+     *
+     * @throws IOException si ocurre un error al cerrar el canal subyacente.
+     * </body>
+     */
+    void close() throws IOException;
+
+    /**
+     * @return Descripcion legible del extremo remoto, usada unicamente para los logs del servidor.
+     */
+    String getRemoteDescription();
+}
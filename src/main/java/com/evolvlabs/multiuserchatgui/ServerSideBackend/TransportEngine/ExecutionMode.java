@@ -0,0 +1,106 @@
+package com.evolvlabs.multiuserchatgui.ServerSideBackend.TransportEngine;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo contiene los modos de ejecucion que el servidor puede usar
+ * para sus hilos de clientes y de base de datos. El modo se elige al arrancar mediante la
+ * propiedad de sistema {@code multiuserchat.server.execution}. En el modo
+ * {@link #VIRTUAL_THREADS} cada {@code ClientHandler} y cada tarea de base de datos corre en un
+ * hilo virtual de Java 21, de modo que un cliente inactivo bloqueado en {@code readUTF()} no
+ * retiene un hilo del sistema operativo.
+ * <p>
+ * Sobre el pinning de hilos virtuales: el servidor no usa bloques {@code synchronized} en
+ * caminos bloqueantes (los locks de {@link java.util.concurrent.locks} liberan el carrier al
+ * esperar), pero el motor embebido de Derby si sincroniza internamente sobre su conexion. Por
+ * eso en este modo el {@code DatabaseManagementSystem} limita cuantos hilos pueden entrar a
+ * Derby al mismo tiempo con {@link #databaseParallelism()}, evitando que todos los carriers
+ * queden fijados esperando el monitor de la conexion.
+ */
+public enum ExecutionMode {
+
+    /*! Modo original: cached thread pool para clientes y fixed thread pool para la db*/
+    PLATFORM_THREADS,
+    /*! Modo de hilos virtuales: un hilo virtual por cliente y por tarea de base de datos*/
+    VIRTUAL_THREADS;
+
+    /**
+     * Nombre de la propiedad de sistema leida al arrancar el servidor.
+     */
+    public static final String EXECUTION_PROPERTY = "multiuserchat.server.execution";
+    /**
+     * Nombre de la propiedad que permite ajustar cuantos hilos entran a Derby a la vez.
+     */
+    public static final String DATABASE_PARALLELISM_PROPERTY =
+            "multiuserchat.server.databaseParallelism";
+
+    /**
+     * <body style="color: white;">
+     * Lee el modo de ejecucion configurado en las propiedades del sistema. Si la propiedad no
+     * existe o no es reconocida se retorna {@link #PLATFORM_THREADS}.
+     *
+     * @return {@link ExecutionMode} seleccionado para esta ejecucion.
+     * </body>
+     */
+    public static ExecutionMode fromSystemProperties() {
+        String configuredMode = System.getProperty(EXECUTION_PROPERTY, PLATFORM_THREADS.name());
+        for (ExecutionMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(configuredMode.trim())) {
+                return mode;
+            }
+        }
+        System.err.println("[ServerSideComms] Modo de ejecucion desconocido [" + configuredMode
+                                   + "], se utiliza " + PLATFORM_THREADS.name());
+        return PLATFORM_THREADS;
+    }
+
+    /**
+     * @return {@link ExecutorService} usado para ejecutar un {@code ClientHandler} por cliente.
+     */
+    public ExecutorService newClientExecutor() {
+        return switch (this) {
+            case PLATFORM_THREADS -> Executors.newCachedThreadPool();
+            case VIRTUAL_THREADS -> Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("MessageServer-Client-", 0).factory());
+        };
+    }
+
+    /**
+     * @return {@link ExecutorService} usado para las tareas asincronas de la base de datos.
+     */
+    public ExecutorService newDatabaseExecutor() {
+        return switch (this) {
+            case PLATFORM_THREADS -> Executors.newFixedThreadPool(20);
+            case VIRTUAL_THREADS -> Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("MessageServer-Database-", 0).factory());
+        };
+    }
+
+    /**
+     * <body style="color: white;">
+     * Retorna cuantos hilos pueden ejecutar operaciones dentro de Derby de forma simultanea. En
+     * el modo de hilos de plataforma se retorna {@code 0}, que significa sin limite adicional,
+     * manteniendo el comportamiento original. En el modo virtual el valor por defecto es el
+     * numero de procesadores (los carriers del scheduler) menos uno, de modo que siempre quede
+     * un carrier libre para los manejadores de clientes.
+     *
+     * @return Numero de permisos para el acceso a la base de datos, o {@code 0} si no aplica.
+     * </body>
+     */
+    public int databaseParallelism() {
+        if (this == PLATFORM_THREADS) {
+            return 0;
+        }
+        int defaultParallelism = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        try {
+            int configured = Integer.parseInt(System.getProperty(
+                    DATABASE_PARALLELISM_PROPERTY, String.valueOf(defaultParallelism)));
+            return configured > 0 ? configured : defaultParallelism;
+        } catch (NumberFormatException e) {
+            return defaultParallelism;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.evolvlabs.multiuserchatgui.ServerSideBackend.TransportEngine;
+
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.MetricsEngine.ServerMetrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo implementa el reaper de conexiones inactivas sobre un
+ * hashed timer wheel. Un solo hilo avanza un arreglo circular de {@value #WHEEL_SIZE} buckets
+ * una posicion por tick; cada sesion registrada vive en el bucket de su proximo vencimiento,
+ * por lo que el costo por tick depende de las sesiones que vencen en el y no del total de
+ * conexiones, y no existe una tarea programada por conexion.
+ * <p>
+ * Registrar actividad ({@link Handle#touch()}) es una escritura volatil y no mueve la sesion de
+ * bucket: al vencer, el hilo del wheel compara la ultima actividad y la reprograma si hubo
+ * trafico. Una sesion sin actividad durante {@code multiuserchat.server.heartbeat.idle.millis}
+ * (por defecto {@value #DEFAULT_IDLE_MILLIS}) recibe un ping; si tampoco hay actividad durante
+ * los siguientes {@code multiuserchat.server.heartbeat.timeout.millis} (por defecto
+ * {@value #DEFAULT_TIMEOUT_MILLIS}) se desaloja. Las acciones de ping y desalojo se ejecutan en
+ * el hilo del wheel, por lo que no deben bloquear.
+ */
+public final class IdleConnectionWheel implements AutoCloseable {
+
+    /*! Parametros Internos*/
+    /**
+     * Propiedades de sistema con el tiempo de inactividad antes del ping y el tiempo maximo de
+     * espera de la respuesta.
+     */
+    public static final String IDLE_PROPERTY = "multiuserchat.server.heartbeat.idle.millis";
+    public static final String TIMEOUT_PROPERTY = "multiuserchat.server.heartbeat.timeout.millis";
+    private static final long DEFAULT_IDLE_MILLIS = 30_000;
+    private static final long DEFAULT_TIMEOUT_MILLIS = 10_000;
+    private static final long MAX_TICK_MILLIS = 1_000;
+    private static final long MIN_TICK_MILLIS = 10;
+    private static final int WHEEL_SIZE = 64;
+
+    private static final LongAdder PINGS_SENT = ServerMetrics.counter("heartbeat.pings.sent");
+    private static final LongAdder SESSIONS_EVICTED =
+            ServerMetrics.counter("heartbeat.sessions.evicted");
+
+    private final long idleNanos;
+    private final long timeoutNanos;
+    private final long tickNanos;
+    private final List<ConcurrentLinkedQueue<Handle>> buckets = new ArrayList<>(WHEEL_SIZE);
+    /**
+     * Sesiones recien registradas; el hilo del wheel las ubica en su bucket en el siguiente
+     * tick, asi los buckets y el tick actual solo los modifica ese hilo.
+     */
+    private final ConcurrentLinkedQueue<Handle> pendingRegistrations =
+            new ConcurrentLinkedQueue<>();
+    private final AtomicInteger registeredSessions = new AtomicInteger();
+    private final Thread tickThread;
+    private volatile boolean running = true;
+    private long currentTick = 0;
+
+    /**
+     * <body style="color: white;">
+     * Construye el wheel e inicia su hilo. El tick es la mitad del menor de los dos tiempos,
+     * entre {@value #MIN_TICK_MILLIS} y {@value #MAX_TICK_MILLIS} ms, por lo que una sesion
+     * vence a lo sumo un tick despues de su plazo.
+     *
+     * @param idleMillis    Inactividad tras la cual se envia un ping.
+     * @param timeoutMillis Espera maxima de actividad despues del ping.
+     * </body>
+     */
+    public IdleConnectionWheel(long idleMillis, long timeoutMillis) {
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(idleMillis);
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(
+                Math.clamp(Math.min(idleMillis, timeoutMillis) / 2, MIN_TICK_MILLIS,
+                           MAX_TICK_MILLIS));
+        for (int index = 0; index < WHEEL_SIZE; index++) {
+            buckets.add(new ConcurrentLinkedQueue<>());
+        }
+        ServerMetrics.gauge("heartbeat.sessions", registeredSessions::get);
+        this.tickThread = Thread.ofPlatform().daemon().name("heartbeat-wheel")
+                .start(this::runTicks);
+    }
+
+    /**
+     * <body style="color: white;">
+     * Construye el wheel con la configuracion de las propiedades del sistema.
+     *
+     * @return {@link IdleConnectionWheel} para esta ejecucion.
+     * </body>
+     */
+    public static IdleConnectionWheel fromSystemProperties() {
+        return new IdleConnectionWheel(readLongProperty(IDLE_PROPERTY, DEFAULT_IDLE_MILLIS),
+                                       readLongProperty(TIMEOUT_PROPERTY,
+                                                        DEFAULT_TIMEOUT_MILLIS));
+    }
+
+    private static long readLongProperty(String property, long defaultValue) {
+        try {
+            long configured = Long.parseLong(System.getProperty(property,
+                                                                String.valueOf(defaultValue)));
+            return configured > 0 ? configured : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * <body style="color: white;">
+     * Registra una sesion. Su primer vencimiento ocurre tras el tiempo de inactividad.
+     *
+     * @param pingAction  Envia el ping a la sesion inactiva.
+     * @param evictAction Cierra y limpia la sesion que no respondio.
+     * @return {@link Handle} con el que la sesion registra actividad o se da de baja.
+     * </body>
+     */
+    public Handle register(Runnable pingAction, Runnable evictAction) {
+        Handle handle = new Handle(pingAction, evictAction);
+        registeredSessions.incrementAndGet();
+        pendingRegistrations.add(handle);
+        return handle;
+    }
+
+    private void runTicks() {
+        long nextTickNanos = System.nanoTime() + tickNanos;
+        while (running) {
+            long waitNanos = nextTickNanos - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(this, waitNanos);
+                continue;
+            }
+            nextTickNanos += tickNanos;
+
+            //? 1. Ubicamos las sesiones nuevas en el bucket de su primer vencimiento
+            Handle registered;
+            while ((registered = pendingRegistrations.poll()) != null) {
+                schedule(registered, idleNanos);
+            }
+
+            //? 2. Tomamos el bucket actual completo; las sesiones que se reprogramen en el
+            //? mismo bucket se procesan en la siguiente vuelta
+            ConcurrentLinkedQueue<Handle> bucket = buckets.get((int) (currentTick % WHEEL_SIZE));
+            List<Handle> expired = new ArrayList<>();
+            Handle queued;
+            while ((queued = bucket.poll()) != null) {
+                expired.add(queued);
+            }
+            for (Handle handle : expired) {
+                if (handle.remainingRounds > 0) {
+                    handle.remainingRounds--;
+                    bucket.add(handle);
+                } else {
+                    expire(handle);
+                }
+            }
+            currentTick++;
+        }
+    }
+
+    /**
+     * <body style="color: white;">
+     * Decide que hacer con una sesion cuyo plazo vencio:
+     * <ol>
+     *     <li>Si hubo actividad, se reprograma para cuando cumpla el tiempo de inactividad.</li>
+     *     <li>Si esta inactiva y no tiene un ping pendiente, se le envia uno.</li>
+     *     <li>Si el ping sigue sin respuesta, se desaloja.</li>
+     * </ol>
+     * </body>
+     */
+    private void expire(Handle handle) {
+        if (handle.cancelled) {
+            return;
+        }
+        long nowNanos = System.nanoTime();
+        long lastActivityNanos = handle.lastActivityNanos;
+        if (handle.pingSentNanos != 0 && lastActivityNanos - handle.pingSentNanos <= 0) {
+            handle.cancel();
+            SESSIONS_EVICTED.increment();
+            runAction(handle.evictAction);
+            return;
+        }
+        handle.pingSentNanos = 0;
+        long idleForNanos = nowNanos - lastActivityNanos;
+        if (idleForNanos < idleNanos) {
+            schedule(handle, idleNanos - idleForNanos);
+            return;
+        }
+        handle.pingSentNanos = nowNanos;
+        PINGS_SENT.increment();
+        runAction(handle.pingAction);
+        schedule(handle, timeoutNanos);
+    }
+
+    private void schedule(Handle handle, long delayNanos) {
+        long ticks = Math.max(1, (delayNanos + tickNanos - 1) / tickNanos);
+        handle.remainingRounds = (ticks - 1) / WHEEL_SIZE;
+        buckets.get((int) ((currentTick + ticks) % WHEEL_SIZE)).add(handle);
+    }
+
+    private static void runAction(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            System.err.println("[ServerSideComms] Error en una accion del heartbeat: "
+                                       + e.getMessage());
+        }
+    }
+
+    /**
+     * Detiene el hilo del wheel; las sesiones registradas dejan de vigilarse.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(tickThread);
+    }
+
+    /**
+     * Registro de una sesion en el wheel. Los campos sin {@code volatile} solo los usa el hilo
+     * del wheel.
+     */
+    public final class Handle {
+        private final Runnable pingAction;
+        private final Runnable evictAction;
+        private volatile long lastActivityNanos = System.nanoTime();
+        private volatile boolean cancelled = false;
+        private long pingSentNanos = 0;
+        private long remainingRounds = 0;
+
+        private Handle(Runnable pingAction, Runnable evictAction) {
+            this.pingAction = pingAction;
+            this.evictAction = evictAction;
+        }
+
+        /**
+         * Registra actividad de la sesion; se llama por cada comando recibido.
+         */
+        public void touch() {
+            lastActivityNanos = System.nanoTime();
+        }
+
+        /**
+         * Da de baja la sesion; el wheel la descarta en su siguiente vencimiento.
+         */
+        public synchronized void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                registeredSessions.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.evolvlabs.multiuserchatgui.ServerSideBackend.TransportEngine;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo contiene la configuracion de los sockets que escuchan
+ * conexiones nuevas. El servidor puede abrir varios acceptors sobre el mismo puerto: cuando el
+ * sistema operativo soporta {@code SO_REUSEPORT} (Linux) cada acceptor tiene su propio socket y
+ * su propia cola de conexiones pendientes, y el kernel reparte las conexiones entrantes entre
+ * ellos. Si la opcion no esta disponible se abre un solo socket y los acceptors lo comparten.
+ * Los valores se leen de las propiedades {@code multiuserchat.server.port},
+ * {@code multiuserchat.server.backlog} y {@code multiuserchat.server.acceptors}.
+ * <p>
+ * Si {@code multiuserchat.server.unix.socket} contiene una ruta, el servidor escucha ademas en
+ * un socket Unix en esa ruta. Los clientes del mismo host que lo elijan evitan la pila TCP de
+ * loopback y hablan exactamente el mismo protocolo que por el puerto.
+ *
+ * @param address       Direccion en la que escucha el servidor.
+ * @param port          Puerto en el que escucha el servidor; {@code 0} elige uno libre.
+ * @param backlog       Largo maximo de la cola de conexiones pendientes de cada socket; el
+ *                      kernel lo limita a {@code net.core.somaxconn}.
+ * @param acceptorCount Numero de hilos o event loops que aceptan conexiones.
+ * @param unixSocketPath Ruta del socket Unix adicional, o {@code null} si no se usa.
+ */
+public record ListenerConfiguration(InetAddress address, int port, int backlog,
+                                    int acceptorCount, Path unixSocketPath) {
+
+    /*! Parametros Internos*/
+    /**
+     * Propiedades de sistema con el puerto, el backlog y el numero de acceptors.
+     */
+    public static final String PORT_PROPERTY = "multiuserchat.server.port";
+    public static final String BACKLOG_PROPERTY = "multiuserchat.server.backlog";
+    public static final String ACCEPTORS_PROPERTY = "multiuserchat.server.acceptors";
+    public static final String UNIX_SOCKET_PROPERTY = "multiuserchat.server.unix.socket";
+    private static final int DEFAULT_PORT = 100;
+    private static final int DEFAULT_BACKLOG = 1024;
+    private static final int DEFAULT_ACCEPTORS = 1;
+
+    /**
+     * <body style="color: white;">
+     * Construye la configuracion a partir de las propiedades del sistema. Los valores ausentes o
+     * invalidos se reemplazan por sus valores por defecto: puerto {@value #DEFAULT_PORT},
+     * backlog {@value #DEFAULT_BACKLOG} y {@value #DEFAULT_ACCEPTORS} acceptor, sin socket Unix.
+     *
+     * @param address Direccion en la que escucha el servidor.
+     * @return {@link ListenerConfiguration} para esta ejecucion.
+     * </body>
+     */
+    public static ListenerConfiguration fromSystemProperties(InetAddress address) {
+        return new ListenerConfiguration(address,
+                                         readIntProperty(PORT_PROPERTY, DEFAULT_PORT, 0),
+                                         readIntProperty(BACKLOG_PROPERTY, DEFAULT_BACKLOG, 1),
+                                         readIntProperty(ACCEPTORS_PROPERTY,
+                                                         DEFAULT_ACCEPTORS, 1),
+                                         readPathProperty(UNIX_SOCKET_PROPERTY));
+    }
+
+    private static Path readPathProperty(String property) {
+        String configured = System.getProperty(property, "").trim();
+        return configured.isEmpty() ? null : Path.of(configured);
+    }
+
+    private static int readIntProperty(String property, int defaultValue, int minimumValue) {
+        try {
+            int configured = Integer.parseInt(System.getProperty(property,
+                                                                 String.valueOf(defaultValue)));
+            return configured >= minimumValue ? configured : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * @return {@code true} si se pidio mas de un acceptor y el sistema soporta
+     * {@code SO_REUSEPORT}, es decir, si cada acceptor tendra su propio socket.
+     */
+    public boolean shardsWithReusePort() {
+        if (acceptorCount <= 1) {
+            return false;
+        }
+        try (ServerSocketChannel probe = ServerSocketChannel.open()) {
+            return probe.supportedOptions().contains(StandardSocketOptions.SO_REUSEPORT);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * <body style="color: white;">
+     * Abre los sockets bloqueantes del modo {@link TransportMode#BLOCKING}: uno por acceptor con
+     * {@code SO_REUSEPORT}, o uno solo si la opcion no esta disponible.
+     *
+     * @return Sockets enlazados al mismo puerto.
+     * @throws IOException si algun socket no puede enlazarse; los ya abiertos se cierran.
+     * </body>
+     */
+    public List<ServerSocket> openServerSockets() throws IOException {
+        boolean reusePort = shardsWithReusePort();
+        List<ServerSocket> serverSockets = new ArrayList<>();
+        try {
+            int boundPort = port;
+            for (int index = 0; index < (reusePort ? acceptorCount : 1); index++) {
+                ServerSocket serverSocket = new ServerSocket();
+                serverSockets.add(serverSocket);
+                if (reusePort) {
+                    serverSocket.setOption(StandardSocketOptions.SO_REUSEPORT, true);
+                }
+                serverSocket.bind(new InetSocketAddress(address, boundPort), backlog);
+                //? Si el puerto era 0, los demas sockets se enlazan al que eligio el primero
+                boundPort = serverSocket.getLocalPort();
+            }
+            return serverSockets;
+        } catch (IOException e) {
+            for (ServerSocket serverSocket : serverSockets) {
+                serverSocket.close();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * <body style="color: white;">
+     * Abre los canales del modo {@link TransportMode#NIO_SELECTOR}, con el mismo criterio que
+     * {@link #openServerSockets()}.
+     *
+     * @return Canales enlazados al mismo puerto, aun en modo bloqueante.
+     * @throws IOException si algun canal no puede enlazarse; los ya abiertos se cierran.
+     * </body>
+     */
+    public List<ServerSocketChannel> openServerChannels() throws IOException {
+        boolean reusePort = shardsWithReusePort();
+        List<ServerSocketChannel> serverChannels = new ArrayList<>();
+        try {
+            int boundPort = port;
+            for (int index = 0; index < (reusePort ? acceptorCount : 1); index++) {
+                ServerSocketChannel serverChannel = ServerSocketChannel.open();
+                serverChannels.add(serverChannel);
+                if (reusePort) {
+                    serverChannel.setOption(StandardSocketOptions.SO_REUSEPORT, true);
+                }
+                serverChannel.bind(new InetSocketAddress(address, boundPort), backlog);
+                boundPort = serverChannel.socket().getLocalPort();
+            }
+            return serverChannels;
+        } catch (IOException e) {
+            for (ServerSocketChannel serverChannel : serverChannels) {
+                serverChannel.close();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * <body style="color: white;">
+     * Abre el socket Unix del servidor si fue configurado. Un archivo que quedo en la ruta de
+     * una ejecucion anterior se elimina antes de enlazar, ya que de lo contrario el bind falla.
+     *
+     * @return Canal enlazado a {@link #unixSocketPath()}, aun en modo bloqueante, o vacio si no
+     * se configuro la ruta.
+     * @throws IOException si el canal no puede enlazarse.
+     * </body>
+     */
+    public Optional<ServerSocketChannel> openUnixDomainChannel() throws IOException {
+        if (unixSocketPath == null) {
+            return Optional.empty();
+        }
+        Files.deleteIfExists(unixSocketPath);
+        ServerSocketChannel serverChannel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        try {
+            serverChannel.bind(UnixDomainSocketAddress.of(unixSocketPath), backlog);
+            return Optional.of(serverChannel);
+        } catch (IOException e) {
+            serverChannel.close();
+            throw e;
+        }
+    }
+}
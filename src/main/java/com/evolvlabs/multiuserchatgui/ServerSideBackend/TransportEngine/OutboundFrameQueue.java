@@ -0,0 +1,349 @@
+package com.evolvlabs.multiuserchatgui.ServerSideBackend.TransportEngine;
+
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.UsefulCommunicationMessages;
+import com.evolvlabs.multiuserchatgui.CommunicationBackend.WireProtocol.WireProtocol;
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.MetricsEngine.ServerMetrics;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo implementa la cola de salida de una conexion. Todo lo que
+ * el servidor escribe hacia un cliente pasa por aqui y un unico escritor a la vez vacia la
+ * cola, escribiendo todos los frames pendientes antes de un solo flush. Existen dos formas de
+ * encolar:
+ * <ul>
+ *     <li>{@link #send(OutboundFrame)}: usada por el hilo que atiende las peticiones del propio
+ *     cliente. El frame se escribe en el mismo hilo, por lo que un cliente lento solo detiene
+ *     la lectura de sus propias peticiones.</li>
+ *     <li>{@link #offer(OutboundFrame)}: usada por hilos ajenos a la conexion (mandatos y
+ *     mensajes enviados por push). El frame se escribe en el {@link Executor} de la conexion y
+ *     el hilo que lo encola retorna de inmediato. Si la cola alcanzo su capacidad se aplica la
+ *     {@link SlowConsumerPolicy} configurada.</li>
+ * </ul>
+ * Los mandatos de actualizacion son idempotentes, por lo que nunca hay mas de uno pendiente por
+ * tipo y no cuentan contra la capacidad.
+ */
+public final class OutboundFrameQueue {
+
+    /**
+     * Nombre de la propiedad de sistema con la capacidad de cada cola.
+     */
+    public static final String CAPACITY_PROPERTY = "multiuserchat.server.outbound.capacity";
+    private static final int DEFAULT_CAPACITY = 256;
+
+    /*! Metricas compartidas por todas las colas*/
+    private static final LongAdder FRAMES_WRITTEN = ServerMetrics.counter("outbound.frames.written");
+    private static final LongAdder FLUSHES = ServerMetrics.counter("outbound.flushes");
+    private static final LongAdder FRAMES_DROPPED = ServerMetrics.counter("outbound.frames.dropped");
+    private static final LongAdder FRAMES_COALESCED =
+            ServerMetrics.counter("outbound.frames.coalesced");
+    private static final LongAdder SLOW_CONSUMER_DISCONNECTS =
+            ServerMetrics.counter("outbound.slow.consumer.disconnects");
+    private static final LongAdder WRITE_FAILURES = ServerMetrics.counter("outbound.write.failures");
+
+    /**
+     * Escritura de un frame sobre el protocolo de la conexion.
+     */
+    @FunctionalInterface
+    public interface FrameWriter {
+        void writeTo(WireProtocol wireProtocol) throws IOException;
+    }
+
+    /**
+     * <body style="color: white;">
+     * Frame pendiente de escritura.
+     *
+     * @param correlationId   Identificador de correlacion con el que se escribe el frame.
+     * @param coalescingKey   Mandato que representa el frame; dos frames con la misma llave no
+     *                        pueden estar pendientes al mismo tiempo. {@code null} si el frame no
+     *                        es un mandato.
+     * @param fallbackMandate Mandato que reemplaza al frame cuando la politica es
+     *                        {@link SlowConsumerPolicy#COALESCE} y la cola esta llena.
+     *                        {@code null} si el frame simplemente se descarta.
+     * @param serverEvent     {@code true} si el frame es un evento que cuenta contra la
+     *                        capacidad de la cola.
+     * @param writer          Escritura del frame.
+     * </body>
+     */
+    public record OutboundFrame(int correlationId,
+                                UsefulCommunicationMessages coalescingKey,
+                                UsefulCommunicationMessages fallbackMandate,
+                                boolean serverEvent,
+                                FrameWriter writer) {
+
+        /**
+         * @return Frame de respuesta a la peticion con el identificador dado.
+         */
+        public static OutboundFrame response(int correlationId, FrameWriter writer) {
+            return new OutboundFrame(correlationId, null, null, false, writer);
+        }
+
+        /**
+         * @return Frame de un evento del servidor, reemplazable por {@code fallbackMandate}.
+         */
+        public static OutboundFrame event(UsefulCommunicationMessages fallbackMandate,
+                                          FrameWriter writer) {
+            return new OutboundFrame(WireProtocol.UNCORRELATED, null, fallbackMandate, true, writer);
+        }
+
+        /**
+         * @return Frame de un mandato del servidor.
+         */
+        public static OutboundFrame mandate(UsefulCommunicationMessages mandate) {
+            return new OutboundFrame(WireProtocol.UNCORRELATED, mandate, null, false,
+                                     wireProtocol -> wireProtocol.writeCommand(mandate));
+        }
+    }
+
+    private final ConcurrentLinkedQueue<OutboundFrame> pendingFrames = new ConcurrentLinkedQueue<>();
+    private final Set<UsefulCommunicationMessages> pendingMandates = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger pendingEventCount = new AtomicInteger();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    private final ReentrantLock writerLock = new ReentrantLock();
+
+    private final Supplier<WireProtocol> wireProtocolSupplier;
+    private final Executor writerExecutor;
+    private final SlowConsumerPolicy slowConsumerPolicy;
+    private final int capacity;
+    private final Runnable slowConsumerDisconnection;
+
+    /**
+     * <body style="color: white;">
+     * Construye la cola de salida de una conexion.
+     *
+     * @param wireProtocolSupplier      Protocolo actual de la conexion; puede retornar
+     *                                  {@code null} una vez cerrada.
+     * @param writerExecutor            Ejecutor donde se vacian los frames encolados con
+     *                                  {@link #offer(OutboundFrame)}.
+     * @param slowConsumerPolicy        Politica aplicada cuando la cola esta llena.
+     * @param capacity                  Cantidad maxima de eventos pendientes.
+     * @param slowConsumerDisconnection Accion que cierra la conexion bajo
+     *                                  {@link SlowConsumerPolicy#DISCONNECT}.
+     * </body>
+     */
+    public OutboundFrameQueue(Supplier<WireProtocol> wireProtocolSupplier,
+                              Executor writerExecutor,
+                              SlowConsumerPolicy slowConsumerPolicy,
+                              int capacity,
+                              Runnable slowConsumerDisconnection) {
+        this.wireProtocolSupplier = wireProtocolSupplier;
+        this.writerExecutor = writerExecutor;
+        this.slowConsumerPolicy = slowConsumerPolicy;
+        this.capacity = Math.max(1, capacity);
+        this.slowConsumerDisconnection = slowConsumerDisconnection;
+    }
+
+    /**
+     * <body style="color: white;">
+     * Retorna la capacidad configurada en las propiedades del sistema o, por defecto,
+     * {@value #DEFAULT_CAPACITY} eventos por conexion.
+     *
+     * @return Capacidad de cada cola de salida.
+     * </body>
+     */
+    public static int capacityFromSystemProperties() {
+        try {
+            int configured = Integer.parseInt(System.getProperty(CAPACITY_PROPERTY,
+                                                                 String.valueOf(DEFAULT_CAPACITY)));
+            return configured > 0 ? configured : DEFAULT_CAPACITY;
+        } catch (NumberFormatException e) {
+            return DEFAULT_CAPACITY;
+        }
+    }
+
+    /**
+     * @return Cantidad de frames pendientes de escritura.
+     */
+    public int depth() {
+        return depth.get();
+    }
+
+    /**
+     * <body style="color: white;">
+     * Encola un frame de un hilo ajeno a la conexion y programa su escritura sin esperarla.
+     *
+     * @param frame Mandato o evento a enviar.
+     * @return {@code true} si el frame (o el mandato que lo reemplaza) quedo pendiente de
+     * escritura; {@code false} si se descarto o la conexion esta cerrada.
+     * </body>
+     */
+    public boolean offer(OutboundFrame frame) {
+        if (closed.get()) {
+            return false;
+        }
+        //? 1. Los mandatos no se repiten mientras haya uno pendiente del mismo tipo
+        if (frame.coalescingKey() != null) {
+            if (!enqueueMandate(frame)) {
+                FRAMES_COALESCED.increment();
+            }
+            scheduleDrain();
+            return true;
+        }
+
+        //? 2. Los eventos respetan la capacidad de la cola
+        if (pendingEventCount.incrementAndGet() > capacity) {
+            pendingEventCount.decrementAndGet();
+            return applySlowConsumerPolicy(frame);
+        }
+        enqueue(frame);
+        scheduleDrain();
+        return true;
+    }
+
+    /**
+     * <body style="color: white;">
+     * Encola un frame y lo escribe en el hilo que llama, junto con cualquier otro frame
+     * pendiente, en un solo flush. No se aplica la capacidad: lo usa el hilo que atiende las
+     * peticiones del cliente, que genera una respuesta por peticion leida.
+     *
+     * @param frame Respuesta a escribir.
+     * @throws IOException si la escritura falla.
+     * </body>
+     */
+    public void send(OutboundFrame frame) throws IOException {
+        if (closed.get()) {
+            throw new IOException("Error Code 0x001 - [Raised] La conexion ya fue cerrada");
+        }
+        enqueue(frame);
+        drainPendingFrames();
+    }
+
+    /**
+     * Descarta los frames pendientes; los siguientes se ignoran.
+     */
+    public void close() {
+        closed.set(true);
+        discardPendingFrames();
+    }
+
+    /*! Helpers internos*/
+
+    private boolean enqueueMandate(OutboundFrame frame) {
+        if (!pendingMandates.add(frame.coalescingKey())) {
+            return false;
+        }
+        enqueue(frame);
+        return true;
+    }
+
+    private void enqueue(OutboundFrame frame) {
+        depth.incrementAndGet();
+        pendingFrames.add(frame);
+    }
+
+    private boolean applySlowConsumerPolicy(OutboundFrame frame) {
+        switch (slowConsumerPolicy) {
+            case COALESCE -> {
+                FRAMES_COALESCED.increment();
+                if (frame.fallbackMandate() == null) {
+                    return false;
+                }
+                enqueueMandate(OutboundFrame.mandate(frame.fallbackMandate()));
+                scheduleDrain();
+                return true;
+            }
+            case DISCONNECT -> {
+                SLOW_CONSUMER_DISCONNECTS.increment();
+                System.out.println("[ServerSideComms] La cola de salida alcanzo " + capacity +
+                                           " eventos, se desconecta al cliente");
+                close();
+                slowConsumerDisconnection.run();
+                return false;
+            }
+            default -> {
+                FRAMES_DROPPED.increment();
+                return false;
+            }
+        }
+    }
+
+    private void scheduleDrain() {
+        if (!drainScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            writerExecutor.execute(this::drainAsynchronously);
+        } catch (RejectedExecutionException e) {
+            //? El servidor se esta apagando, los frames pendientes ya no se escriben
+            drainScheduled.set(false);
+        }
+    }
+
+    private void drainAsynchronously() {
+        try {
+            drainPendingFrames();
+        } catch (IOException e) {
+            WRITE_FAILURES.increment();
+            System.out.println("[ServerSideComms] Error: no se pudo escribir la cola de salida: "
+                                       + e.getMessage());
+            discardPendingFrames();
+        } finally {
+            drainScheduled.set(false);
+            //? Un frame encolado mientras terminabamos no encontro el escritor libre
+            if (!pendingFrames.isEmpty() && !closed.get()) {
+                scheduleDrain();
+            }
+        }
+    }
+
+    /**
+     * <body style="color: white;">
+     * Escribe todos los frames pendientes y hace un unico flush. El lock garantiza un solo
+     * escritor a la vez, sea el hilo de la conexion o el ejecutor.
+     * </body>
+     */
+    private void drainPendingFrames() throws IOException {
+        writerLock.lock();
+        try {
+            WireProtocol wireProtocol = wireProtocolSupplier.get();
+            int framesWritten = 0;
+            OutboundFrame frame;
+            while ((frame = pendingFrames.poll()) != null) {
+                release(frame);
+                if (wireProtocol == null) {
+                    continue;
+                }
+                wireProtocol.setOutgoingCorrelationId(frame.correlationId());
+                frame.writer().writeTo(wireProtocol);
+                framesWritten++;
+            }
+            if (framesWritten > 0) {
+                wireProtocol.flush();
+                FRAMES_WRITTEN.add(framesWritten);
+                FLUSHES.increment();
+            }
+        } finally {
+            writerLock.unlock();
+        }
+    }
+
+    private void discardPendingFrames() {
+        OutboundFrame frame;
+        while ((frame = pendingFrames.poll()) != null) {
+            release(frame);
+        }
+    }
+
+    private void release(OutboundFrame frame) {
+        depth.decrementAndGet();
+        if (frame.coalescingKey() != null) {
+            pendingMandates.remove(frame.coalescingKey());
+        } else if (frame.serverEvent()) {
+            pendingEventCount.decrementAndGet();
+        }
+    }
+}
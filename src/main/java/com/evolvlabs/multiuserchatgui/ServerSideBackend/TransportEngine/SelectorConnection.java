@@ -0,0 +1,428 @@
+package com.evolvlabs.multiuserchatgui.ServerSideBackend.TransportEngine;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo contiene la implementacion de {@link ClientConnection} para
+ * el modo {@link TransportMode#NIO_SELECTOR}. Un event loop del {@link SelectorTransportEngine}
+ * es dueno del {@link SocketChannel} no bloqueante y deposita los bytes leidos en un buffer
+ * interno; el manejo de comandos consume esos bytes a traves de un {@link InputStream} comun,
+ * por lo que el protocolo existente funciona sin cambios. Las escrituras se intentan de forma
+ * directa sobre el canal y, si el kernel no acepta todos los bytes, el resto queda pendiente
+ * hasta que el event loop reciba OP_WRITE. Una conexion inactiva no ocupa ningun hilo.
+ */
+public final class SelectorConnection implements ClientConnection {
+
+    /*! Parametros Internos*/
+    /**
+     * Cantidad de bytes entrantes a partir de la cual el event loop deja de leer del canal hasta
+     * que el manejador consuma parte del buffer. Evita que un cliente llene la memoria del server.
+     */
+    private static final int INBOUND_HIGH_WATER_MARK = 1 << 20;
+    /**
+     * Cantidad de bytes salientes pendientes a partir de la cual el hilo que escribe espera a que
+     * el event loop vacie el buffer, aplicando backpressure al productor.
+     */
+    private static final long OUTBOUND_HIGH_WATER_MARK = 1L << 20;
+
+    private final SocketChannel channel;
+    private final SelectorTransportEngine.EventLoop eventLoop;
+    private volatile SelectionKey selectionKey;
+    private volatile Object attachment;
+    private final AtomicBoolean dispatched = new AtomicBoolean(false);
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    private final String remoteDescription;
+
+    /*? Estado de lectura, protegido por inboundLock*/
+    private final ReentrantLock inboundLock = new ReentrantLock();
+    private final Condition inboundAvailable = inboundLock.newCondition();
+    private byte[] inboundBuffer = new byte[8192];
+    private int inboundReadIndex = 0;
+    private int inboundWriteIndex = 0;
+    private boolean endOfStreamReached = false;
+    private boolean readingSuspended = false;
+
+    /*? Estado de escritura, protegido por outboundLock*/
+    private final ReentrantLock outboundLock = new ReentrantLock();
+    private final Condition outboundDrained = outboundLock.newCondition();
+    private final ArrayDeque<ByteBuffer> pendingOutbound = new ArrayDeque<>();
+    private long pendingOutboundBytes = 0;
+    private byte[] stagedOutbound = new byte[8192];
+    private int stagedOutboundCount = 0;
+
+    private final InputStream inputStream = new SelectorInputStream();
+    private final OutputStream outputStream = new SelectorOutputStream();
+
+    /**
+     * <body style="color: white;">
+     * Constructor usado por el acceptor del {@link SelectorTransportEngine} una vez que el
+     * canal fue aceptado y configurado como no bloqueante.
+     *
+     * @param channel   {@link SocketChannel} aceptado, ya en modo no bloqueante.
+     * @param eventLoop Event loop que sera dueno de este canal durante toda su vida.
+     * </body>
+     */
+    SelectorConnection(SocketChannel channel, SelectorTransportEngine.EventLoop eventLoop) {
+        this.channel = channel;
+        this.eventLoop = eventLoop;
+        String description;
+        try {
+            description = "[" + channel.getRemoteAddress() + "]";
+        } catch (IOException e) {
+            description = "[desconocido]";
+        }
+        this.remoteDescription = description;
+    }
+
+    /*! Metodos de ClientConnection*/
+    @Override
+    public InputStream getInputStream() {
+        return this.inputStream;
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return this.outputStream;
+    }
+
+    @Override
+    public boolean hasPendingInput() {
+        inboundLock.lock();
+        try {
+            return inboundWriteIndex > inboundReadIndex || endOfStreamReached;
+        } finally {
+            inboundLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isClosed() {
+        return this.closed.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!this.closed.compareAndSet(false, true)) {
+            return;
+        }
+        //? 1. Despertamos a cualquier lector o escritor que este esperando sobre la conexion
+        inboundLock.lock();
+        try {
+            endOfStreamReached = true;
+            inboundAvailable.signalAll();
+        } finally {
+            inboundLock.unlock();
+        }
+        outboundLock.lock();
+        try {
+            pendingOutbound.clear();
+            pendingOutboundBytes = 0;
+            outboundDrained.signalAll();
+        } finally {
+            outboundLock.unlock();
+        }
+        //? 2. Cerrar el canal cancela tambien su llave en el selector
+        this.channel.close();
+        this.eventLoop.wakeup();
+    }
+
+    @Override
+    public String getRemoteDescription() {
+        return this.remoteDescription;
+    }
+
+    /*! Metodos usados por el SelectorTransportEngine*/
+
+    /**
+     * @return Objeto asociado a la conexion por el servidor (su manejador de cliente).
+     */
+    public Object getAttachment() {
+        return this.attachment;
+    }
+
+    /**
+     * @param attachment Objeto que el servidor desea asociar a la conexion.
+     */
+    public void setAttachment(Object attachment) {
+        this.attachment = attachment;
+    }
+
+    SocketChannel getChannel() {
+        return this.channel;
+    }
+
+    void bindSelectionKey(SelectionKey selectionKey) {
+        this.selectionKey = selectionKey;
+    }
+
+    /**
+     * Marca la conexion como atendida por un worker. Solo un worker procesa comandos de una
+     * conexion a la vez para respetar el orden del protocolo.
+     */
+    boolean tryAcquireDispatch() {
+        return this.dispatched.compareAndSet(false, true);
+    }
+
+    void releaseDispatch() {
+        this.dispatched.set(false);
+    }
+
+    /**
+     * <body style="color: white;">
+     * Copia los bytes leidos por el event loop al buffer de entrada y despierta al lector. Si el
+     * buffer supera {@link #INBOUND_HIGH_WATER_MARK} se deja de leer del canal hasta que el
+     * manejador consuma la informacion.
+     *
+     * @param readBytes Buffer en modo lectura con los bytes recien recibidos.
+     * </body>
+     */
+    void appendInbound(ByteBuffer readBytes) {
+        inboundLock.lock();
+        try {
+            int incoming = readBytes.remaining();
+            ensureInboundCapacity(incoming);
+            readBytes.get(inboundBuffer, inboundWriteIndex, incoming);
+            inboundWriteIndex += incoming;
+            if (inboundWriteIndex - inboundReadIndex > INBOUND_HIGH_WATER_MARK
+                    && !readingSuspended) {
+                readingSuspended = true;
+                updateInterest(SelectionKey.OP_READ, false);
+            }
+            inboundAvailable.signalAll();
+        } finally {
+            inboundLock.unlock();
+        }
+    }
+
+    /**
+     * Registra que el cliente cerro su extremo del canal. Los lectores reciben un fin de stream
+     * una vez que consuman los bytes que ya estaban en el buffer.
+     */
+    void markEndOfStream() {
+        inboundLock.lock();
+        try {
+            endOfStreamReached = true;
+            inboundAvailable.signalAll();
+        } finally {
+            inboundLock.unlock();
+        }
+        updateInterest(SelectionKey.OP_READ, false);
+    }
+
+    /**
+     * <body style="color: white;">
+     * Escribe en el canal los bytes pendientes cuando el event loop recibe OP_WRITE. Si se logra
+     * vaciar la cola se deja de escuchar OP_WRITE y se despierta a los productores en espera.
+     *
+     * @throws IOException si el canal fue cerrado por el cliente.
+     * </body>
+     */
+    void writePendingOutbound() throws IOException {
+        outboundLock.lock();
+        try {
+            drainPendingOutbound();
+            if (pendingOutbound.isEmpty()) {
+                updateInterest(SelectionKey.OP_WRITE, false);
+            }
+        } finally {
+            outboundLock.unlock();
+        }
+    }
+
+    /*! Metodos internos*/
+    private void ensureInboundCapacity(int incoming) {
+        //? 1. Primero compactamos el buffer si ya se consumio su parte inicial
+        if (inboundReadIndex > 0) {
+            int buffered = inboundWriteIndex - inboundReadIndex;
+            System.arraycopy(inboundBuffer, inboundReadIndex, inboundBuffer, 0, buffered);
+            inboundReadIndex = 0;
+            inboundWriteIndex = buffered;
+        }
+        //? 2. Si aun no alcanza crecemos el arreglo al doble
+        if (inboundBuffer.length - inboundWriteIndex < incoming) {
+            int required = inboundWriteIndex + incoming;
+            inboundBuffer = Arrays.copyOf(inboundBuffer,
+                                          Math.max(required, inboundBuffer.length * 2));
+        }
+    }
+
+    private void drainPendingOutbound() throws IOException {
+        while (!pendingOutbound.isEmpty()) {
+            ByteBuffer head = pendingOutbound.peek();
+            int written = channel.write(head);
+            pendingOutboundBytes -= written;
+            if (head.hasRemaining()) {
+                break;
+            }
+            pendingOutbound.poll();
+        }
+        if (pendingOutboundBytes <= OUTBOUND_HIGH_WATER_MARK) {
+            outboundDrained.signalAll();
+        }
+    }
+
+    private void updateInterest(int operation, boolean enable) {
+        SelectionKey key = this.selectionKey;
+        if (key == null || !key.isValid()) {
+            return;
+        }
+        try {
+            if (enable) {
+                key.interestOpsOr(operation);
+                eventLoop.wakeup();
+            } else {
+                key.interestOpsAnd(~operation);
+            }
+        } catch (Exception ignored) {
+            //! La llave pudo ser cancelada por un cierre concurrente, no hay nada que actualizar
+        }
+    }
+
+    /**
+     * Stream de entrada que bloquea al lector (un worker, nunca un event loop) hasta que el
+     * event loop deposite bytes en el buffer o el canal se cierre.
+     */
+    private final class SelectorInputStream extends InputStream {
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            int read = read(single, 0, 1);
+            return read < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            inboundLock.lock();
+            try {
+                while (inboundWriteIndex == inboundReadIndex && !endOfStreamReached) {
+                    inboundAvailable.await();
+                }
+                int buffered = inboundWriteIndex - inboundReadIndex;
+                if (buffered == 0) {
+                    return -1;
+                }
+                int toCopy = Math.min(buffered, length);
+                System.arraycopy(inboundBuffer, inboundReadIndex, target, offset, toCopy);
+                inboundReadIndex += toCopy;
+                //? Si habiamos suspendido la lectura y ya se consumio la mitad, la reanudamos
+                if (readingSuspended
+                        && inboundWriteIndex - inboundReadIndex < INBOUND_HIGH_WATER_MARK / 2) {
+                    readingSuspended = false;
+                    updateInterest(SelectionKey.OP_READ, true);
+                }
+                return toCopy;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Lectura interrumpida para la conexion "
+                                                         + remoteDescription);
+            } finally {
+                inboundLock.unlock();
+            }
+        }
+
+        @Override
+        public int available() {
+            inboundLock.lock();
+            try {
+                return inboundWriteIndex - inboundReadIndex;
+            } finally {
+                inboundLock.unlock();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            SelectorConnection.this.close();
+        }
+    }
+
+    /**
+     * Stream de salida que acumula bytes hasta un flush. En el flush se intenta escribir
+     * directamente al canal; si el kernel no acepta todo, el resto queda para el event loop.
+     */
+    private final class SelectorOutputStream extends OutputStream {
+        @Override
+        public void write(int singleByte) throws IOException {
+            write(new byte[]{(byte) singleByte}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] source, int offset, int length) throws IOException {
+            outboundLock.lock();
+            try {
+                if (closed.get()) {
+                    throw new EOFException("La conexion " + remoteDescription + " ya fue cerrada");
+                }
+                if (stagedOutbound.length - stagedOutboundCount < length) {
+                    stagedOutbound = Arrays.copyOf(stagedOutbound,
+                                                   Math.max(stagedOutboundCount + length,
+                                                            stagedOutbound.length * 2));
+                }
+                System.arraycopy(source, offset, stagedOutbound, stagedOutboundCount, length);
+                stagedOutboundCount += length;
+            } finally {
+                outboundLock.unlock();
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            outboundLock.lock();
+            try {
+                if (closed.get()) {
+                    //? Igual que un socket, un flush sin datos sobre una conexion cerrada no falla
+                    if (stagedOutboundCount == 0) {
+                        return;
+                    }
+                    throw new EOFException("La conexion " + remoteDescription + " ya fue cerrada");
+                }
+                if (stagedOutboundCount > 0) {
+                    pendingOutbound.add(ByteBuffer.wrap(
+                            Arrays.copyOf(stagedOutbound, stagedOutboundCount)));
+                    pendingOutboundBytes += stagedOutboundCount;
+                    stagedOutboundCount = 0;
+                }
+                //? 1. Intentamos escribir directamente, en el caso comun esto vacia la cola
+                drainPendingOutbound();
+                if (!pendingOutbound.isEmpty()) {
+                    updateInterest(SelectionKey.OP_WRITE, true);
+                }
+                //? 2. Si el cliente no consume lo suficiente, esperamos al event loop
+                while (pendingOutboundBytes > OUTBOUND_HIGH_WATER_MARK && !closed.get()) {
+                    outboundDrained.await();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Escritura interrumpida para la conexion "
+                                                         + remoteDescription);
+            } finally {
+                outboundLock.unlock();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed.get()) {
+                flush();
+            }
+            SelectorConnection.this.close();
+        }
+    }
+}
@@ -0,0 +1,367 @@
+package com.evolvlabs.multiuserchatgui.ServerSideBackend.TransportEngine;
+
+import com.evolvlabs.multiuserchatgui.ServerSideBackend.MetricsEngine.AcceptStatistics;
+
+import java.io.IOException;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo contiene el motor de transporte basado en
+ * {@link ServerSocketChannel} y {@link Selector}. Un conjunto pequeno y fijo de event loops es
+ * dueno de todas las conexiones: los canales del servidor se reparten entre los primeros loops
+ * (uno por loop cuando hay varios acceptors con {@code SO_REUSEPORT}), que aceptan clientes y
+ * los reparten en round-robin, y todos leen y escriben sobre sus canales no bloqueantes. Cuando una conexion tiene bytes
+ * disponibles, el motor despacha a un worker del {@link Executor} provisto por el servidor,
+ * el cual ejecuta el manejo de comandos existente a traves de un
+ * {@link ConnectionListener}. Los event loops nunca ejecutan logica del protocolo ni acceden a
+ * la base de datos.
+ */
+public final class SelectorTransportEngine {
+
+    /**
+     * <body style="color: white;">
+     * Interface que el servidor implementa para recibir conexiones con informacion disponible.
+     * El motor garantiza que para una misma conexion no existan dos invocaciones simultaneas.
+     * </body>
+     */
+    @FunctionalInterface
+    public interface ConnectionListener {
+        /**
+         * @param connection Conexion con bytes pendientes (o con fin de stream) que debe ser
+         *                   atendida por el servidor en el hilo actual.
+         */
+        void onReadable(SelectorConnection connection);
+    }
+
+    /*! Parametros Internos*/
+    /**
+     * Propiedad de sistema usada para configurar el numero de event loops del motor.
+     */
+    public static final String EVENT_LOOPS_PROPERTY = "multiuserchat.server.eventLoops";
+    private static final int READ_SCRATCH_SIZE = 64 * 1024;
+
+    private final List<ServerSocketChannel> serverChannels;
+    private final EventLoop[] eventLoops;
+    private final Executor workerExecutor;
+    private final ConnectionListener connectionListener;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicInteger nextEventLoop = new AtomicInteger(0);
+    private final CountDownLatch terminationLatch;
+
+    /**
+     * <body style="color: white;">
+     * Constructor del motor de transporte. Abre un {@link Selector} por cada event loop, pero no
+     * arranca ningun hilo hasta que se invoque {@link #runEventLoops()}.
+     *
+     * @param serverChannels     Canales del servidor ya enlazados a su direccion y puerto.
+     * @param eventLoopCount     Numero de event loops, debe ser mayor a cero.
+     * @param workerExecutor     Executor en donde se ejecuta el manejo de comandos.
+     * @param connectionListener Callback del servidor para conexiones con datos disponibles.
+     * @throws IOException              si no se puede abrir algun selector o configurar el canal.
+     * @throws IllegalArgumentException si algun parametro es invalido.
+     * </body>
+     */
+    public SelectorTransportEngine(List<ServerSocketChannel> serverChannels,
+                                   int eventLoopCount,
+                                   Executor workerExecutor,
+                                   ConnectionListener connectionListener) throws IOException {
+        if (serverChannels == null || serverChannels.isEmpty() || workerExecutor == null
+                || connectionListener == null || eventLoopCount <= 0) {
+            throw new IllegalArgumentException("Error Code 0x001 - [Raised] Parametros " +
+                                                       "invalidos para el motor de transporte " +
+                                                       "NIO.");
+        }
+        this.serverChannels = List.copyOf(serverChannels);
+        for (ServerSocketChannel serverChannel : this.serverChannels) {
+            serverChannel.configureBlocking(false);
+        }
+        this.workerExecutor = workerExecutor;
+        this.connectionListener = connectionListener;
+        this.eventLoops = new EventLoop[eventLoopCount];
+        for (int index = 0; index < eventLoopCount; index++) {
+            this.eventLoops[index] = new EventLoop(index, Selector.open());
+        }
+        this.terminationLatch = new CountDownLatch(eventLoopCount);
+    }
+
+    /**
+     * <body style="color: white;">
+     * Retorna el numero de event loops configurado en las propiedades del sistema o, por
+     * defecto, la mitad de los procesadores disponibles con un maximo de cuatro.
+     *
+     * @return Numero de event loops a utilizar.
+     * </body>
+     */
+    public static int eventLoopCountFromSystemProperties() {
+        int defaultCount = Math.max(1, Math.min(4,
+                                                Runtime.getRuntime().availableProcessors() / 2));
+        try {
+            int configured = Integer.parseInt(System.getProperty(EVENT_LOOPS_PROPERTY,
+                                                                 String.valueOf(defaultCount)));
+            return configured > 0 ? configured : defaultCount;
+        } catch (NumberFormatException e) {
+            return defaultCount;
+        }
+    }
+
+    /**
+     * <body style="color: white;">
+     * Arranca los event loops. Cada canal del servidor se registra en un loop distinto mientras
+     * alcancen los loops; el primer loop, que siempre acepta conexiones, se ejecuta en el
+     * hilo que invoca este metodo, por lo que el metodo solo retorna cuando el motor se apaga;
+     * esto mantiene el mismo contrato que el ciclo de accept() del modo bloqueante.
+     *
+     * @throws IOException si no se puede registrar algun canal del servidor.
+     * </body>
+     */
+    public void runEventLoops() throws IOException {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        for (int index = 0; index < this.serverChannels.size(); index++) {
+            this.serverChannels.get(index).register(
+                    this.eventLoops[index % this.eventLoops.length].selector,
+                    SelectionKey.OP_ACCEPT);
+        }
+        for (int index = 1; index < this.eventLoops.length; index++) {
+            Thread loopThread = new Thread(this.eventLoops[index],
+                                           "MessageServer-EventLoop-" + index);
+            loopThread.setDaemon(true);
+            loopThread.start();
+        }
+        System.out.println("[ServerSideComms] Motor NIO iniciado con " + this.eventLoops.length
+                                   + " event loops");
+        this.eventLoops[0].run();
+    }
+
+    /**
+     * <body style="color: white;">
+     * Detiene los event loops, cierra todas las conexiones que estos administran y los canales
+     * del servidor. Espera brevemente a que los loops terminen su iteracion actual.
+     * </body>
+     */
+    public void shutdown() {
+        if (!running.compareAndSet(true, false)) {
+            return;
+        }
+        for (EventLoop loop : this.eventLoops) {
+            loop.wakeup();
+        }
+        try {
+            this.terminationLatch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (ServerSocketChannel serverChannel : this.serverChannels) {
+            try {
+                serverChannel.close();
+            } catch (IOException e) {
+                System.err.println("[ServerSideComms] Error al cerrar el canal del servidor: "
+                                           + e.getMessage());
+            }
+        }
+    }
+
+    /*! Metodos internos*/
+    private void dispatchIfIdle(SelectorConnection connection) {
+        if (!connection.tryAcquireDispatch()) {
+            return;
+        }
+        try {
+            this.workerExecutor.execute(() -> runDispatch(connection));
+        } catch (Exception e) {
+            //! El executor pudo ser apagado durante el shutdown del servidor
+            connection.releaseDispatch();
+            System.err.println("[ServerSideComms] No se pudo despachar la conexion "
+                                       + connection.getRemoteDescription() + ": "
+                                       + e.getMessage());
+        }
+    }
+
+    private void runDispatch(SelectorConnection connection) {
+        try {
+            this.connectionListener.onReadable(connection);
+        } catch (Exception e) {
+            System.err.println("[ServerSideComms] Error al procesar la conexion "
+                                       + connection.getRemoteDescription() + ": "
+                                       + e.getMessage());
+        } finally {
+            connection.releaseDispatch();
+            //? Si llegaron bytes mientras el worker terminaba, volvemos a despachar
+            if (!connection.isClosed() && connection.hasPendingInput()) {
+                dispatchIfIdle(connection);
+            }
+        }
+    }
+
+    /**
+     * <body style="color: white;">
+     * Event loop del motor. Cada loop tiene su propio {@link Selector} y una cola de tareas
+     * usada para registrar canales desde otros hilos sin bloquearse en el selector.
+     * </body>
+     */
+    final class EventLoop implements Runnable {
+        private final int loopIndex;
+        private final Selector selector;
+        private final Queue<Runnable> pendingTasks = new ConcurrentLinkedQueue<>();
+        private final ByteBuffer readScratch = ByteBuffer.allocateDirect(READ_SCRATCH_SIZE);
+
+        private EventLoop(int loopIndex, Selector selector) {
+            this.loopIndex = loopIndex;
+            this.selector = selector;
+        }
+
+        void wakeup() {
+            this.selector.wakeup();
+        }
+
+        private void execute(Runnable task) {
+            this.pendingTasks.add(task);
+            this.selector.wakeup();
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (running.get()) {
+                    selector.select();
+                    Runnable task;
+                    while ((task = pendingTasks.poll()) != null) {
+                        task.run();
+                    }
+                    Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+                    while (selectedKeys.hasNext()) {
+                        SelectionKey key = selectedKeys.next();
+                        selectedKeys.remove();
+                        handleSelectedKey(key);
+                    }
+                }
+            } catch (IOException | ClosedSelectorException e) {
+                System.err.println("[ServerSideComms] Event loop " + loopIndex
+                                           + " detenido por un error: " + e.getMessage());
+            } finally {
+                closeOwnedConnections();
+                terminationLatch.countDown();
+            }
+        }
+
+        private void handleSelectedKey(SelectionKey key) {
+            if (!key.isValid()) {
+                return;
+            }
+            if (key.isAcceptable()) {
+                acceptPendingConnections((ServerSocketChannel) key.channel());
+                return;
+            }
+            SelectorConnection connection = (SelectorConnection) key.attachment();
+            try {
+                if (key.isReadable()) {
+                    readFromChannel(connection);
+                }
+                if (key.isValid() && key.isWritable()) {
+                    connection.writePendingOutbound();
+                }
+            } catch (IOException e) {
+                //! El cliente cerro el canal de forma abrupta, el worker observara el fin
+                connection.markEndOfStream();
+                dispatchIfIdle(connection);
+            }
+        }
+
+        private void acceptPendingConnections(ServerSocketChannel serverChannel) {
+            try {
+                SocketChannel acceptedChannel;
+                while ((acceptedChannel = serverChannel.accept()) != null) {
+                    AcceptStatistics.recordAccept();
+                    acceptedChannel.configureBlocking(false);
+                    //? Los canales del socket Unix no tienen opciones de TCP
+                    if (acceptedChannel.supportedOptions()
+                            .contains(StandardSocketOptions.TCP_NODELAY)) {
+                        acceptedChannel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                        acceptedChannel.setOption(StandardSocketOptions.SO_KEEPALIVE, true);
+                    }
+                    EventLoop owner = eventLoops[Math.floorMod(nextEventLoop.getAndIncrement(),
+                                                               eventLoops.length)];
+                    SelectorConnection connection = new SelectorConnection(acceptedChannel,
+                                                                           owner);
+                    //? El registro y el log se hacen en el loop dueno, asi el acceptor solo
+                    //? acepta y reparte
+                    owner.execute(() -> owner.register(connection));
+                }
+            } catch (IOException e) {
+                System.out.println("[ServerSideComms] Fatal Error 0x0001 - [Raised] El servidor " +
+                                           "encontro un error al aceptar un canal: "
+                                           + e.getMessage());
+            }
+        }
+
+        private void register(SelectorConnection connection) {
+            System.out.println("[ServerSideComms] Socket Connection: Se registro una " +
+                                       "nueva conexion desde "
+                                       + connection.getRemoteDescription()
+                                       + " hacia el event loop " + loopIndex);
+            try {
+                SelectionKey key = connection.getChannel()
+                        .register(this.selector, SelectionKey.OP_READ, connection);
+                connection.bindSelectionKey(key);
+                //? La autenticacion arranca de inmediato, igual que en el modo bloqueante
+                dispatchIfIdle(connection);
+            } catch (IOException e) {
+                System.err.println("[ServerSideComms] No se pudo registrar la conexion "
+                                           + connection.getRemoteDescription() + ": "
+                                           + e.getMessage());
+                try {
+                    connection.close();
+                } catch (IOException ignored) {
+                    //! La conexion ya no es utilizable
+                }
+            }
+        }
+
+        private void readFromChannel(SelectorConnection connection) throws IOException {
+            readScratch.clear();
+            int readCount = connection.getChannel().read(readScratch);
+            if (readCount < 0) {
+                connection.markEndOfStream();
+            } else if (readCount > 0) {
+                readScratch.flip();
+                connection.appendInbound(readScratch);
+            } else {
+                return;
+            }
+            dispatchIfIdle(connection);
+        }
+
+        private void closeOwnedConnections() {
+            try {
+                for (SelectionKey key : new ArrayList<>(selector.keys())) {
+                    if (key.attachment() instanceof SelectorConnection connection) {
+                        connection.close();
+                    }
+                }
+                selector.close();
+            } catch (IOException | ClosedSelectorException e) {
+                System.err.println("[ServerSideComms] Error al cerrar el event loop " + loopIndex
+                                           + ": " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.evolvlabs.multiuserchatgui.ServerSideBackend.TransportEngine;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo contiene las politicas que aplica una
+ * {@link OutboundFrameQueue} cuando un cliente lento deja que su cola de salida se llene. La
+ * politica se elige al arrancar el servidor mediante la propiedad de sistema
+ * {@code multiuserchat.server.outbound.policy}.
+ */
+public enum SlowConsumerPolicy {
+
+    /*! Los eventos que no caben en la cola se descartan*/
+    DROP,
+    /*! Los eventos que no caben se reemplazan por su mandato de actualizacion, uno por tipo*/
+    COALESCE,
+    /*! El cliente que no consume su cola se desconecta*/
+    DISCONNECT;
+
+    /**
+     * Nombre de la propiedad de sistema leida al arrancar el servidor.
+     */
+    public static final String POLICY_PROPERTY = "multiuserchat.server.outbound.policy";
+
+    /**
+     * <body style="color: white;">
+     * Lee la politica configurada en las propiedades del sistema. Si la propiedad no existe o su
+     * valor no es reconocido se retorna {@link #COALESCE}, que nunca pierde informacion: el
+     * cliente recupera lo omitido con la siguiente sincronizacion.
+     *
+     * @return {@link SlowConsumerPolicy} seleccionada para esta ejecucion.
+     * </body>
+     */
+    public static SlowConsumerPolicy fromSystemProperties() {
+        String configuredPolicy = System.getProperty(POLICY_PROPERTY, COALESCE.name());
+        for (SlowConsumerPolicy policy : values()) {
+            if (policy.name().equalsIgnoreCase(configuredPolicy.trim())) {
+                return policy;
+            }
+        }
+        System.err.println("[ServerSideComms] Politica de cola de salida desconocida ["
+                                   + configuredPolicy + "], se utiliza " + COALESCE.name());
+        return COALESCE;
+    }
+}
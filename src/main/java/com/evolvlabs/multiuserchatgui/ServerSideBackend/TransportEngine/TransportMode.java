@@ -0,0 +1,43 @@
+package com.evolvlabs.multiuserchatgui.ServerSideBackend.TransportEngine;
+
+/**
+ * @author : Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description: El presente archivo contiene los modos de transporte que el servidor puede
+ * utilizar para atender a sus clientes. El modo se elige al arrancar el servidor mediante la
+ * propiedad de sistema {@code multiuserchat.server.transport}, lo que permite comparar ambos
+ * modos sin recompilar la aplicacion.
+ */
+public enum TransportMode {
+
+    /*! Modo original: un hilo por cliente bloqueado en readUTF()*/
+    BLOCKING,
+    /*! Modo de selector: pocos event loops son duenos de todas las conexiones*/
+    NIO_SELECTOR;
+
+    /**
+     * Nombre de la propiedad de sistema leida al arrancar el servidor.
+     */
+    public static final String TRANSPORT_PROPERTY = "multiuserchat.server.transport";
+
+    /**
+     * <body style="color: white;">
+     * Lee el modo de transporte configurado en las propiedades del sistema. Si la propiedad no
+     * existe o su valor no es reconocido se retorna {@link #BLOCKING}, manteniendo el
+     * comportamiento historico del servidor.
+     *
+     * @return {@link TransportMode} seleccionado para esta ejecucion.
+     * </body>
+     */
+    public static TransportMode fromSystemProperties() {
+        String configuredMode = System.getProperty(TRANSPORT_PROPERTY, BLOCKING.name());
+        for (TransportMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(configuredMode.trim())) {
+                return mode;
+            }
+        }
+        System.err.println("[ServerSideComms] Modo de transporte desconocido [" + configuredMode
+                                   + "], se utiliza " + BLOCKING.name());
+        return BLOCKING;
+    }
+}